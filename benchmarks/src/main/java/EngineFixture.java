@@ -0,0 +1,241 @@
+import java.util.SplittableRandom;
+
+/**
+ * Game state for the engine benchmarks, with one method for each
+ * benchmarked operation. JMH won't generate code for benchmarks in the
+ * default package, and a named package can't see the engine classes, so
+ * the benchmarks in the {@code benchmarks} package call these methods
+ * through method handles. Each method puts back what it changes, so it
+ * can be called over and over on the same fixture.
+ */
+public final class EngineFixture {
+
+    /**
+     * Seat that decides which card to play, the seat after the leader.
+     */
+    private static final int DECIDER = 1;
+    /**
+     * Calls to awardTrickPoints between resetting the trick counts, so they never overflow.
+     */
+    private static final int TRICK_RESET = 1 << 20;
+
+    /**
+     * Game the decisions are made in.
+     */
+    private final Game game;
+    /**
+     * Controller for playing whole hands.
+     */
+    private final GameController controller;
+    /**
+     * Strategy for each seat when playing whole hands.
+     */
+    private final PlayerStrategy[] strategies;
+    /**
+     * Listener for playing whole hands, which ignores every update.
+     */
+    private final GameListener listener;
+    /**
+     * Deck for shuffling and dealing, kept apart from the game's deck.
+     */
+    private final Deck deck;
+    /**
+     * Trump suit for the card decisions.
+     */
+    private final Suit trump;
+    /**
+     * Trick with the lead card played by seat 0, or empty when the decider leads.
+     */
+    private final Trick leadTrick;
+    /**
+     * Trick with a card from every seat.
+     */
+    private final Trick fullTrick;
+    /**
+     * Calls to awardTrickPoints since the trick counts were reset.
+     */
+    private int tricksAwarded;
+
+    /**
+     * Constructor for a fixture.
+     *
+     * @param seed seed for dealing
+     * @param trump trump suit for the card decisions
+     * @param lead what is led to the decider: NONE when the decider leads,
+     *             TRUMP for the right bower or OFF_SUIT for an ace of the other colour
+     */
+    private EngineFixture(final long seed, final Suit trump, final String lead) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        this.game = new Game(random.split());
+        this.strategies = new PlayerStrategy[] {
+                new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy()};
+        this.controller = new GameController(game, strategies);
+        this.listener = new GameListener() { };
+        this.deck = new Deck(random.split());
+        this.trump = trump;
+
+        final Hand[] hands = game.getHands();
+        final Card leadCard = switch (lead) {
+            case "NONE" -> HandMask.first(hands[0].getMask());
+            case "TRUMP" -> Card.of(trump, Rank.JACK);
+            case "OFF_SUIT" -> Card.of(Suit.of(trump.ordinal() ^ 2), Rank.ACE);
+            default -> throw new IllegalArgumentException("Unknown lead: " + lead);
+        };
+        this.leadTrick = new Trick();
+        if (!"NONE".equals(lead)) {
+            leadTrick.addCardToTrick(leadCard, 0);
+        }
+
+        // the other seats follow with their first legal card
+        this.fullTrick = new Trick();
+        fullTrick.addCardToTrick(leadCard, 0);
+        for (int seat = 1; seat < 4; seat++) {
+            fullTrick.addCardToTrick(HandMask.first(hands[seat].legalMoves(leadCard, trump)), seat);
+        }
+    }
+
+    /**
+     * Makes a fixture.
+     *
+     * @param seed seed for dealing
+     * @param trump name of the trump suit for the card decisions
+     * @param lead what is led to the decider: NONE, TRUMP or OFF_SUIT
+     * @return the fixture
+     */
+    public static EngineFixture create(final long seed, final String trump, final String lead) {
+        return new EngineFixture(seed, Suit.valueOf(trump), lead);
+    }
+
+    /**
+     * Shuffles the deck.
+     *
+     * @return index of the bottom card, so the shuffle can't be optimized away
+     */
+    public int shuffleCards() {
+        deck.shuffleCards();
+        return deck.getCard(0).getIndex();
+    }
+
+    /**
+     * Shuffles the deck and deals four hands from it, as at the start of a hand.
+     *
+     * @return mask of the last hand dealt
+     */
+    public int dealHands() {
+        deck.shuffleCards();
+        int mask = 0;
+        for (int seat = 0; seat < 4; seat++) {
+            final Hand hand = new Hand();
+            hand.dealHand(deck);
+            mask = hand.getMask();
+        }
+        return mask;
+    }
+
+    /**
+     * Looks up the point value of every card against the lead card and trump.
+     *
+     * @return sum of the point values
+     */
+    public int pointValues() {
+        game.setTrump(trump);
+        game.setTrick(leadTrick);
+        int total = 0;
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            total += game.getPointValue(Card.of(i));
+        }
+        return total;
+    }
+
+    /**
+     * Decides whether the seat after the dealer orders up the kitty card.
+     *
+     * @return the seat that decided trump, or -1 for a pass
+     */
+    public int aiDecideTrump() {
+        return decideTrump(false);
+    }
+
+    /**
+     * Decides whether the seat after the dealer names trump in the second round.
+     *
+     * @return the seat that decided trump, or -1 for a pass
+     */
+    public int aiNameTrump() {
+        return decideTrump(true);
+    }
+
+    /**
+     * Decides trump for the seat after the dealer.
+     *
+     * @param secondRound whether every seat has already passed on the kitty card
+     * @return the seat that decided trump, or -1 for a pass
+     */
+    private int decideTrump(final boolean secondRound) {
+        game.setGoneOnce(secondRound);
+        game.setOrderedUp(false);
+        game.setPickedUp(false);
+        game.setPlayerDecidedTrump(-1);
+        game.setCurrentPlayerTurn((game.getDealer() + 1) % 4);
+        game.aiDecideTrump();
+        return game.getPlayerDecidedTrump();
+    }
+
+    /**
+     * Decides the decider's card and puts it back in the hand.
+     *
+     * @return index of the card chosen
+     */
+    public int aiDecideCard() {
+        game.setTrump(trump);
+        game.setTrick(leadTrick);
+        game.setCurrentPlayerTurn(DECIDER);
+        final Card card = game.aiDecideCard();
+        game.getPlayers()[DECIDER].getHand().addCard(card);
+        return card.getIndex();
+    }
+
+    /**
+     * Works out the winner of a full trick.
+     *
+     * @return the seat that won the trick
+     */
+    public int awardTrickPoints() {
+        game.setTrump(trump);
+        game.setTrick(fullTrick);
+        if (++tricksAwarded == TRICK_RESET) {
+            tricksAwarded = 0;
+            game.setTricksWon(0, 0);
+        }
+        return game.awardTrickPoints();
+    }
+
+    /**
+     * Deals and plays a whole hand with the original AI in every seat,
+     * bidding through the controller and playing each trick the way
+     * {@link GameController#playGame} does.
+     *
+     * @return the team that won the hand
+     */
+    public int playHand() {
+        final Trick trick = new Trick();
+        game.setTrick(trick);
+        game.setTricksWon(0, 0);
+        game.setScores(0, 0);
+        game.setDealer((game.getDealer() + 1) % 4);
+        game.setCurrentPlayerTurn((game.getDealer() + 1) % 4);
+        game.newHand();
+        controller.decideTrump(listener);
+
+        for (int i = 0; i < DoubleDummySolver.TRICKS; i++) {
+            while (!trick.checkTrickForWin()) {
+                final int seat = game.getCurrentPlayerTurn();
+                controller.playCard(strategies[seat].decideCard(game), seat);
+                game.setCurrentPlayerTurn((seat + 1) % 4);
+            }
+            game.setCurrentPlayerTurn(game.awardTrickPoints());
+            trick.clearTrick();
+        }
+        return game.awardTeamPoints();
+    }
+}
@@ -0,0 +1,210 @@
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Calls into the engine for the benchmarks. The engine classes are in the
+ * default package, which JMH benchmarks can't be in and a named package
+ * can't import, so each operation on the default package EngineFixture is
+ * looked up once as a method handle. The handles are static final, so the
+ * JIT compiles {@code invokeExact} on them to a direct call and they cost
+ * nothing in the measurements.
+ */
+final class Engine {
+
+    /**
+     * The fixture class in the default package.
+     */
+    private static final Class<?> FIXTURE = fixtureClass();
+
+    /**
+     * Handle for EngineFixture.create, returning the fixture as an Object.
+     */
+    private static final MethodHandle CREATE = create();
+    /**
+     * Handle for EngineFixture.shuffleCards.
+     */
+    private static final MethodHandle SHUFFLE_CARDS = operation("shuffleCards");
+    /**
+     * Handle for EngineFixture.dealHands.
+     */
+    private static final MethodHandle DEAL_HANDS = operation("dealHands");
+    /**
+     * Handle for EngineFixture.pointValues.
+     */
+    private static final MethodHandle POINT_VALUES = operation("pointValues");
+    /**
+     * Handle for EngineFixture.aiDecideTrump.
+     */
+    private static final MethodHandle AI_DECIDE_TRUMP = operation("aiDecideTrump");
+    /**
+     * Handle for EngineFixture.aiNameTrump.
+     */
+    private static final MethodHandle AI_NAME_TRUMP = operation("aiNameTrump");
+    /**
+     * Handle for EngineFixture.aiDecideCard.
+     */
+    private static final MethodHandle AI_DECIDE_CARD = operation("aiDecideCard");
+    /**
+     * Handle for EngineFixture.awardTrickPoints.
+     */
+    private static final MethodHandle AWARD_TRICK_POINTS = operation("awardTrickPoints");
+    /**
+     * Handle for EngineFixture.playHand.
+     */
+    private static final MethodHandle PLAY_HAND = operation("playHand");
+
+    /**
+     * Private constructor, this class only has static methods.
+     */
+    private Engine() {
+    }
+
+    /**
+     * Loads the fixture class.
+     *
+     * @return the class
+     */
+    private static Class<?> fixtureClass() {
+        try {
+            return Class.forName("EngineFixture");
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException("EngineFixture is missing from the benchmark jar.", e);
+        }
+    }
+
+    /**
+     * Looks up the fixture factory.
+     *
+     * @return handle taking a seed, trump name and lead name and returning the fixture as an Object
+     */
+    private static MethodHandle create() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findStatic(FIXTURE, "create", MethodType.methodType(FIXTURE, long.class, String.class,
+                            String.class))
+                    .asType(MethodType.methodType(Object.class, long.class, String.class, String.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("EngineFixture.create is missing.", e);
+        }
+    }
+
+    /**
+     * Looks up a fixture operation.
+     *
+     * @param name name of the operation
+     * @return handle taking the fixture as an Object and returning the operation's result
+     */
+    private static MethodHandle operation(final String name) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(FIXTURE, name, MethodType.methodType(int.class))
+                    .asType(MethodType.methodType(int.class, Object.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("EngineFixture." + name + " is missing.", e);
+        }
+    }
+
+    /**
+     * Makes a fixture.
+     *
+     * @param seed seed for dealing
+     * @param trump name of the trump suit
+     * @param lead what is led to the deciding seat: NONE, TRUMP or OFF_SUIT
+     * @return the fixture
+     * @throws Throwable if the fixture can't be made
+     */
+    static Object create(final long seed, final String trump, final String lead) throws Throwable {
+        return (Object) CREATE.invokeExact(seed, trump, lead);
+    }
+
+    /**
+     * Runs Deck.shuffleCards.
+     *
+     * @param fixture the fixture
+     * @return a result to consume
+     * @throws Throwable if the operation fails
+     */
+    static int shuffleCards(final Object fixture) throws Throwable {
+        return (int) SHUFFLE_CARDS.invokeExact(fixture);
+    }
+
+    /**
+     * Shuffles and runs Hand.dealHand for all four seats.
+     *
+     * @param fixture the fixture
+     * @return a result to consume
+     * @throws Throwable if the operation fails
+     */
+    static int dealHands(final Object fixture) throws Throwable {
+        return (int) DEAL_HANDS.invokeExact(fixture);
+    }
+
+    /**
+     * Runs Game.getPointValue for every card.
+     *
+     * @param fixture the fixture
+     * @return a result to consume
+     * @throws Throwable if the operation fails
+     */
+    static int pointValues(final Object fixture) throws Throwable {
+        return (int) POINT_VALUES.invokeExact(fixture);
+    }
+
+    /**
+     * Runs Game.aiDecideTrump in the first round of bidding.
+     *
+     * @param fixture the fixture
+     * @return a result to consume
+     * @throws Throwable if the operation fails
+     */
+    static int aiDecideTrump(final Object fixture) throws Throwable {
+        return (int) AI_DECIDE_TRUMP.invokeExact(fixture);
+    }
+
+    /**
+     * Runs Game.aiDecideTrump in the second round of bidding.
+     *
+     * @param fixture the fixture
+     * @return a result to consume
+     * @throws Throwable if the operation fails
+     */
+    static int aiNameTrump(final Object fixture) throws Throwable {
+        return (int) AI_NAME_TRUMP.invokeExact(fixture);
+    }
+
+    /**
+     * Runs Game.aiDecideCard.
+     *
+     * @param fixture the fixture
+     * @return a result to consume
+     * @throws Throwable if the operation fails
+     */
+    static int aiDecideCard(final Object fixture) throws Throwable {
+        return (int) AI_DECIDE_CARD.invokeExact(fixture);
+    }
+
+    /**
+     * Runs Game.awardTrickPoints.
+     *
+     * @param fixture the fixture
+     * @return a result to consume
+     * @throws Throwable if the operation fails
+     */
+    static int awardTrickPoints(final Object fixture) throws Throwable {
+        return (int) AWARD_TRICK_POINTS.invokeExact(fixture);
+    }
+
+    /**
+     * Deals and plays a whole hand.
+     *
+     * @param fixture the fixture
+     * @return a result to consume
+     * @throws Throwable if the operation fails
+     */
+    static int playHand(final Object fixture) throws Throwable {
+        return (int) PLAY_HAND.invokeExact(fixture);
+    }
+}
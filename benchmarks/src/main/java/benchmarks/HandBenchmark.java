@@ -0,0 +1,99 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for dealing, bidding and playing a whole hand, which don't
+ * depend on trump or the lead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+
+    /**
+     * Game state the operations run on.
+     */
+    private Object fixture;
+
+    /**
+     * Makes the fixture.
+     *
+     * @throws Throwable if the fixture can't be made
+     */
+    @Setup
+    public void setUp() throws Throwable {
+        fixture = Engine.create(42L, "HEARTS", "NONE");
+    }
+
+    /**
+     * Measures Deck.shuffleCards.
+     *
+     * @return a result for JMH to consume
+     * @throws Throwable if the operation fails
+     */
+    @Benchmark
+    public int shuffleCards() throws Throwable {
+        return Engine.shuffleCards(fixture);
+    }
+
+    /**
+     * Measures a shuffle followed by Hand.dealHand for all four seats.
+     * Subtract shuffleCards for the deal alone.
+     *
+     * @return a result for JMH to consume
+     * @throws Throwable if the operation fails
+     */
+    @Benchmark
+    public int dealHand() throws Throwable {
+        return Engine.dealHands(fixture);
+    }
+
+    /**
+     * Measures Game.aiDecideTrump in the first round of bidding.
+     *
+     * @return a result for JMH to consume
+     * @throws Throwable if the operation fails
+     */
+    @Benchmark
+    public int aiDecideTrump() throws Throwable {
+        return Engine.aiDecideTrump(fixture);
+    }
+
+    /**
+     * Measures Game.aiDecideTrump in the second round of bidding.
+     *
+     * @return a result for JMH to consume
+     * @throws Throwable if the operation fails
+     */
+    @Benchmark
+    public int aiNameTrump() throws Throwable {
+        return Engine.aiNameTrump(fixture);
+    }
+
+    /**
+     * Measures dealing and playing a whole hand with no display.
+     *
+     * @return a result for JMH to consume
+     * @throws Throwable if the operation fails
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int playHand() throws Throwable {
+        return Engine.playHand(fixture);
+    }
+}
@@ -0,0 +1,87 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the decisions made during a trick, for every trump suit
+ * and for leading, following a trump lead and following an off suit lead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrickBenchmark {
+
+    /**
+     * Trump suit.
+     */
+    @Param({"HEARTS", "DIAMONDS", "CLUBS", "SPADES"})
+    private String trump;
+    /**
+     * What is led to the deciding seat.
+     */
+    @Param({"NONE", "TRUMP", "OFF_SUIT"})
+    private String lead;
+
+    /**
+     * Game state the operations run on.
+     */
+    private Object fixture;
+
+    /**
+     * Makes the fixture for the trump and lead.
+     *
+     * @throws Throwable if the fixture can't be made
+     */
+    @Setup
+    public void setUp() throws Throwable {
+        fixture = Engine.create(42L, trump, lead);
+    }
+
+    /**
+     * Measures Game.getPointValue over all 24 cards.
+     *
+     * @return a result for JMH to consume
+     * @throws Throwable if the operation fails
+     */
+    @Benchmark
+    public int pointValues() throws Throwable {
+        return Engine.pointValues(fixture);
+    }
+
+    /**
+     * Measures Game.aiDecideCard.
+     *
+     * @return a result for JMH to consume
+     * @throws Throwable if the operation fails
+     */
+    @Benchmark
+    public int aiDecideCard() throws Throwable {
+        return Engine.aiDecideCard(fixture);
+    }
+
+    /**
+     * Measures Game.awardTrickPoints.
+     *
+     * @return a result for JMH to consume
+     * @throws Throwable if the operation fails
+     */
+    @Benchmark
+    public int awardTrickPoints() throws Throwable {
+        return Engine.awardTrickPoints(fixture);
+    }
+}
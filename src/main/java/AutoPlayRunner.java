@@ -0,0 +1,150 @@
+import javax.swing.SwingUtilities;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets the computer play every seat, game after game, at full engine
+ * speed while the window watches. The engine never waits for the
+ * window: after each step it hands the Event Dispatch Thread a
+ * {@link GameSnapshot} only when a frame is due and the last frame has
+ * been drawn, so the window is redrawn at most a set number of times a
+ * second and every state in between is skipped. Messages are skipped
+ * too, since the frames show what happened.
+ */
+public class AutoPlayRunner implements GameListener {
+
+    /**
+     * Frames a second the window is redrawn at unless told otherwise.
+     */
+    public static final int DEFAULT_FRAMES_PER_SECOND = 30;
+
+    /**
+     * Window showing the games, only used on the Event Dispatch Thread.
+     */
+    private final GameView view;
+    /**
+     * Strategy for each seat, shared by every game.
+     */
+    private final PlayerStrategy[] strategies;
+    /**
+     * Shortest time between frames, in nanoseconds.
+     */
+    private final long frameNanos;
+    /**
+     * Whether a frame has been handed to the window and not yet drawn.
+     */
+    private final AtomicBoolean framePending = new AtomicBoolean();
+    /**
+     * The engine thread.
+     */
+    private final Thread thread;
+    /**
+     * When the last frame was handed to the window, from {@link System#nanoTime}.
+     */
+    private long lastFrame;
+    /**
+     * Number of games finished, only changed on the engine thread.
+     */
+    private volatile int gamesPlayed;
+
+    /**
+     * Constructor for a runner with the original AI in every seat.
+     *
+     * @param view window showing the games
+     * @param framesPerSecond most frames a second to draw
+     */
+    public AutoPlayRunner(final GameView view, final int framesPerSecond) {
+        this(view, framesPerSecond, new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy(),
+                new GreedyStrategy());
+    }
+
+    /**
+     * Constructor for a runner.
+     *
+     * @param view window showing the games
+     * @param framesPerSecond most frames a second to draw
+     * @param strategies strategy for each of the 4 seats
+     */
+    public AutoPlayRunner(final GameView view, final int framesPerSecond, final PlayerStrategy... strategies) {
+        if (framesPerSecond <= 0) {
+            throw new IllegalArgumentException("At least one frame a second is needed.");
+        }
+        if (strategies.length != 4) {
+            throw new IllegalArgumentException("A strategy is needed for each of the 4 seats.");
+        }
+        for (final PlayerStrategy strategy : strategies) {
+            if (strategy == null) {
+                throw new IllegalArgumentException("Every seat is played by the computer.");
+            }
+        }
+        this.view = view;
+        this.strategies = strategies.clone();
+        this.frameNanos = 1_000_000_000L / framesPerSecond;
+        this.thread = new Thread(this::run, "euchre-autoplay");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts playing on the engine thread.
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops playing after the current step.
+     */
+    public void stop() {
+        thread.interrupt();
+    }
+
+    /**
+     * Gets the number of games finished.
+     *
+     * @return games played to the end
+     */
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Plays games until the runner is stopped.
+     */
+    private void run() {
+        lastFrame = System.nanoTime() - frameNanos;
+        while (!Thread.currentThread().isInterrupted()) {
+            final Game game = new Game();
+            final GameController controller = new GameController(game, strategies);
+            boolean playing = true;
+            while (playing && !Thread.currentThread().isInterrupted()) {
+                playing = controller.step(this);
+                publishFrame(game);
+            }
+            if (!playing) {
+                gamesPlayed++;
+            }
+        }
+    }
+
+    /**
+     * Hands a snapshot of the game to the window if a frame is due and
+     * the last one has been drawn. Otherwise the state is skipped.
+     *
+     * @param game the game being played
+     */
+    private void publishFrame(final Game game) {
+        final long now = System.nanoTime();
+        if (now - lastFrame < frameNanos || !framePending.compareAndSet(false, true)) {
+            return;
+        }
+        lastFrame = now;
+        final GameSnapshot snapshot = GameSnapshot.of(game);
+        final int games = gamesPlayed;
+        SwingUtilities.invokeLater(() -> {
+            try {
+                view.showFrame(snapshot, games);
+            } finally {
+                framePending.set(false);
+            }
+        });
+    }
+}
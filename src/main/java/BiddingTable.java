@@ -0,0 +1,290 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Expected score of every bid for every starting hand. For each of the
+ * C(24,5) = 42,504 hands, each of the 19 cards that could be turned up
+ * and each seat relative to the dealer, the table holds the points the
+ * bidder's team expects to win by making each suit trump. The turned up
+ * suit is made by ordering it up (so the dealer picks the card up) and
+ * the other suits by naming them in the second round.
+ * <p>
+ * Hands that are the same apart from the names of the suits (see
+ * {@link SuitCanonicalizer}) share an entry, so only one hand and turned
+ * up card from each group is stored, about an eighth of the 807,576
+ * pairs. Scores are stored as one signed byte each, in steps of
+ * 1/{@link #SCALE} of a point, so the whole table is under 2MB. Tables
+ * are built by {@link BiddingTableGenerator}.
+ */
+public final class BiddingTable {
+
+    /**
+     * Number of cards in a hand.
+     */
+    public static final int HAND_SIZE = 5;
+    /**
+     * Number of seats relative to the dealer.
+     */
+    public static final int SEATS = 4;
+    /**
+     * Number of bids, one per suit.
+     */
+    public static final int BIDS = 4;
+    /**
+     * Stored steps per point of score.
+     */
+    public static final int SCALE = 50;
+
+    /**
+     * Marks the start of a table file.
+     */
+    private static final int MAGIC = 0x45425431;
+    /**
+     * Version of the file layout.
+     */
+    private static final int VERSION = 2;
+    /**
+     * Bits of a class key used for the turned up card.
+     */
+    private static final int KITTY_BITS = 5;
+    /**
+     * Number of hand and turned up card pairs, C(24,5) * 19.
+     */
+    private static final int PAIRS = 42_504 * (Card.DECK_SIZE - HAND_SIZE);
+
+    /**
+     * Key of each canonical hand and turned up card in increasing order,
+     * the hand mask shifted above the turned up card's index.
+     */
+    private static final int[] CLASS_KEYS;
+
+    /**
+     * Number of canonical hand and turned up card pairs.
+     */
+    public static final int CLASSES;
+
+    static {
+        // every canonical pair, found by walking all five card masks in order
+        final int[] keys = new int[PAIRS];
+        int count = 0;
+        final int last = ((1 << HAND_SIZE) - 1) << (Card.DECK_SIZE - HAND_SIZE);
+        for (int hand = (1 << HAND_SIZE) - 1; hand <= last; hand = nextHand(hand)) {
+            for (int kitty = 0; kitty < Card.DECK_SIZE; kitty++) {
+                if ((hand & 1 << kitty) == 0
+                        && SuitCanonicalizer.canonicalPermutation(HandMask.NO_TRUMP, hand, 1 << kitty)
+                        == SuitCanonicalizer.IDENTITY) {
+                    keys[count++] = key(hand, kitty);
+                }
+            }
+        }
+        CLASS_KEYS = Arrays.copyOf(keys, count);
+        Arrays.sort(CLASS_KEYS);
+        CLASSES = count;
+    }
+
+    /**
+     * Scaled expected score of every bid.
+     */
+    private final byte[] scores;
+    /**
+     * Number of deals simulated for each entry.
+     */
+    private final int samples;
+
+    /**
+     * Constructor for an empty table.
+     *
+     * @param samples number of deals simulated for each entry
+     */
+    public BiddingTable(final int samples) {
+        this(new byte[CLASSES * SEATS * BIDS], samples);
+    }
+
+    /**
+     * Constructor for a table around existing scores.
+     *
+     * @param scores scaled expected score of every bid
+     * @param samples number of deals simulated for each entry
+     */
+    private BiddingTable(final byte[] scores, final int samples) {
+        this.scores = scores;
+        this.samples = samples;
+    }
+
+    /**
+     * Gets the next larger mask with the same number of cards.
+     *
+     * @param hand mask of a hand
+     * @return the next hand
+     */
+    private static int nextHand(final int hand) {
+        final int lowest = hand & -hand;
+        final int ripple = hand + lowest;
+        return ripple | ((hand ^ ripple) >>> 2) / lowest;
+    }
+
+    /**
+     * Packs a hand and turned up card into a class key.
+     *
+     * @param hand mask of the hand
+     * @param kitty index of the turned up card
+     * @return the key
+     */
+    private static int key(final int hand, final int kitty) {
+        return hand << KITTY_BITS | kitty;
+    }
+
+    /**
+     * Gets the hand stored for a class.
+     *
+     * @param classIndex index of the class
+     * @return mask of the canonical hand
+     */
+    public static int classHand(final int classIndex) {
+        return CLASS_KEYS[classIndex] >>> KITTY_BITS;
+    }
+
+    /**
+     * Gets the turned up card stored for a class.
+     *
+     * @param classIndex index of the class
+     * @return index of the canonical turned up card
+     */
+    public static int classKitty(final int classIndex) {
+        return CLASS_KEYS[classIndex] & (1 << KITTY_BITS) - 1;
+    }
+
+    /**
+     * Gets the position of a score in the table.
+     *
+     * @param hand mask of the bidder's hand
+     * @param kitty index of the turned up card, which must not be in the hand
+     * @param seat the bidder's seat relative to the dealer, 0 for the dealer
+     * @param trump suit ordinal to make trump
+     * @return index of the score
+     */
+    public static int scoreIndex(final int hand, final int kitty, final int seat, final int trump) {
+        final int permutation = SuitCanonicalizer.canonicalPermutation(HandMask.NO_TRUMP, hand, 1 << kitty);
+        final int canonicalHand = SuitCanonicalizer.permute(hand, permutation);
+        final int canonicalKitty = SuitCanonicalizer.permuteCard(kitty, permutation);
+        final int classIndex = Arrays.binarySearch(CLASS_KEYS, key(canonicalHand, canonicalKitty));
+        final int renamedTrump = SuitCanonicalizer.permuteSuit(trump, permutation);
+
+        // a hand that some renaming leaves alone can't tell the suits it swaps apart
+        int bid = renamedTrump;
+        for (int other = 1; other < SuitCanonicalizer.PERMUTATIONS; other++) {
+            if (SuitCanonicalizer.permute(canonicalHand, other) == canonicalHand
+                    && SuitCanonicalizer.permuteCard(canonicalKitty, other) == canonicalKitty) {
+                bid = Math.min(bid, SuitCanonicalizer.permuteSuit(renamedTrump, other));
+            }
+        }
+        return (classIndex * SEATS + seat) * BIDS + bid;
+    }
+
+    /**
+     * Gets the expected score of making a suit trump.
+     *
+     * @param hand mask of the bidder's hand
+     * @param kitty index of the turned up card
+     * @param seat the bidder's seat relative to the dealer, 0 for the dealer
+     * @param trump suit ordinal to make trump
+     * @return points the bidder's team expects to win, from -2 to 2
+     */
+    public double expectedScore(final int hand, final int kitty, final int seat, final int trump) {
+        return scores[scoreIndex(hand, kitty, seat, trump)] / (double) SCALE;
+    }
+
+    /**
+     * Sets the expected scores of every bid for an entry.
+     *
+     * @param hand mask of the bidder's hand
+     * @param kitty index of the turned up card
+     * @param seat the bidder's seat relative to the dealer, 0 for the dealer
+     * @param expected points the bidder's team expects for each trump suit
+     */
+    public void setScores(final int hand, final int kitty, final int seat, final double... expected) {
+        for (int trump = 0; trump < BIDS; trump++) {
+            scores[scoreIndex(hand, kitty, seat, trump)] = (byte) Math.round(expected[trump] * SCALE);
+        }
+    }
+
+    /**
+     * Gets the number of deals simulated for each entry.
+     *
+     * @return number of samples
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Writes the table to a file.
+     *
+     * @param path the file to write
+     * @throws IOException if the file can't be written
+     */
+    public void write(final Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Writes the table to a stream.
+     *
+     * @param stream the stream to write to, left open
+     * @throws IOException if the stream can't be written
+     */
+    public void write(final OutputStream stream) throws IOException {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(samples);
+        out.writeInt(scores.length);
+        out.write(scores);
+        out.flush();
+    }
+
+    /**
+     * Reads a table from a file.
+     *
+     * @param path the file to read
+     * @return the table
+     * @throws IOException if the file can't be read or isn't a bidding table
+     */
+    public static BiddingTable read(final Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a table from a stream.
+     *
+     * @param stream the stream to read from, left open
+     * @return the table
+     * @throws IOException if the stream can't be read or isn't a bidding table
+     */
+    public static BiddingTable read(final InputStream stream) throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a bidding table.");
+        }
+        final int samples = in.readInt();
+        final int length = in.readInt();
+        if (length != CLASSES * SEATS * BIDS) {
+            throw new IOException("Bidding table has the wrong size: " + length);
+        }
+        final byte[] scores = new byte[length];
+        in.readFully(scores);
+        return new BiddingTable(scores, samples);
+    }
+}
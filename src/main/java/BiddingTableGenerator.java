@@ -0,0 +1,199 @@
+import java.io.Serial;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fills a {@link BiddingTable} by simulation on a fork/join pool. For each
+ * entry it deals the other three hands at random a number of times, and
+ * for each deal solves the hand double-dummy with every suit as trump.
+ * When the turned up suit is trump the dealer first picks the card up
+ * and throws away their weakest card. The scores are averaged over the
+ * deals.
+ * <p>
+ * Only the canonical hand of each {@link SuitCanonicalizer} class is
+ * simulated. Each class has its own random stream made from the seed and
+ * the class index, so a seed always gives the same table however the work
+ * is split.
+ */
+public class BiddingTableGenerator extends RecursiveAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default number of deals to simulate for each entry.
+     */
+    public static final int DEFAULT_SAMPLES = 16;
+
+    /**
+     * Number of classes a task fills itself instead of splitting further.
+     */
+    private static final int CLASSES_PER_TASK = 64;
+    /**
+     * Odd constant for spreading class indices over seeds.
+     */
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Solver for each thread, since a solver can only be used by one thread at a time.
+     */
+    private static final ThreadLocal<DoubleDummySolver> SOLVERS =
+            ThreadLocal.withInitial(DoubleDummySolver::new);
+
+    /**
+     * The table to fill.
+     */
+    private final BiddingTable table;
+    /**
+     * Index of the first class for this task.
+     */
+    private final int from;
+    /**
+     * Index after the last class for this task.
+     */
+    private final int to;
+    /**
+     * Seed for the table.
+     */
+    private final long seed;
+
+    /**
+     * Constructor for a generator task.
+     *
+     * @param table the table to fill
+     * @param from index of the first class to fill
+     * @param to index after the last class to fill
+     * @param seed seed for the table
+     */
+    public BiddingTableGenerator(final BiddingTable table, final int from, final int to, final long seed) {
+        this.table = table;
+        this.from = from;
+        this.to = to;
+        this.seed = seed;
+    }
+
+    /**
+     * Generates a whole table across all cores.
+     *
+     * @param samples number of deals to simulate for each entry
+     * @param seed seed for the random number generators
+     * @return the table
+     */
+    public static BiddingTable generate(final int samples, final long seed) {
+        return generate(samples, seed, 0, BiddingTable.CLASSES);
+    }
+
+    /**
+     * Generates part of a table across all cores, leaving the other classes at 0.
+     *
+     * @param samples number of deals to simulate for each entry
+     * @param seed seed for the random number generators
+     * @param from index of the first class to fill
+     * @param to index after the last class to fill
+     * @return the table
+     */
+    public static BiddingTable generate(final int samples, final long seed, final int from, final int to) {
+        final BiddingTable table = new BiddingTable(samples);
+        ForkJoinPool.commonPool().invoke(new BiddingTableGenerator(table, from, to, seed));
+        return table;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= CLASSES_PER_TASK) {
+            fillClasses();
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        invokeAll(new BiddingTableGenerator(table, from, middle, seed),
+                new BiddingTableGenerator(table, middle, to, seed));
+    }
+
+    /**
+     * Fills every entry of this task's classes on the current thread.
+     */
+    private void fillClasses() {
+        final DoubleDummySolver solver = SOLVERS.get();
+        final double[] expected = new double[BiddingTable.BIDS];
+        for (int index = from; index < to; index++) {
+            final SplittableRandom random = new SplittableRandom(seed + index * SEED_STEP);
+            final int hand = BiddingTable.classHand(index);
+            final int kitty = BiddingTable.classKitty(index);
+            for (int seat = 0; seat < BiddingTable.SEATS; seat++) {
+                simulate(hand, kitty, seat, table.getSamples(), random, solver, expected);
+                table.setScores(hand, kitty, seat, expected);
+            }
+        }
+    }
+
+    /**
+     * Simulates every bid for one hand. The bidder sits in seat 0.
+     *
+     * @param hand mask of the bidder's hand
+     * @param kitty index of the turned up card
+     * @param seat the bidder's seat relative to the dealer, 0 for the dealer
+     * @param samples number of deals to simulate
+     * @param random random number generator for the deals
+     * @param solver solver for the deals
+     * @param expected array to fill with the expected score of making each suit trump
+     */
+    public static void simulate(final int hand, final int kitty, final int seat, final int samples,
+                                final SplittableRandom random, final DoubleDummySolver solver,
+                                final double[] expected) {
+        final int dealer = (BiddingTable.SEATS - seat) & 3;
+        final int leader = (dealer + 1) & 3;
+        final int kittySuit = kitty / Card.RANKS_PER_SUIT;
+        final int[] cards = new int[Card.DECK_SIZE];
+        final int[] hands = new int[4];
+        final int[] dealt = new int[4];
+        final int[] total = new int[BiddingTable.BIDS];
+
+        int count = 0;
+        for (int m = HandMask.FULL_DECK & ~hand & ~(1 << kitty); m != 0; m &= m - 1) {
+            cards[count++] = Integer.numberOfTrailingZeros(m);
+        }
+
+        for (int sample = 0; sample < samples; sample++) {
+            // shuffle the unseen cards and deal five to each other seat, the rest are buried
+            for (int i = count - 1; i > 0; i--) {
+                final int j = random.nextInt(i + 1);
+                final int card = cards[i];
+                cards[i] = cards[j];
+                cards[j] = card;
+            }
+            dealt[0] = hand;
+            for (int s = 1; s < 4; s++) {
+                dealt[s] = 0;
+                for (int i = (s - 1) * BiddingTable.HAND_SIZE; i < s * BiddingTable.HAND_SIZE; i++) {
+                    dealt[s] |= 1 << cards[i];
+                }
+            }
+
+            for (int trump = 0; trump < BiddingTable.BIDS; trump++) {
+                System.arraycopy(dealt, 0, hands, 0, 4);
+                if (trump == kittySuit) {
+                    final int withKitty = hands[dealer] | 1 << kitty;
+                    hands[dealer] = withKitty & ~(1 << CardStrength.weakestCard(trump, withKitty));
+                }
+                total[trump] += makerPoints(solver.solve(hands, trump, leader, null, 0));
+            }
+        }
+
+        for (int trump = 0; trump < BiddingTable.BIDS; trump++) {
+            expected[trump] = total[trump] / (double) samples;
+        }
+    }
+
+    /**
+     * Gets the points won by the team that made trump.
+     *
+     * @param tricks tricks taken by the makers
+     * @return 2 for all five tricks, 1 for three or four, -2 for being euchred
+     */
+    private static int makerPoints(final int tricks) {
+        if (tricks == DoubleDummySolver.TRICKS) {
+            return 2;
+        }
+        return tricks >= 3 ? 1 : -2;
+    }
+}
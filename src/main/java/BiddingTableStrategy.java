@@ -0,0 +1,75 @@
+/**
+ * Computer player that bids from a precomputed {@link BiddingTable}.
+ * In the first round it orders up (or picks up when dealing) if the
+ * table expects the turned up suit to score, and in the second round it
+ * names the other suit with the best expected score if that would score.
+ * Discarding and card play are left to {@link GreedyStrategy}.
+ */
+public class BiddingTableStrategy extends GreedyStrategy {
+
+    /**
+     * The table of expected scores.
+     */
+    private final BiddingTable table;
+    /**
+     * Expected score a bid needs to beat before the player makes it.
+     */
+    private final double threshold;
+
+    /**
+     * Constructor for a strategy that makes any bid expected to score.
+     *
+     * @param table the table of expected scores
+     */
+    public BiddingTableStrategy(final BiddingTable table) {
+        this(table, 0);
+    }
+
+    /**
+     * Constructor for a strategy with a given bidding threshold.
+     *
+     * @param table the table of expected scores
+     * @param threshold expected score a bid needs to beat, higher values bid less often
+     */
+    public BiddingTableStrategy(final BiddingTable table, final double threshold) {
+        this.table = table;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void decideTrump(final Game game) {
+        final int player = game.getCurrentPlayerTurn();
+        final int hand = game.getHands()[player].getMask();
+        final int kitty = game.getKittyCard().getIndex();
+        final int seat = (player - game.getDealer()) & 3;
+        final Suit kittySuit = game.getKittyCard().getSuit();
+
+        if (!game.isGoneOnce()) {
+            if (table.expectedScore(hand, kitty, seat, kittySuit.ordinal()) > threshold) {
+                game.setTrump(kittySuit);
+                game.setPlayerDecidedTrump(player);
+                if (player == game.getDealer()) {
+                    game.setPickedUp(true);
+                } else {
+                    game.setOrderedUp(true);
+                }
+            }
+            return;
+        }
+
+        // second round, any suit but the one turned down
+        Suit best = null;
+        double bestScore = threshold;
+        for (final Suit suit : Suit.values()) {
+            final double score = table.expectedScore(hand, kitty, seat, suit.ordinal());
+            if (suit != kittySuit && score > bestScore) {
+                best = suit;
+                bestScore = score;
+            }
+        }
+        if (best != null) {
+            game.setTrump(best);
+            game.setPlayerDecidedTrump(player);
+        }
+    }
+}
@@ -1,88 +1,111 @@
 /**
- * Represents a card that holds a suit, rank/face value, and a point value.
+ * Represents a card that holds a suit and a rank. There are only 24
+ * cards in a Euchre deck, so every card is a shared immutable instance
+ * identified by its index (suit * 6 + rank) from 0 to 23.
  */
-public class Card {
+public final class Card {
 
     /**
-     * String to hold card's suit.
+     * Number of cards in a Euchre deck.
      */
-    private String suit;
+    public static final int DECK_SIZE = 24;
+    /**
+     * Number of ranks in each suit.
+     */
+    public static final int RANKS_PER_SUIT = 6;
+
+    /**
+     * Table of every card in the deck, indexed by card index.
+     */
+    private static final Card[] CARDS = new Card[DECK_SIZE];
+
+    static {
+        for (final Suit suit : Suit.values()) {
+            for (final Rank rank : Rank.values()) {
+                final int index = suit.ordinal() * RANKS_PER_SUIT + rank.ordinal();
+                CARDS[index] = new Card(suit, rank, index);
+            }
+        }
+    }
 
     /**
-     * String to hold card rank/value.
+     * The card's suit.
      */
-    private String rank;
+    private final Suit suit;
 
     /**
-     * Integer to hold point value of a card (used for determining card strength).
+     * The card's rank/face value.
      */
-    private int pointValue;
+    private final Rank rank;
 
     /**
-     * Constructor for the Card model.
+     * The card's index in the deck (suit * 6 + rank).
+     */
+    private final int index;
+
+    /**
+     * Constructor for the Card model. Only used to build the card table.
      *
      * @param suit suit of the card
      * @param rank rank/face value of card
-     * @param pointValue point value of the card
+     * @param index index of the card in the deck
      */
-    public Card(final String suit, final String rank, final int pointValue) {
+    private Card(final Suit suit, final Rank rank, final int index) {
         this.suit = suit;
         this.rank = rank;
-        this.pointValue = pointValue;
+        this.index = index;
     }
 
     /**
-     * Gets the rank of the card.
+     * Gets the card with the given suit and rank.
      *
-     * @return rank of card
-     */
-    public String getRank() {
-        return rank;
-    }
-
-    /**
-     * Sets the rank of a card.
-     *
-     * @param rank value of card (i.e. 9, 10, jack, etc.)
+     * @param suit suit of the card
+     * @param rank rank/face value of the card
+     * @return the shared card instance
      */
-    public void setRank(final String rank) {
-        this.rank = rank;
+    public static Card of(final Suit suit, final Rank rank) {
+        return CARDS[suit.ordinal() * RANKS_PER_SUIT + rank.ordinal()];
     }
 
     /**
-     * Gets the point value of a card.
+     * Gets the card with the given index.
      *
-     * @return the point value as an integer
+     * @param index index of the card (0-23)
+     * @return the shared card instance
      */
-    public int getPointValue() {
-        return pointValue;
+    public static Card of(final int index) {
+        return CARDS[index];
     }
 
     /**
-     * Sets the point value of a card.
+     * Gets the rank of the card.
      *
-     * @param pointValue integer point value
+     * @return rank of card
      */
-    public void setPointValue(final int pointValue) {
-        this.pointValue = pointValue;
+    public Rank getRank() {
+        return rank;
     }
 
     /**
      * Gets the suit of a card.
      *
-     * @return the suit of the card as a string
+     * @return the suit of the card
      */
-    public String getSuit() {
+    public Suit getSuit() {
         return suit;
     }
 
     /**
-     * Sets the suit of a card.
+     * Gets the index of the card in the deck.
      *
-     * @param suit suit to assign to card
+     * @return the card index (suit * 6 + rank)
      */
-    public void setSuit(final String suit) {
-        this.suit = suit;
+    public int getIndex() {
+        return index;
     }
 
+    @Override
+    public String toString() {
+        return rank + " of " + suit;
+    }
 }
@@ -0,0 +1,214 @@
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Every card image packed into one image, so the table draws each card
+ * as a sub-image of a single texture. Each {@link CardSize} has a row
+ * holding the 24 faces in card index order followed by the 2 backs.
+ * An atlas is packed for one display scale factor, with each sprite
+ * at the device pixel size of its card, and {@link #atScale} packs one
+ * for another scale the first time it is needed.
+ */
+public final class CardAtlas {
+
+    /**
+     * Number of images in each row, the faces then the backs.
+     */
+    public static final int SPRITES = Card.DECK_SIZE + CardImageCache.BACKS;
+
+    /**
+     * The card images the atlas was packed from.
+     */
+    private final CardImageCache cache;
+    /**
+     * Display scale factor the sprites were packed for.
+     */
+    private final double scale;
+    /**
+     * Atlas for each display scale factor packed from the same cache, shared by all of them.
+     */
+    private final Map<Double, CardAtlas> scaled;
+    /**
+     * The packed image.
+     */
+    private final BufferedImage image;
+    /**
+     * Top of each size's row in the packed image.
+     */
+    private final int[] rowY = new int[CardSize.values().length];
+
+    /**
+     * Constructor for an atlas for an unscaled display, which packs the
+     * images from a cache.
+     *
+     * @param cache the card images
+     */
+    public CardAtlas(final CardImageCache cache) {
+        this(cache, 1, new ConcurrentHashMap<>());
+        scaled.put(scale, this);
+    }
+
+    /**
+     * Constructor for an atlas, which packs the images from a cache. The
+     * atlas is made compatible with the screen when there is one, so
+     * drawing from it can be accelerated.
+     *
+     * @param cache the card images
+     * @param scale display scale factor to pack the sprites for
+     * @param scaled atlas for each scale packed from the same cache, which this one joins
+     */
+    private CardAtlas(final CardImageCache cache, final double scale, final Map<Double, CardAtlas> scaled) {
+        this.cache = cache;
+        this.scale = scale;
+        this.scaled = scaled;
+        int width = 0;
+        int height = 0;
+        for (final CardSize size : CardSize.values()) {
+            rowY[size.ordinal()] = height;
+            width = Math.max(width, SPRITES * size.getWidth(scale));
+            height += size.getHeight(scale);
+        }
+        this.image = GraphicsEnvironment.isHeadless()
+                ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                        .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+
+        final Graphics2D graphics = image.createGraphics();
+        try {
+            // only a scale the cache has no variant for is resampled here
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            for (final CardSize size : CardSize.values()) {
+                final int y = rowY[size.ordinal()];
+                final int spriteWidth = size.getWidth(scale);
+                final int spriteHeight = size.getHeight(scale);
+                for (int i = 0; i < Card.DECK_SIZE; i++) {
+                    graphics.drawImage(CardImageCache.variant(cache.getFace(Card.of(i), size), scale),
+                            i * spriteWidth, y, spriteWidth, spriteHeight, null);
+                }
+                for (int back = 1; back <= CardImageCache.BACKS; back++) {
+                    graphics.drawImage(CardImageCache.variant(cache.getBack(back, size), scale),
+                            back(back) * spriteWidth, y, spriteWidth, spriteHeight, null);
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Gets the atlas packed from the same images for a display scale
+     * factor, packing it the first time that scale is asked for.
+     *
+     * @param displayScale display scale factor, 1 for an unscaled display
+     * @return the atlas
+     */
+    public CardAtlas atScale(final double displayScale) {
+        if (displayScale == scale) {
+            return this;
+        }
+        return scaled.computeIfAbsent(displayScale, key -> new CardAtlas(cache, key, scaled));
+    }
+
+    /**
+     * Gets the display scale factor the sprites were packed for.
+     *
+     * @return the scale factor
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Gets the atlas for the default image cache, waiting for it to load.
+     *
+     * @return the shared atlas
+     * @throws java.io.UncheckedIOException if an image can't be read
+     */
+    public static CardAtlas getDefault() {
+        try {
+            return loadDefault().join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts loading the default image cache in the background, if it
+     * hasn't started yet, and packs the atlas once it has loaded.
+     *
+     * @return the atlas once it is packed
+     */
+    public static CompletableFuture<CardAtlas> loadDefault() {
+        return DefaultHolder.LOADING;
+    }
+
+    /**
+     * Gets the sprite for a card face.
+     *
+     * @param card the card
+     * @return sprite index
+     */
+    public static int face(final Card card) {
+        return card.getIndex();
+    }
+
+    /**
+     * Gets the sprite for a card back.
+     *
+     * @param back 1 for the black back or 2 for the red back, matching the image names
+     * @return sprite index
+     */
+    public static int back(final int back) {
+        return Card.DECK_SIZE + back - 1;
+    }
+
+    /**
+     * Draws a sprite. The graphics should be scaled by this atlas's scale
+     * factor, so each sprite pixel lands on one device pixel.
+     *
+     * @param graphics where to draw
+     * @param sprite sprite index, from {@link #face} or {@link #back}
+     * @param size size to draw at
+     * @param x left edge to draw at, in user space
+     * @param y top edge to draw at, in user space
+     */
+    public void draw(final Graphics graphics, final int sprite, final CardSize size, final int x, final int y) {
+        final int spriteWidth = size.getWidth(scale);
+        final int sx = sprite * spriteWidth;
+        final int sy = rowY[size.ordinal()];
+        graphics.drawImage(image, x, y, x + size.getWidth(), y + size.getHeight(),
+                sx, sy, sx + spriteWidth, sy + size.getHeight(scale), null);
+    }
+
+    /**
+     * Gets the packed image.
+     *
+     * @return the image
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Holds the default atlas, so it is only packed when first asked for.
+     */
+    private static final class DefaultHolder {
+
+        /**
+         * The atlas for the default image cache, packed on the thread that loads the images.
+         */
+        private static final CompletableFuture<CardAtlas> LOADING =
+                CardImageCache.loadDefault().thenApply(CardAtlas::new);
+    }
+}
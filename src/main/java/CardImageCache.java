@@ -0,0 +1,342 @@
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BaseMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.awt.image.MultiResolutionImage;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Holds every card image already decoded and scaled to each
+ * {@link CardSize}. The 24 card faces and the 2 backs are read from
+ * the classpath once, when the cache is made, so updating the table
+ * only swaps icons that are ready to draw. Each icon is a
+ * {@link MultiResolutionImage} with a variant for every display scale
+ * factor of the screens, so Swing draws the variant that matches the
+ * screen pixel for pixel instead of stretching a blurry one. The
+ * default cache is loaded on a background thread, and
+ * {@link #placeholder} stands in for a card until it is ready.
+ */
+public final class CardImageCache {
+
+    /**
+     * Number of card back images.
+     */
+    public static final int BACKS = 2;
+    /**
+     * Classpath folder holding the card images packaged with the game.
+     */
+    public static final String DEFAULT_RESOURCES = "/CardImages/";
+
+    /**
+     * Blank card for each size, shown until the images are loaded.
+     */
+    private static final ImageIcon[] PLACEHOLDERS = placeholders();
+
+    /**
+     * Display scale factors with a variant of each image, in increasing order starting at 1.
+     */
+    private final double[] scales;
+    /**
+     * Icon for each size and card index.
+     */
+    private final ImageIcon[][] faces = new ImageIcon[CardSize.values().length][Card.DECK_SIZE];
+    /**
+     * Icon for each size and card back.
+     */
+    private final ImageIcon[][] backs = new ImageIcon[CardSize.values().length][BACKS];
+
+    /**
+     * Constructor for a cache with a variant of each image for every screen's scale factor.
+     *
+     * @param resources classpath folder holding the card images, named like AH.png,
+     *                  with 1B.png and 2B.png for the backs
+     * @throws UncheckedIOException if an image can't be read
+     */
+    public CardImageCache(final String resources) {
+        this(resources, displayScales());
+    }
+
+    /**
+     * Constructor for a cache, which loads every image and scales it to every size and display scale.
+     *
+     * @param resources classpath folder holding the card images, named like AH.png,
+     *                  with 1B.png and 2B.png for the backs
+     * @param scales display scale factors to make variants for, 1 is always included
+     * @throws UncheckedIOException if an image can't be read
+     */
+    public CardImageCache(final String resources, final double... scales) {
+        final TreeSet<Double> sorted = new TreeSet<>();
+        sorted.add(1.0);
+        for (final double scale : scales) {
+            if (scale > 1) {
+                sorted.add(scale);
+            }
+        }
+        this.scales = sorted.stream().mapToDouble(Double::doubleValue).toArray();
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            final Card card = Card.of(i);
+            scaleAll(read(resources, card.getRank().getSymbol() + card.getSuit().getSymbol()), faces, i);
+        }
+        for (int back = 0; back < BACKS; back++) {
+            scaleAll(read(resources, (back + 1) + "B"), backs, back);
+        }
+    }
+
+    /**
+     * Gets the cache for the images packaged with the game, waiting for it to load.
+     *
+     * @return the shared cache
+     * @throws UncheckedIOException if an image can't be read
+     */
+    public static CardImageCache getDefault() {
+        try {
+            return loadDefault().join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts loading the cache for the images packaged with the game on a
+     * background thread, the first time it is called.
+     *
+     * @return the cache once it has loaded
+     */
+    public static CompletableFuture<CardImageCache> loadDefault() {
+        return DefaultHolder.LOADING;
+    }
+
+    /**
+     * Gets a blank card to show until the images are loaded.
+     *
+     * @param size size it is drawn at
+     * @return the icon
+     */
+    public static ImageIcon placeholder(final CardSize size) {
+        return PLACEHOLDERS[size.ordinal()];
+    }
+
+    /**
+     * Gets the display scale factors for the screens, with 1 and 2 always
+     * included so a window moved to a new screen still has a close variant.
+     *
+     * @return the scale factors
+     */
+    public static double[] displayScales() {
+        final TreeSet<Double> scales = new TreeSet<>(Arrays.asList(1.0, 2.0));
+        if (!GraphicsEnvironment.isHeadless()) {
+            for (final GraphicsDevice screen : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+                scales.add(screen.getDefaultConfiguration().getDefaultTransform().getScaleX());
+            }
+        }
+        return scales.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Gets the variant of a cached icon's image made for a display scale,
+     * or the closest larger one if there is no variant for that scale.
+     *
+     * @param icon an icon from this cache
+     * @param scale display scale factor
+     * @return the image
+     */
+    public static Image variant(final ImageIcon icon, final double scale) {
+        if (icon.getImage() instanceof MultiResolutionImage image) {
+            return image.getResolutionVariant(icon.getIconWidth() * scale, icon.getIconHeight() * scale);
+        }
+        return icon.getImage();
+    }
+
+    /**
+     * Gets the display scale factors this cache has a variant of each image for.
+     *
+     * @return the scale factors in increasing order, starting at 1
+     */
+    public double[] getScales() {
+        return scales.clone();
+    }
+
+    /**
+     * Gets the face of a card.
+     *
+     * @param card the card
+     * @param size size it is drawn at
+     * @return the icon
+     */
+    public ImageIcon getFace(final Card card, final CardSize size) {
+        return faces[size.ordinal()][card.getIndex()];
+    }
+
+    /**
+     * Gets a card back.
+     *
+     * @param back 1 for the black back or 2 for the red back, matching the image names
+     * @param size size it is drawn at
+     * @return the icon
+     */
+    public ImageIcon getBack(final int back, final CardSize size) {
+        return backs[size.ordinal()][back - 1];
+    }
+
+    /**
+     * Decodes an image from the classpath.
+     *
+     * @param resources classpath folder holding the card images
+     * @param name name of the image without .png
+     * @return the image
+     */
+    private static BufferedImage read(final String resources, final String name) {
+        final String resource = resources + name + ".png";
+        try (InputStream in = CardImageCache.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new FileNotFoundException("No such resource: " + resource);
+            }
+            final BufferedImage image = ImageIO.read(in);
+            if (image == null) {
+                throw new IOException("Not an image: " + resource);
+            }
+            return image;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can't read card image " + resource, e);
+        }
+    }
+
+    /**
+     * Draws a blank card for each size.
+     *
+     * @return the placeholders
+     */
+    private static ImageIcon[] placeholders() {
+        final ImageIcon[] icons = new ImageIcon[CardSize.values().length];
+        for (final CardSize size : CardSize.values()) {
+            final BufferedImage image = new BufferedImage(size.getWidth(), size.getHeight(),
+                    BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D graphics = image.createGraphics();
+            try {
+                paintPlaceholder(graphics, 0, 0, size);
+            } finally {
+                graphics.dispose();
+            }
+            icons[size.ordinal()] = new ImageIcon(image);
+        }
+        return icons;
+    }
+
+    /**
+     * Draws a blank card.
+     *
+     * @param graphics where to draw
+     * @param x left edge to draw at
+     * @param y top edge to draw at
+     * @param size size to draw at
+     */
+    static void paintPlaceholder(final Graphics2D graphics, final int x, final int y, final CardSize size) {
+        final int arc = size.getWidth() / 8;
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setColor(new Color(255, 255, 255, 96));
+        graphics.fillRoundRect(x, y, size.getWidth() - 1, size.getHeight() - 1, arc, arc);
+        graphics.setColor(new Color(255, 255, 255, 192));
+        graphics.drawRoundRect(x, y, size.getWidth() - 1, size.getHeight() - 1, arc, arc);
+    }
+
+    /**
+     * Scales an image to every size and display scale.
+     *
+     * @param image the full size image
+     * @param icons icons for each size to fill
+     * @param index where to put the icons
+     */
+    private void scaleAll(final BufferedImage image, final ImageIcon[][] icons, final int index) {
+        for (final CardSize size : CardSize.values()) {
+            icons[size.ordinal()][index] = multiResolution(image, size.getWidth(), size.getHeight(), scales);
+        }
+    }
+
+    /**
+     * Scales an image to a size at several display scales.
+     *
+     * @param image the full size image
+     * @param width width in user space pixels
+     * @param height height in user space pixels
+     * @param scales display scale factors in increasing order, starting at 1
+     * @return icon of the given size holding a variant for each scale
+     */
+    private static ImageIcon multiResolution(final BufferedImage image, final int width, final int height,
+                                             final double[] scales) {
+        final Image[] variants = new Image[scales.length];
+        for (int i = 0; i < scales.length; i++) {
+            variants[i] = scale(image, CardSize.scaled(width, scales[i]), CardSize.scaled(height, scales[i]));
+        }
+        return new ImageIcon(new BaseMultiResolutionImage(variants));
+    }
+
+    /**
+     * Scales an image with bicubic interpolation, halving it a step at a
+     * time so every source pixel counts towards the result, drawn into a
+     * new image so nothing is left to compute when it is shown.
+     *
+     * @param image the full size image
+     * @param width width to scale to
+     * @param height height to scale to
+     * @return the scaled image
+     */
+    static BufferedImage scale(final BufferedImage image, final int width, final int height) {
+        BufferedImage scaled = image;
+        do {
+            // a single bicubic step skips pixels when it shrinks by more than half
+            final int stepWidth = Math.max(width, scaled.getWidth() / 2);
+            final int stepHeight = Math.max(height, scaled.getHeight() / 2);
+            final BufferedImage step = new BufferedImage(stepWidth, stepHeight, BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(scaled, 0, 0, stepWidth, stepHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            scaled = step;
+        } while (scaled.getWidth() != width || scaled.getHeight() != height);
+        return scaled;
+    }
+
+    /**
+     * Holds the default cache, so it only starts loading when first asked for.
+     */
+    private static final class DefaultHolder {
+
+        /**
+         * The cache for the images packaged with the game, loading on its own daemon thread.
+         */
+        private static final CompletableFuture<CardImageCache> LOADING = CompletableFuture.supplyAsync(
+                () -> new CardImageCache(DEFAULT_RESOURCES), DefaultHolder::startLoader);
+
+        /**
+         * Runs the loading on a daemon thread, so it never keeps the game from exiting.
+         *
+         * @param task the loading
+         */
+        private static void startLoader(final Runnable task) {
+            final Thread thread = new Thread(task, "card-image-loader");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+import java.util.SplittableRandom;
+
+/**
+ * What one player can know about where the cards are, taken from a game
+ * at the moment that player has to decide. It deals the cards the player
+ * can't see to the other hands at random, in a way that agrees with the
+ * hand sizes, the turned up card, the dealer's own discard and the suits
+ * each player has shown out of. Computer players that search over possible deals use it to fill in
+ * the hidden cards.
+ * <p>
+ * A sampler doesn't change after it is made, so it can be shared between
+ * threads as long as each thread passes its own arrays to {@link #deal}.
+ */
+public final class CardSampler {
+
+    /**
+     * Size of the scratch array needed by {@link #deal}.
+     */
+    public static final int SCRATCH_SIZE = Card.DECK_SIZE + 5;
+
+    /**
+     * How many times to try dealing before ignoring known voids.
+     */
+    private static final int MAX_DEAL_ATTEMPTS = 100;
+
+    /**
+     * The player the sampler is for.
+     */
+    private final int seat;
+    /**
+     * Trump suit ordinal, or HandMask.NO_TRUMP if undecided.
+     */
+    private final int trump;
+    /**
+     * Mask of the cards in each player's hand that the player knows about.
+     */
+    private final int[] known;
+    /**
+     * Number of cards in each player's hand.
+     */
+    private final int[] handSizes;
+    /**
+     * Effective suits each player has shown out of, one bit per suit ordinal.
+     */
+    private final int[] voids;
+    /**
+     * Mask of the cards the player can't see and that could be in another hand.
+     */
+    private final int unseen;
+
+    /**
+     * Constructor for the current player's view of a game.
+     *
+     * @param game the game being played
+     */
+    public CardSampler(final Game game) {
+        this(game, game.getCurrentPlayerTurn());
+    }
+
+    /**
+     * Constructor for a player's view of a game.
+     *
+     * @param game the game being played
+     * @param seat the player whose view it is
+     */
+    public CardSampler(final Game game, final int seat) {
+        this.seat = seat;
+        this.trump = HandMask.trumpIndex(game.getTrump());
+
+        // the user's cards stay in their hand after they are played, so they are taken out here
+        final int played = game.getPlayedCards();
+        final Hand[] hands = game.getHands();
+        this.known = new int[4];
+        this.handSizes = new int[4];
+        this.voids = new int[4];
+        for (int s = 0; s < 4; s++) {
+            handSizes[s] = Integer.bitCount(hands[s].getMask() & ~played);
+            for (final Suit suit : Suit.values()) {
+                if (game.isVoid(s, suit)) {
+                    voids[s] |= 1 << suit.ordinal();
+                }
+            }
+        }
+        known[seat] = hands[seat].getMask() & ~played;
+
+        // the turned up card is either in the dealer's hand or buried with the kitty
+        final int kitty = HandMask.of(game.getKittyCard());
+        int hidden = HandMask.FULL_DECK & ~known[seat] & ~played & ~kitty;
+        // the dealer knows the card they buried in its place
+        if (seat == game.getDealer() && game.getDiscard() != null) {
+            hidden &= ~HandMask.of(game.getDiscard());
+        }
+        this.unseen = hidden;
+        if ((game.isOrderedUp() || game.isPickedUp()) && (played & kitty) == 0
+                && game.getDealer() != seat) {
+            known[game.getDealer()] |= kitty;
+        }
+    }
+
+    /**
+     * Gets the player the sampler is for.
+     *
+     * @return the seat of the player
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Gets the cards in the player's own hand.
+     *
+     * @return mask of the player's hand
+     */
+    public int getOwnHand() {
+        return known[seat];
+    }
+
+    /**
+     * Deals the unseen cards to the other players at random, keeping
+     * to the known cards and voids. Cards left over are buried with
+     * the kitty. If the voids can't be kept after a number of attempts
+     * they are ignored, so a deal is always made.
+     *
+     * @param random random number generator for the deal
+     * @param hands array to fill with the mask of each player's hand
+     * @param scratch scratch array of at least {@link #SCRATCH_SIZE} entries
+     */
+    public void deal(final SplittableRandom random, final int[] hands, final int[] scratch) {
+        int count = 0;
+        for (int m = unseen; m != 0; m &= m - 1) {
+            scratch[count++] = Integer.numberOfTrailingZeros(m);
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            final boolean keepVoids = attempt < MAX_DEAL_ATTEMPTS;
+            if (tryDeal(random, hands, scratch, count, keepVoids) || !keepVoids) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Makes one attempt at dealing the unseen cards. Each card goes to
+     * a random open place among the players that could hold it.
+     *
+     * @param random random number generator for the deal
+     * @param hands array to fill with the mask of each player's hand
+     * @param scratch the unseen cards, followed by room for the open places in each hand
+     * @param count number of unseen cards
+     * @param keepVoids whether players may only be dealt suits they haven't shown out of
+     * @return true if every hand was filled
+     */
+    private boolean tryDeal(final SplittableRandom random, final int[] hands, final int[] scratch,
+                            final int count, final boolean keepVoids) {
+        // open places in each hand are kept after the cards, the fifth
+        // "hand" is the cards buried with the kitty
+        final int open = Card.DECK_SIZE;
+        int needed = 0;
+        for (int s = 0; s < 4; s++) {
+            hands[s] = known[s];
+            scratch[open + s] = handSizes[s] - Integer.bitCount(known[s]);
+            needed += scratch[open + s];
+        }
+        scratch[open + 4] = count - needed;
+
+        // shuffle the cards so the order they are placed in doesn't matter
+        for (int i = count - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int card = scratch[i];
+            scratch[i] = scratch[j];
+            scratch[j] = card;
+        }
+
+        for (int i = 0; i < count; i++) {
+            final int card = scratch[i];
+            final int suitBit = 1 << HandMask.effectiveSuit(card, trump);
+            int places = scratch[open + 4];
+            for (int s = 0; s < 4; s++) {
+                if (!keepVoids || (voids[s] & suitBit) == 0) {
+                    places += scratch[open + s];
+                }
+            }
+            if (places == 0) {
+                return false;
+            }
+
+            int pick = random.nextInt(places);
+            int target = 4;
+            for (int s = 0; s < 4; s++) {
+                if (!keepVoids || (voids[s] & suitBit) == 0) {
+                    if (pick < scratch[open + s]) {
+                        target = s;
+                        break;
+                    }
+                    pick -= scratch[open + s];
+                }
+            }
+            scratch[open + target]--;
+            if (target < 4) {
+                hands[target] |= 1 << card;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * The sizes cards are drawn at on the game table, in user space pixels.
+ * On a scaled display each size covers more device pixels, which the
+ * methods taking a scale work out.
+ */
+public enum CardSize {
+
+    /**
+     * Backs of the computer players' cards.
+     */
+    SMALL(50, 65),
+    /**
+     * The user's cards and the cards in the trick.
+     */
+    NORMAL(70, 90),
+    /**
+     * The kitty card.
+     */
+    LARGE(105, 135);
+
+    /**
+     * Width in pixels.
+     */
+    private final int width;
+    /**
+     * Height in pixels.
+     */
+    private final int height;
+
+    /**
+     * Constructor for a card size.
+     *
+     * @param width width in pixels
+     * @param height height in pixels
+     */
+    CardSize(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Gets the width.
+     *
+     * @return width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height.
+     *
+     * @return height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the width on a scaled display.
+     *
+     * @param scale display scale factor, 1 for an unscaled display
+     * @return width in device pixels
+     */
+    public int getWidth(final double scale) {
+        return scaled(width, scale);
+    }
+
+    /**
+     * Gets the height on a scaled display.
+     *
+     * @param scale display scale factor, 1 for an unscaled display
+     * @return height in device pixels
+     */
+    public int getHeight(final double scale) {
+        return scaled(height, scale);
+    }
+
+    /**
+     * Scales a length, rounding up so a card always covers every device pixel it touches.
+     *
+     * @param length length in user space pixels
+     * @param scale display scale factor
+     * @return length in device pixels
+     */
+    static int scaled(final int length, final double scale) {
+        // a tolerance keeps scales like 1.1 from rounding up a pixel too many
+        return (int) Math.ceil(length * scale - 1e-6);
+    }
+}
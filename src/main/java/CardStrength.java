@@ -0,0 +1,165 @@
+/**
+ * Precomputed strength of every card for every trump and lead suit.
+ * The table is built once and never changes, so it can be shared by any
+ * number of games and threads. Higher values beat lower values:
+ * <ul>
+ *     <li>20: right bower</li>
+ *     <li>19: left bower</li>
+ *     <li>14-18: other trump, 9 to Ace</li>
+ *     <li>8-13: cards following the lead suit, 9 to Ace</li>
+ *     <li>2-7: all remaining cards, 9 to Ace</li>
+ * </ul>
+ */
+public final class CardStrength {
+
+    /**
+     * Index used in place of a suit ordinal when trump is undecided or nothing has been led.
+     */
+    public static final int NONE = HandMask.NO_TRUMP;
+
+    /**
+     * Number of trump/lead options: the four suits plus NONE.
+     */
+    private static final int OPTIONS = NONE + 1;
+
+    /**
+     * Card strengths indexed by [trump][lead suit][card], flattened.
+     */
+    private static final byte[] STRENGTH = new byte[OPTIONS * OPTIONS * Card.DECK_SIZE];
+
+    static {
+        for (int trump = 0; trump < OPTIONS; trump++) {
+            for (int lead = 0; lead < OPTIONS; lead++) {
+                for (int index = 0; index < Card.DECK_SIZE; index++) {
+                    STRENGTH[(trump * OPTIONS + lead) * Card.DECK_SIZE + index] =
+                            (byte) computeStrength(trump, lead, Card.of(index));
+                }
+            }
+        }
+    }
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private CardStrength() {
+    }
+
+    /**
+     * Works out the strength of a card while building the table.
+     *
+     * @param trump trump suit ordinal, or NONE
+     * @param lead effective lead suit ordinal, or NONE
+     * @param card the card
+     * @return the strength of the card
+     */
+    private static int computeStrength(final int trump, final int lead, final Card card) {
+        final int rank = card.getRank().ordinal();
+        final int suit = card.getSuit().ordinal();
+
+        if (suit == trump) {
+            // trump: 9 and 10 are 14-15, Queen-Ace are 16-18 and the right bower is 20
+            if (card.getRank() == Rank.JACK) {
+                return 20;
+            }
+            return rank < Rank.JACK.ordinal() ? 14 + rank : 13 + rank;
+
+            // if card is the left bower
+        } else if (trump != NONE && card.getRank() == Rank.JACK && suit == (trump ^ 1)) {
+            return 19;
+
+            // if card is of the leading suit but not trump
+        } else if (suit == lead) {
+            return 8 + rank;
+        }
+
+        // for all remaining cards
+        return 2 + rank;
+    }
+
+    /**
+     * Gets the strength of a card.
+     *
+     * @param trump the trump suit, or null if undecided
+     * @param leadCard the card that was led, or null if nothing has been led
+     * @param card the card to look up
+     * @return the strength of the card, or 0 for no card
+     */
+    public static int of(final Suit trump, final Card leadCard, final Card card) {
+        if (card == null) {
+            return 0;
+        }
+        final int trumpIndex = HandMask.trumpIndex(trump);
+        return of(trumpIndex, leadIndex(trumpIndex, leadCard), card.getIndex());
+    }
+
+    /**
+     * Gets the strength of a card from table indices. Used by
+     * search code that works on card indices directly.
+     *
+     * @param trump trump suit ordinal, or NONE
+     * @param lead effective lead suit ordinal, or NONE
+     * @param card card index
+     * @return the strength of the card
+     */
+    public static int of(final int trump, final int lead, final int card) {
+        return STRENGTH[(trump * OPTIONS + lead) * Card.DECK_SIZE + card];
+    }
+
+    /**
+     * Gets the lead index for a lead card, which is the trump suit when
+     * the left bower is led.
+     *
+     * @param trump trump suit ordinal, or NONE
+     * @param leadCard the card that was led, or null if nothing has been led
+     * @return the effective lead suit ordinal, or NONE
+     */
+    public static int leadIndex(final int trump, final Card leadCard) {
+        if (leadCard == null) {
+            return NONE;
+        }
+        return HandMask.effectiveSuit(leadCard.getIndex(), trump);
+    }
+
+    /**
+     * Works out which card wins a trick.
+     *
+     * @param trump trump suit ordinal, or NONE
+     * @param cards indices of the cards in the trick, in the order they were played
+     * @return position in the array of the winning card
+     */
+    public static int winningCard(final int trump, final int... cards) {
+        final int lead = HandMask.effectiveSuit(cards[0], trump);
+        int winner = 0;
+        int highest = of(trump, lead, cards[0]);
+        for (int i = 1; i < cards.length; i++) {
+            final int strength = of(trump, lead, cards[i]);
+            if (strength > highest) {
+                highest = strength;
+                winner = i;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Finds the weakest card in a set when no suit has been led, which
+     * is the card a dealer throws away after picking up.
+     *
+     * @param trump trump suit ordinal, or NONE
+     * @param cards mask of the cards to choose from, must not be empty
+     * @return index of the weakest card
+     */
+    public static int weakestCard(final int trump, final int cards) {
+        int weakest = -1;
+        int lowest = Integer.MAX_VALUE;
+        for (int m = cards; m != 0; m &= m - 1) {
+            final int card = Integer.numberOfTrailingZeros(m);
+            final int strength = of(trump, NONE, card);
+            if (strength < lowest) {
+                lowest = strength;
+                weakest = card;
+            }
+        }
+        return weakest;
+    }
+}
@@ -1,62 +1,79 @@
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the deck of cards used in the game.
  * It handles shuffling, dealing cards, and tracking the remaining cards.
+ * The cards live in a fixed array that is shuffled in place, so a deal
+ * never allocates, and the random number generator can be injected so
+ * each simulation thread gets its own stream and deals can be reproduced.
  */
 public class Deck {
 
     /**
-     * Creates a list of cards to act as the deck.
+     * Array of cards acting as the deck. Only the first size entries are in the deck.
      */
-    private List<Card> cards;
+    private final Card[] cards;
+    /**
+     * Number of cards remaining in the deck.
+     */
+    private int size;
+    /**
+     * Random number generator used for shuffling.
+     */
+    private final RandomGenerator random;
 
     /**
-     * Constructor for Deck model.
+     * Constructor for Deck model using a new unseeded generator.
      */
     public Deck() {
-        cards = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor for Deck model with a seed, so the same seed always gives the same deals.
+     *
+     * @param seed seed for the random number generator
+     */
+    public Deck(final long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor for Deck model with a given random number generator.
+     *
+     * @param random generator to shuffle with
+     */
+    public Deck(final RandomGenerator random) {
+        this.cards = new Card[Card.DECK_SIZE];
+        this.random = random;
         // needs to be in constructor for game window initialization
         shuffleCards();
     }
 
     /**
-     * Creates an un-shuffled deck of cards.
+     * Puts every card back into the deck in index order.
      */
     private void createDeck() {
-        final String[] suits = {"Hearts", "Diamonds", "Clubs", "Spades"};
-        final String[] ranks = {"9", "10", "Jack", "Queen", "King", "Ace"};
-
-
-        for (final String suit : suits) {
-            for (final String rank : ranks) {
-
-                Card card = new Card(suit, rank, 0);
-
-                cards.add(card);
-            }
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            cards[i] = Card.of(i);
         }
+        size = Card.DECK_SIZE;
     }
 
     /**
-     * Shuffles the deck of cards.
+     * Shuffles the full deck of cards in place with a Fisher-Yates shuffle.
      */
     public void shuffleCards() {
-        cards.clear();
         createDeck();
-        final List<Card> shuffledDeck = new ArrayList<>();
-        final Random random = new Random();
-        int randInt;
-
-        while (!cards.isEmpty()) {
-            randInt = random.nextInt(cards.size());
-            shuffledDeck.add(cards.get(randInt));
-            cards.remove(randInt);
+        for (int i = size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final Card card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
         }
-        cards.addAll(shuffledDeck);
-        shuffledDeck.clear();
     }
 
     /**
@@ -65,27 +82,64 @@ public class Deck {
      * @return card to be dealt in player's hand
      */
     public Card dealCard() {
-        if (cards.isEmpty()) {
+        if (size == 0) {
             throw new IllegalStateException("Cannot deal card from an empty deck.");
         }
-        return cards.remove(cards.size() - 1);
+        return cards[--size];
     }
 
     /**
-     * Gets the list of cards in the deck.
+     * Gets a card still in the deck without dealing it.
+     *
+     * @param index position of the card, 0 being the bottom of the deck
+     * @return the card at the position
+     */
+    public Card getCard(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No card at position " + index + " of the deck.");
+        }
+        return cards[index];
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return number of cards that can still be dealt
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets a copy of the list of cards in the deck.
      *
      * @return list of cards in deck
      */
     public List<Card> getCards() {
-        return cards;
+        return List.of(Arrays.copyOf(cards, size));
     }
 
     /**
-     * Sets the list of cards in deck to new list.
+     * Sets the cards in deck to a new list.
      *
      * @param cards new list for deck
      */
     public void setCards(final List<Card> cards) {
-        this.cards = cards;
+        if (cards.size() > Card.DECK_SIZE) {
+            throw new IllegalArgumentException("A deck cannot hold more than " + Card.DECK_SIZE + " cards.");
+        }
+        size = 0;
+        for (final Card card : cards) {
+            this.cards[size++] = card;
+        }
+    }
+
+    /**
+     * Gets the random number generator used by the deck.
+     *
+     * @return the deck's random number generator
+     */
+    public RandomGenerator getRandom() {
+        return random;
     }
 }
@@ -0,0 +1,556 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Solves Euchre hands with every card visible. Given the cards left in
+ * each hand, trump and the player to lead, it works out how many of the
+ * remaining tricks each team takes when all four players play perfectly.
+ * <p>
+ * The search is alpha-beta over the trick tree, run as a series of null
+ * window searches. Positions at the start of each trick are stored in a
+ * transposition table keyed by a Zobrist hash of the cards in each hand,
+ * the leader and trump. The value of a position doesn't depend on how it
+ * was reached, so the table is kept between calls and later solves reuse
+ * earlier work.
+ * <p>
+ * While searching, cards are renumbered so that each suit (the left bower
+ * counted as trump) is a block of bits ordered from strongest to weakest,
+ * with trump first. Moves are then tried in {@link CardStrength} order by
+ * walking the bits, and of two cards with no card still in play between
+ * them only the stronger is tried, since both always give the same result.
+ * <p>
+ * Once few enough tricks are left the exact result is read from an
+ * {@link EndgameTablebase} instead of searched.
+ * <p>
+ * A solver is not thread safe, each thread should use its own.
+ */
+public class DoubleDummySolver {
+
+    /**
+     * Number of tricks in a hand.
+     */
+    public static final int TRICKS = 5;
+
+    /**
+     * Default number of transposition table entries.
+     */
+    private static final int DEFAULT_TABLE_SIZE = 1 << 16;
+    /**
+     * Number of trump options: the four suits plus CardStrength.NONE.
+     */
+    private static final int TRUMP_OPTIONS = CardStrength.NONE + 1;
+
+    /**
+     * Zobrist keys for each search position in each seat's hand.
+     */
+    private static final long[][] CARD_KEYS = new long[4][Card.DECK_SIZE];
+    /**
+     * Zobrist keys for the seat leading the trick.
+     */
+    private static final long[] LEADER_KEYS = new long[4];
+    /**
+     * Zobrist keys for the trump suit.
+     */
+    private static final long[] TRUMP_KEYS = new long[TRUMP_OPTIONS];
+    /**
+     * Search position of each card, indexed by [trump][card index].
+     */
+    private static final int[][] TO_SEARCH = new int[TRUMP_OPTIONS][Card.DECK_SIZE];
+    /**
+     * Card index at each search position, indexed by [trump][search position].
+     */
+    private static final int[][] FROM_SEARCH = new int[TRUMP_OPTIONS][Card.DECK_SIZE];
+    /**
+     * Effective suit of each search position, indexed by [trump][search position].
+     */
+    private static final int[][] SUIT_OF = new int[TRUMP_OPTIONS][Card.DECK_SIZE];
+    /**
+     * Mask of the search positions of each effective suit, indexed by [trump][suit].
+     */
+    private static final int[][] SUIT_BLOCKS = new int[TRUMP_OPTIONS][4];
+    /**
+     * Mask of the search positions of each effective suit in search order,
+     * trump first, indexed by [trump][block].
+     */
+    private static final int[][] ORDERED_BLOCKS = new int[TRUMP_OPTIONS][4];
+
+    static {
+        // fixed seed so hashes are the same on every run
+        final SplittableRandom random = new SplittableRandom(0x5EEDCA4DL);
+        for (int seat = 0; seat < 4; seat++) {
+            for (int position = 0; position < Card.DECK_SIZE; position++) {
+                CARD_KEYS[seat][position] = random.nextLong();
+            }
+            LEADER_KEYS[seat] = random.nextLong();
+        }
+
+        for (int trump = 0; trump < TRUMP_OPTIONS; trump++) {
+            TRUMP_KEYS[trump] = random.nextLong();
+            int position = 0;
+            for (int block = 0; block < 4; block++) {
+                // trump is the first block, then the other suits in order
+                final int suit = trump == CardStrength.NONE ? block
+                        : block == 0 ? trump : block <= trump ? block - 1 : block;
+                final int start = position;
+                for (int m = HandMask.suitMask(suit, trump); m != 0; m &= m - 1) {
+                    final int card = Integer.numberOfTrailingZeros(m);
+                    final int strength = CardStrength.of(trump, suit, card);
+
+                    // insertion sort, strongest first
+                    int i = position++;
+                    while (i > start && CardStrength.of(trump, suit, FROM_SEARCH[trump][i - 1]) < strength) {
+                        FROM_SEARCH[trump][i] = FROM_SEARCH[trump][i - 1];
+                        i--;
+                    }
+                    FROM_SEARCH[trump][i] = card;
+                }
+                SUIT_BLOCKS[trump][suit] = (1 << position) - (1 << start);
+                ORDERED_BLOCKS[trump][block] = SUIT_BLOCKS[trump][suit];
+            }
+            for (int i = 0; i < Card.DECK_SIZE; i++) {
+                TO_SEARCH[trump][FROM_SEARCH[trump][i]] = i;
+                SUIT_OF[trump][i] = HandMask.effectiveSuit(FROM_SEARCH[trump][i], trump);
+            }
+        }
+    }
+
+    /**
+     * Transposition table keys.
+     */
+    private final long[] tableKeys;
+    /**
+     * Lowest possible value for team 0 of each stored position.
+     */
+    private final byte[] tableLower;
+    /**
+     * Highest possible value for team 0 of each stored position.
+     */
+    private final byte[] tableUpper;
+    /**
+     * Mask for turning a hash into a table index.
+     */
+    private final int tableMask;
+
+    /**
+     * Exact results for the last few tricks, or null to always search.
+     */
+    private final EndgameTablebase endgame;
+    /**
+     * Most tricks left at which the current solve reads the endgame tablebase.
+     */
+    private int endgameTricks;
+
+    /**
+     * Search positions of the cards left in each seat's hand.
+     */
+    private final int[] hands;
+    /**
+     * Seat leading each trick of the search.
+     */
+    private final int[] leaders;
+    /**
+     * Search positions of the cards played in each trick, in the order they were played.
+     */
+    private final int[][] trickCards;
+    /**
+     * Move lists for each level of the search.
+     */
+    private final int[][] moves;
+    /**
+     * Trump suit ordinal, or CardStrength.NONE.
+     */
+    private int trump;
+    /**
+     * Mask of the trump block, empty if there is no trump.
+     */
+    private int trumpBlock;
+    /**
+     * Zobrist hash of the cards in every hand.
+     */
+    private long handsKey;
+    /**
+     * Number of positions visited, for tuning.
+     */
+    private long nodes;
+
+    /**
+     * Constructor for a solver with the default table size.
+     */
+    public DoubleDummySolver() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Constructor for a solver with a given table size that reads the
+     * last two tricks from {@link EndgameTablebase#twoTricks()}.
+     *
+     * @param tableSize number of transposition table entries, rounded up to a power of 2
+     */
+    public DoubleDummySolver(final int tableSize) {
+        this(tableSize, EndgameTablebase.twoTricks());
+    }
+
+    /**
+     * Constructor for a solver with a given table size and endgame tablebase.
+     *
+     * @param tableSize number of transposition table entries, rounded up to a power of 2
+     * @param endgame tablebase to read the last tricks from, or null to search them
+     */
+    public DoubleDummySolver(final int tableSize, final EndgameTablebase endgame) {
+        final int size = Integer.highestOneBit(Math.max(2, tableSize - 1) << 1);
+        this.tableKeys = new long[size];
+        this.tableLower = new byte[size];
+        this.tableUpper = new byte[size];
+        this.tableMask = size - 1;
+        this.endgame = endgame;
+        this.hands = new int[4];
+        this.leaders = new int[TRICKS + 1];
+        this.trickCards = new int[TRICKS][4];
+        this.moves = new int[TRICKS * 4][8];
+    }
+
+    /**
+     * Solves a deal from the start of a trick.
+     *
+     * @param hands the hand of each seat
+     * @param trump the trump suit
+     * @param leader the seat leading the first trick
+     * @return number of tricks won by team 0 and team 1
+     */
+    public int[] solve(final Hand[] hands, final Suit trump, final int leader) {
+        final int[] masks = new int[4];
+        for (int seat = 0; seat < 4; seat++) {
+            masks[seat] = hands[seat].getMask();
+        }
+        final int team0 = solve(masks, HandMask.trumpIndex(trump), leader, null, 0);
+        return new int[] {team0, Integer.bitCount(masks[leader]) - team0};
+    }
+
+    /**
+     * Solves a position that may be part way through a trick.
+     *
+     * @param hands mask of the cards left in each seat's hand, not counting the current trick
+     * @param trump trump suit ordinal, or CardStrength.NONE
+     * @param leader the seat that led the current trick
+     * @param played indices of the cards already played to the current
+     *               trick in the order they were played, may be null if none
+     * @param numPlayed number of cards already played to the current trick
+     * @return number of tricks team 0 wins from here, the current trick included
+     */
+    public int solve(final int[] hands, final int trump, final int leader, final int[] played,
+                     final int numPlayed) {
+        this.trump = trump;
+        this.trumpBlock = trump == CardStrength.NONE ? 0 : SUIT_BLOCKS[trump][trump];
+        this.endgameTricks = endgame == null || trump == CardStrength.NONE ? 0 : endgame.getTricks();
+        this.handsKey = 0;
+        for (int seat = 0; seat < 4; seat++) {
+            int mask = 0;
+            for (int m = hands[seat]; m != 0; m &= m - 1) {
+                final int position = TO_SEARCH[trump][Integer.numberOfTrailingZeros(m)];
+                mask |= 1 << position;
+                handsKey ^= CARD_KEYS[seat][position];
+            }
+            this.hands[seat] = mask;
+        }
+        for (int i = 0; i < numPlayed; i++) {
+            trickCards[0][i] = TO_SEARCH[trump][played[i]];
+        }
+        leaders[0] = leader;
+
+        // narrow the value down with null window searches, which prune far more
+        // than one full window search and leave bounds in the table for the next
+        int lower = 0;
+        int upper = Integer.bitCount(this.hands[leader]) + (numPlayed > 0 ? 1 : 0);
+        while (lower < upper) {
+            final int test = (lower + upper + 1) / 2;
+            final int value = search(0, numPlayed, test - 1, test);
+            if (value >= test) {
+                lower = value;
+            } else {
+                upper = value;
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Searches the position for the value to team 0 inside an alpha-beta window.
+     *
+     * @param trick trick number within the search
+     * @param played cards already played to the trick
+     * @param alpha value team 0 is already sure of
+     * @param beta value team 1 can already hold team 0 to
+     * @return tricks won by team 0 from here
+     */
+    private int search(final int trick, final int played, final int alpha, final int beta) {
+        nodes++;
+        if (played == 4) {
+            final int winner = trickWinner(trick);
+            final int won = (winner & 1) == 0 ? 1 : 0;
+            leaders[trick + 1] = winner;
+            return won + search(trick + 1, 0, alpha - won, beta - won);
+        }
+
+        final int leader = leaders[trick];
+        int lower = alpha;
+        int upper = beta;
+        int index = -1;
+        long key = 0;
+
+        if (played == 0) {
+            final int remaining = Integer.bitCount(hands[leader]);
+            if (remaining == 0 || beta <= 0) {
+                return 0;
+            }
+            if (remaining <= alpha) {
+                return remaining;
+            }
+            if (remaining <= endgameTricks) {
+                final int value = endgame.probe(hands, leader, ORDERED_BLOCKS[trump]);
+                return (leader & 1) == 0 ? value : remaining - value;
+            }
+            if (remaining == 1) {
+                return lastTrick(trick, leader);
+            }
+
+            // probe the transposition table
+            key = handsKey ^ LEADER_KEYS[leader] ^ TRUMP_KEYS[trump];
+            index = (int) (key ^ key >>> 32) & tableMask;
+            if (tableKeys[index] == key) {
+                final int storedLower = tableLower[index];
+                final int storedUpper = tableUpper[index];
+                if (storedLower >= beta || storedLower == storedUpper) {
+                    return storedLower;
+                }
+                if (storedUpper <= alpha) {
+                    return storedUpper;
+                }
+                lower = Math.max(lower, storedLower);
+                upper = Math.min(upper, storedUpper);
+            }
+        }
+
+        final int seat = (leader + played) & 3;
+        final boolean maximizing = (seat & 1) == 0;
+        final int[] moveList = moves[trick * 4 + played];
+        final int moveCount = generateMoves(seat, trickCards[trick], played, moveList);
+
+        int best = maximizing ? -1 : TRICKS + 1;
+        int a = lower;
+        int b = upper;
+        for (int i = 0; i < moveCount; i++) {
+            final int card = moveList[i];
+            hands[seat] &= ~(1 << card);
+            handsKey ^= CARD_KEYS[seat][card];
+            trickCards[trick][played] = card;
+
+            final int value = search(trick, played + 1, a, b);
+
+            hands[seat] |= 1 << card;
+            handsKey ^= CARD_KEYS[seat][card];
+
+            if (maximizing) {
+                if (value > best) {
+                    best = value;
+                    a = Math.max(a, best);
+                }
+            } else if (value < best) {
+                best = value;
+                b = Math.min(b, best);
+            }
+            if (a >= b) {
+                break;
+            }
+        }
+
+        if (index >= 0) {
+            store(index, key, best, lower, upper, Integer.bitCount(hands[leader]));
+        }
+        return best;
+    }
+
+    /**
+     * Works out which seat wins a full trick. Trump beats the lead suit
+     * and within a suit the lower search position is the stronger card.
+     *
+     * @param trick trick number within the search
+     * @return the winning seat
+     */
+    private int trickWinner(final int trick) {
+        final int[] cards = trickCards[trick];
+        final int leadBlock = SUIT_BLOCKS[trump][SUIT_OF[trump][cards[0]]];
+        int winner = 0;
+        int best = cards[0];
+        for (int i = 1; i < 4; i++) {
+            final int card = cards[i];
+            final int bit = 1 << card;
+            if ((bit & trumpBlock) != 0) {
+                if ((1 << best & trumpBlock) == 0 || card < best) {
+                    best = card;
+                    winner = i;
+                }
+            } else if ((bit & leadBlock) != 0 && (1 << best & trumpBlock) == 0 && card < best) {
+                best = card;
+                winner = i;
+            }
+        }
+        return (leaders[trick] + winner) & 3;
+    }
+
+    /**
+     * Plays out the last trick, where every seat has only one card.
+     *
+     * @param trick trick number within the search
+     * @param leader seat leading the trick
+     * @return 1 if team 0 wins the trick, otherwise 0
+     */
+    private int lastTrick(final int trick, final int leader) {
+        final int[] cards = trickCards[trick];
+        for (int i = 0; i < 4; i++) {
+            cards[i] = Integer.numberOfTrailingZeros(hands[(leader + i) & 3]);
+        }
+        return (trickWinner(trick) & 1) == 0 ? 1 : 0;
+    }
+
+    /**
+     * Stores a searched position in the transposition table.
+     *
+     * @param index table index
+     * @param key position hash
+     * @param value value found by the search
+     * @param alpha lower edge of the window the position was searched with
+     * @param beta upper edge of the window the position was searched with
+     * @param remaining tricks left to play from the position
+     */
+    private void store(final int index, final long key, final int value, final int alpha, final int beta,
+                       final int remaining) {
+        int storedLower = 0;
+        int storedUpper = remaining;
+        if (tableKeys[index] == key) {
+            storedLower = tableLower[index];
+            storedUpper = tableUpper[index];
+        }
+        if (value > alpha) {
+            storedLower = Math.max(storedLower, value);
+        }
+        if (value < beta) {
+            storedUpper = Math.min(storedUpper, value);
+        }
+        tableKeys[index] = key;
+        tableLower[index] = (byte) storedLower;
+        tableUpper[index] = (byte) storedUpper;
+    }
+
+    /**
+     * Fills a move list with the cards a seat should try, trump first, then
+     * the lead suit, then the rest, strongest first within each suit.
+     * Of two cards with no card still in play between them only the
+     * stronger is tried.
+     *
+     * @param seat the seat to move
+     * @param trickCards search positions of the cards played to the current trick
+     * @param played number of cards played to the current trick
+     * @param moveList array to fill with search positions
+     * @return number of moves
+     */
+    private int generateMoves(final int seat, final int[] trickCards, final int played, final int[] moveList) {
+        final int hand = hands[seat];
+        int legal = hand;
+        int leadBlock = 0;
+        if (played > 0) {
+            leadBlock = SUIT_BLOCKS[trump][SUIT_OF[trump][trickCards[0]]];
+            if ((hand & leadBlock) != 0) {
+                legal = hand & leadBlock;
+            }
+        }
+
+        // cards held by other players or sitting in the trick separate this seat's cards
+        int others = hands[0] | hands[1] | hands[2] | hands[3];
+        for (int i = 0; i < played; i++) {
+            others |= 1 << trickCards[i];
+        }
+        others &= ~hand;
+
+        int count = addMoves(legal & trumpBlock, others, moveList, 0);
+        count = addMoves(legal & leadBlock & ~trumpBlock, others, moveList, count);
+        return addMoves(legal & ~trumpBlock & ~leadBlock, others, moveList, count);
+    }
+
+    /**
+     * Adds cards to a move list strongest first, skipping cards that are
+     * equivalent to the card before them.
+     *
+     * @param cards search positions of the cards to add
+     * @param others search positions of cards held by other players or in the trick
+     * @param moveList array to add the moves to
+     * @param count number of moves already in the list
+     * @return the new number of moves
+     */
+    private int addMoves(final int cards, final int others, final int[] moveList, final int count) {
+        int added = count;
+        int previous = -1;
+        for (int m = cards; m != 0; m &= m - 1) {
+            final int card = Integer.numberOfTrailingZeros(m);
+            // keep the card unless the previous card is in the same suit with nothing in play between them
+            if (previous < 0 || SUIT_OF[trump][previous] != SUIT_OF[trump][card]
+                    || (others & (1 << card) - (1 << previous + 1)) != 0) {
+                moveList[added++] = card;
+            }
+            previous = card;
+        }
+        return added;
+    }
+
+    /**
+     * Renumbers a mask of cards into search positions.
+     *
+     * @param mask mask of card indices
+     * @param trump trump suit ordinal, or CardStrength.NONE
+     * @return mask of search positions
+     */
+    static int toSearch(final int mask, final int trump) {
+        int result = 0;
+        for (int m = mask; m != 0; m &= m - 1) {
+            result |= 1 << TO_SEARCH[trump][Integer.numberOfTrailingZeros(m)];
+        }
+        return result;
+    }
+
+    /**
+     * Gets the card at a search position.
+     *
+     * @param position search position
+     * @param trump trump suit ordinal, or CardStrength.NONE
+     * @return card index
+     */
+    static int fromSearch(final int position, final int trump) {
+        return FROM_SEARCH[trump][position];
+    }
+
+    /**
+     * Gets the search positions of each effective suit, trump first. The
+     * array is shared and must not be changed.
+     *
+     * @param trump trump suit ordinal
+     * @return mask of the search positions of each suit in search order
+     */
+    static int[] orderedBlocks(final int trump) {
+        return ORDERED_BLOCKS[trump];
+    }
+
+    /**
+     * Gets the number of positions visited since the solver was created.
+     *
+     * @return number of positions searched
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Empties the transposition table.
+     */
+    public void clear() {
+        Arrays.fill(tableKeys, 0L);
+    }
+}
@@ -0,0 +1,314 @@
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures how long the Event Dispatch Thread takes over each event and
+ * reports the ones that go over a frame budget, so freezes in the window
+ * can be found and fixed. It replaces the system event queue and times
+ * every dispatch. A daemon thread samples the Event Dispatch Thread while
+ * an event runs, and takes its stack once the event is over budget, so the
+ * report shows what was blocking rather than where the event ended.
+ *
+ * <p>An event that runs a nested event loop, such as a modal dialog, is
+ * not reported: it was waiting for the user, and the events dispatched
+ * inside the loop are timed and reported on their own.
+ */
+public class EdtWatchdog extends EventQueue {
+
+    /**
+     * Frame budget in milliseconds, one frame at 60 frames a second.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 16;
+    /**
+     * System property that installs the watchdog when the game starts.
+     */
+    public static final String PROPERTY = "euchre.edtWatchdog";
+
+    /**
+     * Longest an event can take without being reported, in nanoseconds.
+     */
+    private final long budgetNanos;
+    /**
+     * Called on the Event Dispatch Thread with each event that went over budget.
+     */
+    private final Consumer<Stall> reporter;
+    /**
+     * The thread sampling the Event Dispatch Thread.
+     */
+    private final Thread sampler;
+    /**
+     * The Event Dispatch Thread, null until the first event.
+     */
+    private volatile Thread dispatchThread;
+    /**
+     * Number of the event being timed, changed for every event.
+     */
+    private volatile long eventNumber;
+    /**
+     * When the event being timed started, from {@link System#nanoTime}, or 0 when none is.
+     */
+    private volatile long eventStart;
+    /**
+     * Number of the event the sampler took a stack for.
+     */
+    private volatile long sampledEvent = -1;
+    /**
+     * Stack the sampler took while the event was over budget.
+     */
+    private volatile StackTraceElement[] sampledStack;
+    /**
+     * Number of dispatches under way, more than one inside a nested event loop.
+     * Only used on the Event Dispatch Thread.
+     */
+    private int depth;
+    /**
+     * Whether the innermost dispatch under way has run a nested event loop.
+     * Only used on the Event Dispatch Thread.
+     */
+    private boolean nested;
+    /**
+     * Number of events timed.
+     */
+    private volatile long events;
+    /**
+     * Number of events reported.
+     */
+    private volatile long stalls;
+    /**
+     * Longest event timed, in nanoseconds.
+     */
+    private volatile long longestNanos;
+
+    /**
+     * Constructor for a watchdog. It does nothing until it is installed.
+     *
+     * @param budgetMillis longest an event can take without being reported, in milliseconds
+     * @param reporter called on the Event Dispatch Thread with each event that went over budget
+     */
+    public EdtWatchdog(final long budgetMillis, final Consumer<Stall> reporter) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("The budget must be at least a millisecond.");
+        }
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.reporter = reporter;
+        this.sampler = new Thread(this::sample, "edt-watchdog");
+        this.sampler.setDaemon(true);
+    }
+
+    /**
+     * Installs a watchdog with the default budget that prints each slow event to standard error.
+     *
+     * @return the watchdog
+     */
+    public static EdtWatchdog install() {
+        return install(DEFAULT_BUDGET_MILLIS, stall -> System.err.println(stall));
+    }
+
+    /**
+     * Installs a watchdog in place of the system event queue.
+     *
+     * @param budgetMillis longest an event can take without being reported, in milliseconds
+     * @param reporter called on the Event Dispatch Thread with each event that went over budget
+     * @return the watchdog
+     */
+    public static EdtWatchdog install(final long budgetMillis, final Consumer<Stall> reporter) {
+        final EdtWatchdog watchdog = new EdtWatchdog(budgetMillis, reporter);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(watchdog);
+        watchdog.sampler.start();
+        return watchdog;
+    }
+
+    /**
+     * Puts the event queue that was replaced back and stops sampling.
+     */
+    public void uninstall() {
+        sampler.interrupt();
+        pop();
+    }
+
+    /**
+     * Gets the number of events timed.
+     *
+     * @return the number of events
+     */
+    public long getEvents() {
+        return events;
+    }
+
+    /**
+     * Gets the number of events that went over budget.
+     *
+     * @return the number of events reported
+     */
+    public long getStalls() {
+        return stalls;
+    }
+
+    /**
+     * Gets the longest an event has taken.
+     *
+     * @return time in nanoseconds
+     */
+    public long getLongestNanos() {
+        return longestNanos;
+    }
+
+    /**
+     * Dispatches an event, timing it and reporting it if it goes over budget.
+     *
+     * @param event the event to dispatch
+     */
+    @Override
+    protected void dispatchEvent(final AWTEvent event) {
+        if (depth > 0) {
+            // the event being timed has started a nested event loop
+            nested = true;
+        }
+        final boolean outerNested = nested;
+        nested = false;
+        depth++;
+        dispatchThread = Thread.currentThread();
+        final long number = eventNumber + 1;
+        eventNumber = number;
+        final long start = System.nanoTime();
+        eventStart = start;
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            final long nanos = System.nanoTime() - start;
+            // the sampler leaves the event alone once it is over
+            eventStart = 0;
+            depth--;
+            if (!nested) {
+                record(event, number, nanos);
+            }
+            nested = outerNested;
+        }
+    }
+
+    /**
+     * Counts a finished event and reports it if it went over budget.
+     *
+     * @param event the event
+     * @param number the event's number
+     * @param nanos how long it took
+     */
+    private void record(final AWTEvent event, final long number, final long nanos) {
+        events++;
+        if (nanos > longestNanos) {
+            longestNanos = nanos;
+        }
+        if (nanos <= budgetNanos) {
+            return;
+        }
+        stalls++;
+        final StackTraceElement[] stack = sampledEvent == number ? sampledStack : null;
+        reporter.accept(new Stall(String.valueOf(event), nanos, stack));
+    }
+
+    /**
+     * Samples the Event Dispatch Thread until the watchdog is uninstalled,
+     * taking its stack the first time an event is seen over budget.
+     */
+    private void sample() {
+        final long interval = Math.max(1, TimeUnit.NANOSECONDS.toMillis(budgetNanos) / 4);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(interval);
+                final long number = eventNumber;
+                final long start = eventStart;
+                final Thread thread = dispatchThread;
+                if (start == 0 || thread == null || sampledEvent == number
+                        || System.nanoTime() - start <= budgetNanos) {
+                    continue;
+                }
+                final StackTraceElement[] stack = thread.getStackTrace();
+                // only keep the stack if the same event is still running
+                if (eventNumber == number && eventStart == start) {
+                    sampledStack = stack;
+                    sampledEvent = number;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * An event that kept the Event Dispatch Thread busy for longer than the budget.
+     */
+    public static final class Stall {
+
+        /**
+         * Description of the event.
+         */
+        private final String event;
+        /**
+         * How long the event took, in nanoseconds.
+         */
+        private final long nanos;
+        /**
+         * Stack of the Event Dispatch Thread while it was over budget, or null if it wasn't sampled.
+         */
+        private final StackTraceElement[] stack;
+
+        /**
+         * Constructor for a stall.
+         *
+         * @param event description of the event
+         * @param nanos how long the event took
+         * @param stack stack while it was over budget, or null if it wasn't sampled
+         */
+        Stall(final String event, final long nanos, final StackTraceElement[] stack) {
+            this.event = event;
+            this.nanos = nanos;
+            this.stack = stack;
+        }
+
+        /**
+         * Gets a description of the event.
+         *
+         * @return the event
+         */
+        public String getEvent() {
+            return event;
+        }
+
+        /**
+         * Gets how long the event took.
+         *
+         * @return time in milliseconds
+         */
+        public long getMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+
+        /**
+         * Gets the stack of the Event Dispatch Thread while the event was over budget.
+         *
+         * @return the stack, or an empty one if the event ended before it could be sampled
+         */
+        public StackTraceElement[] getStack() {
+            return stack == null ? new StackTraceElement[0] : stack.clone();
+        }
+
+        /**
+         * Describes the stall with the stack that blocked.
+         *
+         * @return the report
+         */
+        @Override
+        public String toString() {
+            final StringBuilder report = new StringBuilder()
+                    .append("Event Dispatch Thread blocked for ").append(getMillis()).append(" ms by ")
+                    .append(event);
+            for (final StackTraceElement frame : getStack()) {
+                report.append(System.lineSeparator()).append("\tat ").append(frame);
+            }
+            return report.toString();
+        }
+    }
+}
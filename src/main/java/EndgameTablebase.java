@@ -0,0 +1,486 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Exact results for the last few tricks of a hand. With two or three
+ * cards left in each hand the result of perfect play can be looked up
+ * instead of searched, which saves most of the work of solving the many
+ * deals a sampling player looks at.
+ * <p>
+ * Positions are stored in a compressed form. Only the order of the cards
+ * still in play matters, so each suit (the left bower counted as trump)
+ * is reduced to the seats holding its cards from strongest to weakest.
+ * Seats are counted from the leader, and the three suits other than trump
+ * are sorted, since once their ranks are compressed they behave the same.
+ * The position is then numbered by the sizes of the suits and the
+ * multinomial rank of the seats holding the cards, so every entry has a
+ * place and no keys are stored. Each entry is one byte giving the tricks
+ * the leader's team takes and which of the leader's cards to lead.
+ * <p>
+ * The two trick level has about 100 thousand entries and is built in
+ * memory in a moment. The three trick level has about 38 million and is
+ * built once by {@link EndgameTablebaseGenerator} into a file that is
+ * memory mapped by {@link #load}. A tablebase never changes after it is
+ * made, so it can be shared between threads.
+ */
+public final class EndgameTablebase {
+
+    /**
+     * Most tricks left that a tablebase can hold.
+     */
+    public static final int MAX_TRICKS = 3;
+
+    /**
+     * Marks the start of a tablebase file.
+     */
+    static final int MAGIC = 0x45544231;
+    /**
+     * Version of the file layout.
+     */
+    static final int VERSION = 1;
+    /**
+     * Bytes before the entries in a file: magic, version, tricks and entry count.
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * Number of different sizes a suit can have, from empty to every card in play.
+     */
+    private static final int SIZES = 4 * MAX_TRICKS + 1;
+    /**
+     * Bits of an entry holding the tricks the leader's team takes.
+     */
+    private static final int VALUE_MASK = 3;
+    /**
+     * Shift of the part of an entry holding which of the leader's cards to lead.
+     */
+    private static final int LEAD_SHIFT = 2;
+
+    /**
+     * Number of ways to give out cards to the seats, indexed by the number
+     * each seat gets packed two bits per seat, seat 0 lowest.
+     */
+    static final int[] ARRANGEMENTS = new int[1 << 8];
+    /**
+     * Suit sizes of each shape, trump first, packed four bits per suit, indexed by [tricks][shape].
+     */
+    private static final int[][] SHAPES = new int[MAX_TRICKS + 1][];
+    /**
+     * Shape of each set of suit sizes, indexed by [tricks][(trump * SIZES + first) * SIZES + second].
+     */
+    private static final int[][] SHAPE_IDS = new int[MAX_TRICKS + 1][SIZES * SIZES * SIZES];
+
+    static {
+        final int[] factorials = new int[SIZES];
+        factorials[0] = 1;
+        for (int i = 1; i < SIZES; i++) {
+            factorials[i] = factorials[i - 1] * i;
+        }
+        for (int counts = 0; counts < ARRANGEMENTS.length; counts++) {
+            int total = 0;
+            int divisor = 1;
+            for (int seat = 0; seat < 4; seat++) {
+                final int count = counts >> 2 * seat & 3;
+                total += count;
+                divisor *= factorials[count];
+            }
+            ARRANGEMENTS[counts] = factorials[total] / divisor;
+        }
+
+        for (int tricks = 1; tricks <= MAX_TRICKS; tricks++) {
+            final int cards = 4 * tricks;
+            final int[] shapes = new int[SIZES * SIZES * SIZES];
+            int count = 0;
+            Arrays.fill(SHAPE_IDS[tricks], -1);
+            for (int trump = 0; trump <= cards; trump++) {
+                for (int first = 0; first <= cards - trump; first++) {
+                    for (int second = 0; second <= first; second++) {
+                        final int third = cards - trump - first - second;
+                        if (third >= 0 && third <= second) {
+                            SHAPE_IDS[tricks][(trump * SIZES + first) * SIZES + second] = count;
+                            shapes[count++] = trump | first << 4 | second << 8 | third << 12;
+                        }
+                    }
+                }
+            }
+            SHAPES[tricks] = Arrays.copyOf(shapes, count);
+        }
+    }
+
+    /**
+     * Entries of each level, indexed by tricks left, null below two tricks.
+     */
+    private final ByteBuffer[] levels;
+
+    /**
+     * Constructor for a tablebase around the entries of each level.
+     *
+     * @param levels entries of each level indexed by tricks left, with
+     *               null for the levels below two tricks
+     */
+    EndgameTablebase(final ByteBuffer[] levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Holder for the shared two trick tablebase, built the first time it is used.
+     */
+    private static final class TwoTricks {
+        /**
+         * The shared tablebase.
+         */
+        private static final EndgameTablebase INSTANCE = EndgameTablebaseGenerator.build(2);
+    }
+
+    /**
+     * Gets a shared tablebase for the last two tricks, built in memory the
+     * first time it is asked for.
+     *
+     * @return the tablebase
+     */
+    public static EndgameTablebase twoTricks() {
+        return TwoTricks.INSTANCE;
+    }
+
+    /**
+     * Loads a tablebase from a file written by {@link EndgameTablebaseGenerator}.
+     * The top level is memory mapped and the levels below it are built in memory.
+     *
+     * @param path the file to load
+     * @return the tablebase
+     * @throws IOException if the file can't be read or isn't a tablebase
+     */
+    public static EndgameTablebase load(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is full or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not an endgame tablebase.");
+            }
+            final int tricks = header.getInt();
+            final int entries = header.getInt();
+            if (tricks < 2 || tricks > MAX_TRICKS || entries != entries(tricks)
+                    || channel.size() != HEADER_SIZE + (long) entries) {
+                throw new IOException("Endgame tablebase has the wrong size: " + entries);
+            }
+
+            final ByteBuffer[] levels = Arrays.copyOf(EndgameTablebaseGenerator.build(tricks - 1).levels, tricks + 1);
+            levels[tricks] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, entries);
+            return new EndgameTablebase(levels);
+        }
+    }
+
+    /**
+     * Gets the most tricks left that the tablebase holds.
+     *
+     * @return number of tricks
+     */
+    public int getTricks() {
+        return levels.length - 1;
+    }
+
+    /**
+     * Gets the number of entries in a level.
+     *
+     * @param tricks tricks left, from 1 to {@link #MAX_TRICKS}
+     * @return number of entries
+     */
+    static int entries(final int tricks) {
+        return SHAPES[tricks].length * ARRANGEMENTS[fullCounts(tricks)];
+    }
+
+    /**
+     * Gets how many tricks team 0 takes from the start of a trick.
+     *
+     * @param hands mask of the cards in each seat's hand, each the same size
+     *              and no more than {@link #getTricks()} cards
+     * @param trump trump suit ordinal
+     * @param leader the seat to lead
+     * @return number of tricks team 0 wins
+     */
+    public int value(final int[] hands, final int trump, final int leader) {
+        final int[] positions = toSearch(hands, trump);
+        final int value = probe(positions, leader, DoubleDummySolver.orderedBlocks(trump));
+        return (leader & 1) == 0 ? value : Integer.bitCount(hands[leader]) - value;
+    }
+
+    /**
+     * Gets a card the leader can lead to take the most tricks.
+     *
+     * @param hands mask of the cards in each seat's hand, each the same size
+     *              and no more than {@link #getTricks()} cards
+     * @param trump trump suit ordinal
+     * @param leader the seat to lead
+     * @return index of the card to lead
+     */
+    public int bestLead(final int[] hands, final int trump, final int leader) {
+        final int[] positions = toSearch(hands, trump);
+        final int[] blocks = DoubleDummySolver.orderedBlocks(trump);
+        final int tricks = Integer.bitCount(hands[leader]);
+        if (tricks == 1) {
+            return Integer.numberOfTrailingZeros(hands[leader]);
+        }
+
+        // the entry counts the leader's cards in the order the suits were sorted into
+        final int[] order = new int[4];
+        final int entry = entry(levels[tricks], positions, leader, blocks, order);
+        int lead = entry >> LEAD_SHIFT;
+        for (final int block : order) {
+            for (int m = block & positions[leader]; m != 0; m &= m - 1) {
+                if (lead-- == 0) {
+                    return DoubleDummySolver.fromSearch(Integer.numberOfTrailingZeros(m), trump);
+                }
+            }
+        }
+        throw new IllegalStateException("Lead is not in the leader's hand.");
+    }
+
+    /**
+     * Gets how many tricks the leader's team takes from the start of a trick,
+     * with the cards numbered so each suit is a block of bits from strongest
+     * to weakest.
+     *
+     * @param hands mask of the cards in each seat's hand, each the same size
+     *              and no more than {@link #getTricks()} cards
+     * @param leader the seat to lead
+     * @param blocks mask of each suit, trump first
+     * @return number of tricks the leader's team wins
+     */
+    int probe(final int[] hands, final int leader, final int[] blocks) {
+        final int tricks = Integer.bitCount(hands[leader]);
+        if (tricks == 1) {
+            final int winner = trickWinner(blocks, Integer.numberOfTrailingZeros(hands[leader]),
+                    Integer.numberOfTrailingZeros(hands[(leader + 1) & 3]),
+                    Integer.numberOfTrailingZeros(hands[(leader + 2) & 3]),
+                    Integer.numberOfTrailingZeros(hands[(leader + 3) & 3]));
+            return (winner & 1) == 0 ? 1 : 0;
+        }
+        return entry(levels[tricks], hands, leader, blocks, null) & VALUE_MASK;
+    }
+
+    /**
+     * Works out which card wins a trick. Trump beats the lead suit and within
+     * a suit the lower bit is the stronger card.
+     *
+     * @param blocks mask of each suit, trump first
+     * @param lead bit of the card led
+     * @param second bit of the second card played
+     * @param third bit of the third card played
+     * @param fourth bit of the fourth card played
+     * @return position of the winning card, 0 for the lead
+     */
+    static int trickWinner(final int[] blocks, final int lead, final int second, final int third,
+                           final int fourth) {
+        final int trumpBlock = blocks[0];
+        int leadBlock = 0;
+        for (final int block : blocks) {
+            if ((block & 1 << lead) != 0) {
+                leadBlock = block;
+            }
+        }
+        int winner = 0;
+        int best = lead;
+        for (int i = 1; i < 4; i++) {
+            final int card = i == 1 ? second : i == 2 ? third : fourth;
+            final int bit = 1 << card;
+            if ((bit & trumpBlock) != 0) {
+                if ((1 << best & trumpBlock) == 0 || card < best) {
+                    best = card;
+                    winner = i;
+                }
+            } else if ((bit & leadBlock) != 0 && (1 << best & trumpBlock) == 0 && card < best) {
+                best = card;
+                winner = i;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Makes an entry from the tricks the leader's team takes and the card to lead.
+     *
+     * @param value number of tricks the leader's team wins
+     * @param lead which of the leader's cards to lead, counted in stored order
+     * @return the entry
+     */
+    static byte entry(final int value, final int lead) {
+        return (byte) (value | lead << LEAD_SHIFT);
+    }
+
+    /**
+     * Reads an entry.
+     *
+     * @param level entries of the level for the number of cards in hand
+     * @param hands mask of the cards in each seat's hand
+     * @param leader the seat to lead
+     * @param blocks mask of each suit, trump first
+     * @param order array to fill with the suits in stored order, may be null
+     * @return the entry
+     */
+    private static int entry(final ByteBuffer level, final int[] hands, final int leader, final int[] blocks,
+                             final int[] order) {
+        return level.get(index(hands, leader, blocks, order));
+    }
+
+    /**
+     * Gets the place of a position in its level.
+     *
+     * @param hands mask of the cards in each seat's hand, each the same size
+     * @param leader the seat to lead
+     * @param blocks mask of each suit, trump first
+     * @param order array to fill with the suits in stored order, may be null
+     * @return index of the entry
+     */
+    static int index(final int[] hands, final int leader, final int[] blocks, final int[] order) {
+        final int h0 = hands[leader];
+        final int h1 = hands[(leader + 1) & 3];
+        final int h2 = hands[(leader + 2) & 3];
+        final int h3 = hands[(leader + 3) & 3];
+        final int inPlay = h0 | h1 | h2 | h3;
+
+        // each suit becomes its size and the seats holding its cards, then the
+        // three suits other than trump are sorted largest first
+        final long trumpKey = suitKey(blocks, 0, inPlay, h1, h2, h3);
+        long k1 = suitKey(blocks, 1, inPlay, h1, h2, h3);
+        long k2 = suitKey(blocks, 2, inPlay, h1, h2, h3);
+        long k3 = suitKey(blocks, 3, inPlay, h1, h2, h3);
+        if (k1 < k2) {
+            final long key = k1;
+            k1 = k2;
+            k2 = key;
+        }
+        if (k2 < k3) {
+            final long key = k2;
+            k2 = k3;
+            k3 = key;
+        }
+        if (k1 < k2) {
+            final long key = k1;
+            k1 = k2;
+            k2 = key;
+        }
+        if (order != null) {
+            order[0] = blocks[0];
+            order[1] = blocks[(int) (k1 & 3)];
+            order[2] = blocks[(int) (k2 & 3)];
+            order[3] = blocks[(int) (k3 & 3)];
+        }
+
+        final int tricks = Integer.bitCount(h0);
+        final int shape = SHAPE_IDS[tricks][((int) (trumpKey >>> 32) * SIZES + (int) (k1 >>> 32)) * SIZES
+                + (int) (k2 >>> 32)];
+
+        // multinomial rank of the seats holding the cards, suit by suit
+        int counts = fullCounts(tricks);
+        int rank = 0;
+        for (int b = 0; b < 4; b++) {
+            final long key = b == 0 ? trumpKey : b == 1 ? k1 : b == 2 ? k2 : k3;
+            final int size = (int) (key >>> 32);
+            final int seats = (int) key >>> 4;
+            for (int i = size - 1; i >= 0; i--) {
+                final int seat = seats >>> 2 * i & 3;
+                for (int s = 0; s < seat; s++) {
+                    if ((counts >> 2 * s & 3) != 0) {
+                        rank += ARRANGEMENTS[counts - (1 << 2 * s)];
+                    }
+                }
+                counts -= 1 << 2 * seat;
+            }
+        }
+        return shape * ARRANGEMENTS[fullCounts(tricks)] + rank;
+    }
+
+    /**
+     * Reduces a suit to its size and the seats holding its cards from
+     * strongest to weakest, as a key that sorts larger suits first.
+     *
+     * @param blocks mask of each suit, trump first
+     * @param block which suit
+     * @param inPlay mask of every card still in a hand
+     * @param h1 hand of the seat after the leader
+     * @param h2 hand of the leader's partner
+     * @param h3 hand of the seat before the leader
+     * @return the size in the high half, then two bits per card, then the suit's place in blocks
+     */
+    private static long suitKey(final int[] blocks, final int block, final int inPlay, final int h1,
+                                final int h2, final int h3) {
+        int size = 0;
+        int seats = 0;
+        for (int m = blocks[block] & inPlay; m != 0; m &= m - 1) {
+            final int bit = m & -m;
+            final int seat = (h1 & bit) != 0 ? 1 : (h2 & bit) != 0 ? 2 : (h3 & bit) != 0 ? 3 : 0;
+            seats = seats << 2 | seat;
+            size++;
+        }
+        return (long) size << 32 | (long) seats << 4 | block;
+    }
+
+    /**
+     * Rebuilds the position stored at an index, with the leader in seat 0
+     * and the cards numbered from bit 0 in stored order.
+     *
+     * @param tricks tricks left
+     * @param index index of the entry
+     * @param hands array to fill with the mask of each seat's hand
+     * @param blocks array to fill with the mask of each suit, trump first
+     */
+    static void position(final int tricks, final int index, final int[] hands, final int[] blocks) {
+        final int arrangements = ARRANGEMENTS[fullCounts(tricks)];
+        final int shape = SHAPES[tricks][index / arrangements];
+        int rank = index % arrangements;
+        int counts = fullCounts(tricks);
+        Arrays.fill(hands, 0);
+
+        int card = 0;
+        for (int b = 0; b < 4; b++) {
+            final int size = shape >> 4 * b & 15;
+            blocks[b] = (1 << card + size) - (1 << card);
+            for (int i = 0; i < size; i++, card++) {
+                for (int seat = 0; seat < 4; seat++) {
+                    if ((counts >> 2 * seat & 3) == 0) {
+                        continue;
+                    }
+                    final int below = ARRANGEMENTS[counts - (1 << 2 * seat)];
+                    if (rank < below) {
+                        hands[seat] |= 1 << card;
+                        counts -= 1 << 2 * seat;
+                        break;
+                    }
+                    rank -= below;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the packed seat counts with every seat holding the same number of cards.
+     *
+     * @param tricks cards in each hand
+     * @return the counts packed two bits per seat
+     */
+    private static int fullCounts(final int tricks) {
+        return tricks * 0b01010101;
+    }
+
+    /**
+     * Renumbers each hand into search positions.
+     *
+     * @param hands mask of the card indices in each hand
+     * @param trump trump suit ordinal
+     * @return mask of the search positions in each hand
+     */
+    private static int[] toSearch(final int[] hands, final int trump) {
+        final int[] positions = new int[4];
+        for (int seat = 0; seat < 4; seat++) {
+            positions[seat] = DoubleDummySolver.toSearch(hands[seat], trump);
+        }
+        return positions;
+    }
+}
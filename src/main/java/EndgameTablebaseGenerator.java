@@ -0,0 +1,207 @@
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fills a level of an {@link EndgameTablebase} on a fork/join pool. Each
+ * entry is solved by trying every way the first trick can be played and
+ * reading the rest of the hand from the level below, so the levels are
+ * built from the last trick up.
+ */
+public class EndgameTablebaseGenerator extends RecursiveAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of entries a task fills itself instead of splitting further.
+     */
+    private static final int ENTRIES_PER_TASK = 1 << 14;
+
+    /**
+     * Tablebase holding the levels below the one being filled.
+     */
+    private final EndgameTablebase lower;
+    /**
+     * Tricks left in the level being filled.
+     */
+    private final int tricks;
+    /**
+     * Entries of the level being filled.
+     */
+    private final ByteBuffer level;
+    /**
+     * Index of the first entry for this task.
+     */
+    private final int from;
+    /**
+     * Index after the last entry for this task.
+     */
+    private final int to;
+
+    /**
+     * Constructor for a generator task.
+     *
+     * @param lower tablebase holding the levels below the one being filled
+     * @param level entries of the level being filled
+     * @param from index of the first entry to fill
+     * @param to index after the last entry to fill
+     */
+    public EndgameTablebaseGenerator(final EndgameTablebase lower, final ByteBuffer level, final int from,
+                                     final int to) {
+        this.lower = lower;
+        this.tricks = lower.getTricks() + 1;
+        this.level = level;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Builds a tablebase in memory across all cores.
+     *
+     * @param tricks most tricks left to hold, from 1 to {@link EndgameTablebase#MAX_TRICKS}
+     * @return the tablebase
+     */
+    public static EndgameTablebase build(final int tricks) {
+        final ByteBuffer[] levels = new ByteBuffer[tricks + 1];
+        EndgameTablebase tablebase = new EndgameTablebase(new ByteBuffer[2]);
+        for (int level = 2; level <= tricks; level++) {
+            final int entries = EndgameTablebase.entries(level);
+            levels[level] = ByteBuffer.allocate(entries);
+            ForkJoinPool.commonPool().invoke(new EndgameTablebaseGenerator(tablebase, levels[level], 0, entries));
+            tablebase = new EndgameTablebase(Arrays.copyOf(levels, level + 1));
+        }
+        return tablebase;
+    }
+
+    /**
+     * Generates a tablebase and writes its top level to a file, which
+     * {@link EndgameTablebase#load} maps back into memory. The file is
+     * filled through a memory mapping, so the level is never held on the heap.
+     *
+     * @param path the file to write
+     * @param tricks most tricks left to hold, from 2 to {@link EndgameTablebase#MAX_TRICKS}
+     * @throws IOException if the file can't be written
+     */
+    public static void generate(final Path path, final int tricks) throws IOException {
+        final EndgameTablebase lower = build(tricks - 1);
+        final int entries = EndgameTablebase.entries(tricks);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    EndgameTablebase.HEADER_SIZE + (long) entries);
+            file.putInt(0, EndgameTablebase.MAGIC);
+            file.putInt(4, EndgameTablebase.VERSION);
+            file.putInt(8, tricks);
+            file.putInt(12, entries);
+            final ByteBuffer level = file.slice(EndgameTablebase.HEADER_SIZE, entries);
+            ForkJoinPool.commonPool().invoke(new EndgameTablebaseGenerator(lower, level, 0, entries));
+            file.force();
+        }
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= ENTRIES_PER_TASK) {
+            final int[] hands = new int[4];
+            final int[] blocks = new int[4];
+            for (int index = from; index < to; index++) {
+                EndgameTablebase.position(tricks, index, hands, blocks);
+                level.put(index, solve(lower, hands, blocks));
+            }
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        invokeAll(new EndgameTablebaseGenerator(lower, level, from, middle),
+                new EndgameTablebaseGenerator(lower, level, middle, to));
+    }
+
+    /**
+     * Solves a position by trying every way to play the first trick.
+     *
+     * @param lower tablebase holding the levels below the position
+     * @param hands mask of the cards in each seat's hand, seat 0 to lead
+     * @param blocks mask of each suit, trump first
+     * @return the entry for the position
+     */
+    static byte solve(final EndgameTablebase lower, final int[] hands, final int[] blocks) {
+        final int[] trick = new int[4];
+        final int tricks = Integer.bitCount(hands[0]);
+        int best = -1;
+        int bestLead = 0;
+        int lead = 0;
+        for (int m = hands[0]; m != 0; m &= m - 1, lead++) {
+            final int card = Integer.numberOfTrailingZeros(m);
+            hands[0] &= ~(1 << card);
+            trick[0] = card;
+            final int value = search(lower, hands, blocks, trick, 1, best, tricks + 1);
+            hands[0] |= 1 << card;
+            if (value > best) {
+                best = value;
+                bestLead = lead;
+                if (best == tricks) {
+                    break;
+                }
+            }
+        }
+        return EndgameTablebase.entry(best, bestLead);
+    }
+
+    /**
+     * Searches the rest of the first trick and looks up the tricks after it.
+     *
+     * @param lower tablebase holding the levels below the position
+     * @param hands mask of the cards left in each seat's hand
+     * @param blocks mask of each suit, trump first
+     * @param trick bits of the cards played to the trick
+     * @param played number of cards played to the trick
+     * @param alpha value seat 0's team is already sure of
+     * @param beta value the other team can already hold seat 0's team to
+     * @return tricks won by seat 0's team
+     */
+    private static int search(final EndgameTablebase lower, final int[] hands, final int[] blocks,
+                              final int[] trick, final int played, final int alpha, final int beta) {
+        if (played == 4) {
+            final int winner = EndgameTablebase.trickWinner(blocks, trick[0], trick[1], trick[2], trick[3]);
+            final int later = lower.probe(hands, winner, blocks);
+            return (winner & 1) == 0 ? 1 + later : Integer.bitCount(hands[0]) - later;
+        }
+
+        int leadBlock = 0;
+        for (final int block : blocks) {
+            if ((block & 1 << trick[0]) != 0) {
+                leadBlock = block;
+            }
+        }
+        final int hand = hands[played];
+        final int legal = (hand & leadBlock) != 0 ? hand & leadBlock : hand;
+        final boolean maximizing = (played & 1) == 0;
+        int best = maximizing ? -1 : Integer.MAX_VALUE;
+        int a = alpha;
+        int b = beta;
+        for (int m = legal; m != 0; m &= m - 1) {
+            final int card = Integer.numberOfTrailingZeros(m);
+            hands[played] = hand & ~(1 << card);
+            trick[played] = card;
+            final int value = search(lower, hands, blocks, trick, played + 1, a, b);
+            hands[played] = hand;
+            if (maximizing) {
+                best = Math.max(best, value);
+                a = Math.max(a, best);
+            } else {
+                best = Math.min(best, value);
+                b = Math.min(b, best);
+            }
+            if (a >= b) {
+                break;
+            }
+        }
+        return best;
+    }
+}
@@ -1,6 +1,6 @@
 import java.util.Arrays;
-import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class represents the Game as a model and holds
@@ -60,33 +60,79 @@ public class Game {
      */
     private Hand[] hands;
     /**
-     * Holds the trump value as a String.
+     * Holds the trump suit, or null while trump is undecided.
      */
-    private String trump;
+    private Suit trump;
     /**
      * Holds whether each player has decided on trump or not.
      */
     private boolean goneOnce;
+    /**
+     * Mask of the cards played so far this hand, including the current trick.
+     */
+    private int playedCards;
+    /**
+     * Effective suits each player has shown out of this hand, one bit per suit ordinal.
+     */
+    private int[] voidSuits;
+    /**
+     * Card the dealer threw away for the kitty card this hand, or null if they haven't.
+     */
+    private Card discard;
+
+    /**
+     * Random number generator for dealing and picking the dealer.
+     */
+    private final RandomGenerator random;
+    /**
+     * Counts changes to the kitty card and whether trump has been decided.
+     */
+    private int kittyVersion;
+    /**
+     * Counts changes to the trump suit.
+     */
+    private int trumpVersion;
+    /**
+     * Counts changes to the scores.
+     */
+    private int scoresVersion;
+    /**
+     * Counts changes to the tricks won.
+     */
+    private int tricksWonVersion;
 
 
     /**
      * This is the constructor for the game.
      */
     public Game() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor for a game that shuffles and picks the dealer with the
+     * given generator, so games can be reproduced or run on separate threads.
+     *
+     * @param random generator for dealing and picking the dealer
+     */
+    public Game(final RandomGenerator random) {
+        this.random = random;
         this.tricksWon = new int[2];
         this.playerDecidedTrump = -1;
         this.orderedUp = false;
         this.pickedUp = false;
         this.currentPlayerTurn = this.dealer + 1;
         this.trick = new Trick();
-        this.deck = new Deck();
+        this.deck = new Deck(random);
         this.players = new Player[4];
         this.dealer = 0;
         this.scores = new int[2];
         this.hands = new Hand[4];
-        this.trump = "undecided";
+        this.trump = null;
 
         this.goneOnce = false;
+        this.playedCards = HandMask.EMPTY;
+        this.voidSuits = new int[4];
 
         // needs to be here to initialize game window
         createPlayers();
@@ -104,14 +150,14 @@ public class Game {
             hands[i].dealHand(deck); // Deal 5 cards to each hand
             players[i] = new Player(hands[i]);
         }
-        kittyCard = deck.getCards().get(0);
+        kittyCard = deck.getCard(0);
+        kittyVersion++;
     }
 
     /**
      * Decides a dealer at random by picking a number between 0 and 3.
      */
     public void decideDealer() {
-        final Random random = new Random();
         dealer = random.nextInt(4);
         currentPlayerTurn = (dealer + 1) % 4;
     }
@@ -124,6 +170,7 @@ public class Game {
      */
     public void scorePoints(final int teamNum, final int numPoints) {
         scores[teamNum] += numPoints;
+        scoresVersion++;
     }
 
     /**
@@ -140,114 +187,43 @@ public class Game {
      */
     public void newHand() {
         deck.shuffleCards();
+        playedCards = HandMask.EMPTY;
+        voidSuits = new int[4];
+        discard = null;
         this.players = new Player[4];
         createPlayers();
     }
 
 
     /**
-     * Assigns a card a point value based off of the leading card suit and trump.
+     * Records a card being played so computer players can reason about the
+     * cards that are still out. A player who doesn't follow the lead suit
+     * is marked as void in it. Must be called before the card is added to
+     * the trick.
+     *
+     * @param card the card being played
+     * @param playerNum the player playing the card
      */
-    public void assignCardPoints() {
-        final Card leadingCard = trick.getLeadCard();
-        String leadingSuit = null;
-
-        // find the suit of the left bower
-        final String leftBowerSuit = switch (trump) {
-            case "Hearts" -> "Diamonds";
-            case "Diamonds" -> "Hearts";
-            case "Clubs" -> "Spades";
-            case "Spades" -> "Clubs";
-            default -> "";
-        };
-
-
-
-        // if someone has played a card, assign a point value to the leading
-        // card in the trick since it is no longer in the player's hand
-        if (leadingCard != null) {
-            leadingSuit = trick.getLeadCard().getSuit();
-            if (trick.getLeadCard().getSuit().equals(trump)) {
-                switch (trick.getLeadCard().getRank()) {
-                    case "9" -> trick.getLeadCard().setPointValue(14);
-                    case "10" -> trick.getLeadCard().setPointValue(15);
-                    case "Jack" -> trick.getLeadCard().setPointValue(20);
-                    case "Queen" -> trick.getLeadCard().setPointValue(16);
-                    case "King" -> trick.getLeadCard().setPointValue(17);
-                    case "Ace" -> trick.getLeadCard().setPointValue(18);
-                    default -> {
-                    }
-                }
-
-                // lead card is left bower
-            } else if (leadingCard.getSuit().equals(leftBowerSuit)
-                    && "Jack".equals(leadingCard.getRank())) {
-                trick.getLeadCard().setPointValue(19);
-            } else {
-                switch (trick.getLeadCard().getRank()) {
-                    case "9" -> trick.getLeadCard().setPointValue(8);
-                    case "10" -> trick.getLeadCard().setPointValue(9);
-                    case "Jack" -> trick.getLeadCard().setPointValue(10);
-                    case "Queen" -> trick.getLeadCard().setPointValue(11);
-                    case "King" -> trick.getLeadCard().setPointValue(12);
-                    case "Ace" -> trick.getLeadCard().setPointValue(13);
-                    default -> {
-                    }
-                }
+    public void recordPlay(final Card card, final int playerNum) {
+        final Card leadCard = trick.getLeadCard();
+        if (leadCard != null && trump != null) {
+            final Suit leadSuit = HandMask.effectiveSuit(leadCard, trump);
+            if (HandMask.effectiveSuit(card, trump) != leadSuit) {
+                voidSuits[playerNum] |= 1 << leadSuit.ordinal();
             }
         }
+        playedCards = HandMask.add(playedCards, card);
+    }
 
-        // assign point values to the cards in each players hand if trump
-        for (final Player player : players) {
-            final Hand hand = player.getHand();
-            final List<Card> cards = hand.getCards();
-
-
-            for (final Card card : cards) {
-                if (card.getSuit().equals(trump)) {
-
-                    switch (card.getRank()) {
-                        case "9" -> card.setPointValue(14);
-                        case "10" -> card.setPointValue(15);
-                        case "Jack" -> card.setPointValue(20);
-                        case "Queen" -> card.setPointValue(16);
-                        case "King" -> card.setPointValue(17);
-                        case "Ace" -> card.setPointValue(18);
-                        default -> {
-                        }
-                    }
-
-                    // if card is of the leading suit but not trump
-                } else if (card.getSuit().equals(leadingSuit) && !(card.getSuit().equals(trump))) {
-                    switch (card.getRank()) {
-                        case "9" -> card.setPointValue(8);
-                        case "10" -> card.setPointValue(9);
-                        case "Jack" -> card.setPointValue(10);
-                        case "Queen" -> card.setPointValue(11);
-                        case "King" -> card.setPointValue(12);
-                        case "Ace" -> card.setPointValue(13);
-                        default -> {
-                        }
-                    }
-
-                    // if card is the left bower
-                } else if ("Jack".equals(card.getRank()) && card.getSuit().equals(leftBowerSuit)) {
-                    card.setPointValue(19);
-
-                    // for all remaining cards
-                } else {
-                    switch (card.getRank()) {
-                        case "9" -> card.setPointValue(2);
-                        case "10" -> card.setPointValue(3);
-                        case "Jack" -> card.setPointValue(4);
-                        case "Queen" -> card.setPointValue(5);
-                        case "King" -> card.setPointValue(6);
-                        case "Ace" -> card.setPointValue(7);
-                        default -> card.setPointValue(0);
-                    }
-                }
-            }
-        }
+    /**
+     * Gets the point value of a card based off of the leading card suit and
+     * trump, looked up in the shared {@link CardStrength} table.
+     *
+     * @param card the card to look up
+     * @return the point value, or 0 for no card
+     */
+    public int getPointValue(final Card card) {
+        return CardStrength.of(trump, trick.getLeadCard(), card);
     }
 
 
@@ -259,17 +235,17 @@ public class Game {
         int trumpCount = 0;
         final Hand hand = this.getPlayers()[currentPlayerTurn].getHand();
 
+        // the suit being weighed up, trump is only set once the player decides
+        Suit suit;
         if (!goneOnce) {
-            trump = kittyCard.getSuit();
+            suit = kittyCard.getSuit();
         } else {
-            trump = "undecided";
+            suit = null;
         }
 
-        assignCardPoints();
-
         // increments trumpCount for each trump card in hand
         for (final Card card : hand.getCards()) {
-            if (card.getSuit().equals(trump)) {
+            if (card.getSuit() == suit) {
                 trumpCount++;
             }
         }
@@ -279,92 +255,91 @@ public class Game {
         if (!goneOnce) {
             // if AI player has more than 3 trump, order it up. dealer must discard one.
             if (trumpCount >= 3 && currentPlayerTurn != dealer) {
-                trump = kittyCard.getSuit();
+                setTrump(suit);
 
-                // set pickedUp to true, remove the lowest card and add the kitty card
-                // to player hand, set player decided trump to current player
-                playerDecidedTrump = currentPlayerTurn;
-                orderedUp = true;
-                assignCardPoints();
-                aiDecideDiscard();
+                // set orderedUp to true and set player decided trump to current
+                // player, the dealer discards once bidding is over
+                setPlayerDecidedTrump(currentPlayerTurn);
+                setOrderedUp(true);
 
                 // if AI player has 2 or more trump in his hand,
                 // and he is the dealer, pick up kitty card
             } else if (trumpCount >= 2 && currentPlayerTurn == dealer) {
-                trump = kittyCard.getSuit();
-                pickedUp = true;
-                playerDecidedTrump = currentPlayerTurn;
-                assignCardPoints();
-                aiDecideDiscard();
+                setTrump(suit);
+                setPickedUp(true);
+                setPlayerDecidedTrump(currentPlayerTurn);
             }
         } else {
             // check if player has good enough cards to choose trump
             // by adding point value of similar suit cards
             int highestSuitScore = 0;
-            int[] suitPoints = new int[4];
+            boolean decided = false;
+            final int[] suitPoints = new int[4];
 
             for (final Card card : hand.getCards()) {
-                switch (card.getSuit()) {
-                    case "Hearts" -> suitPoints[0] += card.getPointValue();
-                    case "Diamonds" -> suitPoints[1] += card.getPointValue();
-                    case "Clubs" -> suitPoints[2] += card.getPointValue();
-                    case "Spades" -> suitPoints[3] += card.getPointValue();
-                    default -> throw new IllegalArgumentException("Error in checking if player has"
-                            + " good enough cards to choose trump.");
-                }
+                suitPoints[card.getSuit().ordinal()] += CardStrength.of(suit, trick.getLeadCard(), card);
 
                 // checks to see if the user has good enough
                 // cards to choose when trump is undecided
                 for (final int suitPoint : suitPoints) {
                     if (suitPoint > 20 && suitPoint > highestSuitScore) {
-                        playerDecidedTrump = currentPlayerTurn;
+                        decided = true;
                         highestSuitScore = suitPoint;
-                        trump = card.getSuit();
-                        assignCardPoints();
-                        orderedUp = true;
+                        suit = card.getSuit();
                     }
                 }
             }
+            // the setters mark the trump label and kitty card as changed for the view
+            if (decided) {
+                setTrump(suit);
+                setPlayerDecidedTrump(currentPlayerTurn);
+            }
         }
     }
 
     /**
-     * Chooses a card for the AI to play.
+     * Chooses a card for the AI to play from the cards it may legally play.
      */
     public Card aiDecideCard() {
-        Card cardToPlay = new Card("blank", "blank", 0);
+        final Hand hand = players[currentPlayerTurn].getHand();
+        final Card leadCard = trick.getLeadCard();
+        final int legalMoves = hand.legalMoves(leadCard, trump);
+        Card cardToPlay = null;
         int highestCardInTrick = 0;
         int lowestCardInHand = 21;
 
 
         // find the point value of the current high card
         for (final Card card : trick.getCardsPlayed()) {
-            if (card != null && card.getPointValue() > highestCardInTrick) {
-                highestCardInTrick = card.getPointValue();
+            if (card != null && getPointValue(card) > highestCardInTrick) {
+                highestCardInTrick = getPointValue(card);
             }
         }
 
-        if (highestCardInTrick != 0) {
-            for (final Card playerCard : players[currentPlayerTurn].getHand().getCards()) {
+        if (highestCardInTrick != 0 && leadCard != null) {
+            final Suit leadSuit = HandMask.effectiveSuit(leadCard, trump);
+            for (int moves = legalMoves; moves != 0; moves &= moves - 1) {
+                final Card playerCard = HandMask.first(moves);
+                final Suit playerSuit = HandMask.effectiveSuit(playerCard, trump);
+                final int playerCardPoints = getPointValue(playerCard);
 
                 // if no card following lead suit has been found, card has higher point
                 // value than the highest card in trick, and is trump, set as card to be played
-                if (playerCard.getPointValue() > highestCardInTrick && playerCard.getSuit().equals(trump)
-                        && !(cardToPlay.getSuit().equals(trick.getLeadCard().getSuit()))) {
+                if (playerCardPoints > highestCardInTrick && playerSuit == trump
+                        && !(cardToPlay != null && HandMask.effectiveSuit(cardToPlay, trump) == leadSuit)) {
                     // makes sure lowest trump to win trick is played
-                    if (playerCard.getPointValue() < cardToPlay.getPointValue()
-                            && cardToPlay.getSuit().equals(trump)) {
+                    if (cardToPlay != null && playerCardPoints < getPointValue(cardToPlay)
+                            && HandMask.effectiveSuit(cardToPlay, trump) == trump) {
                         cardToPlay = playerCard;
                     }
 
                     // else if card has higher point value than the highest card in trick
                     // and is same suit as leading card, set as card to be played
-                } else if (playerCard.getPointValue() > highestCardInTrick
-                        && playerCard.getSuit().equals(trick.getLeadCard().getSuit())) {
+                } else if (playerCardPoints > highestCardInTrick && playerSuit == leadSuit) {
                     cardToPlay = playerCard;
                     // else if card follows leading suit and current cardToPlay < highestScore
-                } else if (playerCard.getSuit().equals(trick.getLeadCard().getSuit()) && cardToPlay.getPointValue()
-                        < highestCardInTrick && playerCard.getPointValue() < cardToPlay.getPointValue()) {
+                } else if (playerSuit == leadSuit && getPointValue(cardToPlay)
+                        < highestCardInTrick && playerCardPoints < getPointValue(cardToPlay)) {
                     // if the card is lower than the current card, choose it
                     cardToPlay = playerCard;
                 }
@@ -373,16 +348,17 @@ public class Game {
 
 
         // if no playable card is found, choose
-        // the card with the lowest point value to play
-        if ("blank".equals(cardToPlay.getSuit())) {
-            for (final Card card : players[currentPlayerTurn].getHand().getCards()) {
-                if (card.getPointValue() < lowestCardInHand) {
-                    lowestCardInHand = card.getPointValue();
+        // the legal card with the lowest point value to play
+        if (cardToPlay == null) {
+            for (int moves = legalMoves; moves != 0; moves &= moves - 1) {
+                final Card card = HandMask.first(moves);
+                if (getPointValue(card) < lowestCardInHand) {
+                    lowestCardInHand = getPointValue(card);
                     cardToPlay = card;
                 }
             }
         }
-        players[currentPlayerTurn].getHand().removeCard(cardToPlay);
+        hand.removeCard(cardToPlay);
         return cardToPlay;
     }
 
@@ -391,9 +367,6 @@ public class Game {
      * Removes the lowest card from the AI players hand if ordered up or picked up.
      */
     public void aiDecideDiscard() {
-
-        assignCardPoints();
-
         int lowestCard = 20;
         Card discardCard = null;
         final Hand hand = this.getPlayers()[dealer].getHand();
@@ -401,15 +374,15 @@ public class Game {
         // this for loop finds the lowest card in
         // hand based off trump suit and discards it
         for (final Card card : hand.getCards()) {
-            if (card.getPointValue() <= lowestCard) {
-                lowestCard = card.getPointValue();
+            if (getPointValue(card) <= lowestCard) {
+                lowestCard = getPointValue(card);
                 discardCard = card;
             }
         }
-        assignCardPoints();
 
         hand.removeCard(discardCard);
         hand.addCard(kittyCard);
+        discard = discardCard;
 
     }
 
@@ -429,8 +402,8 @@ public class Game {
         for (int i = 0; i < 4; i++) {
             trickCard = trick.getCardsPlayed()[i];
             if (trickCard != null) {
-                if (trickCard.getPointValue() > highestCard) {
-                    highestCard = trickCard.getPointValue();
+                if (getPointValue(trickCard) > highestCard) {
+                    highestCard = getPointValue(trickCard);
                     winningTeam = i % 2;
                     playerWonTrick = i;
                 }
@@ -439,6 +412,7 @@ public class Game {
             }
         }
         tricksWon[winningTeam]++;
+        tricksWonVersion++;
         return playerWonTrick;
     }
 
@@ -547,6 +521,7 @@ public class Game {
      */
     public void setScores(final int... scores) {
         this.scores = Arrays.copyOf(scores, scores.length);
+        scoresVersion++;
     }
 
     /**
@@ -601,6 +576,7 @@ public class Game {
      */
     public void setKittyCard(final Card kittyCard) {
         this.kittyCard = kittyCard;
+        kittyVersion++;
     }
 
     /**
@@ -624,19 +600,22 @@ public class Game {
     /**
      * Get the trump suit.
      *
-     * @return the trump suit as a String
+     * @return the trump suit, or null if trump is undecided
      */
-    public String getTrump() {
+    public Suit getTrump() {
         return trump;
     }
 
     /**
      * Set the trump suit.
      *
-     * @param trump suit String to be set as trump
+     * @param trump suit to be set as trump, or null for undecided
      */
-    public void setTrump(final String trump) {
-        this.trump = trump;
+    public void setTrump(final Suit trump) {
+        if (this.trump != trump) {
+            this.trump = trump;
+            trumpVersion++;
+        }
     }
 
     /**
@@ -708,6 +687,83 @@ public class Game {
      */
     public void setTricksWon(final int... tricksWon) {
         this.tricksWon = Arrays.copyOf(tricksWon, tricksWon.length);
+        tricksWonVersion++;
+    }
+
+    /**
+     * Gets the cards played so far this hand.
+     *
+     * @return mask of the played cards, including the current trick
+     */
+    public int getPlayedCards() {
+        return playedCards;
+    }
+
+    /**
+     * Checks whether a player has shown out of a suit this hand.
+     *
+     * @param playerNum the player to check
+     * @param suit the effective suit to check
+     * @return true if the player failed to follow the suit earlier in the hand
+     */
+    public boolean isVoid(final int playerNum, final Suit suit) {
+        return (voidSuits[playerNum] & 1 << suit.ordinal()) != 0;
+    }
+
+    /**
+     * Gets the version of the kitty card, which changes when the card
+     * changes or when a player decides trump and the kitty is turned over.
+     *
+     * @return the version
+     */
+    public int getKittyVersion() {
+        return kittyVersion;
+    }
+
+    /**
+     * Gets the version of the trump suit, which changes when trump changes.
+     *
+     * @return the version
+     */
+    public int getTrumpVersion() {
+        return trumpVersion;
+    }
+
+    /**
+     * Gets the version of the scores, which changes when a team scores or the scores are set.
+     *
+     * @return the version
+     */
+    public int getScoresVersion() {
+        return scoresVersion;
+    }
+
+    /**
+     * Gets the version of the tricks won, which changes when a trick is won or the counts are set.
+     *
+     * @return the version
+     */
+    public int getTricksWonVersion() {
+        return tricksWonVersion;
+    }
+
+    /**
+     * Gets the card the dealer threw away for the kitty card. Only the
+     * dealer knows which card it is.
+     *
+     * @return the card thrown away, or null if the dealer hasn't discarded this hand
+     */
+    public Card getDiscard() {
+        return discard;
+    }
+
+    /**
+     * Sets the card the dealer threw away for the kitty card.
+     *
+     * @param discard the card thrown away, or null for none
+     */
+    public void setDiscard(final Card discard) {
+        this.discard = discard;
     }
 
     /**
@@ -724,7 +780,10 @@ public class Game {
      * @param playerDecidedTrump the player number of who decided trump
      */
     public void setPlayerDecidedTrump(final int playerDecidedTrump) {
-        this.playerDecidedTrump = playerDecidedTrump;
+        if (this.playerDecidedTrump != playerDecidedTrump) {
+            this.playerDecidedTrump = playerDecidedTrump;
+            kittyVersion++;
+        }
     }
 
 }
@@ -2,7 +2,14 @@
  * This class handles user input and interactions,
  * playing cards, and maintaining the flow of the game.
  * It communicates with the Model to update the
- * game state and triggers updates to the View.
+ * game state and triggers updates to a {@link GameListener}.
+ * Computer players make their decisions through a
+ * {@link PlayerStrategy}, so a game with no human seat
+ * runs without any display.
+ * <p>
+ * The game moves through the {@link GamePhase}s one action
+ * per {@link #step}, so it can be paused between any two
+ * actions and runs in constant stack depth.
  */
 public class GameController {
 
@@ -10,243 +17,503 @@ public class GameController {
      * Creates new game object to hold game state and logic.
      */
     private Game game;
+    /**
+     * Strategy for each seat, null for the human player.
+     */
+    private final PlayerStrategy[] strategies;
+    /**
+     * Phase the next step acts on. The Game constructor deals the first
+     * hand, so a new game starts with the bidding.
+     */
+    private GamePhase phase = GamePhase.BID_ROUND_1;
+    /**
+     * View the shown versions below belong to, null until the first update.
+     */
+    private GameListener shownView;
+    /**
+     * Version of the kitty card the view shows.
+     */
+    private int shownKitty;
+    /**
+     * Trick the view shows.
+     */
+    private Trick shownTrick;
+    /**
+     * Version of the trick the view shows.
+     */
+    private int shownTrickVersion;
+    /**
+     * User's hand the view shows.
+     */
+    private Hand shownHand;
+    /**
+     * Version of the user's hand the view shows.
+     */
+    private int shownHandVersion;
+    /**
+     * Version of the scores the view shows.
+     */
+    private int shownScores;
+    /**
+     * Version of the tricks won the view shows.
+     */
+    private int shownTricksWon;
+    /**
+     * Version of the trump suit the view shows.
+     */
+    private int shownTrump;
 
     /**
-     * Constructor for controller.
+     * Constructor for controller with the user in seat 0
+     * and the original AI in the other seats.
      */
     public GameController(final Game game) {
+        this(game, null, new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy());
+    }
+
+    /**
+     * Constructor for controller with a strategy for each seat.
+     * A null strategy marks the human player, who can only sit in seat 0.
+     *
+     * @param game the game to control
+     * @param strategies strategy for each of the 4 seats
+     */
+    public GameController(final Game game, final PlayerStrategy... strategies) {
+        if (strategies.length != 4) {
+            throw new IllegalArgumentException("A strategy is needed for each of the 4 seats.");
+        }
+        for (int i = 1; i < 4; i++) {
+            if (strategies[i] == null) {
+                throw new IllegalArgumentException("Only seat 0 can be played by the user.");
+            }
+        }
         this.game = game;
+        this.strategies = strategies.clone();
     }
 
     /**
-     * Adds a card to the trick.
+     * Checks whether a seat is played by the user.
+     *
+     * @param playerNum the seat to check
+     * @return true if the user decides for the seat
+     */
+    public boolean isHuman(final int playerNum) {
+        return playerNum >= 0 && strategies[playerNum] == null;
+    }
+
+    /**
+     * Adds a card to the trick and records it as played.
      */
     public void playCard(final Card card, final int playerNum) {
+        game.recordPlay(card, playerNum);
         game.getTrick().addCardToTrick(card, playerNum);
-        game.assignCardPoints();
     }
 
     /**
-     * Asks each player to decide on their Trump option.
+     * Has a player order up the kitty card, or pick it up if they are the dealer.
      *
-     * @param view to update view when a player makes a decision, or it is their turn
+     * @param seat the player ordering up
      */
-    public void decideTrump(final GameView view) {
-        updateView(view);
-        game.setOrderedUp(false);
+    public void orderUp(final int seat) {
+        if (game.getDealer() == seat) {
+            game.setPickedUp(true);
+        } else {
+            game.setOrderedUp(true);
+        }
+        game.setPlayerDecidedTrump(seat);
+        game.setTrump(game.getKittyCard().getSuit());
+    }
+
+    /**
+     * Has a player name trump in the second round of bidding.
+     *
+     * @param seat the player naming trump
+     * @param suit the suit named, or null to pass
+     */
+    public void nameTrump(final int seat, final Suit suit) {
+        if (suit == null) {
+            game.setTrump(null);
+            return;
+        }
+        game.setTrump(suit);
         game.setPickedUp(false);
-        game.setGoneOnce(false);
-        game.setPlayerDecidedTrump(-1);
+        game.setOrderedUp(false);
+        game.setPlayerDecidedTrump(seat);
+    }
 
-        // first round: asking each player to pass, pick up, or order up the kitty card
-        while (!game.isGoneOnce() && !game.isOrderedUp() && !game.isPickedUp()
-                && game.getPlayerDecidedTrump() == -1) {
+    /**
+     * Has the dealer throw away a card and take the kitty card in its place.
+     *
+     * @param card the card thrown away, or null to keep the hand as it is
+     */
+    public void discard(final Card card) {
+        final Hand hand = game.getHands()[game.getDealer()];
+        if (card != null && hand.contains(card)) {
+            hand.removeCard(card);
+            hand.addCard(game.getKittyCard());
+            game.setDiscard(card);
+        }
+    }
 
-            // if it is user's turn
-            if (game.getCurrentPlayerTurn() == 0) {
-                view.askForPass();
-            } else {
-                // if it's AIs turn
-                game.aiDecideTrump();
-                view.displayTrumpMessage();
-            }
+    /**
+     * Plays the card the user chose while the game was waiting for them.
+     * The game carries on from the next player on the following step.
+     *
+     * @param card the card the user played
+     */
+    public void playUserCard(final Card card) {
+        playCard(card, 0);
+        game.setCurrentPlayerTurn((game.getCurrentPlayerTurn() + 1) % 4);
+        phase = GamePhase.PLAY_TRICK;
+    }
 
-            // check if all players have had a chance to decide
-            if (game.getCurrentPlayerTurn() == game.getDealer()) {
-                game.setGoneOnce(true);
-            }
+    /**
+     * Asks each player to decide on their Trump option, stepping through
+     * the bidding, any re-deals and the dealer's discard until play can start.
+     *
+     * @param view to update view when a player makes a decision, or it is their turn
+     */
+    public void decideTrump(final GameListener view) {
+        beginBidding(view);
+        while (phase != GamePhase.PLAY_TRICK && step(view)) {
+            // each step is one bid, deal or discard
+        }
+    }
 
-            // move to next player
-            game.setCurrentPlayerTurn((game.getCurrentPlayerTurn() + 1) % 4);
+    /**
+     * Main game loop. Plays from the current trick until the user has
+     * to play a card or the game is over.
+     *
+     * @param view to update view as cards are played
+     */
+    public void playGame(final GameListener view) {
+        phase = GamePhase.PLAY_TRICK;
+        updateView(view);
+        run(view);
+    }
 
-        }
+    /**
+     * Starts the game with the bidding for the hand already dealt.
+     *
+     * @param view view to be initialized
+     */
+    public void startGame(final GameListener view) {
+        beginBidding(view);
+        run(view);
+    }
 
-        // if no one ordered up in the first round, go for second round
-        if (!game.isOrderedUp() && !game.isPickedUp()
-                && game.getPlayerDecidedTrump() == -1 && game.isGoneOnce()) {
-            // since no one decided trump, set to undecided
-            game.setTrump("undecided");
-
-            // while this is everyone's second turn and no decision has been made,
-            // ask to choose a suit for trump
-            while (game.isGoneOnce() && !game.isOrderedUp()
-                    && !game.isPickedUp() && game.getPlayerDecidedTrump() == -1) {
-
-                // if it is user's turn
-                if (game.getCurrentPlayerTurn() == 0) {
-                    view.askForTrump();
-                } else {
-                    // it's AIs turn
-                    game.aiDecideTrump();
-                    view.displayTrumpMessage();
-                }
-
-                // check if all players have had a chance to decide
-                if (game.getCurrentPlayerTurn() == game.getDealer()) {
-                    game.setGoneOnce(false);
-                }
-
-                // move to next player
-                game.setCurrentPlayerTurn((game.getCurrentPlayerTurn() + 1) % 4);
+    /**
+     * Steps the game until the user has to play a card or the game is over.
+     * The game is driven by this loop rather than by recursion, so a long
+     * session runs in constant stack depth.
+     *
+     * @param view to update view as the game progresses
+     */
+    public void run(final GameListener view) {
+        while (step(view)) {
+            // each step is one action
+        }
+    }
 
+    /**
+     * Does one action of the game: one bid, one deal, the dealer's discard,
+     * one card played, awarding a full trick, or scoring a hand. Callers can
+     * pause between steps and carry on later.
+     *
+     * @param view to update view as the game progresses
+     * @return true if the game can go on without the user, false if it is
+     *         waiting for the user to play a card or is over
+     */
+    public boolean step(final GameListener view) {
+        switch (phase) {
+            case DEAL -> deal(view);
+            case BID_ROUND_1 -> bidFirstRound(view);
+            case BID_ROUND_2 -> bidSecondRound(view);
+            case DISCARD -> discard(view);
+            case PLAY_TRICK -> playTurn(view);
+            case SCORE -> score(view);
+            default -> {
+                // waiting for the user or the game is over, nothing to do
             }
-
         }
+        return phase != GamePhase.USER_CARD && phase != GamePhase.GAME_OVER;
+    }
 
-        updateView(view);
+    /**
+     * Gets the phase the game is in.
+     *
+     * @return the phase the next step acts on
+     */
+    public GamePhase getPhase() {
+        return phase;
+    }
 
-        // after both rounds, check if the trump has been decided or needs a re-deal
-        if (game.getPlayerDecidedTrump() != -1) {
-            // player after dealer starts the round
-            game.setCurrentPlayerTurn((game.getDealer() + 1) % 4);
+    /**
+     * Clears the bidding flags and moves to the first round of bidding.
+     *
+     * @param view to update view
+     */
+    private void beginBidding(final GameListener view) {
+        updateView(view);
+        game.setOrderedUp(false);
+        game.setPickedUp(false);
+        game.setGoneOnce(false);
+        game.setPlayerDecidedTrump(-1);
+        phase = GamePhase.BID_ROUND_1;
+    }
 
-            // if the user ordered up or chose trump, display the message
-            if (game.getPlayerDecidedTrump() == 0) {
-                view.displayTrumpMessage();
-            }
+    /**
+     * Deals a new hand and starts its bidding. The dealer has already moved on.
+     *
+     * @param view to update view
+     */
+    private void deal(final GameListener view) {
+        game.getTrick().clearTrick();
+        game.newHand();
+        game.setTricksWon(new int[2]);
+        view.cardBtnReset();
+        updateView(view);
+        beginBidding(view);
+    }
 
-            // if the user is the dealer and is picked up or ordered up, ask for discard
-            if ((game.isOrderedUp() || game.isPickedUp()) && game.getDealer() == 0) {
-                view.askUserForDiscard();
-                // else if an AI player is picked up or ordered up, make them discard
-            } else if (game.isOrderedUp() || game.isPickedUp()) {
-                game.aiDecideDiscard();
-            }
+    /**
+     * Asks the current player to pass, pick up, or order up the kitty card.
+     *
+     * @param view to update view when a player makes a decision, or it is their turn
+     */
+    private void bidFirstRound(final GameListener view) {
+        final int seat = game.getCurrentPlayerTurn();
+        // if it is user's turn
+        if (isHuman(seat)) {
+            view.askForPass();
+        } else {
+            strategies[seat].decideTrump(game);
+            view.displayTrumpMessage();
+        }
 
-            // assign card points with trump scores
-            game.assignCardPoints();
+        // check if all players have had a chance to decide
+        if (seat == game.getDealer()) {
+            game.setGoneOnce(true);
+        }
+        game.setCurrentPlayerTurn((seat + 1) % 4);
+
+        if (isTrumpDecided()) {
+            finishBidding(view);
+        } else if (game.isGoneOnce()) {
+            // no one ordered up in the first round, since no one decided trump, set to undecided
+            game.setTrump(null);
+            phase = GamePhase.BID_ROUND_2;
+        }
+    }
 
+    /**
+     * Asks the current player to name trump after everyone passed on the
+     * kitty card. If everyone passes again the deal moves on.
+     *
+     * @param view to update view when a player makes a decision, or it is their turn
+     */
+    private void bidSecondRound(final GameListener view) {
+        final int seat = game.getCurrentPlayerTurn();
+        // if it is user's turn
+        if (isHuman(seat)) {
+            view.askForTrump();
         } else {
+            strategies[seat].decideTrump(game);
+            view.displayTrumpMessage();
+        }
+
+        // check if all players have had a chance to decide
+        if (seat == game.getDealer()) {
+            game.setGoneOnce(false);
+        }
+        game.setCurrentPlayerTurn((seat + 1) % 4);
+
+        if (isTrumpDecided()) {
+            finishBidding(view);
+        } else if (!game.isGoneOnce()) {
             // if no one orders up, picks up, or chooses trump, re-deal
+            updateView(view);
             game.setDealer((game.getDealer() + 1) % 4);
             game.setCurrentPlayerTurn((game.getDealer() + 1) % 4);
             view.displayNoChoice();
-            game.newHand();
-
-            updateView(view);
-            decideTrump(view);
-
-
+            phase = GamePhase.DEAL;
         }
+    }
 
-        // update the kitty image to hide card during gameplay
-        view.setKittyCardImage();
-
+    /**
+     * Checks whether a player has made trump.
+     *
+     * @return true if the kitty card was ordered up or picked up, or a suit was named
+     */
+    private boolean isTrumpDecided() {
+        return game.isOrderedUp() || game.isPickedUp() || game.getPlayerDecidedTrump() != -1;
     }
 
     /**
-     * Main game loop. Loops through the game logic
-     * to progress game moves until game is over.
+     * Ends the bidding once trump is decided, moving to the discard if the
+     * dealer took the kitty card and otherwise straight to play.
+     *
+     * @param view to update view
      */
-    public void playGame(final GameView view) {
+    private void finishBidding(final GameListener view) {
         updateView(view);
-        if (game.getTrick().getLeadCard() != null) {
-            game.assignCardPoints();
-        }
-        // while the trick is not full, ask AI players to play cards
-        while (!game.getTrick().checkTrickForWin()) {
-            // if user's turn, ask to play card
-            if (game.getCurrentPlayerTurn() == 0) {
-                updateView(view);
-                view.askUserPlayCard();
-                return;
-
-            } else {
-                // else AI plays a card
-                playCard(game.aiDecideCard(), game.getCurrentPlayerTurn());
-                updateView(view);
+        // player after dealer starts the round
+        game.setCurrentPlayerTurn((game.getDealer() + 1) % 4);
 
-                game.setCurrentPlayerTurn((game.getCurrentPlayerTurn() + 1) % 4);
+        // if the user ordered up or chose trump, display the message
+        if (isHuman(game.getPlayerDecidedTrump())) {
+            view.displayTrumpMessage();
+        }
 
-            }
+        if (game.isOrderedUp() || game.isPickedUp()) {
+            phase = GamePhase.DISCARD;
+        } else {
+            startPlay(view);
+        }
+    }
 
+    /**
+     * Has the dealer take the kitty card and throw a card away.
+     *
+     * @param view to ask the user for a discard
+     */
+    private void discard(final GameListener view) {
+        if (isHuman(game.getDealer())) {
+            view.askUserForDiscard();
+        } else {
+            strategies[game.getDealer()].decideDiscard(game);
         }
+        startPlay(view);
+    }
 
-        // set the current player to the winner of the trick,
-        // update view, and display the winner
-        game.setCurrentPlayerTurn(game.awardTrickPoints());
+    /**
+     * Moves from bidding to play.
+     *
+     * @param view to update view
+     */
+    private void startPlay(final GameListener view) {
+        // update the kitty image to hide card during gameplay
+        view.setKittyCardImage();
         updateView(view);
-        view.displayTrickWinner(game.getCurrentPlayerTurn());
-
-        // create local variables instead of using game.getTricksWon() in logic
-        final int[] tricksWon = game.getTricksWon();
-        final int[] teamScore = game.getScores();
-        // if the total of both teams trick score is 5,
-        // awardTeamPoints, create newHand, and check for a winner
-        if (tricksWon[0] + tricksWon[1] == 5) {
-            view.displayHandWinner(game.awardTeamPoints());
-            game.setPickedUp(false);
-            game.setOrderedUp(false);
-            game.setPlayerDecidedTrump(-1);
-            game.getTrick().clearTrick();
-            game.newHand();
-            game.setTricksWon(new int[2]);
-
-            view.cardBtnReset();
-            game.setDealer((game.getDealer() + 1) % 4);
-            game.setCurrentPlayerTurn((game.getDealer() + 1) % 4);
+        phase = GamePhase.PLAY_TRICK;
+    }
 
+    /**
+     * Plays the current player's card, or gives a full trick to its winner.
+     * On the user's turn the game waits for a card instead.
+     *
+     * @param view to update view as cards are played
+     */
+    private void playTurn(final GameListener view) {
+        final Trick trick = game.getTrick();
+        if (trick.checkTrickForWin()) {
+            // set the current player to the winner of the trick,
+            // update view, and display the winner
+            game.setCurrentPlayerTurn(game.awardTrickPoints());
             updateView(view);
-            // if neither team has won, ask for trump again
-            if (teamScore[0] <= 10 && teamScore[1] <= 10) {
-                view.displayDealer();
-                decideTrump(view);
+            view.displayTrickWinner(game.getCurrentPlayerTurn());
+
+            final int[] tricksWon = game.getTricksWon();
+            if (tricksWon[0] + tricksWon[1] == 5) {
+                phase = GamePhase.SCORE;
+            } else {
+                trick.clearTrick();
+                updateView(view);
             }
+            return;
         }
 
-        // if one of the teams has a score of 10 or greater,
-        // declare team winner and end game. Else, continue playing game.
-        if (teamScore[0] >= 10) {
-            view.displayWinner(0);
-            endGame(view);
-        } else if (teamScore[1] >= 10) {
-            view.displayWinner(1);
-            endGame(view);
-        } else {
-            game.getTrick().clearTrick();
+        final int seat = game.getCurrentPlayerTurn();
+        // if user's turn, ask to play card
+        if (isHuman(seat)) {
             updateView(view);
-
-            playGame(view);
+            view.askUserPlayCard();
+            phase = GamePhase.USER_CARD;
+            return;
         }
 
+        // else AI plays a card
+        playCard(strategies[seat].decideCard(game), seat);
+        updateView(view);
+        game.setCurrentPlayerTurn((seat + 1) % 4);
     }
 
     /**
-     * Creates a new shuffled deck and initializes the game.
+     * Awards the hand's points, then either ends the game or moves the deal on.
      *
-     * @param view view to be initialized
+     * @param view to display the winners
      */
-    public void startGame(final GameView view) {
-        decideTrump(view);
-        playGame(view);
-    }
+    private void score(final GameListener view) {
+        view.displayHandWinner(game.awardTeamPoints());
+        game.setPickedUp(false);
+        game.setOrderedUp(false);
+        game.setPlayerDecidedTrump(-1);
+        game.getTrick().clearTrick();
 
+        // if one of the teams has a score of 10 or greater,
+        // declare team winner and end game. Else, deal the next hand.
+        final int[] teamScore = game.getScores();
+        if (teamScore[0] >= 10 || teamScore[1] >= 10) {
+            view.displayWinner(teamScore[0] >= 10 ? 0 : 1);
+            phase = GamePhase.GAME_OVER;
+            endGame(view);
+            return;
+        }
+        game.setDealer((game.getDealer() + 1) % 4);
+        game.setCurrentPlayerTurn((game.getDealer() + 1) % 4);
+        view.displayDealer();
+        phase = GamePhase.DEAL;
+    }
 
     /**
-     * Declares end of game and creates a new game.
+     * Declares end of game.
      *
      * @param view to close the current game window
      */
-    public void endGame(final GameView view) {
-        view.dispose();
-        final Game gameModel = new Game();
-        final GameController gameController = new GameController(gameModel);
-        new GameView(gameModel, gameController);
+    public void endGame(final GameListener view) {
+        view.gameEnded();
     }
 
     /**
-     * Updates the game view.
+     * Updates the parts of the game view that changed since the last update,
+     * going by the version of each part of the model. The first update of a
+     * view redraws everything.
      *
      * @param view to communicate with the view update functions
      */
-    public void updateView(final GameView view) {
+    public void updateView(final GameListener view) {
+        final boolean all = view != shownView;
+        shownView = view;
+
         final Trick trick = game.getTrick();
-        view.setKittyCardImage();
-        view.updateTrickView(trick);
-        view.assignCardIcons();
-        view.updateScores();
-        view.updateTricks();
-        view.updateTrump();
+        final Hand hand = game.getPlayerHand();
+        final int handVersion = hand == null ? 0 : hand.getVersion();
+        if (all || game.getKittyVersion() != shownKitty) {
+            shownKitty = game.getKittyVersion();
+            view.setKittyCardImage();
+        }
+        if (all || trick != shownTrick || trick.getVersion() != shownTrickVersion) {
+            shownTrick = trick;
+            shownTrickVersion = trick.getVersion();
+            view.updateTrickView(trick);
+        }
+        if (all || hand != shownHand || handVersion != shownHandVersion) {
+            shownHand = hand;
+            shownHandVersion = handVersion;
+            view.assignCardIcons();
+        }
+        if (all || game.getScoresVersion() != shownScores) {
+            shownScores = game.getScoresVersion();
+            view.updateScores();
+        }
+        if (all || game.getTricksWonVersion() != shownTricksWon) {
+            shownTricksWon = game.getTricksWonVersion();
+            view.updateTricks();
+        }
+        if (all || game.getTrumpVersion() != shownTrump) {
+            shownTrump = game.getTrumpVersion();
+            view.updateTrump();
+        }
     }
 
     public Game getGame() {
@@ -0,0 +1,76 @@
+/**
+ * Runs a complete game with a computer player in every seat and no
+ * display. Used for AI-vs-AI games, simulations and tournaments.
+ */
+public class GameEngine {
+
+    /**
+     * Game model being played.
+     */
+    private final Game game;
+    /**
+     * Controller driving the game.
+     */
+    private final GameController gameController;
+    /**
+     * Listener notified as the game progresses.
+     */
+    private final GameListener listener;
+
+    /**
+     * Constructor for an engine with the original AI in every seat.
+     *
+     * @param game the game to play
+     */
+    public GameEngine(final Game game) {
+        this(game, new GameListener() { }, new GreedyStrategy(), new GreedyStrategy(),
+                new GreedyStrategy(), new GreedyStrategy());
+    }
+
+    /**
+     * Constructor for an engine with a strategy for each seat.
+     *
+     * @param game the game to play
+     * @param listener listener notified as the game progresses
+     * @param strategies strategy for each of the 4 seats
+     */
+    public GameEngine(final Game game, final GameListener listener, final PlayerStrategy... strategies) {
+        for (final PlayerStrategy strategy : strategies) {
+            if (strategy == null) {
+                throw new IllegalArgumentException("A headless game needs a strategy in every seat.");
+            }
+        }
+        this.game = game;
+        this.gameController = new GameController(game, strategies);
+        this.listener = listener;
+    }
+
+    /**
+     * Plays the game until a team reaches 10 points.
+     *
+     * @return the number of the winning team
+     */
+    public int playGame() {
+        gameController.startGame(listener);
+        final int[] scores = game.getScores();
+        return scores[0] >= scores[1] ? 0 : 1;
+    }
+
+    /**
+     * Gets the game being played.
+     *
+     * @return the game
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Gets the controller driving the game.
+     *
+     * @return the game controller
+     */
+    public GameController getGameController() {
+        return gameController;
+    }
+}
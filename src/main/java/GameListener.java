@@ -0,0 +1,127 @@
+/**
+ * Receives updates from the {@link GameController} as a game progresses
+ * and answers for the human player. Every method does nothing by default,
+ * so a game with no display and no human seat can use an empty listener.
+ * The Swing {@link GameView} is one implementation of this interface.
+ */
+public interface GameListener {
+
+    /**
+     * Asks the human player to pass or order up the kitty card.
+     */
+    default void askForPass() {
+    }
+
+    /**
+     * Asks the human player to choose trump after everyone passed on the kitty card.
+     */
+    default void askForTrump() {
+    }
+
+    /**
+     * Asks the human dealer to discard a card after the kitty card was picked up.
+     */
+    default void askUserForDiscard() {
+    }
+
+    /**
+     * Asks the human player to play a card. The game stops until the card
+     * is passed to {@link GameController#playUserCard} and the game is
+     * carried on with {@link GameController#step} or {@link GameController#run},
+     * which {@link GameRunner#playCard} does on the engine thread.
+     */
+    default void askUserPlayCard() {
+    }
+
+    /**
+     * Announces a player's decision on trump.
+     */
+    default void displayTrumpMessage() {
+    }
+
+    /**
+     * Announces the winner of a trick.
+     *
+     * @param winningPlayer number of the winning player
+     */
+    default void displayTrickWinner(final int winningPlayer) {
+    }
+
+    /**
+     * Announces the winner of a hand.
+     *
+     * @param winningTeam number of the winning team
+     */
+    default void displayHandWinner(final int winningTeam) {
+    }
+
+    /**
+     * Announces that no one chose trump and the deal moves on.
+     */
+    default void displayNoChoice() {
+    }
+
+    /**
+     * Announces the next dealer.
+     */
+    default void displayDealer() {
+    }
+
+    /**
+     * Announces the winner of the game.
+     *
+     * @param winningTeam the winning team
+     */
+    default void displayWinner(final int winningTeam) {
+    }
+
+    /**
+     * Shows the kitty card, or hides it once trump is decided.
+     */
+    default void setKittyCardImage() {
+    }
+
+    /**
+     * Shows the cards played in the current trick.
+     *
+     * @param trick current trick
+     */
+    default void updateTrickView(final Trick trick) {
+    }
+
+    /**
+     * Shows the cards in each player's hand.
+     */
+    default void assignCardIcons() {
+    }
+
+    /**
+     * Shows the team scores.
+     */
+    default void updateScores() {
+    }
+
+    /**
+     * Shows the tricks won by each team.
+     */
+    default void updateTricks() {
+    }
+
+    /**
+     * Shows the trump suit.
+     */
+    default void updateTrump() {
+    }
+
+    /**
+     * Lets the human player choose from a new hand of cards.
+     */
+    default void cardBtnReset() {
+    }
+
+    /**
+     * Called once the game has ended.
+     */
+    default void gameEnded() {
+    }
+}
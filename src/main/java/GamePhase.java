@@ -0,0 +1,40 @@
+/**
+ * The phases of a game, in the order {@link GameController} steps
+ * through them. Each step of the controller does one action and
+ * then moves to the next phase or stays where it is.
+ */
+public enum GamePhase {
+
+    /**
+     * Dealing a new hand, either after a hand is scored or after everyone passed.
+     */
+    DEAL,
+    /**
+     * Each player in turn passes or orders up the kitty card.
+     */
+    BID_ROUND_1,
+    /**
+     * Each player in turn passes or names a trump suit other than the kitty card's.
+     */
+    BID_ROUND_2,
+    /**
+     * The dealer picks up the kitty card and throws one card away.
+     */
+    DISCARD,
+    /**
+     * Players take turns playing cards, and a full trick is given to its winner.
+     */
+    PLAY_TRICK,
+    /**
+     * Waiting for the user to play a card.
+     */
+    USER_CARD,
+    /**
+     * Awarding the hand's points to the team that won it.
+     */
+    SCORE,
+    /**
+     * A team has reached 10 points.
+     */
+    GAME_OVER
+}
@@ -0,0 +1,359 @@
+import javax.swing.SwingUtilities;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs a game on its own engine thread, so the window stays responsive
+ * while the computer players think. The engine never touches Swing: it
+ * publishes an immutable {@link GameSnapshot} to the Event Dispatch
+ * Thread with {@code invokeLater} whenever the view has to change, and
+ * waits on a handoff queue for the user's decisions and for notices to
+ * go away. Notices never block the Event Dispatch Thread, so only the
+ * engine waits on them. While the user decides, a {@link HintEngine}
+ * works out their best choice in the background.
+ */
+public class GameRunner implements GameListener {
+
+    /**
+     * Controller for the game, only used on the engine thread.
+     */
+    private final GameController controller;
+    /**
+     * The game, only read and changed on the engine thread.
+     */
+    private final Game game;
+    /**
+     * Window showing the game, only used on the Event Dispatch Thread.
+     */
+    private final GameView view;
+    /**
+     * Answers from the window: the user's choice in a dialog, empty for
+     * no choice or for a notice that went away.
+     */
+    private final BlockingQueue<Optional<Object>> answers = new LinkedBlockingQueue<>();
+    /**
+     * Cards the user plays, handed over from the window.
+     */
+    private final BlockingQueue<Card> plays = new LinkedBlockingQueue<>();
+    /**
+     * Works out hints for the user while the engine waits for them.
+     */
+    private final HintEngine hints;
+    /**
+     * The engine thread.
+     */
+    private final Thread thread;
+    /**
+     * Whether the runner has been stopped, after which it can't be started.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * Constructor for a runner.
+     *
+     * @param controller controller for the game
+     * @param view window showing the game
+     */
+    public GameRunner(final GameController controller, final GameView view) {
+        this.controller = controller;
+        this.game = controller.getGame();
+        this.view = view;
+        this.hints = new HintEngine(view::showHint, view::clearHint);
+        this.thread = new Thread(this::run, "euchre-engine");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts the game on the engine thread, unless the runner has already
+     * been stopped, as it is when the game is ended before it starts.
+     */
+    public void start() {
+        if (!stopped) {
+            thread.start();
+        }
+    }
+
+    /**
+     * Stops the engine thread at the next step or wait, leaving the game where it is.
+     */
+    public void stop() {
+        stopped = true;
+        hints.cancel();
+        thread.interrupt();
+    }
+
+    /**
+     * Hands a card the user played to the engine. Called on the Event Dispatch Thread.
+     *
+     * @param card the card played
+     */
+    public void playCard(final Card card) {
+        hints.cancel();
+        plays.add(card);
+    }
+
+    /**
+     * Plays the game until it is over or the runner is stopped.
+     */
+    private void run() {
+        try {
+            controller.startGame(this);
+            while (controller.getPhase() == GamePhase.USER_CARD) {
+                controller.playUserCard(plays.take());
+                controller.updateView(this);
+                while (!Thread.currentThread().isInterrupted() && controller.step(this)) {
+                    // each step is one action
+                }
+            }
+        } catch (final InterruptedException | CancellationException e) {
+            // stopped, the window has already moved on
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Shows a snapshot of the game in the window without waiting.
+     *
+     * @param update the window update to make with the snapshot
+     */
+    private void publish(final Consumer<GameSnapshot> update) {
+        final GameSnapshot snapshot = GameSnapshot.of(game);
+        SwingUtilities.invokeLater(() -> update.accept(snapshot));
+    }
+
+    /**
+     * Shows a notice in the window and waits for it to go away.
+     *
+     * @param message describes the snapshot
+     * @throws CancellationException if the runner is stopped while waiting
+     */
+    private void show(final Function<GameSnapshot, String> message) {
+        final GameSnapshot snapshot = GameSnapshot.of(game);
+        SwingUtilities.invokeLater(() -> {
+            boolean shown = false;
+            try {
+                view.showNotice(message.apply(snapshot), () -> answers.add(Optional.empty()));
+                shown = true;
+            } finally {
+                if (!shown) {
+                    answers.add(Optional.empty());
+                }
+            }
+        });
+        awaitAnswer();
+    }
+
+    /**
+     * Asks the user a question in the window and waits for the answer.
+     *
+     * @param question asks the question and returns the answer, or null for none
+     * @param <T> type of the answer
+     * @return the answer, or null for none
+     * @throws CancellationException if the runner is stopped while waiting
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T ask(final Function<GameSnapshot, T> question) {
+        final GameSnapshot snapshot = GameSnapshot.of(game);
+        SwingUtilities.invokeLater(() -> {
+            Object answer = null;
+            try {
+                answer = question.apply(snapshot);
+            } finally {
+                answers.add(Optional.ofNullable(answer));
+            }
+        });
+        return (T) awaitAnswer();
+    }
+
+    /**
+     * Asks the user to bid while a hint for the bid is worked out.
+     *
+     * @param question asks the question and returns the answer, or null for none
+     * @param <T> type of the answer
+     * @return the answer, or null for none
+     * @throws CancellationException if the runner is stopped while waiting
+     */
+    private <T> T askWithHint(final Function<GameSnapshot, T> question) {
+        hints.hintBid(game);
+        try {
+            return ask(question);
+        } finally {
+            hints.cancel();
+        }
+    }
+
+    /**
+     * Waits for the window's next answer.
+     *
+     * @return the answer, or null for none
+     * @throws CancellationException if the runner is stopped while waiting
+     */
+    private Object awaitAnswer() {
+        try {
+            return answers.take().orElse(null);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Game stopped.");
+        }
+    }
+
+    /**
+     * Asks the user whether to order up the kitty card and waits for the answer.
+     */
+    @Override
+    public void askForPass() {
+        if (Boolean.TRUE.equals(askWithHint(view::chooseOrderUp))) {
+            controller.orderUp(0);
+        }
+    }
+
+    /**
+     * Asks the user to name trump and waits for the answer.
+     */
+    @Override
+    public void askForTrump() {
+        controller.nameTrump(0, askWithHint(view::chooseTrump));
+    }
+
+    /**
+     * Asks the user for a card to throw away and waits for the answer.
+     */
+    @Override
+    public void askUserForDiscard() {
+        controller.discard(ask(view::chooseDiscard));
+    }
+
+    /**
+     * Prompts the user to play a card.
+     */
+    @Override
+    public void askUserPlayCard() {
+        // the engine then waits for the card to be handed over, leaving the game as the hint saw it
+        hints.hintCard(game);
+        SwingUtilities.invokeLater(view::askUserPlayCard);
+    }
+
+    /**
+     * Shows the trump decision and waits for it to go away.
+     */
+    @Override
+    public void displayTrumpMessage() {
+        show(GameView::trumpMessage);
+    }
+
+    /**
+     * Shows the winner of the trick and waits for it to go away.
+     *
+     * @param winningPlayer number of the winning player
+     */
+    @Override
+    public void displayTrickWinner(final int winningPlayer) {
+        show(snapshot -> GameView.trickWinnerMessage(winningPlayer));
+    }
+
+    /**
+     * Shows the winner of the hand and waits for it to go away.
+     *
+     * @param winningTeam number of the winning team
+     */
+    @Override
+    public void displayHandWinner(final int winningTeam) {
+        show(snapshot -> GameView.handWinnerMessage(winningTeam));
+    }
+
+    /**
+     * Shows that no one decided trump and waits for it to go away.
+     */
+    @Override
+    public void displayNoChoice() {
+        show(GameView::noChoiceMessage);
+    }
+
+    /**
+     * Shows the next dealer and waits for it to go away.
+     */
+    @Override
+    public void displayDealer() {
+        show(GameView::dealerMessage);
+    }
+
+    /**
+     * Shows the winner of the game and waits for it to go away.
+     *
+     * @param winningTeam the winning team
+     */
+    @Override
+    public void displayWinner(final int winningTeam) {
+        show(snapshot -> GameView.winnerMessage(winningTeam));
+    }
+
+    /**
+     * Publishes the kitty card.
+     */
+    @Override
+    public void setKittyCardImage() {
+        publish(view::setKittyCardImage);
+    }
+
+    /**
+     * Publishes the trick.
+     *
+     * @param trick the current trick, copied into the snapshot
+     */
+    @Override
+    public void updateTrickView(final Trick trick) {
+        publish(view::updateTrickView);
+    }
+
+    /**
+     * Publishes the user's hand.
+     */
+    @Override
+    public void assignCardIcons() {
+        publish(view::assignCardIcons);
+    }
+
+    /**
+     * Publishes the scores.
+     */
+    @Override
+    public void updateScores() {
+        publish(view::updateScores);
+    }
+
+    /**
+     * Publishes the tricks won.
+     */
+    @Override
+    public void updateTricks() {
+        publish(view::updateTricks);
+    }
+
+    /**
+     * Publishes the trump suit.
+     */
+    @Override
+    public void updateTrump() {
+        publish(view::updateTrump);
+    }
+
+    /**
+     * Lets the user's cards be played.
+     */
+    @Override
+    public void cardBtnReset() {
+        SwingUtilities.invokeLater(view::cardBtnReset);
+    }
+
+    /**
+     * Closes the window and opens a new game.
+     */
+    @Override
+    public void gameEnded() {
+        SwingUtilities.invokeLater(view::gameEnded);
+    }
+}
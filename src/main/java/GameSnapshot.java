@@ -0,0 +1,197 @@
+import java.util.List;
+
+/**
+ * An immutable copy of everything the window shows about a game. The
+ * engine thread takes a snapshot whenever the view has to change and
+ * hands it to the Event Dispatch Thread, so the window never reads the
+ * game while the engine is changing it.
+ */
+public final class GameSnapshot {
+
+    /**
+     * The kitty card.
+     */
+    private final Card kittyCard;
+    /**
+     * Card each seat played to the trick, null if none.
+     */
+    private final Card[] trick;
+    /**
+     * The card that was led to the trick, or null.
+     */
+    private final Card leadCard;
+    /**
+     * The user's cards in the order they were dealt.
+     */
+    private final List<Card> playerHand;
+    /**
+     * Score of each team.
+     */
+    private final int[] scores;
+    /**
+     * Tricks won by each team this hand.
+     */
+    private final int[] tricksWon;
+    /**
+     * The trump suit, or null if undecided.
+     */
+    private final Suit trump;
+    /**
+     * The dealer.
+     */
+    private final int dealer;
+    /**
+     * The player whose turn it is.
+     */
+    private final int currentPlayerTurn;
+    /**
+     * The player who decided trump, or -1.
+     */
+    private final int playerDecidedTrump;
+    /**
+     * Whether the kitty card was ordered up.
+     */
+    private final boolean orderedUp;
+    /**
+     * Whether the kitty card was picked up.
+     */
+    private final boolean pickedUp;
+
+    /**
+     * Constructor for a snapshot, copying the state of a game.
+     *
+     * @param game the game to copy
+     */
+    private GameSnapshot(final Game game) {
+        this.kittyCard = game.getKittyCard();
+        this.trick = game.getTrick().getCardsPlayed();
+        this.leadCard = game.getTrick().getLeadCard();
+        this.playerHand = List.copyOf(game.getPlayerHand().getCards());
+        this.scores = game.getScores();
+        this.tricksWon = game.getTricksWon();
+        this.trump = game.getTrump();
+        this.dealer = game.getDealer();
+        this.currentPlayerTurn = game.getCurrentPlayerTurn();
+        this.playerDecidedTrump = game.getPlayerDecidedTrump();
+        this.orderedUp = game.isOrderedUp();
+        this.pickedUp = game.isPickedUp();
+    }
+
+    /**
+     * Takes a snapshot of a game.
+     *
+     * @param game the game to copy, only read on the thread that changes it
+     * @return the snapshot
+     */
+    public static GameSnapshot of(final Game game) {
+        return new GameSnapshot(game);
+    }
+
+    /**
+     * Gets the kitty card.
+     *
+     * @return the kitty card
+     */
+    public Card getKittyCard() {
+        return kittyCard;
+    }
+
+    /**
+     * Gets the cards played to the trick.
+     *
+     * @return card each seat played, null if none
+     */
+    public Card[] getTrick() {
+        return trick.clone();
+    }
+
+    /**
+     * Gets the card that was led to the trick.
+     *
+     * @return the lead card, or null if nothing has been played
+     */
+    public Card getLeadCard() {
+        return leadCard;
+    }
+
+    /**
+     * Gets the user's cards.
+     *
+     * @return read-only list of the cards in the order they were dealt
+     */
+    public List<Card> getPlayerHand() {
+        return playerHand;
+    }
+
+    /**
+     * Gets the score of each team.
+     *
+     * @return the scores
+     */
+    public int[] getScores() {
+        return scores.clone();
+    }
+
+    /**
+     * Gets the tricks won by each team this hand.
+     *
+     * @return the tricks won
+     */
+    public int[] getTricksWon() {
+        return tricksWon.clone();
+    }
+
+    /**
+     * Gets the trump suit.
+     *
+     * @return the trump suit, or null if undecided
+     */
+    public Suit getTrump() {
+        return trump;
+    }
+
+    /**
+     * Gets the dealer.
+     *
+     * @return the dealer's player number
+     */
+    public int getDealer() {
+        return dealer;
+    }
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return the player number
+     */
+    public int getCurrentPlayerTurn() {
+        return currentPlayerTurn;
+    }
+
+    /**
+     * Gets the player who decided trump.
+     *
+     * @return the player number, or -1 if trump is undecided
+     */
+    public int getPlayerDecidedTrump() {
+        return playerDecidedTrump;
+    }
+
+    /**
+     * Gets whether the kitty card was ordered up.
+     *
+     * @return whether the kitty card was ordered up
+     */
+    public boolean isOrderedUp() {
+        return orderedUp;
+    }
+
+    /**
+     * Gets whether the kitty card was picked up.
+     *
+     * @return whether the kitty card was picked up
+     */
+    public boolean isPickedUp() {
+        return pickedUp;
+    }
+}
@@ -3,17 +3,27 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.Serial;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import javax.swing.*;
 
 
 /**
  * GameView is the GUI class that holds all the UI elements and logic.
+ * It is the Swing implementation of {@link GameListener}. Once a game
+ * starts it runs on a {@link GameRunner}, which calls the methods taking
+ * a {@link GameSnapshot} on the Event Dispatch Thread. Messages are shown
+ * as notices on the table rather than in dialogs, so only the user's
+ * decisions ever hold up the game. The window can also watch the
+ * computer play every seat on an {@link AutoPlayRunner}, which draws it
+ * with {@link #showFrame} at a capped frame rate.
  */
-public class GameView extends JFrame {
+public class GameView extends JFrame implements GameListener {
     @Serial
     private static final long serialVersionUID = 1L;
+    /**
+     * How long a notice stays on the table when the game advances by itself, in milliseconds.
+     */
+    public static final int NOTICE_MILLIS = 1500;
     /**
      * Main JPanel to hold all UI elements.
      */
@@ -35,101 +45,17 @@ public class GameView extends JFrame {
      */
     private JButton btnEndGame;
     /**
-     * Card button 1.
-     */
-    private JButton btnC1;
-    /**
-     * Card button 2.
-     */
-    private JButton btnC2;
-    /**
-     * Card button 3.
-     */
-    private JButton btnC3;
-    /**
-     * Card button 4.
-     */
-    private JButton btnC4;
-    /**
-     * Card button 5.
-     */
-    private JButton btnC5;
-    /**
-     * Trick label 0 for card image.
-     */
-    private JLabel lblTrick0;
-    /**
-     * Trick label 1 for card image.
-     */
-    private JLabel lblTrick1;
-    /**
-     * Trick label 2 for card image.
+     * Whether notices go away by themselves, or stay until the table is clicked.
      */
-    private JLabel lblTrick2;
+    private JCheckBox chkAutoAdvance;
     /**
-     * Trick label 3 for card image.
+     * Button to watch the computer play every seat.
      */
-    private JLabel lblTrick3;
+    private JButton btnAutoPlay;
     /**
-     * Label placeholder for AI hand card image.
+     * Table the cards are drawn on.
      */
-    private JLabel lblP1C1;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP1C2;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP1C3;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP1C4;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP1C5;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP2C1;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP2C2;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP2C3;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP2C4;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP2C5;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP3C1;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP3C2;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP3C3;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP3C4;
-    /**
-     * Label placeholder for AI hand card image.
-     */
-    private JLabel lblP3C5;
+    private TablePanel table;
     /**
      * Label for displaying team 0's tricks.
      */
@@ -147,13 +73,9 @@ public class GameView extends JFrame {
      */
     private JLabel lblTrump;
     /**
-     * Image for the red back of a card.
-     */
-    private final ImageIcon backIcon1;
-    /**
-     * Image for the black back of a card.
+     * Label for displaying a hint for the user's choice.
      */
-    private final ImageIcon backIcon2;
+    private JLabel lblHint;
     /**
      * Game model.
      */
@@ -171,9 +93,29 @@ public class GameView extends JFrame {
      */
     private List<Card> playerHandCards;
     /**
-     * To store the relative path of the card image folder.
+     * Card images, decoded and scaled once, or null while they load.
      */
-    private final String imagePath;
+    private CardImageCache images;
+    /**
+     * Engine thread for the game, null until the game starts.
+     */
+    private GameRunner runner;
+    /**
+     * Engine thread playing every seat, null unless the computer is playing by itself.
+     */
+    private AutoPlayRunner autoPlay;
+    /**
+     * Number of games finished the window shows while the computer plays by itself.
+     */
+    private int shownGames = -1;
+    /**
+     * Whether the game is waiting for the user to play a card.
+     */
+    private boolean awaitingCard;
+    /**
+     * The game the kitty card was last shown for, to show it again once the images load.
+     */
+    private GameSnapshot kitty;
 
     /**
      * Constructor for GameView UI class.
@@ -186,10 +128,14 @@ public class GameView extends JFrame {
         this.game = game;
         this.gameController = gameController;
         this.gameView = this;
-        this.imagePath = System.getProperty("user.dir") + "/src/main/java/CardImages/";
 
-        this.backIcon1 = resizeImageIcon(new ImageIcon(imagePath + "2B.png"), 50, 65);
-        this.backIcon2 = resizeImageIcon(new ImageIcon(imagePath + "1B.png"), 70, 90);
+        // the images load in the background while the window opens
+        CardImageCache.loadDefault().thenAccept(loaded -> SwingUtilities.invokeLater(() -> {
+            images = loaded;
+            if (kitty != null) {
+                setKittyCardImage(kitty);
+            }
+        }));
 
         setContentPane(mainPanel);
         setTitle("Euchre");
@@ -200,6 +146,13 @@ public class GameView extends JFrame {
 
 
 
+        // show the computer players' hands
+        for (int seat = 1; seat < 4; seat++) {
+            table.setHandSize(seat, TablePanel.HAND_SIZE);
+        }
+        table.setCardListener(this::playUserCard);
+        table.setAnimated(true);
+
         setVisible(true);
 
         btnStartGame.addActionListener(new ActionListener() {
@@ -212,11 +165,12 @@ public class GameView extends JFrame {
             public void actionPerformed(final ActionEvent e) {
                 assignCardIcons();
                 cardBtnReset();
-                JOptionPane.showMessageDialog(null, "The deal goes to Player " + game.getDealer(),
-                        "The game is starting!", JOptionPane.INFORMATION_MESSAGE);
                 btnEndGame.setEnabled(true);
                 btnStartGame.setEnabled(false);
-                gameController.startGame(gameView);
+                // the computer can't take over the seats of a game under way
+                btnAutoPlay.setEnabled(false);
+                runner = new GameRunner(gameController, gameView);
+                showNotice("The game is starting!\nThe deal goes to Player " + game.getDealer(), runner::start);
             }
         });
 
@@ -228,114 +182,33 @@ public class GameView extends JFrame {
              */
             @Override
             public void actionPerformed(final ActionEvent e) {
-                JOptionPane.showMessageDialog(null, "The game has ended.",
-                        "Message", JOptionPane.INFORMATION_MESSAGE);
                 btnEndGame.setEnabled(false);
                 btnStartGame.setEnabled(true);
-                gameController.endGame(gameView);
-            }
-        });
-
-
-        btnC1.addActionListener(new ActionListener() {
-            /**
-             * Plays the card assigned to the button when pressed.
-             *
-             * @param e the event to be processed
-             */
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                btnC1.setIcon(backIcon1);
-                btnC1.setEnabled(false);
-                gameController.playCard(playerHandCards.get(0), 0);
-
-
-                game.setCurrentPlayerTurn((game.getCurrentPlayerTurn() + 1) % 4);
-
-                gameController.updateView(gameView);
-
-                gameController.playGame(gameView);
-            }
-        });
-
-        btnC2.addActionListener(new ActionListener() {
-            /**
-             * Plays the card assigned to the button when pressed.
-             *
-             * @param e the event to be processed
-             */
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                btnC2.setIcon(backIcon1);
-                btnC2.setEnabled(false);
-                gameController.playCard(playerHandCards.get(1), 0);
-
-                game.setCurrentPlayerTurn((game.getCurrentPlayerTurn() + 1) % 4);
-
-                gameController.updateView(gameView);
-
-                gameController.playGame(gameView);
-            }
-        });
-
-        btnC3.addActionListener(new ActionListener() {
-            /**
-             * Plays the card assigned to the button when pressed.
-             *
-             * @param e the event to be processed
-             */
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                btnC3.setIcon(backIcon1);
-                btnC3.setEnabled(false);
-                gameController.playCard(playerHandCards.get(2), 0);
-
-                game.setCurrentPlayerTurn((game.getCurrentPlayerTurn() + 1) % 4);
-
-                gameController.updateView(gameView);
-
-                gameController.playGame(gameView);
-            }
-        });
-
-        btnC4.addActionListener(new ActionListener() {
-            /**
-             * Plays the card assigned to the button when pressed.
-             *
-             * @param e the event to be processed
-             */
-            @Override
-            public void actionPerformed(final ActionEvent e) {
-                btnC4.setIcon(backIcon1);
-                btnC4.setEnabled(false);
-                gameController.playCard(playerHandCards.get(3), 0);
-
-                game.setCurrentPlayerTurn((game.getCurrentPlayerTurn() + 1) % 4);
-
-                gameController.updateView(gameView);
-
-                gameController.playGame(gameView);
+                btnAutoPlay.setEnabled(true);
+                if (runner != null) {
+                    runner.stop();
+                }
+                if (autoPlay != null) {
+                    autoPlay.stop();
+                }
+                showNotice("The game has ended.", () -> gameController.endGame(gameView));
             }
         });
 
-
-        btnC5.addActionListener(new ActionListener() {
+        btnAutoPlay.addActionListener(new ActionListener() {
             /**
-             * Plays the card assigned to the button when pressed.
+             * Starts the computer playing every seat when pressed.
              *
              * @param e the event to be processed
              */
             @Override
             public void actionPerformed(final ActionEvent e) {
-                btnC5.setIcon(backIcon1);
-                btnC5.setEnabled(false);
-                gameController.playCard(playerHandCards.get(4), 0);
-
-                game.setCurrentPlayerTurn((game.getCurrentPlayerTurn() + 1) % 4);
-
-                gameController.updateView(gameView);
-
-                gameController.playGame(gameView);
+                btnEndGame.setEnabled(true);
+                btnStartGame.setEnabled(false);
+                btnAutoPlay.setEnabled(false);
+                cardBtnInitialize();
+                autoPlay = new AutoPlayRunner(gameView, AutoPlayRunner.DEFAULT_FRAMES_PER_SECOND);
+                autoPlay.start();
             }
         });
 
@@ -348,82 +221,61 @@ public class GameView extends JFrame {
     /**
      * Assigns card icons for all players.
      */
+    @Override
     public void assignCardIcons() {
-        playerHandCards = game.getPlayerHand().getCards();
-
-        final JButton[] buttons = {btnC1, btnC2, btnC3, btnC4, btnC5};
-        final JLabel[][] cardLabels = {
-                {lblP1C1, lblP1C2, lblP1C3, lblP1C4, lblP1C5},
-                {lblP2C1, lblP2C2, lblP2C3, lblP2C4, lblP2C5},
-                {lblP3C1, lblP3C2, lblP3C3, lblP3C4, lblP3C5}
-        };
-
-        // assign image to AI player card labels
-        for (final JLabel[] cardLabelArray : cardLabels) {
-            for (final JLabel cardLabel : cardLabelArray) {
-                cardLabel.setIcon(backIcon1);
-            }
-        }
-
-        // assign images to local player's buttons
-        for (int i = 0; i < buttons.length; i++) {
-            final Card card = playerHandCards.get(i);
-            final String suit = card.getSuit();
-            final String rank = card.getRank();
-            ImageIcon playerCardIcon;
-            final String cardImgStr = getCardImgStr(suit, rank);
-
-            //get path and set to string to be used in string format. no absolute path
-            playerCardIcon = new ImageIcon(String.format(imagePath + "%s.png", cardImgStr));
-            playerCardIcon = resizeImageIcon(playerCardIcon, 70, 90);
-            buttons[i].setIcon(playerCardIcon);
-        }
+        assignCardIcons(GameSnapshot.of(game));
     }
 
     /**
-     * Resizes the PNG card images, so they are displayed consistently.
+     * Shows the user's hand and the backs of the other players' hands.
      *
-     * @param icon the image to be resized
-     * @param width the width to resize the image to
-     * @param height the height to resize the image to
-     * @return the resized ImageIcon
+     * @param snapshot the game to show
      */
-    public ImageIcon resizeImageIcon(final ImageIcon icon, final int width, final int height) {
-        final Image image = icon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-        return new ImageIcon(image);
+    public void assignCardIcons(final GameSnapshot snapshot) {
+        playerHandCards = snapshot.getPlayerHand();
 
+        for (int seat = 1; seat < 4; seat++) {
+            table.setHandSize(seat, TablePanel.HAND_SIZE);
+        }
+        table.setUserCards(playerHandCards.toArray(new Card[0]));
     }
 
     /**
-     * Identifies the card and creates a new string
-     * for getting the appropriate card image.
+     * Draws a frame of a game the computer is playing by itself. Frames
+     * come at a capped rate, so each one redraws whatever has changed.
      *
-     * @param suit the suit of the card
-     * @param rank the rank/face value of the card
-     * @return the string to be used in setting the appropriate image
+     * @param snapshot the game to show
+     * @param gamesPlayed number of games finished so far
      */
-    private String getCardImgStr(final String suit, final String rank) {
-        String cardSuitImgStr;
-        String cardRankImgStr;
-        cardSuitImgStr = switch (suit) {
-            case "Hearts" -> "H";
-            case "Diamonds" -> "D";
-            case "Spades" -> "S";
-            case "Clubs" -> "C";
-            default -> "X";
-        };
-
-        cardRankImgStr = switch (rank) {
-            case "9" -> "9";
-            case "10" -> "10";
-            case "Jack" -> "J";
-            case "Queen" -> "Q";
-            case "King" -> "K";
-            case "Ace" -> "A";
-            default -> "X";
-        };
+    public void showFrame(final GameSnapshot snapshot, final int gamesPlayed) {
+        if (!snapshot.getPlayerHand().equals(playerHandCards)) {
+            assignCardIcons(snapshot);
+        }
+        updateTrickView(snapshot);
+        updateScores(snapshot);
+        updateTricks(snapshot);
+        updateTrump(snapshot);
+        setKittyCardImage(snapshot);
+        if (gamesPlayed != shownGames) {
+            shownGames = gamesPlayed;
+            setTitle("Euchre - " + gamesPlayed + " games played");
+        }
+    }
 
-        return cardRankImgStr + cardSuitImgStr;
+    /**
+     * Plays the user's card in a slot of the table and carries on the game.
+     *
+     * @param slot the slot the user clicked
+     */
+    private void playUserCard(final int slot) {
+        // cards can only be played when the game is waiting for one
+        if (!awaitingCard) {
+            return;
+        }
+        awaitingCard = false;
+        table.setUserCardPlayed(slot);
+        table.setUserCardEnabled(slot, false);
+        runner.playCard(playerHandCards.get(slot));
     }
 
     /**
@@ -431,36 +283,45 @@ public class GameView extends JFrame {
      *
      * @param trick current trick holding Card[] of played cards
      */
+    @Override
     public void updateTrickView(final Trick trick) {
-        final Card[] playedCards = trick.getCardsPlayed();
-        final JLabel[] trickLabelImages = {lblTrick0, lblTrick1, lblTrick2, lblTrick3};
-
-        // loops through current cards in trick
-        for (int i = 0; i < 4; i++) {
-            final Card currentCard = playedCards[i];
-            // if there is card in the trick, add its image to the appropriate label
-            if (currentCard != null) {
-                final String suit = currentCard.getSuit();
-                final String rank = currentCard.getRank();
-                final String cardImgString = getCardImgStr(suit, rank);
-                ImageIcon trickCardIcon;
-
-
-                trickCardIcon = new ImageIcon(String.format(imagePath + "%s.png", cardImgString));
-                trickCardIcon = resizeImageIcon(trickCardIcon, 70, 90);
-                trickLabelImages[i].setIcon(trickCardIcon);
-            } else {
-                trickLabelImages[i].setIcon(backIcon2);
-            }
+        if (trick.getLeadCard() == null) {
+            table.sweepTrick(game.getCurrentPlayerTurn());
+        } else {
+            table.setTrick(trick.getCardsPlayed());
+        }
+    }
 
+    /**
+     * Updates the GUI to display the currently played cards in the trick.
+     * A trick that has been cleared is swept off to the player who won it.
+     *
+     * @param snapshot the game to show
+     */
+    public void updateTrickView(final GameSnapshot snapshot) {
+        if (snapshot.getLeadCard() == null) {
+            // the winner of the trick leads the next one
+            table.sweepTrick(snapshot.getCurrentPlayerTurn());
+        } else {
+            table.setTrick(snapshot.getTrick());
         }
     }
 
     /**
      * Update the labels for displaying the score.
      */
+    @Override
     public void updateScores() {
-        final int[] teamScores = game.getScores();
+        updateScores(GameSnapshot.of(game));
+    }
+
+    /**
+     * Update the labels for displaying the score.
+     *
+     * @param snapshot the game to show
+     */
+    public void updateScores(final GameSnapshot snapshot) {
+        final int[] teamScores = snapshot.getScores();
 
         lblTeam1Score.setText("Team 0 Score: " + teamScores[0]);
         lblTeam1Score.setFont(new Font("Arial", Font.BOLD, 16));
@@ -472,8 +333,18 @@ public class GameView extends JFrame {
     /**
      * Update the labels for displaying the tricks won.
      */
+    @Override
     public void updateTricks() {
-        final int[] teamTricks = game.getTricksWon();
+        updateTricks(GameSnapshot.of(game));
+    }
+
+    /**
+     * Update the labels for displaying the tricks won.
+     *
+     * @param snapshot the game to show
+     */
+    public void updateTricks(final GameSnapshot snapshot) {
+        final int[] teamTricks = snapshot.getTricksWon();
 
         lblTeam0Tricks.setText("Team 0 Tricks: " + teamTricks[0]);
         lblTeam0Tricks.setFont(new Font("Arial", Font.BOLD, 16));
@@ -485,8 +356,19 @@ public class GameView extends JFrame {
     /**
      * Update the labels for displaying what trump currently is.
      */
+    @Override
     public void updateTrump() {
-        lblTrump.setText("Trump: " + game.getTrump());
+        updateTrump(GameSnapshot.of(game));
+    }
+
+    /**
+     * Update the labels for displaying what trump currently is.
+     *
+     * @param snapshot the game to show
+     */
+    public void updateTrump(final GameSnapshot snapshot) {
+        final Suit trump = snapshot.getTrump();
+        lblTrump.setText("Trump: " + (trump == null ? "undecided" : trump.getName()));
         lblTrump.setFont(new Font("Arial", Font.BOLD, 16)); // Set font to Arial, bold, size 16
     }
 
@@ -494,90 +376,114 @@ public class GameView extends JFrame {
     /**
      * If all players passed on the kitty card, ask them to decide trump.
      */
+    @Override
     public void askForTrump() {
-        final Card kittyCard = game.getKittyCard();
-        final String kittySuit = kittyCard.getSuit();
+        gameController.nameTrump(0, chooseTrump(GameSnapshot.of(game)));
+    }
 
-        final List<String> availableSuits = new ArrayList<>(Arrays.asList(
-                "Hearts", "Diamonds", "Spades", "Clubs"));
-        availableSuits.remove(kittySuit);
+    /**
+     * Asks the user to name a trump suit other than the kitty card's.
+     *
+     * @param snapshot the game to ask about
+     * @return the suit chosen, or null to pass
+     */
+    public Suit chooseTrump(final GameSnapshot snapshot) {
+        final Suit kittySuit = snapshot.getKittyCard().getSuit();
+
+        final List<String> availableSuits = new ArrayList<>();
+        for (final Suit suit : Suit.values()) {
+            if (suit != kittySuit) {
+                availableSuits.add(suit.getName());
+            }
+        }
 
         final String[] suits = availableSuits.toArray(new String[0]);
 
         final String trump = (String) JOptionPane.showInputDialog(
                 null, "Choose the trump suit:", "Decide Trump",
                 JOptionPane.QUESTION_MESSAGE, null, suits, suits[0]);
-        game.setTrump(trump);
 
         // if user selected a trump suit
-        if (trump != null) {
-            game.setPickedUp(false);
-            game.setOrderedUp(false);
-            game.setPlayerDecidedTrump(0);
-            // to prevent trump from being null and throwing nullPointerException
-        } else {
-            game.setTrump("undecided");
-        }
-
+        return trump == null ? null : Suit.fromName(trump);
     }
 
     /**
      * Presents the user with the option to pass or order up trump.
      */
+    @Override
     public void askForPass() {
+        if (chooseOrderUp(GameSnapshot.of(game))) {
+            gameController.orderUp(0);
+        }
+    }
+
+    /**
+     * Asks the user whether to order up the kitty card.
+     *
+     * @param snapshot the game to ask about
+     * @return true to order up, false to pass
+     */
+    public boolean chooseOrderUp(final GameSnapshot snapshot) {
         final int decision = JOptionPane.showConfirmDialog(null, String.format(
-                "Do you want to order up the %s of %s to player %s?", game.getKittyCard().getRank(),
-                        game.getKittyCard().getSuit(), game.getDealer()), "Order Up or Pass",
+                "Do you want to order up the %s of %s to player %s?", snapshot.getKittyCard().getRank(),
+                        snapshot.getKittyCard().getSuit(), snapshot.getDealer()), "Order Up or Pass",
                 JOptionPane.YES_NO_OPTION);
-        if (decision == JOptionPane.YES_OPTION) {
-            if (game.getDealer() == 0) {
-                game.setPickedUp(true);
-                game.setPlayerDecidedTrump(0);
-            } else {
-                game.setOrderedUp(true);
-                game.setPlayerDecidedTrump(0);
-            }
-
-            game.setTrump(game.getKittyCard().getSuit());
-            game.assignCardPoints();
-        } else if (decision == JOptionPane.NO_OPTION) {
-            game.setOrderedUp(false);
-            game.setOrderedUp(false);
-        }
+        return decision == JOptionPane.YES_OPTION;
     }
 
 
+    /**
+     * Shows a notice on the table without waiting for it. Unless the user
+     * has turned off auto-advance, it goes away by itself after
+     * {@link #NOTICE_MILLIS}; otherwise it stays until the table is clicked.
+     *
+     * @param message the message, with a line break between lines
+     * @param done called once the notice goes away
+     */
+    public void showNotice(final String message, final Runnable done) {
+        table.showNotice(message, chkAutoAdvance.isSelected() ? NOTICE_MILLIS : 0, done);
+    }
+
     /**
      * Displays the decision the AI made when deciding on trump.
      */
+    @Override
     public void displayTrumpMessage() {
+        showNotice(trumpMessage(GameSnapshot.of(game)), () -> { });
+    }
 
+    /**
+     * Describes the decision a player made when deciding on trump.
+     *
+     * @param snapshot the game just after the decision
+     * @return the message
+     */
+    public static String trumpMessage(final GameSnapshot snapshot) {
+        final Card kittyCard = snapshot.getKittyCard();
+        final int firstPlayer = (snapshot.getDealer() + 1) % 4;
 
-        if (game.isPickedUp()) {
-            JOptionPane.showMessageDialog(null, String.format(
+        if (snapshot.isPickedUp()) {
+            return String.format(
                     "Player %d picked up the %s of %s. \n %s is Trump. \nPlayer %d goes first.",
-                    game.getPlayerDecidedTrump(), game.getKittyCard().getRank(),
-                    game.getKittyCard().getSuit(), game.getTrump(), (game.getDealer() + 1) % 4));
+                    snapshot.getPlayerDecidedTrump(), kittyCard.getRank(),
+                    kittyCard.getSuit(), snapshot.getTrump(), firstPlayer);
 
-        } else if (game.isOrderedUp()) {
-            JOptionPane.showMessageDialog(null, String.format("Player %d"
+        } else if (snapshot.isOrderedUp()) {
+            return String.format("Player %d"
                             + " ordered up the %s of %s to Player %d. \n %s is Trump. \nPlayer"
-                            + " %d goes first.", game.getPlayerDecidedTrump(),
-                    game.getKittyCard().getRank(), game.getKittyCard().getSuit(),
-                    game.getDealer(), game.getTrump(), (game.getDealer() + 1) % 4));
+                            + " %d goes first.", snapshot.getPlayerDecidedTrump(),
+                    kittyCard.getRank(), kittyCard.getSuit(),
+                    snapshot.getDealer(), snapshot.getTrump(), firstPlayer);
 
             // else if kitty card suit does not equal trump and a player has decided trump
-        } else if (!(game.getKittyCard().getSuit().equals(game.getTrump()))
-                && game.getPlayerDecidedTrump() != -1) {
-            JOptionPane.showMessageDialog(null, String.format(
+        } else if (kittyCard.getSuit() != snapshot.getTrump()
+                && snapshot.getPlayerDecidedTrump() != -1) {
+            return String.format(
                     "Player %d chooses %s to be Trump. \nPlayer %d goes first.",
-                    game.getPlayerDecidedTrump(),
-                    game.getTrump(), (game.getDealer() + 1) % 4));
-        } else {
-            JOptionPane.showMessageDialog(null, String.format(
-                    "Player %d passed.", game.getCurrentPlayerTurn()));
+                    snapshot.getPlayerDecidedTrump(),
+                    snapshot.getTrump(), firstPlayer);
         }
-
+        return String.format("Player %d passed.", snapshot.getCurrentPlayerTurn());
     }
 
     /**
@@ -585,9 +491,19 @@ public class GameView extends JFrame {
      *
      * @param winningTeam the winning team
      */
+    @Override
     public void displayWinner(final int winningTeam) {
-        JOptionPane.showMessageDialog(null, String.format(
-                "Game Over! Team %d wins!!", winningTeam));
+        showNotice(winnerMessage(winningTeam), () -> { });
+    }
+
+    /**
+     * Describes the winner of the game.
+     *
+     * @param winningTeam the winning team
+     * @return the message
+     */
+    public static String winnerMessage(final int winningTeam) {
+        return String.format("Game Over! Team %d wins!!", winningTeam);
     }
 
     /**
@@ -595,9 +511,19 @@ public class GameView extends JFrame {
      *
      * @param winningPlayer number of the winning player
      */
+    @Override
     public void displayTrickWinner(final int winningPlayer) {
-        JOptionPane.showMessageDialog(null, String.format(
-                "Player %d won the trick!", winningPlayer));
+        showNotice(trickWinnerMessage(winningPlayer), () -> { });
+    }
+
+    /**
+     * Describes the winner of the trick.
+     *
+     * @param winningPlayer number of the winning player
+     * @return the message
+     */
+    public static String trickWinnerMessage(final int winningPlayer) {
+        return String.format("Player %d won the trick!", winningPlayer);
     }
 
     /**
@@ -605,26 +531,57 @@ public class GameView extends JFrame {
      *
      * @param winningTeam number of winning team
      */
+    @Override
     public void displayHandWinner(final int winningTeam) {
-        JOptionPane.showMessageDialog(null, String.format(
-                "Team %d won the hand!", winningTeam));
+        showNotice(handWinnerMessage(winningTeam), () -> { });
+    }
+
+    /**
+     * Describes the winner of the hand.
+     *
+     * @param winningTeam number of winning team
+     * @return the message
+     */
+    public static String handWinnerMessage(final int winningTeam) {
+        return String.format("Team %d won the hand!", winningTeam);
     }
 
     /**
      * Notifies the user that no one has decided on trump
      * and that the deal is moving to the next player.
      */
+    @Override
     public void displayNoChoice() {
-        JOptionPane.showMessageDialog(null, String.format(
-                "No one decided on trump. Deal goes to player %d!", game.getDealer()));
+        showNotice(noChoiceMessage(GameSnapshot.of(game)), () -> { });
+    }
+
+    /**
+     * Describes that no one has decided on trump
+     * and that the deal is moving to the next player.
+     *
+     * @param snapshot the game with the new dealer
+     * @return the message
+     */
+    public static String noChoiceMessage(final GameSnapshot snapshot) {
+        return String.format("No one decided on trump. Deal goes to player %d!", snapshot.getDealer());
     }
 
     /**
      * Displays the next dealer.
      */
+    @Override
     public void displayDealer() {
-        JOptionPane.showMessageDialog(null, String.format(
-                "Deal moves to player %d!", game.getDealer()));
+        showNotice(dealerMessage(GameSnapshot.of(game)), () -> { });
+    }
+
+    /**
+     * Describes the next dealer.
+     *
+     * @param snapshot the game with the new dealer
+     * @return the message
+     */
+    public static String dealerMessage(final GameSnapshot snapshot) {
+        return String.format("Deal moves to player %d!", snapshot.getDealer());
     }
 
     /**
@@ -644,18 +601,30 @@ public class GameView extends JFrame {
     /**
      * Prompts the user to play a card.
      */
+    @Override
     public void askUserPlayCard() {
-        JOptionPane.showMessageDialog(
-                null, "Please select a card to play.");
+        awaitingCard = true;
+        showNotice("Please select a card to play.", () -> { });
     }
 
     /**
      * Prompts the user to select a card to discard.
      */
+    @Override
     public void askUserForDiscard() {
+        gameController.discard(chooseDiscard(GameSnapshot.of(game)));
+    }
+
+    /**
+     * Asks the user for a card to throw away for the kitty card.
+     *
+     * @param snapshot the game to ask about
+     * @return the card to throw away, or null to keep the hand as it is
+     */
+    public Card chooseDiscard(final GameSnapshot snapshot) {
         final List<String> playersCards = new ArrayList<>(List.of());
-        for (final Card card : game.getPlayerHand().getCards()) {
-            playersCards.add(String.format("%s of %s", card.getRank(), card.getSuit()));
+        for (final Card card : snapshot.getPlayerHand()) {
+            playersCards.add(card.toString());
         }
 
         final String[] cardsArray = playersCards.toArray(new String[0]);
@@ -664,62 +633,81 @@ public class GameView extends JFrame {
                 "Choose a card to discard:", "Choose Discard",
                 JOptionPane.QUESTION_MESSAGE, null, cardsArray, cardsArray[0]);
 
-        // for every card in players hand, if String discardCard contains both
-        // the suit and rank, remove the card and add the kitty card
-        for (final Card card : game.getPlayerHand().getCards()) {
-
-            try {
-                if (discardCard.contains(card.getSuit()) && discardCard.contains(card.getRank())) {
-                    game.getPlayerHand().removeCard(card);
-                    game.getPlayerHand().addCard(game.getKittyCard());
-                    return;
-                }
-            } catch (NullPointerException e) {
-                // game breaks if no discard is selected
+        // find the card named by String discardCard
+        for (final Card card : snapshot.getPlayerHand()) {
+            if (card.toString().equals(discardCard)) {
+                return card;
             }
         }
+        return null;
+    }
+
+    /**
+     * Shows a hint for the user's choice beside the table.
+     *
+     * @param hint the hint
+     */
+    public void showHint(final String hint) {
+        lblHint.setText(hint);
+    }
 
+    /**
+     * Takes away the hint once the user has chosen.
+     */
+    public void clearHint() {
+        lblHint.setText("");
     }
 
     /**
      * Resets the player's card buttons.
      */
+    @Override
     public void cardBtnReset() {
-        btnC1.setEnabled(true);
-        btnC2.setEnabled(true);
-        btnC3.setEnabled(true);
-        btnC4.setEnabled(true);
-        btnC5.setEnabled(true);
+        table.setUserCardsEnabled(true);
     }
 
     /**
      * Prevents the player from playing a card without starting the game.
      */
     public void cardBtnInitialize() {
-        btnC1.setEnabled(false);
-        btnC2.setEnabled(false);
-        btnC3.setEnabled(false);
-        btnC4.setEnabled(false);
-        btnC5.setEnabled(false);
+        table.setUserCardsEnabled(false);
     }
 
     /**
      * Sets the image for the kitty card.
      */
+    @Override
     public void setKittyCardImage() {
+        setKittyCardImage(GameSnapshot.of(game));
+    }
 
-        final String cardImgString = getCardImgStr(game.getKittyCard().getSuit(),
-                game.getKittyCard().getRank());
-        ImageIcon kittyCardIcon;
-
-        kittyCardIcon = new ImageIcon(String.format(imagePath + "%s.png", cardImgString));
-        kittyCardIcon = resizeImageIcon(kittyCardIcon, 105, 135);
-        lblKittyCard.setIcon(kittyCardIcon);
-        if (game.getPlayerDecidedTrump() != -1) {
-            lblKittyCard.setIcon(backIcon2);
+    /**
+     * Sets the image for the kitty card, turned over once trump is decided.
+     *
+     * @param snapshot the game to show
+     */
+    public void setKittyCardImage(final GameSnapshot snapshot) {
+        kitty = snapshot;
+        if (images == null) {
+            lblKittyCard.setIcon(CardImageCache.placeholder(CardSize.LARGE));
+        } else if (snapshot.getPlayerDecidedTrump() != -1) {
+            lblKittyCard.setIcon(images.getBack(1, CardSize.NORMAL));
+        } else {
+            lblKittyCard.setIcon(images.getFace(snapshot.getKittyCard(), CardSize.LARGE));
         }
     }
 
+    /**
+     * Closes the game window and opens a new game.
+     */
+    @Override
+    public void gameEnded() {
+        dispose();
+        final Game gameModel = new Game();
+        final GameController gameController = new GameController(gameModel);
+        new GameView(gameModel, gameController);
+    }
+
     /**
      * Retrieves the current game instance.
      *
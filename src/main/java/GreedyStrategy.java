@@ -0,0 +1,22 @@
+/**
+ * The original computer player. Bids on the number of trump it holds
+ * and plays the cheapest card that wins the trick, using the
+ * AI methods on {@link Game}.
+ */
+public class GreedyStrategy implements PlayerStrategy {
+
+    @Override
+    public void decideTrump(final Game game) {
+        game.aiDecideTrump();
+    }
+
+    @Override
+    public void decideDiscard(final Game game) {
+        game.aiDecideDiscard();
+    }
+
+    @Override
+    public Card decideCard(final Game game) {
+        return game.aiDecideCard();
+    }
+}
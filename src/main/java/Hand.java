@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 
@@ -6,27 +7,71 @@ import java.util.List;
  * Represents a collection of cards held by a player.
  * Provides methods for adding and removing cards from
  * the hand, and performing other hand-related operations.
+ * The cards are kept both as a list, in the order they
+ * were dealt, and as a {@link HandMask} bitmask.
  */
 public class Hand {
     /**
      * Creates a list to hold cards as objects.
      */
     private final List<Card> cards;
+    /**
+     * Read-only view of the cards so the list and mask can't drift apart.
+     */
+    private final List<Card> cardsView;
+    /**
+     * Bitmask of the cards in the hand.
+     */
+    private int mask;
+    /**
+     * Counts changes to the hand, so a view can tell when to redraw it.
+     */
+    private int version;
 
     /**
      * Constructor for Hand model.
      */
     public Hand() {
         cards = new ArrayList<>();
+        cardsView = Collections.unmodifiableList(cards);
+        mask = HandMask.EMPTY;
     }
 
     /**
      * Gets the cards in the hand.
      *
-     * @return list of card objects
+     * @return read-only list of card objects
      */
     public List<Card> getCards() {
-        return cards;
+        return cardsView;
+    }
+
+    /**
+     * Gets the cards in the hand as a bitmask.
+     *
+     * @return mask with a bit set for each card index in the hand
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Gets the version of the hand, which changes whenever a card is added or removed.
+     *
+     * @return the version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks whether a card is in the hand.
+     *
+     * @param card the card to look for
+     * @return true if the hand holds the card
+     */
+    public boolean contains(final Card card) {
+        return HandMask.contains(mask, card);
     }
 
     /**
@@ -36,6 +81,8 @@ public class Hand {
      */
     public void addCard(final Card card) {
         cards.add(card);
+        mask = HandMask.add(mask, card);
+        version++;
     }
 
     /**
@@ -44,7 +91,33 @@ public class Hand {
      * @param card card to be removed
      */
     public void removeCard(final Card card) {
-        cards.remove(card);
+        if (card != null && HandMask.contains(mask, card)) {
+            mask = HandMask.remove(mask, card);
+            cards.remove(card);
+            version++;
+        }
+    }
+
+    /**
+     * Checks whether the hand holds a card of the given suit, left bower included.
+     *
+     * @param suit the suit to look for
+     * @param trump the trump suit, or null if undecided
+     * @return true if the hand can follow the suit
+     */
+    public boolean hasSuit(final Suit suit, final Suit trump) {
+        return HandMask.hasSuit(mask, suit, trump);
+    }
+
+    /**
+     * Gets the cards in the hand that may legally be played.
+     *
+     * @param leadCard the card that was led, or null if leading
+     * @param trump the trump suit, or null if undecided
+     * @return mask of the playable cards
+     */
+    public int legalMoves(final Card leadCard, final Suit trump) {
+        return HandMask.legalMoves(mask, leadCard, trump);
     }
 
     /**
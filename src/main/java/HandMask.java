@@ -0,0 +1,254 @@
+/**
+ * Bitmask representation of a set of cards. Bit i of the mask is set when
+ * the card with index i is in the set, so a whole hand fits in one int and
+ * dealing, removing, following suit and legal-move generation are single
+ * mask operations that never allocate.
+ */
+public final class HandMask {
+
+    /**
+     * Mask with no cards.
+     */
+    public static final int EMPTY = 0;
+    /**
+     * Mask with every card in the deck.
+     */
+    public static final int FULL_DECK = (1 << Card.DECK_SIZE) - 1;
+    /**
+     * Index used in place of a suit ordinal when trump is undecided.
+     */
+    public static final int NO_TRUMP = 4;
+
+    /**
+     * Masks of the six cards printed with each suit.
+     */
+    private static final int[] SUIT_MASKS = new int[4];
+    /**
+     * Masks of the cards belonging to each suit once the left bower
+     * is moved to trump, indexed by [trump index][suit ordinal].
+     */
+    private static final int[][] EFFECTIVE_SUIT_MASKS = new int[NO_TRUMP + 1][4];
+    /**
+     * Effective suit ordinal of every card, indexed by [trump index][card index].
+     */
+    private static final byte[][] EFFECTIVE_SUITS = new byte[NO_TRUMP + 1][Card.DECK_SIZE];
+
+    static {
+        for (int suit = 0; suit < 4; suit++) {
+            SUIT_MASKS[suit] = ((1 << Card.RANKS_PER_SUIT) - 1) << (suit * Card.RANKS_PER_SUIT);
+        }
+        for (int trump = 0; trump <= NO_TRUMP; trump++) {
+            for (int index = 0; index < Card.DECK_SIZE; index++) {
+                final Card card = Card.of(index);
+                int suit = card.getSuit().ordinal();
+
+                // the left bower belongs to the trump suit
+                if (trump != NO_TRUMP && card.getRank() == Rank.JACK
+                        && card.getSuit() == Suit.of(trump).getSameColour()) {
+                    suit = trump;
+                }
+                EFFECTIVE_SUITS[trump][index] = (byte) suit;
+                EFFECTIVE_SUIT_MASKS[trump][suit] |= 1 << index;
+            }
+        }
+    }
+
+    /**
+     * Utility class, not to be instantiated.
+     */
+    private HandMask() {
+    }
+
+    /**
+     * Gets the mask holding a single card.
+     *
+     * @param card the card
+     * @return mask with only the card's bit set
+     */
+    public static int of(final Card card) {
+        return 1 << card.getIndex();
+    }
+
+    /**
+     * Gets the mask holding the given cards.
+     *
+     * @param cards the cards to include
+     * @return mask with each card's bit set
+     */
+    public static int of(final Iterable<Card> cards) {
+        int mask = EMPTY;
+        for (final Card card : cards) {
+            mask |= 1 << card.getIndex();
+        }
+        return mask;
+    }
+
+    /**
+     * Adds a card to a mask.
+     *
+     * @param mask the mask
+     * @param card card to add
+     * @return the mask with the card added
+     */
+    public static int add(final int mask, final Card card) {
+        return mask | 1 << card.getIndex();
+    }
+
+    /**
+     * Removes a card from a mask.
+     *
+     * @param mask the mask
+     * @param card card to remove
+     * @return the mask with the card removed
+     */
+    public static int remove(final int mask, final Card card) {
+        return mask & ~(1 << card.getIndex());
+    }
+
+    /**
+     * Checks whether a mask contains a card.
+     *
+     * @param mask the mask
+     * @param card the card to look for
+     * @return true if the card is in the mask
+     */
+    public static boolean contains(final int mask, final Card card) {
+        return (mask & 1 << card.getIndex()) != 0;
+    }
+
+    /**
+     * Counts the cards in a mask.
+     *
+     * @param mask the mask
+     * @return number of cards in the mask
+     */
+    public static int size(final int mask) {
+        return Integer.bitCount(mask);
+    }
+
+    /**
+     * Gets the lowest indexed card in a non-empty mask. Used with
+     * {@code mask &= mask - 1} to walk a mask without allocating.
+     *
+     * @param mask a non-empty mask
+     * @return the card with the lowest index in the mask
+     */
+    public static Card first(final int mask) {
+        return Card.of(Integer.numberOfTrailingZeros(mask));
+    }
+
+    /**
+     * Converts a trump suit to the index used by the lookup tables.
+     *
+     * @param trump the trump suit, or null if undecided
+     * @return the trump ordinal, or NO_TRUMP if undecided
+     */
+    public static int trumpIndex(final Suit trump) {
+        return trump == null ? NO_TRUMP : trump.ordinal();
+    }
+
+    /**
+     * Gets the mask of the six cards printed with a suit.
+     *
+     * @param suit the suit
+     * @return mask of the suit's cards
+     */
+    public static int suitMask(final Suit suit) {
+        return SUIT_MASKS[suit.ordinal()];
+    }
+
+    /**
+     * Gets the mask of every card that belongs to a suit under the
+     * given trump, with the left bower counted as trump.
+     *
+     * @param suit the suit
+     * @param trump the trump suit, or null if undecided
+     * @return mask of the cards that follow the suit
+     */
+    public static int suitMask(final Suit suit, final Suit trump) {
+        return EFFECTIVE_SUIT_MASKS[trumpIndex(trump)][suit.ordinal()];
+    }
+
+    /**
+     * Gets the suit a card follows under the given trump, which
+     * is the trump suit for the left bower.
+     *
+     * @param card the card
+     * @param trump the trump suit, or null if undecided
+     * @return the card's effective suit
+     */
+    public static Suit effectiveSuit(final Card card, final Suit trump) {
+        return Suit.of(EFFECTIVE_SUITS[trumpIndex(trump)][card.getIndex()]);
+    }
+
+    /**
+     * Checks whether a mask holds a card of the given suit, left bower included.
+     *
+     * @param mask the mask
+     * @param suit the suit to look for
+     * @param trump the trump suit, or null if undecided
+     * @return true if the mask has a card that follows the suit
+     */
+    public static boolean hasSuit(final int mask, final Suit suit, final Suit trump) {
+        return (mask & suitMask(suit, trump)) != 0;
+    }
+
+    /**
+     * Gets the effective suit of a card from table indices, for search
+     * code that works on card indices directly.
+     *
+     * @param card card index
+     * @param trump trump suit ordinal, or NO_TRUMP
+     * @return ordinal of the card's effective suit
+     */
+    public static int effectiveSuit(final int card, final int trump) {
+        return EFFECTIVE_SUITS[trump][card];
+    }
+
+    /**
+     * Gets the mask of every card that belongs to a suit from table indices.
+     *
+     * @param suit suit ordinal
+     * @param trump trump suit ordinal, or NO_TRUMP
+     * @return mask of the cards that follow the suit
+     */
+    public static int suitMask(final int suit, final int trump) {
+        return EFFECTIVE_SUIT_MASKS[trump][suit];
+    }
+
+    /**
+     * Gets the cards in a hand that may legally be played from table indices.
+     *
+     * @param hand mask of the cards in the hand
+     * @param leadCard index of the card that was led, or -1 if leading
+     * @param trump trump suit ordinal, or NO_TRUMP
+     * @return mask of the playable cards
+     */
+    public static int legalMoves(final int hand, final int leadCard, final int trump) {
+        if (leadCard < 0) {
+            return hand;
+        }
+        final int following = hand & EFFECTIVE_SUIT_MASKS[trump][EFFECTIVE_SUITS[trump][leadCard]];
+        return following != 0 ? following : hand;
+    }
+
+    /**
+     * Gets the cards in a hand that may legally be played. A player must
+     * follow the suit of the lead card if they can, otherwise any card may
+     * be played.
+     *
+     * @param hand mask of the cards in the hand
+     * @param leadCard the card that was led, or null if leading
+     * @param trump the trump suit, or null if undecided
+     * @return mask of the playable cards
+     */
+    public static int legalMoves(final int hand, final Card leadCard, final Suit trump) {
+        if (leadCard == null) {
+            return hand;
+        }
+        final int trumpIndex = trumpIndex(trump);
+        final int following = hand
+                & EFFECTIVE_SUIT_MASKS[trumpIndex][EFFECTIVE_SUITS[trumpIndex][leadCard.getIndex()]];
+        return following != 0 ? following : hand;
+    }
+}
@@ -0,0 +1,317 @@
+import javax.swing.SwingUtilities;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Works out the best card or bid for the user in the background while
+ * the game waits for them, and shows it as a hint once it is ready.
+ * Cards are searched with a {@link PimcStrategy.Search} and bids are
+ * scored by {@link BiddingTableGenerator#simulate}, both on one shared
+ * hint thread with room for a single waiting hint, so a slow hint never
+ * holds up the engine or the Event Dispatch Thread. What the user can
+ * see is taken from the game on the engine thread before the hint
+ * starts. A hint is cancelled as soon as the user makes their choice,
+ * and a hint that was cancelled or replaced is never shown.
+ */
+public class HintEngine {
+
+    /**
+     * Default number of deals to sample for a card hint.
+     */
+    public static final int DEFAULT_CARD_SAMPLES = 1000;
+    /**
+     * Default number of deals to simulate for a bid hint.
+     */
+    public static final int DEFAULT_BID_SAMPLES = 400;
+    /**
+     * Default time allowed for a hint.
+     */
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(2);
+
+    /**
+     * Number of deals a bid hint simulates between checks for cancelling.
+     */
+    private static final int BID_CHUNK = 20;
+
+    /**
+     * Solver for each thread, since a solver can only be used by one thread at a time.
+     */
+    private static final ThreadLocal<DoubleDummySolver> SOLVERS =
+            ThreadLocal.withInitial(DoubleDummySolver::new);
+
+    /**
+     * The hint thread, shared by every game. It holds at most one waiting
+     * hint, and a newer hint pushes out the one waiting.
+     */
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), task -> {
+                final Thread thread = new Thread(task, "euchre-hint");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardOldestPolicy());
+
+    /**
+     * Called on the Event Dispatch Thread with a hint that is ready.
+     */
+    private final Consumer<String> show;
+    /**
+     * Called on the Event Dispatch Thread once a hint is cancelled.
+     */
+    private final Runnable clear;
+    /**
+     * Searches for the best card on the hint thread alone.
+     */
+    private final PimcStrategy strategy;
+    /**
+     * Number of deals to simulate for a bid hint.
+     */
+    private final int bidSamples;
+    /**
+     * Time allowed for a bid hint in nanoseconds.
+     */
+    private final long timeBudget;
+    /**
+     * Random number generator for bid hints, split on the engine thread.
+     */
+    private final SplittableRandom random;
+    /**
+     * The hint being worked out or shown, or null for none.
+     */
+    private volatile Hint current;
+
+    /**
+     * Constructor for an engine with the default budgets.
+     *
+     * @param show called on the Event Dispatch Thread with a hint that is ready
+     * @param clear called on the Event Dispatch Thread once a hint is cancelled
+     */
+    public HintEngine(final Consumer<String> show, final Runnable clear) {
+        this(show, clear, DEFAULT_CARD_SAMPLES, DEFAULT_BID_SAMPLES, DEFAULT_TIME_BUDGET, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for an engine with given budgets.
+     *
+     * @param show called on the Event Dispatch Thread with a hint that is ready
+     * @param clear called on the Event Dispatch Thread once a hint is cancelled
+     * @param cardSamples number of deals to sample for a card hint
+     * @param bidSamples number of deals to simulate for a bid hint
+     * @param timeBudget time allowed for a hint
+     * @param random random number generator for dealing samples
+     */
+    public HintEngine(final Consumer<String> show, final Runnable clear, final int cardSamples,
+                      final int bidSamples, final Duration timeBudget, final SplittableRandom random) {
+        if (bidSamples < 1) {
+            throw new IllegalArgumentException("At least one sample is needed.");
+        }
+        this.show = show;
+        this.clear = clear;
+        // a single task keeps the search on the hint thread, off the common pool
+        this.strategy = new PimcStrategy(cardSamples, timeBudget, 1, random.split());
+        this.bidSamples = bidSamples;
+        this.timeBudget = timeBudget.toNanos();
+        this.random = random;
+    }
+
+    /**
+     * Starts working out the best card for the user. Called on the engine
+     * thread while it is the user's turn to play.
+     *
+     * @param game the game being played, only read during this call
+     */
+    public synchronized void hintCard(final Game game) {
+        final PimcStrategy.Search search = strategy.prepareSearch(game);
+        start(new Hint(search), hint -> cardMessage(search.run()));
+    }
+
+    /**
+     * Starts working out the best bid for the user. Called on the engine
+     * thread while the user is asked to order up or name trump.
+     *
+     * @param game the game being played, only read during this call
+     */
+    public synchronized void hintBid(final Game game) {
+        final int hand = game.getHands()[0].getMask();
+        final Card kitty = game.getKittyCard();
+        final int dealer = game.getDealer();
+        final boolean secondRound = game.isGoneOnce();
+        final SplittableRandom deals = random.split();
+        start(new Hint(null), hint -> {
+            final double[] expected = simulateBids(hint, hand, kitty.getIndex(), (0 - dealer) & 3, deals);
+            return expected == null ? null : bidMessage(expected, kitty, dealer == 0, secondRound);
+        });
+    }
+
+    /**
+     * Cancels the hint being worked out and clears the one shown. Called
+     * on the Event Dispatch Thread as soon as the user chooses, or on the
+     * engine thread once it has the user's answer.
+     */
+    public synchronized void cancel() {
+        final Hint hint = current;
+        if (hint == null) {
+            return;
+        }
+        current = null;
+        hint.cancel();
+        SwingUtilities.invokeLater(clear);
+    }
+
+    /**
+     * Describes the best card.
+     *
+     * @param card the card to play
+     * @return the hint
+     */
+    public static String cardMessage(final Card card) {
+        return "Hint: play the " + card + ".";
+    }
+
+    /**
+     * Describes the best bid from the expected score of each suit.
+     *
+     * @param expected expected score of making each suit trump, by suit ordinal
+     * @param kitty the turned up card
+     * @param dealer whether the user is the dealer
+     * @param secondRound whether the kitty card has been turned down
+     * @return the hint
+     */
+    public static String bidMessage(final double[] expected, final Card kitty, final boolean dealer,
+                                    final boolean secondRound) {
+        final Suit kittySuit = kitty.getSuit();
+        if (!secondRound) {
+            if (expected[kittySuit.ordinal()] > 0) {
+                return "Hint: " + (dealer ? "pick up" : "order up") + " the " + kitty + ".";
+            }
+            return "Hint: pass.";
+        }
+
+        // second round, any suit but the one turned down
+        Suit best = null;
+        for (final Suit suit : Suit.values()) {
+            if (suit != kittySuit && expected[suit.ordinal()] > 0
+                    && (best == null || expected[suit.ordinal()] > expected[best.ordinal()])) {
+                best = suit;
+            }
+        }
+        return best == null ? "Hint: pass." : "Hint: name " + best.getName() + " trump.";
+    }
+
+    /**
+     * Starts a hint on the hint thread in place of the one before it.
+     *
+     * @param hint the hint
+     * @param work works out the hint's text on the hint thread, or null if it was cancelled
+     */
+    private void start(final Hint hint, final Function<Hint, String> work) {
+        cancel();
+        current = hint;
+        hint.future = EXECUTOR.submit(() -> {
+            if (hint.isCancelled()) {
+                return;
+            }
+            final String text = work.apply(hint);
+            if (text == null) {
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                // the user may have chosen while the hint was on its way
+                if (current == hint && !hint.isCancelled()) {
+                    show.accept(text);
+                }
+            });
+        });
+    }
+
+    /**
+     * Simulates every bid for the user's hand in chunks, stopping early
+     * if the hint is cancelled or the time budget runs out.
+     *
+     * @param hint the hint, checked for cancelling
+     * @param hand mask of the user's hand
+     * @param kitty index of the turned up card
+     * @param seat the user's seat relative to the dealer, 0 for the dealer
+     * @param deals random number generator for the deals
+     * @return expected score of making each suit trump, or null if cancelled
+     */
+    private double[] simulateBids(final Hint hint, final int hand, final int kitty, final int seat,
+                                  final SplittableRandom deals) {
+        final DoubleDummySolver solver = SOLVERS.get();
+        final double[] chunk = new double[BiddingTable.BIDS];
+        final double[] expected = new double[BiddingTable.BIDS];
+        final long deadline = System.nanoTime() + timeBudget;
+        int done = 0;
+        while (done < bidSamples && (done == 0 || System.nanoTime() < deadline)) {
+            if (hint.isCancelled()) {
+                return null;
+            }
+            final int count = Math.min(BID_CHUNK, bidSamples - done);
+            BiddingTableGenerator.simulate(hand, kitty, seat, count, deals, solver, chunk);
+            for (int trump = 0; trump < BiddingTable.BIDS; trump++) {
+                expected[trump] += chunk[trump] * count;
+            }
+            done += count;
+        }
+        for (int trump = 0; trump < BiddingTable.BIDS; trump++) {
+            expected[trump] /= done;
+        }
+        return expected;
+    }
+
+    /**
+     * A hint being worked out or shown.
+     */
+    private static final class Hint {
+
+        /**
+         * The card search, or null for a bid hint.
+         */
+        private final PimcStrategy.Search search;
+        /**
+         * The hint's task on the hint thread.
+         */
+        private volatile Future<?> future;
+        /**
+         * Whether the hint has been cancelled.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Constructor for a hint.
+         *
+         * @param search the card search, or null for a bid hint
+         */
+        private Hint(final PimcStrategy.Search search) {
+            this.search = search;
+        }
+
+        /**
+         * Stops the hint after the deal it is working on.
+         */
+        private void cancel() {
+            cancelled = true;
+            if (search != null) {
+                search.cancel();
+            }
+            final Future<?> task = future;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+
+        /**
+         * Checks whether the hint has been cancelled.
+         *
+         * @return true if the hint should stop
+         */
+        private boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
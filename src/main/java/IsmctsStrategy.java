@@ -0,0 +1,577 @@
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * Computer player that bids, discards and plays using Information Set
+ * Monte Carlo Tree Search. Every iteration deals the cards the player
+ * can't see at random (see {@link CardSampler}), walks down one shared
+ * tree of moves using only the moves that are legal in that deal, adds
+ * a node, and plays the rest of the hand out at random. The result is
+ * scored in hand points and added to every node on the path.
+ * <p>
+ * The search is anytime: it runs until the time budget or iteration limit
+ * is used up and then plays the most visited move. Nodes are stored in
+ * arrays allocated once when the strategy is created and each iteration
+ * reuses the same state objects, so a search doesn't create garbage. Once
+ * the arrays are full the tree stops growing but iterations carry on.
+ * <p>
+ * A strategy is not thread safe, each seat should have its own.
+ */
+public class IsmctsStrategy implements PlayerStrategy {
+
+    /**
+     * Default time allowed for each decision.
+     */
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(200);
+    /**
+     * Default number of tree nodes.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 17;
+
+    /**
+     * Move for passing while bidding.
+     */
+    private static final int PASS = Card.DECK_SIZE;
+    /**
+     * Move for ordering up, or picking up when dealing, the turned up card.
+     */
+    private static final int ORDER_UP = PASS + 1;
+    /**
+     * First of the four moves for naming trump in the second round, in suit order.
+     */
+    private static final int CALL = ORDER_UP + 1;
+
+    /**
+     * First round of bidding, on the turned up card.
+     */
+    private static final int BID_KITTY = 0;
+    /**
+     * Second round of bidding, naming any other suit.
+     */
+    private static final int BID_SUIT = 1;
+    /**
+     * The dealer discarding after picking up.
+     */
+    private static final int DISCARD = 2;
+    /**
+     * Playing tricks.
+     */
+    private static final int PLAY = 3;
+    /**
+     * The hand is over, or was thrown in.
+     */
+    private static final int DONE = 4;
+
+    /**
+     * Weight of the exploration term of the UCB formula.
+     */
+    private static final double EXPLORATION = 0.7;
+
+    /**
+     * Move that leads to each node.
+     */
+    private final int[] moves;
+    /**
+     * Parent of each node.
+     */
+    private final int[] parents;
+    /**
+     * First child of each node, or 0 if none.
+     */
+    private final int[] firstChild;
+    /**
+     * Next child of the same parent, or 0 if none.
+     */
+    private final int[] nextSibling;
+    /**
+     * Team of the player making the move that leads to each node.
+     */
+    private final byte[] teams;
+    /**
+     * Number of iterations through each node.
+     */
+    private final int[] visits;
+    /**
+     * Number of iterations where each node's move was legal.
+     */
+    private final int[] available;
+    /**
+     * Total reward to the moving team of each node.
+     */
+    private final double[] rewards;
+    /**
+     * Number of nodes in use.
+     */
+    private int nodeCount;
+
+    /**
+     * Time allowed for each decision in nanoseconds.
+     */
+    private final long timeBudget;
+    /**
+     * Most iterations to run for each decision.
+     */
+    private final int maxIterations;
+    /**
+     * Random number generator for deals and playouts.
+     */
+    private final SplittableRandom random;
+    /**
+     * The position being decided, without the hidden cards.
+     */
+    private final State root;
+    /**
+     * The position of the current iteration.
+     */
+    private final State state;
+    /**
+     * Scratch array for dealing.
+     */
+    private final int[] scratch;
+    /**
+     * Iterations run for the last decision.
+     */
+    private int iterations;
+
+    /**
+     * Constructor for a strategy with the default time budget and tree size.
+     */
+    public IsmctsStrategy() {
+        this(DEFAULT_TIME_BUDGET, Integer.MAX_VALUE, DEFAULT_CAPACITY, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for a strategy with given budgets.
+     *
+     * @param timeBudget time allowed for each decision
+     * @param maxIterations most iterations to run for each decision
+     * @param capacity number of tree nodes to allocate
+     * @param random random number generator for deals and playouts
+     */
+    public IsmctsStrategy(final Duration timeBudget, final int maxIterations, final int capacity,
+                          final SplittableRandom random) {
+        if (maxIterations < 1 || capacity < 2) {
+            throw new IllegalArgumentException("At least one iteration and two nodes are needed.");
+        }
+        this.timeBudget = timeBudget.toNanos();
+        this.maxIterations = maxIterations;
+        this.random = random;
+        this.moves = new int[capacity];
+        this.parents = new int[capacity];
+        this.firstChild = new int[capacity];
+        this.nextSibling = new int[capacity];
+        this.teams = new byte[capacity];
+        this.visits = new int[capacity];
+        this.available = new int[capacity];
+        this.rewards = new double[capacity];
+        this.root = new State();
+        this.state = new State();
+        this.scratch = new int[CardSampler.SCRATCH_SIZE];
+    }
+
+    @Override
+    public void decideTrump(final Game game) {
+        final int seat = game.getCurrentPlayerTurn();
+        final int move = search(game, seat, game.isGoneOnce() ? BID_SUIT : BID_KITTY);
+
+        if (move == ORDER_UP) {
+            game.setTrump(game.getKittyCard().getSuit());
+            game.setPlayerDecidedTrump(seat);
+            if (seat == game.getDealer()) {
+                game.setPickedUp(true);
+            } else {
+                game.setOrderedUp(true);
+            }
+        } else if (move >= CALL) {
+            game.setTrump(Suit.of(move - CALL));
+            game.setPlayerDecidedTrump(seat);
+        }
+    }
+
+    @Override
+    public void decideDiscard(final Game game) {
+        final int dealer = game.getDealer();
+        final Card discard = Card.of(search(game, dealer, DISCARD));
+
+        // discarding the turned up card leaves the hand as it is
+        if (discard != game.getKittyCard()) {
+            final Hand hand = game.getHands()[dealer];
+            hand.removeCard(discard);
+            hand.addCard(game.getKittyCard());
+        }
+        game.setDiscard(discard);
+    }
+
+    @Override
+    public Card decideCard(final Game game) {
+        final int seat = game.getCurrentPlayerTurn();
+        final Card card = Card.of(search(game, seat, PLAY));
+        game.getHands()[seat].removeCard(card);
+        return card;
+    }
+
+    /**
+     * Gets the number of iterations run for the last decision.
+     *
+     * @return number of iterations
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Searches for the best move for a player.
+     *
+     * @param game the game being played
+     * @param seat the player to move
+     * @param phase the part of the hand the decision is for
+     * @return the move with the most visits
+     */
+    private int search(final Game game, final int seat, final int phase) {
+        final long deadline = System.nanoTime() + timeBudget;
+        final CardSampler sampler = new CardSampler(game, seat);
+        root.setUp(game, seat, phase);
+        root.hands[seat] = sampler.getOwnHand();
+
+        final long rootMoves = root.legalMoves();
+        iterations = 0;
+        if (Long.bitCount(rootMoves) == 1) {
+            return Long.numberOfTrailingZeros(rootMoves);
+        }
+
+        nodeCount = 1;
+        firstChild[0] = 0;
+        visits[0] = 0;
+        do {
+            state.copyFrom(root);
+            sampler.deal(random, state.hands, scratch);
+            iterate();
+            iterations++;
+        } while (iterations < maxIterations && System.nanoTime() < deadline);
+
+        int best = 0;
+        for (int child = firstChild[0]; child != 0; child = nextSibling[child]) {
+            if (best == 0 || visits[child] > visits[best]) {
+                best = child;
+            }
+        }
+        return moves[best];
+    }
+
+    /**
+     * Runs one iteration on the dealt state: selects down the tree,
+     * adds a node, plays out the hand and records the result.
+     */
+    private void iterate() {
+        int node = 0;
+        boolean inTree = true;
+        while (state.phase != DONE) {
+            final long legal = state.legalMoves();
+            final int team = state.turn & 1;
+            if (!inTree) {
+                // the dealer throws away their weakest card, everything else is random
+                state.apply(state.phase == DISCARD
+                        ? CardStrength.weakestCard(state.trump, (int) legal) : randomMove(legal));
+                continue;
+            }
+
+            // count the children that could be played in this deal and find the best of them
+            long untried = legal;
+            int best = 0;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int child = firstChild[node]; child != 0; child = nextSibling[child]) {
+                final long bit = 1L << moves[child];
+                if ((legal & bit) != 0) {
+                    untried &= ~bit;
+                    available[child]++;
+                    final double value = rewards[child] / visits[child]
+                            + EXPLORATION * Math.sqrt(Math.log(available[child]) / visits[child]);
+                    if (value > bestValue) {
+                        bestValue = value;
+                        best = child;
+                    }
+                }
+            }
+
+            if (untried == 0) {
+                node = best;
+                state.apply(moves[node]);
+            } else {
+                final int move = randomMove(untried);
+                if (nodeCount < moves.length) {
+                    node = addChild(node, move, team);
+                }
+                state.apply(move);
+                inTree = false;
+            }
+        }
+
+        // add the result to every node on the path
+        final double team0Reward = state.team0Reward();
+        for (int n = node; n != 0; n = parents[n]) {
+            visits[n]++;
+            rewards[n] += teams[n] == 0 ? team0Reward : 1 - team0Reward;
+        }
+        visits[0]++;
+    }
+
+    /**
+     * Adds a child node.
+     *
+     * @param parent the parent node
+     * @param move the move leading to the child
+     * @param team team of the player making the move
+     * @return the new node
+     */
+    private int addChild(final int parent, final int move, final int team) {
+        final int node = nodeCount++;
+        moves[node] = move;
+        parents[node] = parent;
+        firstChild[node] = 0;
+        nextSibling[node] = firstChild[parent];
+        firstChild[parent] = node;
+        teams[node] = (byte) team;
+        visits[node] = 0;
+        available[node] = 1;
+        rewards[node] = 0;
+        return node;
+    }
+
+    /**
+     * Picks one of a set of moves at random.
+     *
+     * @param moveSet moves to pick from, one bit per move
+     * @return the move
+     */
+    private int randomMove(final long moveSet) {
+        long m = moveSet;
+        for (int skip = random.nextInt(Long.bitCount(moveSet)); skip > 0; skip--) {
+            m &= m - 1;
+        }
+        return Long.numberOfTrailingZeros(m);
+    }
+
+    /**
+     * A hand of Euchre with every card known, small enough to copy
+     * and play out for each iteration.
+     */
+    private static final class State {
+
+        /**
+         * Mask of the cards in each player's hand.
+         */
+        private final int[] hands = new int[4];
+        /**
+         * Cards played to the current trick, in the order they were played.
+         */
+        private final int[] trick = new int[4];
+        /**
+         * Tricks won by each team.
+         */
+        private final int[] tricksWon = new int[2];
+        /**
+         * The part of the hand being played.
+         */
+        private int phase;
+        /**
+         * The player to move.
+         */
+        private int turn;
+        /**
+         * The dealer.
+         */
+        private int dealer;
+        /**
+         * Index of the turned up card.
+         */
+        private int kitty;
+        /**
+         * Trump suit ordinal, or HandMask.NO_TRUMP while bidding.
+         */
+        private int trump;
+        /**
+         * The player who decided trump, or -1 if no one has.
+         */
+        private int maker;
+        /**
+         * The player who led the current trick.
+         */
+        private int leader;
+        /**
+         * Number of cards played to the current trick.
+         */
+        private int numPlayed;
+
+        /**
+         * Sets up the public part of a game's position, leaving the hands empty.
+         *
+         * @param game the game being played
+         * @param seat the player to move
+         * @param phase the part of the hand being played
+         */
+        private void setUp(final Game game, final int seat, final int phase) {
+            this.phase = phase;
+            this.turn = seat;
+            this.dealer = game.getDealer();
+            this.kitty = game.getKittyCard().getIndex();
+            this.trump = phase == PLAY || phase == DISCARD ? HandMask.trumpIndex(game.getTrump()) : HandMask.NO_TRUMP;
+            this.maker = phase == PLAY || phase == DISCARD ? game.getPlayerDecidedTrump() : -1;
+            final int[] won = game.getTricksWon();
+            tricksWon[0] = won[0];
+            tricksWon[1] = won[1];
+
+            final Card[] trickCards = game.getTrick().getCardsPlayed();
+            numPlayed = 0;
+            for (final Card card : trickCards) {
+                if (card != null) {
+                    numPlayed++;
+                }
+            }
+            leader = (seat - numPlayed) & 3;
+            for (int i = 0; i < numPlayed; i++) {
+                trick[i] = trickCards[(leader + i) & 3].getIndex();
+            }
+            for (int s = 0; s < 4; s++) {
+                hands[s] = HandMask.EMPTY;
+            }
+        }
+
+        /**
+         * Copies another state into this one.
+         *
+         * @param other the state to copy
+         */
+        private void copyFrom(final State other) {
+            System.arraycopy(other.hands, 0, hands, 0, 4);
+            System.arraycopy(other.trick, 0, trick, 0, 4);
+            tricksWon[0] = other.tricksWon[0];
+            tricksWon[1] = other.tricksWon[1];
+            phase = other.phase;
+            turn = other.turn;
+            dealer = other.dealer;
+            kitty = other.kitty;
+            trump = other.trump;
+            maker = other.maker;
+            leader = other.leader;
+            numPlayed = other.numPlayed;
+        }
+
+        /**
+         * Gets the moves the player to move may make.
+         *
+         * @return one bit per legal move
+         */
+        private long legalMoves() {
+            switch (phase) {
+                case BID_KITTY:
+                    return 1L << PASS | 1L << ORDER_UP;
+                case BID_SUIT:
+                    // any suit but the one turned down
+                    return 1L << PASS | (0xFL & ~(1L << kitty / Card.RANKS_PER_SUIT)) << CALL;
+                case DISCARD:
+                    return (hands[dealer] | 1 << kitty) & 0xFFFFFFFFL;
+                case PLAY:
+                    return HandMask.legalMoves(hands[turn], numPlayed == 0 ? -1 : trick[0], trump) & 0xFFFFFFFFL;
+                default:
+                    return 0;
+            }
+        }
+
+        /**
+         * Makes a move for the player to move.
+         *
+         * @param move the move to make
+         */
+        private void apply(final int move) {
+            switch (phase) {
+                case BID_KITTY:
+                    if (move == ORDER_UP) {
+                        trump = kitty / Card.RANKS_PER_SUIT;
+                        maker = turn;
+                        phase = DISCARD;
+                        turn = dealer;
+                    } else if (turn == dealer) {
+                        phase = BID_SUIT;
+                        turn = (turn + 1) & 3;
+                    } else {
+                        turn = (turn + 1) & 3;
+                    }
+                    break;
+                case BID_SUIT:
+                    if (move >= CALL) {
+                        trump = move - CALL;
+                        maker = turn;
+                        startPlay();
+                    } else if (turn == dealer) {
+                        // everyone passed twice, the hand is thrown in
+                        phase = DONE;
+                    } else {
+                        turn = (turn + 1) & 3;
+                    }
+                    break;
+                case DISCARD:
+                    hands[dealer] = (hands[dealer] | 1 << kitty) & ~(1 << move);
+                    startPlay();
+                    break;
+                default:
+                    playCard(move);
+                    break;
+            }
+        }
+
+        /**
+         * Moves to playing tricks, with the player after the dealer leading.
+         */
+        private void startPlay() {
+            phase = PLAY;
+            leader = (dealer + 1) & 3;
+            turn = leader;
+            numPlayed = 0;
+        }
+
+        /**
+         * Plays a card to the trick, finishing the trick and the hand when full.
+         *
+         * @param card index of the card
+         */
+        private void playCard(final int card) {
+            hands[turn] &= ~(1 << card);
+            trick[numPlayed++] = card;
+            if (numPlayed < 4) {
+                turn = (turn + 1) & 3;
+                return;
+            }
+
+            final int winner = (leader + CardStrength.winningCard(trump, trick)) & 3;
+            tricksWon[winner & 1]++;
+            leader = winner;
+            turn = winner;
+            numPlayed = 0;
+            if (tricksWon[0] + tricksWon[1] == DoubleDummySolver.TRICKS) {
+                phase = DONE;
+            }
+        }
+
+        /**
+         * Scores a finished hand for team 0, from 0 when team 1 wins
+         * 2 points to 1 when team 0 wins 2 points. A hand that was
+         * thrown in scores one half.
+         *
+         * @return the reward to team 0
+         */
+        private double team0Reward() {
+            if (tricksWon[0] + tricksWon[1] < DoubleDummySolver.TRICKS) {
+                return 0.5;
+            }
+            final int winningTeam = tricksWon[0] >= 3 ? 0 : 1;
+            final int points;
+            if (tricksWon[winningTeam] == DoubleDummySolver.TRICKS || (maker & 1) != winningTeam) {
+                points = 2;
+            } else {
+                points = 1;
+            }
+            final int team0Points = winningTeam == 0 ? points : -points;
+            return (team0Points + 2) / 4.0;
+        }
+    }
+}
@@ -1,3 +1,6 @@
+import java.io.IOException;
+import java.nio.file.Path;
+
 /**
  * Main class for Euchre game.
  * Includes all necessary calls to start the program.
@@ -6,13 +9,109 @@ public class Main {
 
     /**
      * Main function that makes necessary calls to start the Euchre application.
+     * Run with {@code tournament <games> [seed]} to play AI-vs-AI games on
+     * every core without opening a window, or with
+     * {@code bidding-table <file> [samples] [seed]} to generate a bidding table,
+     * or with {@code endgame-table <file>} to generate a three trick endgame tablebase.
+     * Set the {@code euchre.edtWatchdog} system property to report window events
+     * that take longer than a frame.
      *
      * @param args String[] of arguments returned
      */
     public static void main(final String[] args) {
+        if (args.length > 0 && "tournament".equals(args[0])) {
+            runTournament(args);
+            return;
+        }
+        if (args.length > 0 && "bidding-table".equals(args[0])) {
+            generateBiddingTable(args);
+            return;
+        }
+        if (args.length > 0 && "endgame-table".equals(args[0])) {
+            generateEndgameTable(args);
+            return;
+        }
+
+        if (Boolean.getBoolean(EdtWatchdog.PROPERTY)) {
+            EdtWatchdog.install();
+        }
+        // start decoding the card images before the window is built
+        CardAtlas.loadDefault();
         final Game gameModel = new Game();
         final GameController gameController = new GameController(gameModel);
         new GameView(gameModel, gameController);
 
     }
+
+    /**
+     * Plays a tournament and prints the results.
+     *
+     * @param args tournament, the number of games, and an optional seed
+     */
+    private static void runTournament(final String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: tournament <games> [seed]");
+            return;
+        }
+        final long games = Long.parseLong(args[1]);
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        final long start = System.nanoTime();
+        final TournamentResult result = Tournament.run(games, seed);
+        final double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println(result);
+        System.out.printf("Seed: %d, Time: %.2fs (%.0f games/s, %.0f hands/s)%n",
+                seed, seconds, result.getGames() / seconds, result.getHands() / seconds);
+    }
+
+    /**
+     * Generates a bidding table and writes it to a file.
+     *
+     * @param args bidding-table, the file, and optional sample count and seed
+     */
+    private static void generateBiddingTable(final String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: bidding-table <file> [samples] [seed]");
+            return;
+        }
+        final Path path = Path.of(args[1]);
+        final int samples = args.length > 2 ? Integer.parseInt(args[2]) : BiddingTableGenerator.DEFAULT_SAMPLES;
+        final long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        final long start = System.nanoTime();
+        final BiddingTable table = BiddingTableGenerator.generate(samples, seed);
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        try {
+            table.write(path);
+        } catch (final IOException e) {
+            System.err.println("Could not write " + path + ": " + e.getMessage());
+            return;
+        }
+        System.out.printf("Wrote %s, Seed: %d, Samples: %d, Time: %.2fs%n", path, seed, samples, seconds);
+    }
+
+    /**
+     * Generates an endgame tablebase for the last three tricks and writes it to a file.
+     *
+     * @param args endgame-table and the file
+     */
+    private static void generateEndgameTable(final String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: endgame-table <file>");
+            return;
+        }
+        final Path path = Path.of(args[1]);
+
+        final long start = System.nanoTime();
+        try {
+            EndgameTablebaseGenerator.generate(path, EndgameTablebase.MAX_TRICKS);
+        } catch (final IOException e) {
+            System.err.println("Could not write " + path + ": " + e.getMessage());
+            return;
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Wrote %s, Entries: %d, Time: %.2fs%n", path,
+                EndgameTablebase.entries(EndgameTablebase.MAX_TRICKS), seconds);
+    }
 }
@@ -0,0 +1,388 @@
+import java.io.Serial;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computer player that chooses cards by Perfect-Information Monte Carlo.
+ * It deals the cards it can't see to the other players at random, in a
+ * way that agrees with everything played so far, solves each of these
+ * deals with a {@link DoubleDummySolver}, and plays the card with the best
+ * average result. Bidding and discarding are left to {@link GreedyStrategy}.
+ * <p>
+ * Samples are split between tasks on a fork/join pool, each with its own
+ * random stream and its own solver. The search stops once every task has
+ * solved its share of the sample budget, or once the time budget runs out,
+ * whichever comes first. A {@link Search} can also be started apart from
+ * the game and cancelled, which is how hints for the user are worked out.
+ */
+public class PimcStrategy extends GreedyStrategy {
+
+    /**
+     * Default number of deals to sample for each decision.
+     */
+    public static final int DEFAULT_SAMPLES = 200;
+    /**
+     * Default time allowed for each decision.
+     */
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(100);
+
+    /**
+     * Solver for each thread, since a solver can only be used by one thread at a time.
+     */
+    private static final ThreadLocal<DoubleDummySolver> SOLVERS =
+            ThreadLocal.withInitial(DoubleDummySolver::new);
+
+    /**
+     * Number of deals to sample for each decision.
+     */
+    private final int samples;
+    /**
+     * Time allowed for each decision in nanoseconds.
+     */
+    private final long timeBudget;
+    /**
+     * Number of tasks to split the samples between.
+     */
+    private final int tasks;
+    /**
+     * Random number generator for dealing samples.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Constructor for a strategy with the default budgets, using every core.
+     */
+    public PimcStrategy() {
+        this(DEFAULT_SAMPLES, DEFAULT_TIME_BUDGET, ForkJoinPool.getCommonPoolParallelism(),
+                new SplittableRandom());
+    }
+
+    /**
+     * Constructor for a strategy with given budgets.
+     *
+     * @param samples number of deals to sample for each decision
+     * @param timeBudget time allowed for each decision
+     * @param tasks number of tasks to split the samples between
+     * @param random random number generator for dealing samples
+     */
+    public PimcStrategy(final int samples, final Duration timeBudget, final int tasks,
+                        final SplittableRandom random) {
+        if (samples < 1 || tasks < 1) {
+            throw new IllegalArgumentException("At least one sample and one task are needed.");
+        }
+        this.samples = samples;
+        this.timeBudget = timeBudget.toNanos();
+        this.tasks = tasks;
+        this.random = random;
+    }
+
+    @Override
+    public Card decideCard(final Game game) {
+        final Card card = chooseCard(game);
+        game.getHands()[game.getCurrentPlayerTurn()].removeCard(card);
+        return card;
+    }
+
+    /**
+     * Chooses the best card for the current player without playing it.
+     *
+     * @param game the game being played
+     * @return the card with the best average result over the sampled deals
+     */
+    public Card chooseCard(final Game game) {
+        return prepareSearch(game).run();
+    }
+
+    /**
+     * Takes what the current player can see of the game, for a search
+     * for their best card that can run later on any thread, while the
+     * game goes on.
+     *
+     * @param game the game being played, only read during this call
+     * @return the search, not yet started
+     */
+    public Search prepareSearch(final Game game) {
+        return new Search(new Position(game));
+    }
+
+    /**
+     * Scores every legal card over the sampled deals.
+     *
+     * @param position what the current player knows about the hand
+     * @param search the search, which stops the sampling if it is cancelled
+     * @return total score of each legal card, in the order of the position's moves
+     */
+    private long[] evaluate(final Position position, final Search search) {
+        if (position.moveCount == 1) {
+            return new long[1];
+        }
+
+        final long deadline = System.nanoTime() + timeBudget;
+        final Sampler[] samplers = new Sampler[tasks];
+        synchronized (random) {
+            for (int i = 0; i < tasks; i++) {
+                final int share = samples / tasks + (i < samples % tasks ? 1 : 0);
+                samplers[i] = new Sampler(position, share, deadline, random.split(), search);
+            }
+        }
+        // runs one task on this thread and the rest on the common pool
+        ForkJoinTask.invokeAll(samplers);
+
+        final long[] totals = new long[position.moveCount];
+        for (final Sampler sampler : samplers) {
+            final long[] scores = sampler.join();
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += scores[i];
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * A search for the current player's best card from a position taken
+     * earlier, which can be cancelled from another thread.
+     */
+    public final class Search {
+
+        /**
+         * What the current player could see when the search was prepared.
+         */
+        private final Position position;
+        /**
+         * Whether the search should stop as soon as it can.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Constructor for a search.
+         *
+         * @param position what the current player can see
+         */
+        private Search(final Position position) {
+            this.position = position;
+        }
+
+        /**
+         * Runs the search on the calling thread and the common pool.
+         *
+         * @return the card with the best average result over the sampled
+         *         deals, from at least one deal even if cancelled
+         */
+        public Card run() {
+            final long[] totals = evaluate(position, this);
+
+            int best = -1;
+            for (int i = 0; i < position.moveCount; i++) {
+                if (best < 0 || totals[i] > totals[best]) {
+                    best = i;
+                }
+            }
+            return Card.of(position.moves[best]);
+        }
+
+        /**
+         * Stops the search after the deal each task is solving.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Checks whether the search has been cancelled.
+         *
+         * @return true if the search should stop
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * What the current player can see of the hand, taken from the game
+     * so that sampling doesn't touch the game while it is being played.
+     */
+    private static final class Position {
+
+        /**
+         * The player choosing a card.
+         */
+        private final int seat;
+        /**
+         * Trump suit ordinal.
+         */
+        private final int trump;
+        /**
+         * The player who led the current trick.
+         */
+        private final int leader;
+        /**
+         * Indices of the cards played to the current trick, in the order they were played.
+         */
+        private final int[] played;
+        /**
+         * Number of cards played to the current trick.
+         */
+        private final int numPlayed;
+        /**
+         * Deals the cards the current player can't see.
+         */
+        private final CardSampler sampler;
+        /**
+         * Indices of the legal cards.
+         */
+        private final int[] moves;
+        /**
+         * Number of legal cards.
+         */
+        private final int moveCount;
+        /**
+         * Tricks each team has already won this hand.
+         */
+        private final int[] tricksWon;
+        /**
+         * The player who decided trump.
+         */
+        private final int maker;
+
+        /**
+         * Constructor for the current player's view of a game.
+         *
+         * @param game the game being played
+         */
+        private Position(final Game game) {
+            this.seat = game.getCurrentPlayerTurn();
+            this.trump = HandMask.trumpIndex(game.getTrump());
+            this.tricksWon = game.getTricksWon();
+            this.maker = game.getPlayerDecidedTrump();
+
+            // the cards already in the trick, in the order they were played
+            final Card[] trickCards = game.getTrick().getCardsPlayed();
+            int count = 0;
+            for (final Card card : trickCards) {
+                if (card != null) {
+                    count++;
+                }
+            }
+            this.numPlayed = count;
+            this.leader = (seat - numPlayed) & 3;
+            this.played = new int[4];
+            for (int i = 0; i < numPlayed; i++) {
+                played[i] = trickCards[(leader + i) & 3].getIndex();
+            }
+
+            this.sampler = new CardSampler(game);
+
+            final int lead = numPlayed == 0 ? -1 : played[0];
+            final int legal = HandMask.legalMoves(sampler.getOwnHand(), lead, trump);
+            this.moves = new int[Integer.bitCount(legal)];
+            int moveCount = 0;
+            for (int m = legal; m != 0; m &= m - 1) {
+                moves[moveCount++] = Integer.numberOfTrailingZeros(m);
+            }
+            this.moveCount = moveCount;
+        }
+
+        /**
+         * Scores a result for the current player's team as the hand points
+         * they win minus the points the other team wins, with the tricks
+         * taken as a tie breaker.
+         *
+         * @param team0Tricks tricks team 0 wins from the current trick on
+         * @return the score for the current player's team
+         */
+        private int score(final int team0Tricks) {
+            final int team = seat & 1;
+            final int remaining = 5 - tricksWon[0] - tricksWon[1];
+            final int teamTricks = tricksWon[team] + (team == 0 ? team0Tricks : remaining - team0Tricks);
+            final boolean makers = (maker & 1) == team;
+
+            int points;
+            if (teamTricks == 5) {
+                points = 2;
+            } else if (teamTricks >= 3) {
+                points = makers ? 1 : 2;
+            } else if (teamTricks == 0) {
+                points = -2;
+            } else {
+                points = makers ? -2 : -1;
+            }
+            return points * 8 + teamTricks;
+        }
+    }
+
+    /**
+     * Solves a share of the samples on one thread.
+     */
+    private static final class Sampler extends RecursiveTask<long[]> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * What the current player knows about the hand.
+         */
+        private final Position position;
+        /**
+         * Number of deals to sample.
+         */
+        private final int samples;
+        /**
+         * Value of System.nanoTime() to stop sampling at.
+         */
+        private final long deadline;
+        /**
+         * Random number generator for this task's deals.
+         */
+        private final SplittableRandom random;
+        /**
+         * The search this task is part of, checked for cancelling.
+         */
+        private final Search search;
+
+        /**
+         * Constructor for a sampling task.
+         *
+         * @param position what the current player knows about the hand
+         * @param samples number of deals to sample
+         * @param deadline value of System.nanoTime() to stop sampling at
+         * @param random random number generator for this task's deals
+         * @param search the search this task is part of
+         */
+        private Sampler(final Position position, final int samples, final long deadline,
+                        final SplittableRandom random, final Search search) {
+            this.position = position;
+            this.samples = samples;
+            this.deadline = deadline;
+            this.random = random;
+            this.search = search;
+        }
+
+        @Override
+        protected long[] compute() {
+            final DoubleDummySolver solver = SOLVERS.get();
+            final long[] scores = new long[position.moveCount];
+            final int[] hands = new int[4];
+            final int[] scratch = new int[CardSampler.SCRATCH_SIZE];
+            final int[] played = position.played.clone();
+            final int seat = position.seat;
+
+            // always solve at least one deal so there is something to go on
+            for (int i = 0; i < samples && (i == 0 || System.nanoTime() < deadline && !search.isCancelled()); i++) {
+                position.sampler.deal(random, hands, scratch);
+                final int hand = hands[seat];
+                for (int m = 0; m < position.moveCount; m++) {
+                    final int card = position.moves[m];
+                    hands[seat] = hand & ~(1 << card);
+                    played[position.numPlayed] = card;
+                    final int team0 = solver.solve(hands, position.trump, position.leader,
+                            played, position.numPlayed + 1);
+                    scores[m] += position.score(team0);
+                }
+                hands[seat] = hand;
+            }
+            return scores;
+        }
+    }
+}
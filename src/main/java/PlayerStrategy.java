@@ -0,0 +1,30 @@
+/**
+ * Makes the decisions for a computer controlled player. The
+ * {@link GameController} asks the strategy of the current player
+ * whenever that player has to bid, discard or play a card.
+ */
+public interface PlayerStrategy {
+
+    /**
+     * Decides whether the current player orders up, picks up or chooses
+     * trump, updating the game's trump and decision flags.
+     *
+     * @param game the game being played
+     */
+    void decideTrump(Game game);
+
+    /**
+     * Makes the dealer discard a card and take the kitty card.
+     *
+     * @param game the game being played
+     */
+    void decideDiscard(Game game);
+
+    /**
+     * Chooses a card for the current player, removing it from their hand.
+     *
+     * @param game the game being played
+     * @return the card to play
+     */
+    Card decideCard(Game game);
+}
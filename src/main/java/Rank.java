@@ -0,0 +1,88 @@
+/**
+ * Represents the six ranks of a Euchre deck, from lowest to highest.
+ */
+public enum Rank {
+
+    /**
+     * The nine.
+     */
+    NINE("9", "9"),
+    /**
+     * The ten.
+     */
+    TEN("10", "10"),
+    /**
+     * The jack, which becomes a bower when its colour is trump.
+     */
+    JACK("Jack", "J"),
+    /**
+     * The queen.
+     */
+    QUEEN("Queen", "Q"),
+    /**
+     * The king.
+     */
+    KING("King", "K"),
+    /**
+     * The ace.
+     */
+    ACE("Ace", "A");
+
+    /**
+     * Cached copy of values() so lookups don't allocate a new array.
+     */
+    private static final Rank[] VALUES = values();
+
+    /**
+     * Display name of the rank.
+     */
+    private final String name;
+    /**
+     * Characters used in card image file names.
+     */
+    private final String symbol;
+
+    /**
+     * Constructor for a rank.
+     *
+     * @param name display name of the rank
+     * @param symbol characters used in card image file names
+     */
+    Rank(final String name, final String symbol) {
+        this.name = name;
+        this.symbol = symbol;
+    }
+
+    /**
+     * Gets the display name of the rank.
+     *
+     * @return the rank name (i.e. Queen)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the characters used for the rank in card image file names.
+     *
+     * @return the rank symbol (i.e. Q)
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Gets a rank by its ordinal without allocating.
+     *
+     * @param ordinal ordinal of the rank (0-5)
+     * @return the rank
+     */
+    public static Rank of(final int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Represents the four suits of a Euchre deck. Suits of the same colour
+ * are paired so that the left bower can be found with a single lookup.
+ */
+public enum Suit {
+
+    /**
+     * Hearts, a red suit.
+     */
+    HEARTS("Hearts", "H"),
+    /**
+     * Diamonds, a red suit.
+     */
+    DIAMONDS("Diamonds", "D"),
+    /**
+     * Clubs, a black suit.
+     */
+    CLUBS("Clubs", "C"),
+    /**
+     * Spades, a black suit.
+     */
+    SPADES("Spades", "S");
+
+    /**
+     * Cached copy of values() so lookups don't allocate a new array.
+     */
+    private static final Suit[] VALUES = values();
+
+    /**
+     * Display name of the suit.
+     */
+    private final String name;
+    /**
+     * Single letter used in card image file names.
+     */
+    private final String symbol;
+
+    /**
+     * Constructor for a suit.
+     *
+     * @param name display name of the suit
+     * @param symbol letter used in card image file names
+     */
+    Suit(final String name, final String symbol) {
+        this.name = name;
+        this.symbol = symbol;
+    }
+
+    /**
+     * Gets the display name of the suit.
+     *
+     * @return the suit name (i.e. Hearts)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the letter used for the suit in card image file names.
+     *
+     * @return the suit letter (i.e. H)
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Gets the other suit of the same colour. When this suit is trump,
+     * the jack of the returned suit is the left bower.
+     *
+     * @return the suit of the same colour
+     */
+    public Suit getSameColour() {
+        return VALUES[ordinal() ^ 1];
+    }
+
+    /**
+     * Gets a suit by its ordinal without allocating.
+     *
+     * @param ordinal ordinal of the suit (0-3)
+     * @return the suit
+     */
+    public static Suit of(final int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Finds a suit by its display name.
+     *
+     * @param name display name of the suit
+     * @return the matching suit
+     */
+    public static Suit fromName(final String name) {
+        for (final Suit suit : VALUES) {
+            if (suit.name.equals(name)) {
+                return suit;
+            }
+        }
+        throw new IllegalArgumentException("Unknown suit: " + name);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Maps hands and deals to a canonical form under the suit symmetries of
+ * Euchre. Renaming suits changes nothing about a hand as long as the two
+ * suits of each colour stay together, since that is all the left bower
+ * depends on. There are 8 such renamings: swap the hearts and diamonds,
+ * swap the clubs and spades, and swap the two colours. Once trump is
+ * known only the renamings that keep trump in place count, which leaves
+ * swapping the two suits of the other colour.
+ * <p>
+ * The canonical form of a group of masks is the renaming with the
+ * smallest masks, comparing the first mask first. Anything keyed on hand
+ * contents can be stored under the canonical form and looked up by
+ * renaming back with the {@link #inverse} permutation, which makes tables
+ * up to 8 times smaller.
+ */
+public final class SuitCanonicalizer {
+
+    /**
+     * Number of suit permutations that keep the colours together.
+     */
+    public static final int PERMUTATIONS = 8;
+    /**
+     * The permutation that leaves every suit in place.
+     */
+    public static final int IDENTITY = 0;
+
+    /**
+     * Suit each suit is renamed to, indexed by [permutation][suit].
+     */
+    private static final int[][] SUITS = new int[PERMUTATIONS][4];
+    /**
+     * Inverse of each permutation.
+     */
+    private static final int[] INVERSES = new int[PERMUTATIONS];
+    /**
+     * Mask of the permutations that keep each trump in place, indexed by trump
+     * ordinal or HandMask.NO_TRUMP.
+     */
+    private static final int[] KEEPS_TRUMP = new int[HandMask.NO_TRUMP + 1];
+
+    static {
+        for (int permutation = 0; permutation < PERMUTATIONS; permutation++) {
+            // bit 0 swaps the red suits, bit 1 swaps the black suits, bit 2 swaps the colours
+            for (int suit = 0; suit < 4; suit++) {
+                final int colour = suit >> 1;
+                final int swapped = suit ^ (permutation >> colour & 1);
+                SUITS[permutation][suit] = swapped ^ (permutation >> 2 & 1) << 1;
+            }
+        }
+        for (int permutation = 0; permutation < PERMUTATIONS; permutation++) {
+            for (int other = 0; other < PERMUTATIONS; other++) {
+                boolean inverse = true;
+                for (int suit = 0; suit < 4; suit++) {
+                    inverse &= SUITS[other][SUITS[permutation][suit]] == suit;
+                }
+                if (inverse) {
+                    INVERSES[permutation] = other;
+                }
+            }
+            for (int trump = 0; trump < 4; trump++) {
+                if (SUITS[permutation][trump] == trump) {
+                    KEEPS_TRUMP[trump] |= 1 << permutation;
+                }
+            }
+            KEEPS_TRUMP[HandMask.NO_TRUMP] |= 1 << permutation;
+        }
+    }
+
+    /**
+     * Private constructor, this class only has static methods.
+     */
+    private SuitCanonicalizer() {
+    }
+
+    /**
+     * Renames a suit.
+     *
+     * @param suit suit ordinal
+     * @param permutation the permutation to apply
+     * @return the renamed suit ordinal, HandMask.NO_TRUMP stays as it is
+     */
+    public static int permuteSuit(final int suit, final int permutation) {
+        return suit == HandMask.NO_TRUMP ? suit : SUITS[permutation][suit];
+    }
+
+    /**
+     * Renames the suit of a card.
+     *
+     * @param card card index
+     * @param permutation the permutation to apply
+     * @return index of the renamed card
+     */
+    public static int permuteCard(final int card, final int permutation) {
+        return SUITS[permutation][card / Card.RANKS_PER_SUIT] * Card.RANKS_PER_SUIT + card % Card.RANKS_PER_SUIT;
+    }
+
+    /**
+     * Renames the suits of every card in a mask.
+     *
+     * @param mask mask of cards
+     * @param permutation the permutation to apply
+     * @return mask of the renamed cards
+     */
+    public static int permute(final int mask, final int permutation) {
+        final int[] suits = SUITS[permutation];
+        int result = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            final int ranks = mask >>> suit * Card.RANKS_PER_SUIT & (1 << Card.RANKS_PER_SUIT) - 1;
+            result |= ranks << suits[suit] * Card.RANKS_PER_SUIT;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the permutation that undoes another.
+     *
+     * @param permutation the permutation to undo
+     * @return its inverse
+     */
+    public static int inverse(final int permutation) {
+        return INVERSES[permutation];
+    }
+
+    /**
+     * Finds the permutation that takes a group of masks to their canonical
+     * form. Only permutations that keep trump in place are considered.
+     *
+     * @param trump trump suit ordinal, or HandMask.NO_TRUMP before trump is decided
+     * @param masks the masks to canonicalize, compared in order
+     * @return the permutation to apply to get the canonical form
+     */
+    public static int canonicalPermutation(final int trump, final int... masks) {
+        int best = IDENTITY;
+        for (int candidates = KEEPS_TRUMP[trump] & ~1; candidates != 0; candidates &= candidates - 1) {
+            final int permutation = Integer.numberOfTrailingZeros(candidates);
+            for (final int mask : masks) {
+                final int renamed = permute(mask, permutation);
+                final int current = permute(mask, best);
+                if (renamed != current) {
+                    if (renamed < current) {
+                        best = permutation;
+                    }
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+}
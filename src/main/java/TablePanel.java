@@ -0,0 +1,831 @@
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.VolatileImage;
+import java.io.Serial;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Draws the cards on the table: the three computer players' hands,
+ * the trick, and the user's hand. Everything is painted by this one
+ * component from a {@link CardAtlas} into a back buffer kept in video
+ * memory, and changing a card only redraws that card's slot. The back
+ * buffer has one pixel for each device pixel, and the cards come from
+ * an atlas packed for the display's scale factor, so they are sharp on
+ * scaled displays. Until the atlas has loaded, each card is drawn as a
+ * blank placeholder. When animation is on, cards slide from the hands
+ * to the trick and the trick is swept off to its winner, all moved by
+ * one Swing timer from a fixed set of slots.
+ * Messages are shown as a notice over the middle of the table, which
+ * goes away after a while or when the table is clicked, so nothing
+ * waits on a modal dialog.
+ */
+public class TablePanel extends JComponent {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of cards in a full hand.
+     */
+    public static final int HAND_SIZE = 5;
+    /**
+     * Space between cards and around the edge of the table.
+     */
+    private static final int GAP = 6;
+    /**
+     * Sprite drawn for an empty trick slot and for a card the user has played.
+     */
+    private static final int EMPTY_SPRITE = CardAtlas.back(1);
+    /**
+     * Sprite drawn for the computer players' cards.
+     */
+    private static final int OPPONENT_SPRITE = CardAtlas.back(2);
+    /**
+     * Font for notices.
+     */
+    private static final Font NOTICE_FONT = new Font("Arial", Font.BOLD, 16);
+    /**
+     * Space between a notice's text and its edge.
+     */
+    private static final int NOTICE_PADDING = 12;
+    /**
+     * Colour behind a notice, a translucent black so the cards show through.
+     */
+    private static final Color NOTICE_BACKGROUND = new Color(0, 0, 0, 176);
+    /**
+     * Time between animation frames, about 60 a second.
+     */
+    private static final int FRAME_MILLIS = 16;
+    /**
+     * Time for a card to slide from a hand to the trick.
+     */
+    private static final long SLIDE_NANOS = 250_000_000L;
+    /**
+     * Time for the trick to be swept off to its winner.
+     */
+    private static final long SWEEP_NANOS = 300_000_000L;
+    /**
+     * Number of cards that can move at once: one sliding into each
+     * seat's trick slot, then one being swept off from each.
+     */
+    private static final int MOVES = 8;
+
+    /**
+     * Where the card images come from, null until they have loaded.
+     */
+    private transient CardAtlas atlas;
+    /**
+     * The user's cards by slot, null before a hand is dealt.
+     */
+    private final Card[] userCards = new Card[HAND_SIZE];
+    /**
+     * Whether the user has played the card in each slot.
+     */
+    private final boolean[] userPlayed = new boolean[HAND_SIZE];
+    /**
+     * Whether each of the user's cards can be clicked.
+     */
+    private final boolean[] userEnabled = new boolean[HAND_SIZE];
+    /**
+     * Card each seat played to the trick, null if none.
+     */
+    private final Card[] trickCards = new Card[4];
+    /**
+     * Number of cards shown for each seat, only the computer players' are used.
+     */
+    private final int[] handSizes = new int[4];
+    /**
+     * Bounds of each of the user's card slots.
+     */
+    private final Rectangle[] userSlots = new Rectangle[HAND_SIZE];
+    /**
+     * Bounds of each seat's trick slot.
+     */
+    private final Rectangle[] trickSlots = new Rectangle[4];
+    /**
+     * Bounds of each seat's hand, only the computer players' are used.
+     */
+    private final Rectangle[] handSlots = new Rectangle[4];
+    /**
+     * Area of the back buffer that is out of date.
+     */
+    private final Rectangle dirty = new Rectangle();
+    /**
+     * Copy of the table in video memory, redrawn only where it is dirty.
+     */
+    private transient VolatileImage buffer;
+    /**
+     * Display scale factor the back buffer was made for.
+     */
+    private double bufferScale;
+    /**
+     * Screen configuration the display scale factor was read from.
+     */
+    private transient GraphicsConfiguration scaleConfiguration;
+    /**
+     * Display scale factor of {@link #scaleConfiguration}.
+     */
+    private double configurationScale;
+    /**
+     * Atlas for the back buffer's scale factor, null until it is needed
+     * or while the atlas hasn't loaded.
+     */
+    private transient CardAtlas bufferAtlas;
+    /**
+     * Bounds of the clip being painted, reused so painting doesn't make a new one.
+     */
+    private final Rectangle clip = new Rectangle();
+    /**
+     * Whether cards are animated as they are played and taken.
+     */
+    private boolean animated;
+    /**
+     * Moves the cards, running only while a card is moving.
+     */
+    private final Timer animationTimer;
+    /**
+     * Where the time for moving cards comes from, {@link System#nanoTime}
+     * unless a test is driving the frames.
+     */
+    private transient LongSupplier clock = System::nanoTime;
+    /**
+     * Whether each move is under way. Move {@code seat} slides a card
+     * into that seat's trick slot, and move {@code 4 + seat} sweeps it off.
+     */
+    private final boolean[] moving = new boolean[MOVES];
+    /**
+     * Sprite each move draws.
+     */
+    private final int[] moveSprite = new int[MOVES];
+    /**
+     * Left edge each move starts at.
+     */
+    private final int[] moveFromX = new int[MOVES];
+    /**
+     * Top edge each move starts at.
+     */
+    private final int[] moveFromY = new int[MOVES];
+    /**
+     * Left edge each move ends at.
+     */
+    private final int[] moveToX = new int[MOVES];
+    /**
+     * Top edge each move ends at.
+     */
+    private final int[] moveToY = new int[MOVES];
+    /**
+     * When each move started, from the clock.
+     */
+    private final long[] moveStart = new long[MOVES];
+    /**
+     * How long each move takes.
+     */
+    private final long[] moveNanos = new long[MOVES];
+    /**
+     * Where each moving card is drawn now.
+     */
+    private final Rectangle[] moveBounds = new Rectangle[MOVES];
+    /**
+     * Where a card leaves or joins a computer player's hand, worked out when a move starts.
+     */
+    private final Rectangle origin = new Rectangle();
+    /**
+     * Width the slots were laid out for.
+     */
+    private int layoutWidth = -1;
+    /**
+     * Height the slots were laid out for.
+     */
+    private int layoutHeight = -1;
+    /**
+     * Called with the slot of a card the user clicks.
+     */
+    private transient IntConsumer cardListener = slot -> { };
+    /**
+     * Lines of the notice being shown, or null if there is none.
+     */
+    private String[] notice;
+    /**
+     * Bounds of the notice being shown.
+     */
+    private final Rectangle noticeBounds = new Rectangle();
+    /**
+     * Called once the notice being shown goes away.
+     */
+    private transient Runnable noticeDone;
+    /**
+     * Dismisses the notice once its time is up.
+     */
+    private final Timer noticeTimer;
+
+    /**
+     * Constructor for the table with the default card images, which are
+     * shown once they have loaded in the background.
+     */
+    public TablePanel() {
+        this(null);
+        CardAtlas.loadDefault().thenAccept(loaded -> SwingUtilities.invokeLater(() -> setAtlas(loaded)));
+    }
+
+    /**
+     * Constructor for the table.
+     *
+     * @param atlas where to draw the cards from, or null to draw placeholders until {@link #setAtlas}
+     */
+    public TablePanel(final CardAtlas atlas) {
+        this.atlas = atlas;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            userSlots[i] = new Rectangle();
+        }
+        for (int seat = 0; seat < 4; seat++) {
+            trickSlots[seat] = new Rectangle();
+            handSlots[seat] = new Rectangle();
+        }
+        for (int i = 0; i < MOVES; i++) {
+            moveBounds[i] = new Rectangle();
+        }
+        setOpaque(true);
+        setBackground(new Color(-4484096));
+        setPreferredSize(new Dimension(
+                2 * HAND_SIZE * (CardSize.SMALL.getWidth() + GAP) + 3 * (CardSize.NORMAL.getWidth() + GAP) + GAP,
+                2 * (CardSize.SMALL.getHeight() + GAP) + 3 * (CardSize.NORMAL.getHeight() + GAP) + GAP));
+
+        noticeTimer = new Timer(0, e -> dismissNotice());
+        noticeTimer.setRepeats(false);
+        animationTimer = new Timer(FRAME_MILLIS, e -> advanceAnimations(clock.getAsLong()));
+        animationTimer.setCoalesce(true);
+
+        addMouseListener(new MouseAdapter() {
+            /**
+             * Dismisses the notice and plays the user's card under the mouse.
+             *
+             * @param e the event to be processed
+             */
+            @Override
+            public void mouseClicked(final MouseEvent e) {
+                dismissNotice();
+                final int slot = userSlotAt(e.getX(), e.getY());
+                if (slot != -1) {
+                    cardListener.accept(slot);
+                }
+            }
+        });
+    }
+
+    /**
+     * Sets the card images and redraws the whole table with them.
+     *
+     * @param atlas where to draw the cards from
+     */
+    public void setAtlas(final CardAtlas atlas) {
+        this.atlas = atlas;
+        bufferAtlas = null;
+        invalidateSlot(new Rectangle(0, 0, getWidth(), getHeight()));
+    }
+
+    /**
+     * Sets what happens when the user clicks one of their cards.
+     *
+     * @param cardListener called with the slot of the card clicked
+     */
+    public void setCardListener(final IntConsumer cardListener) {
+        this.cardListener = cardListener;
+    }
+
+    /**
+     * Shows a new hand for the user, with every card unplayed.
+     *
+     * @param cards the user's cards in slot order
+     */
+    public void setUserCards(final Card... cards) {
+        for (int i = 0; i < HAND_SIZE; i++) {
+            userCards[i] = i < cards.length ? cards[i] : null;
+            userPlayed[i] = false;
+            invalidateSlot(userSlots[i]);
+        }
+    }
+
+    /**
+     * Turns one of the user's cards over once it has been played.
+     *
+     * @param slot the card's slot
+     */
+    public void setUserCardPlayed(final int slot) {
+        userPlayed[slot] = true;
+        invalidateSlot(userSlots[slot]);
+    }
+
+    /**
+     * Sets whether the user's cards can be clicked.
+     *
+     * @param enabled true to let the user play a card
+     */
+    public void setUserCardsEnabled(final boolean enabled) {
+        for (int i = 0; i < HAND_SIZE; i++) {
+            userEnabled[i] = enabled;
+        }
+    }
+
+    /**
+     * Sets whether one of the user's cards can be clicked.
+     *
+     * @param slot the card's slot
+     * @param enabled true to let the user play it
+     */
+    public void setUserCardEnabled(final int slot, final boolean enabled) {
+        userEnabled[slot] = enabled;
+    }
+
+    /**
+     * Checks whether one of the user's cards can be clicked.
+     *
+     * @param slot the card's slot
+     * @return true if the user can play it
+     */
+    public boolean isUserCardEnabled(final int slot) {
+        return userEnabled[slot];
+    }
+
+    /**
+     * Sets how many cards a computer player is shown holding.
+     *
+     * @param seat the player
+     * @param cards number of cards
+     */
+    public void setHandSize(final int seat, final int cards) {
+        if (handSizes[seat] != cards) {
+            handSizes[seat] = cards;
+            invalidateSlot(handSlots[seat]);
+        }
+    }
+
+    /**
+     * Sets whether cards are animated as they are played and taken.
+     *
+     * @param animated true to slide cards into the trick and sweep it off
+     */
+    public void setAnimated(final boolean animated) {
+        this.animated = animated;
+        if (!animated) {
+            advanceAnimations(Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Sets where the time for moving cards comes from, so a test can
+     * drive the frames without the real time getting in the way.
+     *
+     * @param clock the time in nanoseconds
+     */
+    void setClock(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Checks whether any card is moving.
+     *
+     * @return true while an animation is under way
+     */
+    public boolean isAnimating() {
+        return animationTimer.isRunning();
+    }
+
+    /**
+     * Shows the cards played to the trick. With animation on, each new
+     * card slides in from the hand of the seat that played it.
+     *
+     * @param cards card each seat played, null if none
+     */
+    public void setTrick(final Card... cards) {
+        layoutSlots();
+        for (int seat = 0; seat < 4; seat++) {
+            if (trickCards[seat] != cards[seat]) {
+                trickCards[seat] = cards[seat];
+                stopMove(seat);
+                if (animated && cards[seat] != null) {
+                    final Rectangle from = handOrigin(seat, cards[seat]);
+                    startMove(seat, CardAtlas.face(cards[seat]), from.x, from.y, trickSlots[seat], SLIDE_NANOS);
+                }
+                invalidateSlot(trickSlots[seat]);
+            }
+        }
+    }
+
+    /**
+     * Takes the cards off the trick. With animation on, they are swept
+     * off to the hand of the player who won them.
+     *
+     * @param winner seat that won the trick
+     */
+    public void sweepTrick(final int winner) {
+        layoutSlots();
+        final Rectangle to = handOrigin(winner, null);
+        for (int seat = 0; seat < 4; seat++) {
+            if (trickCards[seat] != null) {
+                stopMove(seat);
+                if (animated) {
+                    startMove(4 + seat, CardAtlas.face(trickCards[seat]), trickSlots[seat].x, trickSlots[seat].y,
+                            to, SWEEP_NANOS);
+                }
+                trickCards[seat] = null;
+                invalidateSlot(trickSlots[seat]);
+            }
+        }
+    }
+
+    /**
+     * Finds the user's card at a point.
+     *
+     * @param x x coordinate in the table
+     * @param y y coordinate in the table
+     * @return the card's slot, or -1 if there is no card there that can be played
+     */
+    public int userSlotAt(final int x, final int y) {
+        layoutSlots();
+        for (int i = 0; i < HAND_SIZE; i++) {
+            if (userEnabled[i] && userCards[i] != null && !userPlayed[i] && userSlots[i].contains(x, y)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Shows a notice over the middle of the table, in place of any notice
+     * already shown. Nothing waits for it: {@code done} is called once it
+     * goes away, either when its time is up or when the table is clicked.
+     *
+     * @param message the message, with a line break between lines
+     * @param millis how long to show it, or 0 to show it until the table is clicked
+     * @param done called on the Event Dispatch Thread once the notice goes away
+     */
+    public void showNotice(final String message, final int millis, final Runnable done) {
+        dismissNotice();
+        notice = message.lines().map(String::strip).toArray(String[]::new);
+        noticeDone = done;
+        layoutNotice();
+        invalidateSlot(noticeBounds);
+        if (millis > 0) {
+            noticeTimer.setInitialDelay(millis);
+            noticeTimer.restart();
+        }
+    }
+
+    /**
+     * Takes away the notice being shown, if there is one, and calls what was waiting for it.
+     */
+    public void dismissNotice() {
+        if (notice == null) {
+            return;
+        }
+        noticeTimer.stop();
+        notice = null;
+        invalidateSlot(noticeBounds);
+        final Runnable done = noticeDone;
+        noticeDone = null;
+        done.run();
+    }
+
+    /**
+     * Checks whether a notice is being shown.
+     *
+     * @return true if there is a notice on the table
+     */
+    public boolean isNoticeShown() {
+        return notice != null;
+    }
+
+    /**
+     * Finds where a card leaves or joins a seat's hand.
+     *
+     * @param seat the seat
+     * @param card the user's card to start from, or null for the middle of the hand
+     * @return bounds of a normal size card there, only valid until the next call
+     */
+    private Rectangle handOrigin(final int seat, final Card card) {
+        if (seat == 0) {
+            for (int i = 0; i < HAND_SIZE; i++) {
+                if (card != null && userCards[i] == card) {
+                    return userSlots[i];
+                }
+            }
+            return userSlots[HAND_SIZE / 2];
+        }
+        final Rectangle hand = handSlots[seat];
+        origin.setBounds(hand.x + (hand.width - CardSize.NORMAL.getWidth()) / 2,
+                hand.y + (hand.height - CardSize.NORMAL.getHeight()) / 2,
+                CardSize.NORMAL.getWidth(), CardSize.NORMAL.getHeight());
+        return origin;
+    }
+
+    /**
+     * Starts moving a card, and the timer if it isn't running.
+     *
+     * @param move the move's slot
+     * @param sprite sprite to draw
+     * @param fromX left edge to start at
+     * @param fromY top edge to start at
+     * @param to where to end, only its location is used
+     * @param nanos how long the move takes
+     */
+    private void startMove(final int move, final int sprite, final int fromX, final int fromY, final Rectangle to,
+                           final long nanos) {
+        moveSprite[move] = sprite;
+        moveFromX[move] = fromX;
+        moveFromY[move] = fromY;
+        moveToX[move] = to.x;
+        moveToY[move] = to.y;
+        moveStart[move] = clock.getAsLong();
+        moveNanos[move] = nanos;
+        moving[move] = true;
+        moveBounds[move].setBounds(fromX, fromY, CardSize.NORMAL.getWidth(), CardSize.NORMAL.getHeight());
+        invalidateSlot(moveBounds[move]);
+        if (!animationTimer.isRunning()) {
+            animationTimer.start();
+        }
+    }
+
+    /**
+     * Stops a move where it is and takes its card off the table.
+     *
+     * @param move the move's slot
+     */
+    private void stopMove(final int move) {
+        if (moving[move]) {
+            moving[move] = false;
+            invalidateSlot(moveBounds[move]);
+        }
+    }
+
+    /**
+     * Moves every moving card to where it should be at a time, easing in
+     * and out. Positions come from the time rather than from counting
+     * frames, so a late or skipped frame doesn't slow the animation down.
+     * Nothing is allocated, so a frame never makes work for the garbage
+     * collector.
+     *
+     * @param now the time, from the clock
+     */
+    void advanceAnimations(final long now) {
+        boolean running = false;
+        for (int move = 0; move < MOVES; move++) {
+            if (!moving[move]) {
+                continue;
+            }
+            final Rectangle bounds = moveBounds[move];
+            invalidateSlot(bounds);
+            final double t = Math.min(1, Math.max(0, (now - moveStart[move]) / (double) moveNanos[move]));
+            if (t >= 1) {
+                moving[move] = false;
+                if (move < 4) {
+                    // the card has landed in the trick
+                    invalidateSlot(trickSlots[move]);
+                }
+                continue;
+            }
+            final double eased = t * t * (3 - 2 * t);
+            bounds.setLocation(moveFromX[move] + (int) Math.round((moveToX[move] - moveFromX[move]) * eased),
+                    moveFromY[move] + (int) Math.round((moveToY[move] - moveFromY[move]) * eased));
+            invalidateSlot(bounds);
+            running = true;
+        }
+        if (!running) {
+            animationTimer.stop();
+        }
+    }
+
+    /**
+     * Marks part of the table out of date and asks Swing to repaint it.
+     *
+     * @param area the area that changed
+     */
+    private void invalidateSlot(final Rectangle area) {
+        if (dirty.isEmpty()) {
+            dirty.setBounds(area);
+        } else {
+            dirty.add(area);
+        }
+        repaint(area);
+    }
+
+    /**
+     * Places the slots for the current size, when it has changed.
+     */
+    private void layoutSlots() {
+        final int width = getWidth();
+        final int height = getHeight();
+        if (width == layoutWidth && height == layoutHeight) {
+            return;
+        }
+        layoutWidth = width;
+        layoutHeight = height;
+        dirty.setBounds(0, 0, width, height);
+
+        final int small = CardSize.SMALL.getWidth() + GAP;
+        final int normalWidth = CardSize.NORMAL.getWidth();
+        final int normalHeight = CardSize.NORMAL.getHeight();
+        final int centreX = width / 2;
+        final int centreY = height / 2;
+
+        // the user along the bottom, the partner along the top, and the opponents on the sides
+        final int userLeft = centreX - (HAND_SIZE * (normalWidth + GAP) - GAP) / 2;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            userSlots[i].setBounds(userLeft + i * (normalWidth + GAP), height - GAP - normalHeight,
+                    normalWidth, normalHeight);
+        }
+        final int handWidth = HAND_SIZE * small - GAP;
+        handSlots[1].setBounds(GAP, centreY - CardSize.SMALL.getHeight() / 2, handWidth,
+                CardSize.SMALL.getHeight());
+        handSlots[2].setBounds(centreX - handWidth / 2, GAP, handWidth, CardSize.SMALL.getHeight());
+        handSlots[3].setBounds(width - GAP - handWidth, centreY - CardSize.SMALL.getHeight() / 2, handWidth,
+                CardSize.SMALL.getHeight());
+
+        // the trick in a cross in the middle, each card towards the seat that played it
+        final int left = centreX - normalWidth / 2;
+        final int top = centreY - normalHeight / 2;
+        trickSlots[0].setBounds(left, top + normalHeight / 2 + GAP, normalWidth, normalHeight);
+        trickSlots[1].setBounds(left - normalWidth - GAP, top, normalWidth, normalHeight);
+        trickSlots[2].setBounds(left, top - normalHeight / 2 - GAP, normalWidth, normalHeight);
+        trickSlots[3].setBounds(left + normalWidth + GAP, top, normalWidth, normalHeight);
+        layoutNotice();
+    }
+
+    /**
+     * Sizes the notice to its text and centres it on the table.
+     */
+    private void layoutNotice() {
+        if (notice == null) {
+            return;
+        }
+        final FontMetrics metrics = getFontMetrics(NOTICE_FONT);
+        int textWidth = 0;
+        for (final String line : notice) {
+            textWidth = Math.max(textWidth, metrics.stringWidth(line));
+        }
+        final int width = textWidth + 2 * NOTICE_PADDING;
+        final int height = notice.length * metrics.getHeight() + 2 * NOTICE_PADDING;
+        noticeBounds.setBounds((getWidth() - width) / 2, (getHeight() - height) / 2, width, height);
+    }
+
+    @Override
+    protected void paintComponent(final Graphics g) {
+        layoutSlots();
+        final int width = getWidth();
+        final int height = getHeight();
+        final GraphicsConfiguration configuration = getGraphicsConfiguration();
+        if (width <= 0 || height <= 0 || configuration == null) {
+            return;
+        }
+
+        // the buffer covers the table's device pixels, which a scaled display has more of
+        if (configuration != scaleConfiguration) {
+            scaleConfiguration = configuration;
+            configurationScale = configuration.getDefaultTransform().getScaleX();
+        }
+        final double scale = configurationScale;
+        if (atlas != null && (bufferAtlas == null || bufferAtlas.getScale() != scale)) {
+            bufferAtlas = atlas.atScale(scale);
+        }
+        final int bufferWidth = (int) Math.ceil(width * scale);
+        final int bufferHeight = (int) Math.ceil(height * scale);
+
+        // the buffer can be lost at any time, for example when the display mode changes
+        do {
+            final int status = buffer == null ? VolatileImage.IMAGE_INCOMPATIBLE : buffer.validate(configuration);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE || scale != bufferScale
+                    || buffer.getWidth() != bufferWidth || buffer.getHeight() != bufferHeight) {
+                if (buffer != null) {
+                    buffer.flush();
+                }
+                buffer = configuration.createCompatibleVolatileImage(bufferWidth, bufferHeight);
+                bufferScale = scale;
+                dirty.setBounds(0, 0, width, height);
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                dirty.setBounds(0, 0, width, height);
+            }
+            if (!dirty.isEmpty()) {
+                final Graphics2D graphics = buffer.createGraphics();
+                try {
+                    graphics.scale(scale, scale);
+                    graphics.clip(dirty);
+                    paintTable(graphics, bufferAtlas);
+                } finally {
+                    graphics.dispose();
+                }
+                dirty.setBounds(0, 0, 0, 0);
+            }
+            g.drawImage(buffer, 0, 0, width, height, null);
+        } while (buffer.contentsLost());
+    }
+
+    /**
+     * Draws the table within the graphics' clip, with the cards from the
+     * atlas for the graphics' scale factor.
+     *
+     * @param graphics where to draw, in user space pixels
+     */
+    void paintTable(final Graphics2D graphics) {
+        paintTable(graphics, atlas == null ? null : atlas.atScale(graphics.getTransform().getScaleX()));
+    }
+
+    /**
+     * Draws the table into the back buffer, within the graphics' clip. The
+     * atlas is looked up by the caller once for each scale factor, and the
+     * clip is read into a rectangle kept for it, so drawing an animation
+     * frame doesn't allocate anything of its own.
+     *
+     * @param graphics where to draw, in user space pixels
+     * @param sprites atlas for the graphics' scale factor, or null if it hasn't loaded
+     */
+    void paintTable(final Graphics2D graphics, final CardAtlas sprites) {
+        layoutSlots();
+        graphics.getClipBounds(clip);
+        graphics.setColor(getBackground());
+        graphics.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        for (int seat = 1; seat < 4; seat++) {
+            final Rectangle hand = handSlots[seat];
+            if (hand.intersects(clip)) {
+                for (int i = 0; i < handSizes[seat]; i++) {
+                    drawCard(graphics, sprites, OPPONENT_SPRITE, CardSize.SMALL,
+                            hand.x + i * (CardSize.SMALL.getWidth() + GAP), hand.y);
+                }
+            }
+        }
+        for (int seat = 0; seat < 4; seat++) {
+            final Rectangle slot = trickSlots[seat];
+            if (slot.intersects(clip)) {
+                // a card still sliding in is drawn where it is, not in its slot
+                final int sprite = trickCards[seat] == null || moving[seat]
+                        ? EMPTY_SPRITE : CardAtlas.face(trickCards[seat]);
+                drawCard(graphics, sprites, sprite, CardSize.NORMAL, slot.x, slot.y);
+            }
+        }
+        for (int i = 0; i < HAND_SIZE; i++) {
+            final Rectangle slot = userSlots[i];
+            if (userCards[i] != null && slot.intersects(clip)) {
+                final int sprite = userPlayed[i] ? EMPTY_SPRITE : CardAtlas.face(userCards[i]);
+                drawCard(graphics, sprites, sprite, CardSize.NORMAL, slot.x, slot.y);
+            }
+        }
+        for (int move = 0; move < MOVES; move++) {
+            final Rectangle bounds = moveBounds[move];
+            if (moving[move] && bounds.intersects(clip)) {
+                drawCard(graphics, sprites, moveSprite[move], CardSize.NORMAL, bounds.x, bounds.y);
+            }
+        }
+        if (notice != null && noticeBounds.intersects(clip)) {
+            paintNotice(graphics);
+        }
+    }
+
+    /**
+     * Draws the notice over the cards.
+     *
+     * @param graphics where to draw
+     */
+    private void paintNotice(final Graphics2D graphics) {
+        graphics.setColor(NOTICE_BACKGROUND);
+        graphics.fillRoundRect(noticeBounds.x, noticeBounds.y, noticeBounds.width, noticeBounds.height,
+                NOTICE_PADDING, NOTICE_PADDING);
+        graphics.setColor(Color.WHITE);
+        graphics.setFont(NOTICE_FONT);
+        final FontMetrics metrics = graphics.getFontMetrics();
+        int baseline = noticeBounds.y + NOTICE_PADDING + metrics.getAscent();
+        for (final String line : notice) {
+            graphics.drawString(line, noticeBounds.x + (noticeBounds.width - metrics.stringWidth(line)) / 2,
+                    baseline);
+            baseline += metrics.getHeight();
+        }
+    }
+
+    /**
+     * Draws a card from the atlas, or a placeholder if the atlas hasn't loaded.
+     *
+     * @param graphics where to draw
+     * @param sprites atlas for the graphics' scale factor, or null if it hasn't loaded
+     * @param sprite sprite index in the atlas
+     * @param size size to draw at
+     * @param x left edge to draw at
+     * @param y top edge to draw at
+     */
+    private static void drawCard(final Graphics2D graphics, final CardAtlas sprites, final int sprite,
+                                 final CardSize size, final int x, final int y) {
+        if (sprites == null) {
+            CardImageCache.paintPlaceholder(graphics, x, y, size);
+        } else {
+            sprites.draw(graphics, sprite, size, x, y);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+import java.io.Serial;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays a number of complete AI-vs-AI games to 10 points on a fork/join
+ * pool. The games are split in half until each task is small enough to
+ * play on one thread. Every split also splits the random number
+ * generator, so each task has its own stream and a seed always gives
+ * the same result however the work is scheduled.
+ */
+public class Tournament extends RecursiveTask<TournamentResult> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of games a task plays itself instead of splitting further.
+     */
+    private static final int GAMES_PER_TASK = 64;
+
+    /**
+     * Number of games for this task to play.
+     */
+    private final long games;
+    /**
+     * Random number generator for this task's games.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Constructor for a tournament task.
+     *
+     * @param games number of games to play
+     * @param random random number generator for the games
+     */
+    public Tournament(final long games, final SplittableRandom random) {
+        this.games = games;
+        this.random = random;
+    }
+
+    /**
+     * Plays a tournament across all cores.
+     *
+     * @param games number of games to play
+     * @param seed seed for the random number generator
+     * @return the combined results of every game
+     */
+    public static TournamentResult run(final long games, final long seed) {
+        return ForkJoinPool.commonPool().invoke(new Tournament(games, new SplittableRandom(seed)));
+    }
+
+    @Override
+    protected TournamentResult compute() {
+        if (games <= GAMES_PER_TASK) {
+            return playGames();
+        }
+
+        // split the games and the random stream between two subtasks
+        final long half = games / 2;
+        final Tournament left = new Tournament(half, random.split());
+        final Tournament right = new Tournament(games - half, random.split());
+        left.fork();
+        return right.compute().merge(left.join());
+    }
+
+    /**
+     * Plays this task's games on the current thread.
+     *
+     * @return the results of the games
+     */
+    private TournamentResult playGames() {
+        final TournamentResult result = new TournamentResult();
+        final int[] handsPlayed = new int[1];
+        final GameListener handCounter = new GameListener() {
+            @Override
+            public void displayHandWinner(final int winningTeam) {
+                handsPlayed[0]++;
+            }
+        };
+
+        for (long i = 0; i < games; i++) {
+            handsPlayed[0] = 0;
+            final Game game = new Game(random.split());
+            final GameEngine engine = new GameEngine(game, handCounter, new GreedyStrategy(),
+                    new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy());
+            final int winningTeam = engine.playGame();
+            result.addGame(winningTeam, game.getScores(), handsPlayed[0]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Totals from a set of games played by a {@link Tournament}. Each worker
+ * keeps its own result and the results are merged when the workers finish.
+ */
+public class TournamentResult {
+
+    /**
+     * Number of games played.
+     */
+    private long games;
+    /**
+     * Number of hands played.
+     */
+    private long hands;
+    /**
+     * Number of games won by each team.
+     */
+    private final long[] wins;
+    /**
+     * Total points scored by each team.
+     */
+    private final long[] points;
+
+    /**
+     * Constructor for an empty result.
+     */
+    public TournamentResult() {
+        this.wins = new long[2];
+        this.points = new long[2];
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param winningTeam the team that won the game
+     * @param scores the final score of each team
+     * @param handsPlayed number of hands played in the game
+     */
+    public void addGame(final int winningTeam, final int[] scores, final int handsPlayed) {
+        games++;
+        hands += handsPlayed;
+        wins[winningTeam]++;
+        points[0] += scores[0];
+        points[1] += scores[1];
+    }
+
+    /**
+     * Adds another result's totals to this one.
+     *
+     * @param other result to merge in
+     * @return this result
+     */
+    public TournamentResult merge(final TournamentResult other) {
+        games += other.games;
+        hands += other.hands;
+        for (int i = 0; i < 2; i++) {
+            wins[i] += other.wins[i];
+            points[i] += other.points[i];
+        }
+        return this;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of hands played.
+     *
+     * @return number of hands
+     */
+    public long getHands() {
+        return hands;
+    }
+
+    /**
+     * Gets the number of games won by each team.
+     *
+     * @return array of wins for team 0 and team 1
+     */
+    public long[] getWins() {
+        return wins.clone();
+    }
+
+    /**
+     * Gets the total points scored by each team.
+     *
+     * @return array of points for team 0 and team 1
+     */
+    public long[] getPoints() {
+        return points.clone();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TournamentResult)) {
+            return false;
+        }
+        final TournamentResult other = (TournamentResult) o;
+        return games == other.games && hands == other.hands
+                && Arrays.equals(wins, other.wins) && Arrays.equals(points, other.points);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(games, hands, Arrays.hashCode(wins), Arrays.hashCode(points));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Games: %d, Hands: %d%nTeam 0 wins: %d (%.2f%%), points: %d"
+                        + "%nTeam 1 wins: %d (%.2f%%), points: %d",
+                games, hands, wins[0], percent(wins[0]), points[0], wins[1], percent(wins[1]), points[1]);
+    }
+
+    /**
+     * Works out a number of wins as a percentage of the games played.
+     *
+     * @param count number of wins
+     * @return the percentage, or 0 if no games were played
+     */
+    private double percent(final long count) {
+        return games == 0 ? 0 : 100.0 * count / games;
+    }
+}
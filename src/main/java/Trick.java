@@ -14,6 +14,10 @@ public class Trick {
      * Holds the leading card of the current round.
      */
     private Card leadCard;
+    /**
+     * Counts changes to the trick, so a view can tell when to redraw it.
+     */
+    private int version;
 
     /**
      * Constructor for Trick model.
@@ -48,6 +52,7 @@ public class Trick {
      */
     public void addCardToTrick(final Card card, final int playerNum) {
         cardsPlayed[playerNum] = card;
+        version++;
 
         int numEmpty = 0;
         // checks each index in cards played if null
@@ -64,12 +69,23 @@ public class Trick {
     }
 
     /**
-     * Sets each index in the trick to null.
+     * Sets each index in the trick and the lead card to null.
      */
     public void clearTrick() {
         for (int i = 0; i < 4; i++) {
             cardsPlayed[i] = null;
         }
+        leadCard = null;
+        version++;
+    }
+
+    /**
+     * Gets the version of the trick, which changes whenever it is played to or cleared.
+     *
+     * @return the version
+     */
+    public int getVersion() {
+        return version;
     }
 
     public Card[] getCardsPlayed() {
@@ -78,6 +94,7 @@ public class Trick {
 
     public void setCardsPlayed(final Card... cardsPlayed) {
         this.cardsPlayed = Arrays.copyOf(cardsPlayed, cardsPlayed.length);
+        version++;
     }
 
     public Card getLeadCard() {
@@ -86,6 +103,7 @@ public class Trick {
 
     public void setLeadCard(final Card leadCard) {
         this.leadCard = leadCard;
+        version++;
     }
 
 }
@@ -0,0 +1,63 @@
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+import javax.swing.SwingUtilities;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests the computer playing every seat with a stand-in for the window.
+ */
+class AutoPlayRunnerTest {
+
+    /**
+     * Verify games are played at full speed while the window is only
+     * drawn on the Event Dispatch Thread, at no more than the frame rate.
+     *
+     * @throws InterruptedException if the test is interrupted
+     * @throws InvocationTargetException if waiting for the last frame fails
+     */
+    @Test
+    void capsFrameRate() throws InterruptedException, InvocationTargetException {
+        final AtomicInteger frames = new AtomicInteger();
+        final AtomicBoolean offEdt = new AtomicBoolean();
+        final GameView view = mock(GameView.class, (InvocationOnMock invocation) -> {
+            if (!SwingUtilities.isEventDispatchThread()) {
+                offEdt.set(true);
+            }
+            if ("showFrame".equals(invocation.getMethod().getName())) {
+                frames.incrementAndGet();
+            }
+            return null;
+        });
+
+        final AutoPlayRunner runner = new AutoPlayRunner(view, 10);
+        final long start = System.nanoTime();
+        runner.start();
+        Thread.sleep(1000);
+        runner.stop();
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        // let the last frames be drawn, one may follow the stop
+        SwingUtilities.invokeAndWait(() -> { });
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertTrue(runner.getGamesPlayed() > 0, "Games are played to the end.");
+        assertTrue(frames.get() > 0, "Frames are drawn.");
+        assertTrue(frames.get() <= seconds * 10 + 2, "No more than 10 frames a second are drawn.");
+        assertFalse(offEdt.get(), "The window is only called on the Event Dispatch Thread.");
+    }
+
+    /**
+     * Verify every seat has to be played by the computer.
+     */
+    @Test
+    void needsEveryStrategy() {
+        assertThrows(IllegalArgumentException.class, () -> new AutoPlayRunner(null, 30,
+                null, new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy()));
+        assertThrows(IllegalArgumentException.class, () -> new AutoPlayRunner(null, 0));
+    }
+}
@@ -0,0 +1,92 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests bidding from a BiddingTable.
+ */
+class BiddingTableStrategyTest {
+
+    /**
+     * Game with player 1 to bid and player 0 dealing.
+     */
+    private Game game;
+    /**
+     * Table to fill with scores for the test.
+     */
+    private BiddingTable table;
+    /**
+     * Player 1's hand.
+     */
+    private int hand;
+    /**
+     * The turned up card.
+     */
+    private int kitty;
+
+    /**
+     * Creates the game and an empty table before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        game = new Game(new SplittableRandom(3L));
+        game.setDealer(0);
+        game.setCurrentPlayerTurn(1);
+        table = new BiddingTable(1);
+        hand = game.getHands()[1].getMask();
+        kitty = game.getKittyCard().getIndex();
+    }
+
+    /**
+     * Verify the player orders up when the table expects it to score.
+     */
+    @Test
+    void ordersUp() {
+        final double[] scores = new double[BiddingTable.BIDS];
+        scores[game.getKittyCard().getSuit().ordinal()] = 0.6;
+        table.setScores(hand, kitty, 1, scores);
+
+        new BiddingTableStrategy(table).decideTrump(game);
+
+        assertTrue(game.isOrderedUp(), "Player 1 orders up.");
+        assertEquals(1, game.getPlayerDecidedTrump(), "Player 1 decided trump.");
+        assertEquals(game.getKittyCard().getSuit(), game.getTrump(), "Turned up suit is trump.");
+    }
+
+    /**
+     * Verify the player passes below the threshold.
+     */
+    @Test
+    void passes() {
+        final double[] scores = new double[BiddingTable.BIDS];
+        scores[game.getKittyCard().getSuit().ordinal()] = 0.6;
+        table.setScores(hand, kitty, 1, scores);
+
+        new BiddingTableStrategy(table, 1).decideTrump(game);
+
+        assertFalse(game.isOrderedUp(), "Player 1 passes.");
+        assertEquals(-1, game.getPlayerDecidedTrump(), "No one decided trump.");
+    }
+
+    /**
+     * Verify the player names the best other suit in the second round.
+     */
+    @Test
+    void namesBestSuit() {
+        final Suit kittySuit = game.getKittyCard().getSuit();
+        final Suit other = Suit.of((kittySuit.ordinal() + 1) % 4);
+        final double[] scores = new double[BiddingTable.BIDS];
+        scores[kittySuit.ordinal()] = 2;
+        scores[other.ordinal()] = 0.5;
+        table.setScores(hand, kitty, 1, scores);
+        game.setGoneOnce(true);
+
+        new BiddingTableStrategy(table).decideTrump(game);
+
+        assertEquals(other, game.getTrump(), "Best suit that wasn't turned down is named.");
+        assertEquals(1, game.getPlayerDecidedTrump(), "Player 1 decided trump.");
+    }
+}
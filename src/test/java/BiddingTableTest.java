@@ -0,0 +1,137 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the BiddingTable layout and file format, and the generator that fills it.
+ */
+class BiddingTableTest {
+
+    /**
+     * Verify each class is stored under its canonical hand and there are
+     * about an eighth as many classes as hand and turned up card pairs.
+     */
+    @Test
+    void classes() {
+        final int pairs = 42_504 * 19;
+        assertTrue(BiddingTable.CLASSES > pairs / 8 && BiddingTable.CLASSES < pairs / 7,
+                "Suit symmetry shrinks the table about eight times.");
+        for (int index = 0; index < BiddingTable.CLASSES; index++) {
+            final int hand = BiddingTable.classHand(index);
+            final int kitty = BiddingTable.classKitty(index);
+            assertEquals(BiddingTable.HAND_SIZE, Integer.bitCount(hand), "Hand has five cards.");
+            assertEquals(0, hand & 1 << kitty, "Turned up card isn't in the hand.");
+            assertEquals(index * BiddingTable.SEATS * BiddingTable.BIDS, BiddingTable.scoreIndex(hand, kitty, 0, 0),
+                    "Canonical hand is stored at its own class.");
+        }
+    }
+
+    /**
+     * Verify hands that only differ by suit names share their scores,
+     * with trump renamed the same way.
+     */
+    @Test
+    void scoreIndexSymmetry() {
+        final SplittableRandom random = new SplittableRandom(9L);
+        for (int i = 0; i < 200; i++) {
+            final Deck deck = new Deck(random);
+            int hand = 0;
+            for (int c = 0; c < BiddingTable.HAND_SIZE; c++) {
+                hand = HandMask.add(hand, deck.dealCard());
+            }
+            final int kitty = deck.dealCard().getIndex();
+            final int seat = random.nextInt(BiddingTable.SEATS);
+
+            for (int permutation = 0; permutation < SuitCanonicalizer.PERMUTATIONS; permutation++) {
+                final int renamedHand = SuitCanonicalizer.permute(hand, permutation);
+                final int renamedKitty = SuitCanonicalizer.permuteCard(kitty, permutation);
+                for (int trump = 0; trump < BiddingTable.BIDS; trump++) {
+                    assertEquals(BiddingTable.scoreIndex(hand, kitty, seat, trump),
+                            BiddingTable.scoreIndex(renamedHand, renamedKitty, seat,
+                                    SuitCanonicalizer.permuteSuit(trump, permutation)),
+                            "Renamed hand shares the score.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Verify scores survive writing and reading a table.
+     */
+    @Test
+    void writeRead() throws IOException {
+        final BiddingTable table = new BiddingTable(8);
+        final int hand = HandMask.of(List.of(Card.of(Suit.HEARTS, Rank.JACK), Card.of(Suit.HEARTS, Rank.ACE),
+                Card.of(Suit.DIAMONDS, Rank.NINE), Card.of(Suit.CLUBS, Rank.KING), Card.of(Suit.SPADES, Rank.TEN)));
+        final int kitty = Card.of(Suit.HEARTS, Rank.NINE).getIndex();
+        table.setScores(hand, kitty, 2, 1.5, -2, 0.26, 2);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        table.write(out);
+        final BiddingTable read = BiddingTable.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(8, read.getSamples(), "Samples are kept.");
+        assertEquals(1.5, read.expectedScore(hand, kitty, 2, 0), "Score is kept.");
+        assertEquals(-2, read.expectedScore(hand, kitty, 2, 1), "Negative score is kept.");
+        assertEquals(0.26, read.expectedScore(hand, kitty, 2, 2), 1e-9, "Score is kept to a fiftieth.");
+        assertEquals(0, read.expectedScore(hand, kitty, 1, 0), "Other entries are empty.");
+    }
+
+    /**
+     * Verify reading something that isn't a table fails.
+     */
+    @Test
+    void readBadFile() {
+        assertThrows(IOException.class, () -> BiddingTable.read(new ByteArrayInputStream(new byte[16])),
+                "Bad header is rejected.");
+    }
+
+    /**
+     * Verify the five best hearts always take every trick with hearts trump.
+     */
+    @Test
+    void simulateFiveTrump() {
+        final int hand = HandMask.of(java.util.List.of(Card.of(Suit.HEARTS, Rank.JACK),
+                Card.of(Suit.DIAMONDS, Rank.JACK), Card.of(Suit.HEARTS, Rank.ACE),
+                Card.of(Suit.HEARTS, Rank.KING), Card.of(Suit.HEARTS, Rank.QUEEN)));
+        final int kitty = Card.of(Suit.HEARTS, Rank.NINE).getIndex();
+        final double[] expected = new double[BiddingTable.BIDS];
+
+        for (int seat = 0; seat < BiddingTable.SEATS; seat++) {
+            BiddingTableGenerator.simulate(hand, kitty, seat, 20, new SplittableRandom(seat),
+                    new DoubleDummySolver(), expected);
+            assertEquals(2.0, expected[Suit.HEARTS.ordinal()], "Hearts takes every trick.");
+            assertTrue(expected[Suit.SPADES.ordinal()] < 0, "Spades loses.");
+        }
+    }
+
+    /**
+     * Verify generating part of a table fills the classes asked for and is the same for the same seed.
+     */
+    @Test
+    void generate() {
+        final BiddingTable table1 = BiddingTableGenerator.generate(2, 7L, 100, 102);
+        final BiddingTable table2 = BiddingTableGenerator.generate(2, 7L, 100, 102);
+
+        boolean filled = false;
+        for (int index = 100; index < 102; index++) {
+            final int hand = BiddingTable.classHand(index);
+            final int kitty = BiddingTable.classKitty(index);
+            for (int seat = 0; seat < BiddingTable.SEATS; seat++) {
+                for (int trump = 0; trump < BiddingTable.BIDS; trump++) {
+                    final double score = table1.expectedScore(hand, kitty, seat, trump);
+                    assertTrue(score >= -2 && score <= 2, "Score is a number of points.");
+                    assertEquals(score, table2.expectedScore(hand, kitty, seat, trump), "Same seed, same table.");
+                    filled |= score != 0;
+                }
+            }
+        }
+        assertTrue(filled, "Scores were filled in.");
+    }
+}
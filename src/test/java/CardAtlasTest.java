@@ -0,0 +1,84 @@
+import org.junit.jupiter.api.Test;
+
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the card atlas.
+ */
+class CardAtlasTest {
+
+    /**
+     * Verify each sprite drawn from the atlas matches the cached image.
+     */
+    @Test
+    void drawsCachedImages() {
+        final CardImageCache cache = CardImageCache.getDefault();
+        final CardAtlas atlas = CardAtlas.getDefault();
+
+        for (final CardSize size : CardSize.values()) {
+            for (final Card card : new Card[] {Card.of(0), Card.of(Suit.CLUBS, Rank.JACK), Card.of(23)}) {
+                assertSameImage(cache.getFace(card, size).getImage(), atlas, CardAtlas.face(card), size);
+            }
+            assertSameImage(cache.getBack(2, size).getImage(), atlas, CardAtlas.back(2), size);
+        }
+    }
+
+    /**
+     * Verify every size fits in the atlas.
+     */
+    @Test
+    void packsEverySize() {
+        final BufferedImage image = CardAtlas.getDefault().getImage();
+        int height = 0;
+        for (final CardSize size : CardSize.values()) {
+            assertTrue(CardAtlas.SPRITES * size.getWidth() <= image.getWidth(), "Row fits.");
+            height += size.getHeight();
+        }
+        assertEquals(height, image.getHeight(), "One row for each size.");
+    }
+
+    /**
+     * Verify an atlas for a scaled display is packed once, with each sprite in device pixels.
+     */
+    @Test
+    void atScale() {
+        final CardAtlas atlas = CardAtlas.getDefault();
+        final CardAtlas doubled = atlas.atScale(2);
+
+        assertSame(atlas, atlas.atScale(1), "The atlas is already at its own scale.");
+        assertSame(doubled, atlas.atScale(2), "Each scale is packed once.");
+        assertSame(atlas, doubled.atScale(1), "Every scale shares the same atlases.");
+        assertEquals(2, doubled.getScale(), "The atlas knows its scale.");
+        assertEquals(2 * atlas.getImage().getHeight(), doubled.getImage().getHeight(), "Rows are twice as tall.");
+    }
+
+    /**
+     * Checks a sprite drawn from the atlas matches an image.
+     *
+     * @param expected the image the sprite was packed from
+     * @param atlas the atlas
+     * @param sprite the sprite
+     * @param size its size
+     */
+    private static void assertSameImage(final Image expected, final CardAtlas atlas, final int sprite,
+                                        final CardSize size) {
+        final BufferedImage want = new BufferedImage(size.getWidth(), size.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        final BufferedImage got = new BufferedImage(size.getWidth(), size.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        final Graphics wantGraphics = want.getGraphics();
+        wantGraphics.drawImage(expected, 0, 0, null);
+        wantGraphics.dispose();
+        final Graphics gotGraphics = got.getGraphics();
+        atlas.draw(gotGraphics, sprite, size, 0, 0);
+        gotGraphics.dispose();
+
+        for (int y = 0; y < size.getHeight(); y++) {
+            for (int x = 0; x < size.getWidth(); x++) {
+                assertEquals(want.getRGB(x, y), got.getRGB(x, y), "Sprite matches the image.");
+            }
+        }
+    }
+}
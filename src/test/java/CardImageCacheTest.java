@@ -0,0 +1,100 @@
+import org.junit.jupiter.api.Test;
+
+import javax.swing.ImageIcon;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the card image cache.
+ */
+class CardImageCacheTest {
+
+    /**
+     * Verify every card and back is loaded at every size.
+     */
+    @Test
+    void loadsEveryImage() {
+        final CardImageCache cache = CardImageCache.getDefault();
+
+        for (final CardSize size : CardSize.values()) {
+            for (int i = 0; i < Card.DECK_SIZE; i++) {
+                final Card card = Card.of(i);
+                assertEquals(size.getWidth(), cache.getFace(card, size).getIconWidth(), "Face is scaled.");
+                assertEquals(size.getHeight(), cache.getFace(card, size).getIconHeight(), "Face is scaled.");
+            }
+            for (int back = 1; back <= CardImageCache.BACKS; back++) {
+                assertEquals(size.getWidth(), cache.getBack(back, size).getIconWidth(), "Back is scaled.");
+            }
+        }
+    }
+
+    /**
+     * Verify the same icon is handed out each time, so nothing is decoded again.
+     */
+    @Test
+    void reusesIcons() {
+        final CardImageCache cache = CardImageCache.getDefault();
+        final Card card = Card.of(Suit.SPADES, Rank.JACK);
+
+        assertSame(cache.getFace(card, CardSize.NORMAL), cache.getFace(card, CardSize.NORMAL),
+                "Face is cached.");
+        assertNotSame(cache.getFace(card, CardSize.NORMAL), cache.getFace(card, CardSize.LARGE),
+                "Each size has its own icon.");
+        assertSame(CardImageCache.getDefault(), cache, "Default cache is shared.");
+    }
+
+    /**
+     * Verify each icon holds a variant for every display scale, sized in device pixels.
+     */
+    @Test
+    void variantForEachScale() {
+        final CardImageCache cache = new CardImageCache(CardImageCache.DEFAULT_RESOURCES, 2, 1.5, 0.5);
+        assertArrayEquals(new double[] {1, 1.5, 2}, cache.getScales(), "1 is added and scales are sorted.");
+
+        final ImageIcon face = cache.getFace(Card.of(Suit.HEARTS, Rank.ACE), CardSize.NORMAL);
+        assertEquals(CardSize.NORMAL.getWidth(), face.getIconWidth(), "The icon keeps its size on screen.");
+        for (final double scale : cache.getScales()) {
+            final Image variant = CardImageCache.variant(face, scale);
+            assertEquals(CardSize.NORMAL.getWidth(scale), variant.getWidth(null), "Variant fits the device pixels.");
+            assertEquals(CardSize.NORMAL.getHeight(scale), variant.getHeight(null), "Variant fits the device pixels.");
+            assertSame(variant, CardImageCache.variant(face, scale), "Variants are made once.");
+        }
+        assertEquals(CardSize.NORMAL.getWidth(2), CardImageCache.variant(face, 1.75).getWidth(null),
+                "A scale without a variant gets the next larger one.");
+    }
+
+    /**
+     * Verify scaling shrinks in steps to exactly the size asked for.
+     */
+    @Test
+    void scale() {
+        final BufferedImage image = new BufferedImage(500, 726, BufferedImage.TYPE_INT_ARGB);
+        final BufferedImage scaled = CardImageCache.scale(image, 105, 135);
+        assertEquals(105, scaled.getWidth(), "Scaled to the width.");
+        assertEquals(135, scaled.getHeight(), "Scaled to the height.");
+        assertEquals(1000, CardImageCache.scale(image, 1000, 50).getWidth(), "Images can grow too.");
+    }
+
+    /**
+     * Verify a classpath folder without the card images is reported.
+     */
+    @Test
+    void missingImages() {
+        assertThrows(UncheckedIOException.class, () -> new CardImageCache("/NoCardImages/"));
+    }
+
+    /**
+     * Verify the default cache loads in the background and each size has a placeholder.
+     */
+    @Test
+    void loadDefault() {
+        assertSame(CardImageCache.getDefault(), CardImageCache.loadDefault().join(), "One shared cache.");
+        for (final CardSize size : CardSize.values()) {
+            assertEquals(size.getWidth(), CardImageCache.placeholder(size).getIconWidth(), "Placeholder fits.");
+            assertEquals(size.getHeight(), CardImageCache.placeholder(size).getIconHeight(), "Placeholder fits.");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests dealing the cards a player can't see.
+ */
+class CardSamplerTest {
+
+    /**
+     * Sets up a hand where the dealer, seat 0, has picked up the kitty
+     * card and thrown a card away.
+     *
+     * @return the game
+     */
+    private static Game pickedUp() {
+        final Game game = new Game(new SplittableRandom(5L));
+        game.setDealer(0);
+        game.setTrump(game.getKittyCard().getSuit());
+        game.setPickedUp(true);
+        game.setPlayerDecidedTrump(0);
+        game.aiDecideDiscard();
+        game.setCurrentPlayerTurn(1);
+        return game;
+    }
+
+    /**
+     * Verify the dealer never deals the card they buried to another player.
+     */
+    @Test
+    void dealerKnowsDiscard() {
+        final Game game = pickedUp();
+        final int discard = HandMask.of(game.getDiscard());
+        final CardSampler sampler = new CardSampler(game, 0);
+        final SplittableRandom random = new SplittableRandom(7L);
+        final int[] hands = new int[4];
+        final int[] scratch = new int[CardSampler.SCRATCH_SIZE];
+
+        for (int i = 0; i < 1000; i++) {
+            sampler.deal(random, hands, scratch);
+            for (int seat = 1; seat < 4; seat++) {
+                assertEquals(0, hands[seat] & discard, "The buried card is not dealt to seat " + seat + ".");
+                assertEquals(5, Integer.bitCount(hands[seat]), "Seat " + seat + " has a full hand.");
+            }
+        }
+    }
+
+    /**
+     * Verify the other players don't know the dealer's discard, so it
+     * can be dealt to another hand.
+     */
+    @Test
+    void othersDontKnowDiscard() {
+        final Game game = pickedUp();
+        final int discard = HandMask.of(game.getDiscard());
+        final CardSampler sampler = new CardSampler(game, 1);
+        final SplittableRandom random = new SplittableRandom(7L);
+        final int[] hands = new int[4];
+        final int[] scratch = new int[CardSampler.SCRATCH_SIZE];
+
+        boolean dealt = false;
+        for (int i = 0; i < 1000 && !dealt; i++) {
+            sampler.deal(random, hands, scratch);
+            dealt = ((hands[0] | hands[2] | hands[3]) & discard) != 0;
+        }
+        assertTrue(dealt, "The buried card can be in another player's hand.");
+    }
+}
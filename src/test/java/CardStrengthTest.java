@@ -0,0 +1,77 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the CardStrength lookup table.
+ */
+class CardStrengthTest {
+
+    /**
+     * Verify the bowers and the rest of trump are ranked correctly.
+     */
+    @Test
+    void trumpOrder() {
+        final Card lead = Card.of(Suit.SPADES, Rank.NINE);
+
+        assertEquals(20, CardStrength.of(Suit.SPADES, lead, Card.of(Suit.SPADES, Rank.JACK)), "Right bower.");
+        assertEquals(19, CardStrength.of(Suit.SPADES, lead, Card.of(Suit.CLUBS, Rank.JACK)), "Left bower.");
+        assertEquals(18, CardStrength.of(Suit.SPADES, lead, Card.of(Suit.SPADES, Rank.ACE)), "Ace of trump.");
+        assertEquals(16, CardStrength.of(Suit.SPADES, lead, Card.of(Suit.SPADES, Rank.QUEEN)), "Queen of trump.");
+        assertEquals(14, CardStrength.of(Suit.SPADES, lead, Card.of(Suit.SPADES, Rank.NINE)), "Nine of trump.");
+    }
+
+    /**
+     * Verify cards following the lead beat off suit cards but lose to trump.
+     */
+    @Test
+    void leadSuit() {
+        final Card lead = Card.of(Suit.HEARTS, Rank.TEN);
+
+        assertEquals(9, CardStrength.of(Suit.CLUBS, lead, lead), "Ten of the lead suit.");
+        assertEquals(13, CardStrength.of(Suit.CLUBS, lead, Card.of(Suit.HEARTS, Rank.ACE)), "Ace of the lead suit.");
+        assertEquals(7, CardStrength.of(Suit.CLUBS, lead, Card.of(Suit.DIAMONDS, Rank.ACE)), "Ace off suit.");
+        assertTrue(CardStrength.of(Suit.CLUBS, lead, Card.of(Suit.CLUBS, Rank.NINE))
+                > CardStrength.of(Suit.CLUBS, lead, Card.of(Suit.HEARTS, Rank.ACE)), "Trump beats the lead suit.");
+    }
+
+    /**
+     * Verify the left bower led makes trump the lead suit.
+     */
+    @Test
+    void leftBowerLead() {
+        final Card leftBower = Card.of(Suit.DIAMONDS, Rank.JACK);
+        final int trump = Suit.HEARTS.ordinal();
+
+        assertEquals(trump, CardStrength.leadIndex(trump, leftBower), "Left bower leads trump.");
+        assertEquals(Suit.DIAMONDS.ordinal(), CardStrength.leadIndex(CardStrength.NONE, leftBower),
+                "Jack leads its own suit without trump.");
+        assertEquals(2, CardStrength.of(Suit.HEARTS, leftBower, Card.of(Suit.DIAMONDS, Rank.NINE)),
+                "Diamonds do not follow the left bower.");
+    }
+
+    /**
+     * Verify no card and no trump give the expected values.
+     */
+    @Test
+    void noTrump() {
+        assertEquals(0, CardStrength.of(Suit.HEARTS, null, null), "No card has no strength.");
+        assertEquals(7, CardStrength.of(null, null, Card.of(Suit.SPADES, Rank.ACE)), "Ace without trump or lead.");
+        assertEquals(4, CardStrength.of(null, null, Card.of(Suit.SPADES, Rank.JACK)), "Jack without trump.");
+    }
+
+    /**
+     * Verify the weakest card is an off suit nine, never trump.
+     */
+    @Test
+    void weakestCard() {
+        final int hand = HandMask.add(HandMask.add(HandMask.add(HandMask.of(
+                Card.of(Suit.HEARTS, Rank.NINE)), Card.of(Suit.SPADES, Rank.ACE)),
+                Card.of(Suit.CLUBS, Rank.NINE)), Card.of(Suit.SPADES, Rank.JACK));
+
+        assertEquals(Card.of(Suit.CLUBS, Rank.NINE).getIndex(),
+                CardStrength.weakestCard(Suit.HEARTS.ordinal(), hand), "Off suit nine is weakest.");
+        assertEquals(Card.of(Suit.HEARTS, Rank.NINE).getIndex(),
+                CardStrength.weakestCard(Suit.CLUBS.ordinal(), hand), "Left bower is not thrown away.");
+    }
+}
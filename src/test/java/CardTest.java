@@ -8,113 +8,77 @@ import static org.junit.jupiter.api.Assertions.*;
 class CardTest {
 
     /**
-     * Create a card, get its rank, and verify they are equal.
+     * Get a card, get its rank, and verify they are equal.
      */
     @Test
     void getRankTest() {
-        // create a card with a specific rank
-        final Card card = new Card("Hearts", "Ace", 11);
+        // get a card with a specific rank
+        final Card card = Card.of(Suit.HEARTS, Rank.ACE);
 
         // call the getRank function
-        final String rank = card.getRank();
+        final Rank rank = card.getRank();
 
         // verify that the returned rank matches the expected rank
-        assertEquals( "Ace", rank, "The card is an Ace.");
+        assertEquals(Rank.ACE, rank, "The card is an Ace.");
     }
 
     /**
-     * Create a card, change its rank with the set function, and it was updated.
+     * Get a card, get its suit, and verify they are equal.
      */
     @Test
-    void setRankTest() {
-        // create a card object
-        final Card card = new Card("Hearts", "Ace", 11);
-
-        // set a new rank using the setRank function
-        card.setRank("King");
+    void getSuitTest() {
+        // get a card object
+        final Card card = Card.of(Suit.HEARTS, Rank.ACE);
 
-        // get the updated rank using the getRank function
-        final String updatedRank = card.getRank();
+        // get the suit using the getSuit function
+        final Suit suit = card.getSuit();
 
-        // verify that the updated rank matches the expected value
-        assertEquals("King", updatedRank, "The rank was updated.");
+        // verify that the suit is retrieved correctly
+        assertEquals(Suit.HEARTS, suit, "The suit is correct.");
     }
 
     /**
-     * Create a card, get its point value, and verify they are equal.
+     * Verify the card index is suit * 6 + rank.
      */
     @Test
-    void getPointValueTest() {
-        // create a card object with a point value of 5
-        final Card card = new Card("Hearts", "Ace", 5);
-
-        // get the point value using the getPointValue function
-        final int pointValue = card.getPointValue();
-
-        // verify that the retrieved point value matches the expected value
-        assertEquals(5, pointValue, "The point value is correct.");
+    void getIndexTest() {
+        assertEquals(0, Card.of(Suit.HEARTS, Rank.NINE).getIndex(), "Nine of Hearts is the first card.");
+        assertEquals(11, Card.of(Suit.DIAMONDS, Rank.ACE).getIndex(), "Ace of Diamonds is card 11.");
+        assertEquals(14, Card.of(Suit.CLUBS, Rank.JACK).getIndex(), "Jack of Clubs is card 14.");
+        assertEquals(23, Card.of(Suit.SPADES, Rank.ACE).getIndex(), "Ace of Spades is the last card.");
     }
 
     /**
-     * Create a card, set its point value, and verify that it is updated.
+     * Verify every card in the table can be looked up by index
+     * and by suit and rank, and that both give the same instance.
      */
     @Test
-    void setPointValueTest() {
-        // create a card object
-        final Card card = new Card("Hearts", "Ace", 0);
+    void cardTableTest() {
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            final Card card = Card.of(i);
 
-        // set the point value to 10
-        card.setPointValue(10);
-
-        // get the point value using the getPointValue function
-        final int pointValue = card.getPointValue();
-
-        // verify that the point value is set correctly
-        assertEquals(10, pointValue, "The point value is set correctly.");
+            assertEquals(i, card.getIndex(), "Card index matches table position.");
+            assertSame(card, Card.of(card.getSuit(), card.getRank()), "Cards are shared instances.");
+        }
     }
 
     /**
-     * Create a card, get its suit, and verify they are equal.
+     * Verify the card is displayed with its rank and suit.
      */
     @Test
-    void getSuitTest() {
-        // create a card object
-        final Card card = new Card("Hearts", "Ace", 0);
-
-        // get the suit using the getSuit function
-        final String suit = card.getSuit();
-
-        // verify that the suit is retrieved correctly
-        assertEquals("Hearts", suit, "The suit is correct.");
-    }
-
-    /**
-     * Create a card, set its suit, and verify that it was updated.
-     */
-    @Test
-    void setSuitTest() {
-        // create a card object
-        final Card card = new Card("Hearts", "Ace", 0);
-
-        // set the suit using the setSuit function
-        card.setSuit("Diamonds");
-
-        // verify that the suit is set correctly
-        assertEquals("Diamonds", card.getSuit(), "The suit was updated.");
+    void toStringTest() {
+        assertEquals("Queen of Spades", Card.of(Suit.SPADES, Rank.QUEEN).toString(), "Card name is correct.");
+        assertEquals("10 of Hearts", Card.of(Suit.HEARTS, Rank.TEN).toString(), "Card name is correct.");
     }
 
     /**
-     * Create a card with the constructor and assert
-     * all the values are applied properly.
+     * Verify the left bower suit is the other suit of the same colour.
      */
     @Test
-    void constructorTest() {
-        // create a card object using the constructor
-        final Card card = new Card("Hearts", "Ace", 0);
-
-        // verify that the card properties are set correctly
-        assertEquals("Hearts", card.getSuit(), "Successfully applied suit.");
-        assertEquals("Ace", card.getRank(), "Successfully applied rank.");
-        assertEquals(0, card.getPointValue(), "Successfully applied point value.");
+    void sameColourTest() {
+        assertEquals(Suit.DIAMONDS, Suit.HEARTS.getSameColour(), "Hearts pairs with Diamonds.");
+        assertEquals(Suit.HEARTS, Suit.DIAMONDS.getSameColour(), "Diamonds pairs with Hearts.");
+        assertEquals(Suit.SPADES, Suit.CLUBS.getSameColour(), "Clubs pairs with Spades.");
+        assertEquals(Suit.CLUBS, Suit.SPADES.getSameColour(), "Spades pairs with Clubs.");
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,9 +20,9 @@ class DeckTest {
     void getCards() {
         // create a list of cards
         final List<Card> cards = new ArrayList<>();
-        cards.add(new Card("Hearts", "Ace", 0));
-        cards.add(new Card("Spades", "King", 10));
-        cards.add(new Card("Diamonds", "Queen", 10));
+        cards.add(Card.of(Suit.HEARTS, Rank.ACE));
+        cards.add(Card.of(Suit.SPADES, Rank.KING));
+        cards.add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
 
         // create a deck object and set the cards
         final Deck deck = new Deck();
@@ -37,9 +40,9 @@ class DeckTest {
     void setCards() {
         // create a list of cards
         final List<Card> cards = new ArrayList<>();
-        cards.add(new Card("Hearts", "Ace", 0));
-        cards.add(new Card("Spades", "King", 10));
-        cards.add(new Card("Diamonds", "Queen", 10));
+        cards.add(Card.of(Suit.HEARTS, Rank.ACE));
+        cards.add(Card.of(Suit.SPADES, Rank.KING));
+        cards.add(Card.of(Suit.DIAMONDS, Rank.QUEEN));
 
         // create a deck object and set the cards
         final Deck deck = new Deck();
@@ -51,8 +54,8 @@ class DeckTest {
 
         // create a new list of cards
         final List<Card> newCards = new ArrayList<>();
-        newCards.add(new Card("Clubs", "Jack", 10));
-        newCards.add(new Card("Hearts", "King", 10));
+        newCards.add(Card.of(Suit.CLUBS, Rank.JACK));
+        newCards.add(Card.of(Suit.HEARTS, Rank.KING));
 
         // set the new cards using setCards()
         deck.setCards(newCards);
@@ -63,18 +66,25 @@ class DeckTest {
     }
 
     /**
-     * Test that shuffling the deck re-orders the cards.
-     * Since references aren't changed, hard values have to be
-     * compared. Which means this test will fail 1/24 times.
+     * Test that shuffling the deck re-orders the cards. The generator
+     * always picks the first card, so the Fisher-Yates shuffle moves the
+     * first card to the bottom and every other card up one place.
      */
     @Test
     void shuffleCards() {
 
-        // initialize the deck
-        final Deck deck = new Deck();
+        // initialize the deck with a generator that always returns 0
+        final Deck deck = new Deck(new RandomGenerator() {
+            @Override
+            public long nextLong() {
+                return 0;
+            }
 
-        // store the rank and suit of the first card
-        final String originalFirstCard = deck.getCards().get(0).getRank() + deck.getCards().get(0).getSuit();
+            @Override
+            public int nextInt(final int bound) {
+                return 0;
+            }
+        });
 
         // shuffle the cards
         deck.shuffleCards();
@@ -83,8 +93,10 @@ class DeckTest {
         // list is the same as the initial cards list
         assertEquals(24, deck.getCards().size(), "Deck size remained same.");
 
-        // verify the first card in the deck has changed
-        assertNotEquals(deck.getCards().get(0).getRank() + deck.getCards().get(0).getSuit(), originalFirstCard);
+        // verify the cards are in the known order
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            assertSame(Card.of((i + 1) % Card.DECK_SIZE), deck.getCards().get(i), "Card " + i + " is shuffled.");
+        }
 
     }
 
@@ -106,4 +118,38 @@ class DeckTest {
         // verify that the dealt card is no longer in the deck
         assertFalse(deck.getCards().contains(dealtCard), "Card no longer in deck.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Verify that two decks with the same seed deal the same cards
+     * in the same order, and that a shuffle keeps every card once.
+     */
+    @Test
+    void seededShuffle() {
+        final Deck deck1 = new Deck(42L);
+        final Deck deck2 = new Deck(new SplittableRandom(42L));
+
+        // the same seed gives the same deal
+        assertEquals(deck1.getCards(), deck2.getCards(), "Seeded decks are the same.");
+
+        // reshuffling keeps both streams in step
+        deck1.shuffleCards();
+        deck2.shuffleCards();
+        assertEquals(deck1.getCards(), deck2.getCards(), "Seeded decks are still the same.");
+
+        // every card appears exactly once
+        assertEquals(24, new HashSet<>(deck1.getCards()).size(), "Every card is in the deck once.");
+    }
+
+    /**
+     * Verify getCard looks at a card without dealing it.
+     */
+    @Test
+    void getCard() {
+        final Deck deck = new Deck();
+        final Card bottomCard = deck.getCard(0);
+
+        assertEquals(bottomCard, deck.getCards().get(0), "Bottom card matches the list.");
+        assertEquals(24, deck.size(), "No card was dealt.");
+        assertThrows(IndexOutOfBoundsException.class, () -> deck.getCard(24), "No card past the top.");
+    }
+}
@@ -0,0 +1,143 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the DoubleDummySolver against a plain minimax search.
+ */
+class DoubleDummySolverTest {
+
+    /**
+     * Plays out every line of a position without pruning, for checking the solver.
+     *
+     * @param hands cards left in each hand
+     * @param trump trump suit ordinal
+     * @param leader seat leading the trick
+     * @param trick cards played to the trick so far
+     * @param played number of cards played to the trick
+     * @return tricks won by team 0 from here
+     */
+    private static int minimax(final int[] hands, final int trump, final int leader, final int[] trick,
+                               final int played) {
+        if (played == 4) {
+            final int winner = (leader + CardStrength.winningCard(trump, trick)) & 3;
+            return ((winner & 1) == 0 ? 1 : 0) + minimax(hands, trump, winner, new int[4], 0);
+        }
+        if (played == 0 && hands[leader] == 0) {
+            return 0;
+        }
+        final int seat = (leader + played) & 3;
+        final int legal = HandMask.legalMoves(hands[seat], played == 0 ? -1 : trick[0], trump);
+        int best = (seat & 1) == 0 ? -1 : 99;
+        for (int m = legal; m != 0; m &= m - 1) {
+            final int card = Integer.numberOfTrailingZeros(m);
+            hands[seat] &= ~(1 << card);
+            trick[played] = card;
+            final int value = minimax(hands, trump, leader, trick.clone(), played + 1);
+            hands[seat] |= 1 << card;
+            best = (seat & 1) == 0 ? Math.max(best, value) : Math.min(best, value);
+        }
+        return best;
+    }
+
+    /**
+     * Deals random hands of a given size.
+     *
+     * @param random random number generator
+     * @param handSize cards in each hand
+     * @return mask of each seat's hand
+     */
+    private static int[] deal(final SplittableRandom random, final int handSize) {
+        final Deck deck = new Deck(random);
+        final int[] hands = new int[4];
+        for (int seat = 0; seat < 4; seat++) {
+            for (int i = 0; i < handSize; i++) {
+                hands[seat] = HandMask.add(hands[seat], deck.dealCard());
+            }
+        }
+        return hands;
+    }
+
+    /**
+     * Verify a simple last trick is won by the right bower.
+     */
+    @Test
+    void lastTrick() {
+        final int[] hands = {
+                HandMask.of(Card.of(Suit.HEARTS, Rank.NINE)),
+                HandMask.of(Card.of(Suit.SPADES, Rank.JACK)),
+                HandMask.of(Card.of(Suit.HEARTS, Rank.ACE)),
+                HandMask.of(Card.of(Suit.CLUBS, Rank.ACE)),
+        };
+        final DoubleDummySolver solver = new DoubleDummySolver();
+
+        // spades trump, the right bower in seat 1 wins for team 1
+        assertEquals(0, solver.solve(hands, Suit.SPADES.ordinal(), 0, null, 0), "Right bower wins.");
+        // no trump in hand with clubs trump, but the ace of clubs is trump
+        assertEquals(0, solver.solve(hands, Suit.CLUBS.ordinal(), 0, null, 0), "Ace of trump wins.");
+        // diamonds trump, hearts led and the ace of hearts wins for team 0
+        assertEquals(1, solver.solve(hands, Suit.DIAMONDS.ordinal(), 0, null, 0), "Ace of the lead suit wins.");
+    }
+
+    /**
+     * Compare the solver with minimax on random three card endings,
+     * reusing the solver so the transposition table is exercised.
+     */
+    @Test
+    void matchesMinimax() {
+        final SplittableRandom random = new SplittableRandom(17L);
+        final DoubleDummySolver solver = new DoubleDummySolver(1 << 10);
+        for (int i = 0; i < 300; i++) {
+            final int[] hands = deal(random, 3);
+            final int trump = random.nextInt(4);
+            final int leader = random.nextInt(4);
+
+            assertEquals(minimax(hands.clone(), trump, leader, new int[4], 0),
+                    solver.solve(hands, trump, leader, null, 0), "Solver matches minimax.");
+        }
+    }
+
+    /**
+     * Compare the solver with minimax part way through a trick,
+     * from one card played up to a complete trick.
+     */
+    @Test
+    void matchesMinimaxMidTrick() {
+        final SplittableRandom random = new SplittableRandom(23L);
+        final DoubleDummySolver solver = new DoubleDummySolver();
+        for (int i = 0; i < 100; i++) {
+            final int[] hands = deal(random, 4);
+            final int trump = random.nextInt(4);
+            final int leader = random.nextInt(4);
+
+            // the first seats play a legal card
+            final int numPlayed = 1 + i % 4;
+            final int[] trick = new int[4];
+            for (int played = 0; played < numPlayed; played++) {
+                final int seat = (leader + played) & 3;
+                final int legal = HandMask.legalMoves(hands[seat], played == 0 ? -1 : trick[0], trump);
+                trick[played] = Integer.numberOfTrailingZeros(legal);
+                hands[seat] &= ~(1 << trick[played]);
+            }
+
+            assertEquals(minimax(hands.clone(), trump, leader, trick.clone(), numPlayed),
+                    solver.solve(hands, trump, leader, trick, numPlayed), "Solver matches minimax mid trick.");
+        }
+    }
+
+    /**
+     * Solve full deals and verify both sides add up to five tricks.
+     */
+    @Test
+    void solveFullDeal() {
+        final Game game = new Game(new SplittableRandom(5L));
+        final DoubleDummySolver solver = new DoubleDummySolver();
+
+        final int[] tricks = solver.solve(game.getHands(), Suit.HEARTS, 1);
+
+        assertEquals(5, tricks[0] + tricks[1], "Every trick is won by a team.");
+        assertTrue(solver.getNodes() > 0, "Positions were searched.");
+    }
+}
@@ -0,0 +1,105 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests timing the Event Dispatch Thread.
+ */
+class EdtWatchdogTest {
+
+    /**
+     * Events reported by the watchdog.
+     */
+    private final List<EdtWatchdog.Stall> stalls = new CopyOnWriteArrayList<>();
+
+    /**
+     * Watchdog being tested.
+     */
+    private EdtWatchdog watchdog;
+
+    /**
+     * Install a watchdog that keeps what it reports.
+     *
+     * @param budgetMillis longest an event can take without being reported
+     * @throws InterruptedException if the test is interrupted
+     * @throws InvocationTargetException if the event fails
+     */
+    private void install(final long budgetMillis) throws InterruptedException, InvocationTargetException {
+        watchdog = EdtWatchdog.install(budgetMillis, stalls::add);
+        // an event already taken from the old queue is dispatched by it
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    /**
+     * Put the system event queue back.
+     */
+    @AfterEach
+    void tearDown() {
+        if (watchdog != null) {
+            watchdog.uninstall();
+        }
+    }
+
+    /**
+     * Verify an event that blocks is reported with the stack that blocked it.
+     *
+     * @throws InterruptedException if the test is interrupted
+     * @throws InvocationTargetException if the event fails
+     */
+    @Test
+    void reportsBlockingEvent() throws InterruptedException, InvocationTargetException {
+        install(EdtWatchdog.DEFAULT_BUDGET_MILLIS);
+        SwingUtilities.invokeAndWait(EdtWatchdogTest::block);
+        // the slow event is recorded after the caller is released, so wait for the next one
+        SwingUtilities.invokeAndWait(() -> { });
+
+        // a pause in another event may be reported too, so look for the slow one
+        final EdtWatchdog.Stall stall = stalls.stream()
+                .filter(report -> report.getMillis() >= 100).findFirst().orElse(null);
+        assertNotNull(stall, "The slow event is reported with how long it took.");
+        assertTrue(Arrays.stream(stall.getStack()).anyMatch(frame -> "block".equals(frame.getMethodName())),
+                "The report shows the stack that blocked.");
+        assertTrue(stall.toString().contains("EdtWatchdogTest.block"), "The stack is printed.");
+        assertEquals(stalls.size(), watchdog.getStalls(), "Every stall is counted.");
+        assertTrue(watchdog.getLongestNanos() >= 100_000_000L, "The longest event is kept.");
+    }
+
+    /**
+     * Verify events within the budget are timed but not reported. The
+     * budget is generous, so a pause for garbage collection or compiling
+     * doesn't count as a slow event.
+     *
+     * @throws InterruptedException if the test is interrupted
+     * @throws InvocationTargetException if the event fails
+     */
+    @Test
+    void ignoresFastEvents() throws InterruptedException, InvocationTargetException {
+        install(1000);
+        for (int i = 0; i < 10; i++) {
+            SwingUtilities.invokeAndWait(() -> { });
+        }
+        // the last event is recorded after the caller is released, so wait for the next one
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertTrue(stalls.isEmpty(), "Nothing is reported.");
+        assertTrue(watchdog.getEvents() >= 10, "Every event is timed.");
+    }
+
+    /**
+     * Keeps the Event Dispatch Thread busy for longer than a frame.
+     */
+    private static void block() {
+        try {
+            Thread.sleep(150);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the EndgameTablebase layout, its generator and its file format
+ * against the solver searching without a tablebase.
+ */
+class EndgameTablebaseTest {
+
+    /**
+     * Deals random hands of a given size.
+     *
+     * @param random random number generator
+     * @param handSize cards in each hand
+     * @return mask of each seat's hand
+     */
+    private static int[] deal(final SplittableRandom random, final int handSize) {
+        final Deck deck = new Deck(random);
+        final int[] hands = new int[4];
+        for (int seat = 0; seat < 4; seat++) {
+            for (int i = 0; i < handSize; i++) {
+                hands[seat] = HandMask.add(hands[seat], deck.dealCard());
+            }
+        }
+        return hands;
+    }
+
+    /**
+     * Renumbers each hand into search positions, turned so the leader is in seat 0.
+     *
+     * @param hands mask of the card indices in each hand
+     * @param trump trump suit ordinal
+     * @param leader the seat to lead
+     * @return mask of the search positions in each hand
+     */
+    private static int[] toSearch(final int[] hands, final int trump, final int leader) {
+        final int[] positions = new int[4];
+        for (int seat = 0; seat < 4; seat++) {
+            positions[seat] = DoubleDummySolver.toSearch(hands[(leader + seat) & 3], trump);
+        }
+        return positions;
+    }
+
+    /**
+     * Verify the number of entries in each level.
+     */
+    @Test
+    void entries() {
+        // 41 and 102 ways to size the suits, 8!/2!^4 and 12!/3!^4 ways to hold the cards
+        assertEquals(41 * 2520, EndgameTablebase.entries(2), "Two trick level size.");
+        assertEquals(102 * 369_600, EndgameTablebase.entries(3), "Three trick level size.");
+    }
+
+    /**
+     * Verify positions are numbered inside their level and the stored
+     * position numbers back to the same entry, whoever leads.
+     */
+    @Test
+    void index() {
+        final SplittableRandom random = new SplittableRandom(3L);
+        final int[] hands = new int[4];
+        final int[] blocks = new int[4];
+        for (int i = 0; i < 500; i++) {
+            final int tricks = 2 + i % 2;
+            final int[] dealt = deal(random, tricks);
+            final int trump = random.nextInt(4);
+            final int leader = random.nextInt(4);
+
+            final int index = EndgameTablebase.index(toSearch(dealt, trump, leader), 0,
+                    DoubleDummySolver.orderedBlocks(trump), null);
+            assertTrue(index >= 0 && index < EndgameTablebase.entries(tricks), "Index is inside the level.");
+            assertEquals(index, EndgameTablebase.index(toSearch(dealt, trump, 0), leader,
+                    DoubleDummySolver.orderedBlocks(trump), null), "Seats are counted from the leader.");
+
+            EndgameTablebase.position(tricks, index, hands, blocks);
+            assertEquals(index, EndgameTablebase.index(hands, 0, blocks, null), "Stored position has the same index.");
+        }
+    }
+
+    /**
+     * Compare the two trick tablebase and its leads with the solver.
+     */
+    @Test
+    void twoTricksMatchesSolver() {
+        final SplittableRandom random = new SplittableRandom(7L);
+        final EndgameTablebase tablebase = EndgameTablebase.twoTricks();
+        final DoubleDummySolver solver = new DoubleDummySolver(1 << 10, null);
+        assertEquals(2, tablebase.getTricks(), "Holds the last two tricks.");
+        for (int i = 0; i < 500; i++) {
+            final int tricks = 1 + i % 2;
+            final int[] hands = deal(random, tricks);
+            final int trump = random.nextInt(4);
+            final int leader = random.nextInt(4);
+
+            final int value = solver.solve(hands, trump, leader, null, 0);
+            assertEquals(value, tablebase.value(hands, trump, leader), "Tablebase matches solver.");
+
+            final int lead = tablebase.bestLead(hands, trump, leader);
+            assertTrue((hands[leader] & 1 << lead) != 0, "Lead is in the leader's hand.");
+            hands[leader] &= ~(1 << lead);
+            assertEquals(value, solver.solve(hands, trump, leader, new int[] {lead}, 1), "Lead keeps the value.");
+        }
+    }
+
+    /**
+     * Compare three trick entries, solved from the two trick level, with the solver.
+     */
+    @Test
+    void threeTricksMatchesSolver() {
+        final SplittableRandom random = new SplittableRandom(11L);
+        final DoubleDummySolver solver = new DoubleDummySolver(1 << 10, null);
+        for (int i = 0; i < 300; i++) {
+            final int[] hands = deal(random, 3);
+            final int trump = random.nextInt(4);
+            final int leader = random.nextInt(4);
+
+            final int entry = EndgameTablebaseGenerator.solve(EndgameTablebase.twoTricks(),
+                    toSearch(hands, trump, leader), DoubleDummySolver.orderedBlocks(trump));
+            final int team0 = solver.solve(hands, trump, leader, null, 0);
+            assertEquals((leader & 1) == 0 ? team0 : 3 - team0, entry & 3, "Entry matches solver.");
+        }
+    }
+
+    /**
+     * Verify a tablebase written to a file maps back with the same entries,
+     * and the solver gives the same results with it.
+     */
+    @Test
+    void generateLoad(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("endgame.tb");
+        EndgameTablebaseGenerator.generate(path, 2);
+        final EndgameTablebase loaded = EndgameTablebase.load(path);
+        assertEquals(2, loaded.getTricks(), "Tricks are kept.");
+
+        final SplittableRandom random = new SplittableRandom(13L);
+        final DoubleDummySolver with = new DoubleDummySolver(1 << 10, loaded);
+        final DoubleDummySolver without = new DoubleDummySolver(1 << 10, null);
+        for (int i = 0; i < 200; i++) {
+            final int[] hands = deal(random, 2 + i % 4);
+            final int trump = random.nextInt(4);
+            final int leader = random.nextInt(4);
+            assertEquals(without.solve(hands, trump, leader, null, 0), with.solve(hands, trump, leader, null, 0),
+                    "Solver gives the same result with the tablebase.");
+        }
+    }
+
+    /**
+     * Verify reading something that isn't a tablebase fails.
+     */
+    @Test
+    void loadBadFile(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("bad.tb");
+        Files.write(path, new byte[EndgameTablebase.HEADER_SIZE]);
+        assertThrows(IOException.class, () -> EndgameTablebase.load(path), "Bad header is rejected.");
+    }
+}
@@ -38,7 +38,7 @@ class GameControllerTest {
     @Test
     void playCard() {
 
-        final Card card = new Card("Hearts", "Ten", 10);
+        final Card card = Card.of(Suit.HEARTS, Rank.TEN);
         gameController.playCard(card, 0);
 
         final Card playedCard = game.getTrick().getCardsPlayed()[0];
@@ -55,15 +55,16 @@ class GameControllerTest {
         // set up the test scenario for the first round where a player orders up
         game.setDealer(0); // Set the dealer to player 0
         game.setCurrentPlayerTurn(1); // Set the current player turn to player 1
-        final String trump = game.getKittyCard().getSuit();
+        final Suit trump = game.getKittyCard().getSuit();
+        final Suit offSuit = Suit.of((trump.ordinal() + 2) % 4);
 
         // set up the AI player's hand with 3 trump cards
         final Hand hand = new Hand();
-        hand.addCard(new Card(trump, "9", 14));
-        hand.addCard(new Card(trump, "10", 15));
-        hand.addCard(new Card(trump, "Jack", 20));
-        hand.addCard(new Card("blank", "9", 2));
-        hand.addCard(new Card("blank", "10", 3));
+        hand.addCard(Card.of(trump, Rank.NINE));
+        hand.addCard(Card.of(trump, Rank.TEN));
+        hand.addCard(Card.of(trump, Rank.JACK));
+        hand.addCard(Card.of(offSuit, Rank.NINE));
+        hand.addCard(Card.of(offSuit, Rank.TEN));
         game.getPlayers()[game.getCurrentPlayerTurn()].setHand(hand);
 
         // call the decideTrump() method
@@ -87,15 +88,16 @@ class GameControllerTest {
         // set up the test scenario where AI has 2 or more trump cards and is the dealer
         game.setDealer(2);
         game.setCurrentPlayerTurn(2);
-        final String trump = game.getKittyCard().getSuit();
+        final Suit trump = game.getKittyCard().getSuit();
+        final Suit offSuit = Suit.of((trump.ordinal() + 2) % 4);
 
         // create a hand with more than 2 trump cards
         final Hand hand = new Hand();
-        hand.addCard(new Card(trump, "9", 14));
-        hand.addCard(new Card(trump, "10", 15));
-        hand.addCard(new Card("blank", "Jack", 20));
-        hand.addCard(new Card("blank", "10", 3));
-        hand.addCard(new Card("blank", "Jack", 4));
+        hand.addCard(Card.of(trump, Rank.NINE));
+        hand.addCard(Card.of(trump, Rank.TEN));
+        hand.addCard(Card.of(offSuit, Rank.JACK));
+        hand.addCard(Card.of(offSuit, Rank.TEN));
+        hand.addCard(Card.of(offSuit.getSameColour(), Rank.JACK));
 
         // set the hand for the current player
         game.getPlayers()[game.getCurrentPlayerTurn()].setHand(hand);
@@ -115,10 +117,10 @@ class GameControllerTest {
     void playGame() {
         // set up the test scenario where trick is full
         game.getTrick().setCardsPlayed(new Card[] {
-                new Card("Hearts", "Ace", 11),
-                new Card("Spades", "King", 10),
-                new Card("Diamonds", "Queen", 10),
-                new Card("Clubs", "Jack", 10)
+                Card.of(Suit.HEARTS, Rank.ACE),
+                Card.of(Suit.SPADES, Rank.KING),
+                Card.of(Suit.DIAMONDS, Rank.QUEEN),
+                Card.of(Suit.CLUBS, Rank.JACK)
         });
 
         // assert trick contains a win
@@ -0,0 +1,289 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the headless GameEngine.
+ */
+class GameEngineTest {
+
+    /**
+     * Play a full game with the AI in every seat and verify
+     * that it ends with a winner and no window.
+     */
+    @Test
+    void playGame() {
+        final GameEngine engine = new GameEngine(new Game(new SplittableRandom(7L)));
+
+        final int winningTeam = engine.playGame();
+
+        // assert the winning team reached 10 points
+        final int[] scores = engine.getGame().getScores();
+        assertTrue(scores[winningTeam] >= 10, "Winning team has at least 10 points.");
+        assertTrue(scores[1 - winningTeam] < 10, "Losing team has less than 10 points.");
+    }
+
+    /**
+     * Play the same seeded game twice and verify the results match.
+     */
+    @Test
+    void playGameSeeded() {
+        final GameEngine engine1 = new GameEngine(new Game(new SplittableRandom(99L)));
+        final GameEngine engine2 = new GameEngine(new Game(new SplittableRandom(99L)));
+
+        assertEquals(engine1.playGame(), engine2.playGame(), "Same seed gives the same winner.");
+        assertArrayEquals(engine1.getGame().getScores(), engine2.getGame().getScores(),
+                "Same seed gives the same scores.");
+    }
+
+    /**
+     * Verify every card played by the engine is legal and each
+     * hand starts with five distinct cards.
+     */
+    @Test
+    void playsLegalCards() {
+        final Game game = new Game(new SplittableRandom(3L));
+        final PlayerStrategy checkedStrategy = new GreedyStrategy() {
+            @Override
+            public Card decideCard(final Game game) {
+                final Hand hand = game.getPlayers()[game.getCurrentPlayerTurn()].getHand();
+                final int legalMoves = hand.legalMoves(game.getTrick().getLeadCard(), game.getTrump());
+                assertEquals(hand.getCards().size(), HandMask.size(hand.getMask()), "Hand has no duplicates.");
+
+                final Card card = super.decideCard(game);
+                assertTrue(HandMask.contains(legalMoves, card), "Card played is legal.");
+                return card;
+            }
+        };
+        final GameEngine engine = new GameEngine(game, new GameListener() { },
+                checkedStrategy, checkedStrategy, checkedStrategy, checkedStrategy);
+
+        engine.playGame();
+    }
+
+    /**
+     * Step a game one action at a time and verify it ends the same as
+     * running it straight through, passing through every phase.
+     */
+    @Test
+    void stepMatchesRun() {
+        final GameEngine run = new GameEngine(new Game(new SplittableRandom(11L)));
+        final GameEngine stepped = new GameEngine(new Game(new SplittableRandom(11L)));
+        final GameController controller = stepped.getGameController();
+        final GameListener listener = new GameListener() { };
+        final Set<GamePhase> phases = EnumSet.noneOf(GamePhase.class);
+
+        assertEquals(GamePhase.BID_ROUND_1, controller.getPhase(), "A new game starts with the bidding.");
+        run.playGame();
+        while (controller.step(listener)) {
+            phases.add(controller.getPhase());
+        }
+
+        assertEquals(GamePhase.GAME_OVER, controller.getPhase(), "Stepping ends the game.");
+        assertTrue(phases.containsAll(EnumSet.of(GamePhase.DEAL, GamePhase.BID_ROUND_1, GamePhase.DISCARD,
+                GamePhase.PLAY_TRICK, GamePhase.SCORE)), "Every phase of a hand is visited.");
+        assertArrayEquals(run.getGame().getScores(), stepped.getGame().getScores(),
+                "Stepping gives the same scores as running.");
+    }
+
+    /**
+     * Verify each step during play puts at most one card into the trick.
+     */
+    @Test
+    void stepsOneCardAtATime() {
+        final GameEngine engine = new GameEngine(new Game(new SplittableRandom(5L)));
+        final GameController controller = engine.getGameController();
+        final Game game = engine.getGame();
+        final GameListener listener = new GameListener() { };
+
+        controller.decideTrump(listener);
+        assertEquals(GamePhase.PLAY_TRICK, controller.getPhase(), "Bidding stops when play can start.");
+        while (controller.getPhase() == GamePhase.PLAY_TRICK) {
+            final int before = played(game.getTrick());
+            controller.step(listener);
+            final int after = played(game.getTrick());
+            assertTrue(after == before + 1 || after == 0 || controller.getPhase() == GamePhase.SCORE,
+                    "A step plays one card or awards the trick.");
+        }
+        assertEquals(DoubleDummySolver.TRICKS, game.getTricksWon()[0] + game.getTricksWon()[1],
+                "Play stops after the last trick.");
+    }
+
+    /**
+     * Verify a long game runs in constant stack depth.
+     */
+    @Test
+    void constantStackDepth() {
+        final int[] depth = {Integer.MAX_VALUE, 0};
+        final GameListener listener = new GameListener() {
+            @Override
+            public void displayTrickWinner(final int winner) {
+                final int frames = Thread.currentThread().getStackTrace().length;
+                depth[0] = Math.min(depth[0], frames);
+                depth[1] = Math.max(depth[1], frames);
+            }
+        };
+        final GameEngine engine = new GameEngine(new Game(new SplittableRandom(13L)), listener,
+                new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy());
+
+        engine.playGame();
+
+        assertEquals(depth[0], depth[1], "Every trick is awarded at the same stack depth.");
+    }
+
+    /**
+     * Counts the cards in a trick.
+     *
+     * @param trick the trick
+     * @return number of cards played to it
+     */
+    private static int played(final Trick trick) {
+        return (int) Arrays.stream(trick.getCardsPlayed()).filter(Objects::nonNull).count();
+    }
+
+    /**
+     * Creates a listener that records which parts of the view are drawn.
+     *
+     * @param updates list to add the name of each part drawn to
+     * @return the listener
+     */
+    private static GameListener recorder(final List<String> updates) {
+        return new GameListener() {
+            @Override
+            public void setKittyCardImage() {
+                updates.add("kitty");
+            }
+
+            @Override
+            public void updateTrickView(final Trick trick) {
+                updates.add("trick");
+            }
+
+            @Override
+            public void assignCardIcons() {
+                updates.add("hand");
+            }
+
+            @Override
+            public void updateScores() {
+                updates.add("scores");
+            }
+
+            @Override
+            public void updateTricks() {
+                updates.add("tricks");
+            }
+
+            @Override
+            public void updateTrump() {
+                updates.add("trump");
+            }
+        };
+    }
+
+    /**
+     * Verify the view is only told about the parts of the game that changed.
+     */
+    @Test
+    void updateViewRedrawsChanges() {
+        final List<String> updates = new ArrayList<>();
+        final GameListener listener = recorder(updates);
+        final GameEngine engine = new GameEngine(new Game(new SplittableRandom(17L)));
+        final GameController controller = engine.getGameController();
+        final Game game = engine.getGame();
+
+        controller.updateView(listener);
+        assertEquals(List.of("kitty", "trick", "hand", "scores", "tricks", "trump"), updates,
+                "The first update draws everything.");
+
+        updates.clear();
+        controller.updateView(listener);
+        assertEquals(List.of(), updates, "Nothing changed, so nothing is drawn.");
+
+        controller.playCard(game.getPlayers()[1].getHand().getCards().get(0), 1);
+        game.setTrump(Suit.CLUBS);
+        controller.updateView(listener);
+        assertEquals(List.of("trick", "trump"), updates, "Only the trick and trump are drawn.");
+    }
+
+    /**
+     * Verify the trump label and kitty card are drawn again when a
+     * computer player orders up, as they are when the user does.
+     */
+    @Test
+    void updateViewAfterComputerOrdersUp() {
+        final List<String> updates = new ArrayList<>();
+        final GameListener listener = recorder(updates);
+        final GameEngine engine = new GameEngine(new Game(new SplittableRandom(17L)));
+        final GameController controller = engine.getGameController();
+        final Game game = engine.getGame();
+        game.setGoneOnce(false);
+        game.setDealer(0);
+        game.setCurrentPlayerTurn(1);
+        final Suit trump = game.getKittyCard().getSuit();
+        final Suit offSuit = Suit.of((trump.ordinal() + 2) % 4);
+        final Hand hand = new Hand();
+        hand.addCard(Card.of(trump, Rank.NINE));
+        hand.addCard(Card.of(trump, Rank.TEN));
+        hand.addCard(Card.of(trump, Rank.QUEEN));
+        hand.addCard(Card.of(offSuit, Rank.NINE));
+        hand.addCard(Card.of(offSuit, Rank.TEN));
+        game.getPlayers()[1].setHand(hand);
+        controller.updateView(listener);
+
+        updates.clear();
+        new GreedyStrategy().decideTrump(game);
+        controller.updateView(listener);
+
+        assertTrue(game.isOrderedUp(), "The computer player ordered up.");
+        assertEquals(List.of("kitty", "trump"), updates, "The kitty card and trump are drawn.");
+    }
+
+    /**
+     * Verify the trump label is drawn again when a computer player names
+     * trump in the second round.
+     */
+    @Test
+    void updateViewAfterComputerNamesTrump() {
+        final List<String> updates = new ArrayList<>();
+        final GameListener listener = recorder(updates);
+        final GameEngine engine = new GameEngine(new Game(new SplittableRandom(17L)));
+        final GameController controller = engine.getGameController();
+        final Game game = engine.getGame();
+        game.setGoneOnce(true);
+        game.setTrump(null);
+        game.setCurrentPlayerTurn(1);
+        final Hand hand = new Hand();
+        hand.addCard(Card.of(Suit.HEARTS, Rank.JACK));
+        hand.addCard(Card.of(Suit.HEARTS, Rank.ACE));
+        hand.addCard(Card.of(Suit.HEARTS, Rank.KING));
+        hand.addCard(Card.of(Suit.HEARTS, Rank.NINE));
+        hand.addCard(Card.of(Suit.HEARTS, Rank.TEN));
+        game.getPlayers()[1].setHand(hand);
+        controller.updateView(listener);
+
+        updates.clear();
+        new GreedyStrategy().decideTrump(game);
+        controller.updateView(listener);
+
+        assertEquals(1, game.getPlayerDecidedTrump(), "The computer player named trump.");
+        assertEquals(List.of("kitty", "trump"), updates, "The kitty card and trump are drawn.");
+    }
+
+    /**
+     * Verify a headless engine can't be created with a human seat.
+     */
+    @Test
+    void requiresStrategies() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(new Game(), new GameListener() { },
+                null, new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy()));
+    }
+}
@@ -0,0 +1,118 @@
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+import javax.swing.SwingUtilities;
+import java.lang.reflect.InvocationTargetException;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests the engine thread with a stand-in for the window.
+ */
+class GameRunnerTest {
+
+    /**
+     * Play a whole game with the user's choices coming from the window,
+     * and verify the window is only ever called on the Event Dispatch Thread.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void playsGameOffEdt() throws InterruptedException {
+        final Game game = new Game(new SplittableRandom(21L));
+        final AtomicReference<GameRunner> runner = new AtomicReference<>();
+        final AtomicBoolean offEdt = new AtomicBoolean();
+        final AtomicBoolean engineOnEdt = new AtomicBoolean();
+        final CountDownLatch ended = new CountDownLatch(1);
+
+        final GameView view = mock(GameView.class, (InvocationOnMock invocation) -> {
+            if (!SwingUtilities.isEventDispatchThread()) {
+                offEdt.set(true);
+            }
+            switch (invocation.getMethod().getName()) {
+                case "chooseOrderUp" -> {
+                    return false;
+                }
+                case "chooseTrump" -> {
+                    final GameSnapshot snapshot = invocation.getArgument(0);
+                    return Suit.of((snapshot.getKittyCard().getSuit().ordinal() + 1) % 4);
+                }
+                case "chooseDiscard" -> {
+                    final GameSnapshot snapshot = invocation.getArgument(0);
+                    return snapshot.getPlayerHand().get(0);
+                }
+                case "askUserPlayCard" -> {
+                    // the engine is waiting, so the game holds still while the card is chosen
+                    final int unplayed = game.getPlayerHand().getMask() & ~game.getPlayedCards();
+                    runner.get().playCard(HandMask.first(
+                            HandMask.legalMoves(unplayed, game.getTrick().getLeadCard(), game.getTrump())));
+                }
+                case "showNotice" -> {
+                    // the notice goes away as soon as it is shown
+                    final Runnable done = invocation.getArgument(1);
+                    done.run();
+                }
+                case "gameEnded" -> ended.countDown();
+                default -> {
+                    // the rest only draw
+                }
+            }
+            return null;
+        });
+        final GameController checked = new GameController(game, null, new GreedyStrategy() {
+            @Override
+            public Card decideCard(final Game g) {
+                if (SwingUtilities.isEventDispatchThread()) {
+                    engineOnEdt.set(true);
+                }
+                return super.decideCard(g);
+            }
+        }, new GreedyStrategy(), new GreedyStrategy());
+
+        runner.set(new GameRunner(checked, view));
+        runner.get().start();
+
+        assertTrue(ended.await(60, TimeUnit.SECONDS), "The game ends.");
+        assertFalse(offEdt.get(), "The window is only called on the Event Dispatch Thread.");
+        assertFalse(engineOnEdt.get(), "The computer players think on the engine thread.");
+        final int[] scores = game.getScores();
+        assertTrue(scores[0] >= 10 || scores[1] >= 10, "A team reached 10 points.");
+    }
+
+    /**
+     * Verify ending the game while the start notice is shown doesn't
+     * start the engine when the end notice replaces the start notice.
+     *
+     * @throws InterruptedException if the test is interrupted
+     * @throws InvocationTargetException if the window fails
+     */
+    @Test
+    void endDuringStartNotice() throws InterruptedException, InvocationTargetException {
+        final AtomicInteger calls = new AtomicInteger();
+        final GameView view = mock(GameView.class, (InvocationOnMock invocation) -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        final GameRunner runner = new GameRunner(new GameController(new Game(new SplittableRandom(21L))), view);
+
+        SwingUtilities.invokeAndWait(() -> {
+            final TablePanel table = new TablePanel(CardAtlas.getDefault());
+            table.showNotice("The game is starting!", 0, runner::start);
+            // the game is ended, and its notice takes the place of the start notice
+            runner.stop();
+            table.showNotice("The game has ended.", 0, () -> { });
+        });
+        // an engine would have drawn the deal by now
+        Thread.sleep(500);
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertEquals(0, calls.get(), "The engine never starts.");
+    }
+}
@@ -0,0 +1,37 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests game snapshots.
+ */
+class GameSnapshotTest {
+
+    /**
+     * Verify a snapshot keeps the state it was taken with when the game moves on.
+     */
+    @Test
+    void copiesGame() {
+        final Game game = new Game(new SplittableRandom(4L));
+        final Card lead = game.getPlayerHand().getCards().get(0);
+        game.setTrump(Suit.HEARTS);
+        game.getTrick().addCardToTrick(lead, 0);
+        game.setScores(3, 7);
+
+        final GameSnapshot snapshot = GameSnapshot.of(game);
+        game.getTrick().clearTrick();
+        game.getPlayerHand().removeCard(lead);
+        game.setScores(4, 7);
+        game.setTrump(Suit.SPADES);
+
+        assertEquals(lead, snapshot.getTrick()[0], "The trick is copied.");
+        assertEquals(lead, snapshot.getLeadCard(), "The lead card is kept.");
+        assertEquals(5, snapshot.getPlayerHand().size(), "The hand is copied.");
+        assertArrayEquals(new int[] {3, 7}, snapshot.getScores(), "The scores are copied.");
+        assertEquals(Suit.HEARTS, snapshot.getTrump(), "Trump is kept.");
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPlayerHand().clear(),
+                "The hand can't be changed.");
+    }
+}
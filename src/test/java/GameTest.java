@@ -143,17 +143,14 @@ class GameTest {
     }
 
     /**
-     * This test checks if the assignCardPoints() method correctly assigns points
-     * to cards when the trump suit is not decided and the leading card is null.
+     * This test checks if the getPointValue() method correctly scores
+     * cards when the trump suit is not decided and the leading card is null.
      */
     @Test
-    void assignCardPoints() {
-        // set up the test scenario with a null leading card and "undecided" trump
+    void getPointValue() {
+        // set up the test scenario with a null leading card and undecided trump
         game.getTrick().setLeadCard(null);
-        game.setTrump("undecided");
-
-        // call the method to assign card points
-        game.assignCardPoints();
+        game.setTrump(null);
 
         // iterate through all cards in the players' hands and
         // assert their point values are under 8 and 2 or more
@@ -162,25 +159,22 @@ class GameTest {
             final List<Card> cards = hand.getCards();
 
             for (final Card card : cards) {
-                assertTrue(card.getPointValue() < 8, "All card point values are under 8.");
-                assertTrue(card.getPointValue() >= 2, "All card point values are over 2.");
+                assertTrue(game.getPointValue(card) < 8, "All card point values are under 8.");
+                assertTrue(game.getPointValue(card) >= 2, "All card point values are over 2.");
             }
         }
     }
 
     /**
-     * This test checks if the assignCardPoints() method correctly
-     * assigns points to cards when the trump suit is not decided
+     * This test checks if the getPointValue() method correctly scores
+     * cards when the trump suit is not decided
      * and the leading card is a Heart.
      */
     @Test
-    void assignCardPoints1() {
-        // set up the test scenario with a Heart leading card and "undecided" trump
-        game.getTrick().setLeadCard(new Card("Hearts", "Queen", 0));
-        game.setTrump("undecided");
-
-        // call the method to assign card points
-        game.assignCardPoints();
+    void getPointValue1() {
+        // set up the test scenario with a Heart leading card and undecided trump
+        game.getTrick().setLeadCard(Card.of(Suit.HEARTS, Rank.QUEEN));
+        game.setTrump(null);
 
         // iterate through all cards in the players' hands
         // and assert their point values are under 14
@@ -189,46 +183,42 @@ class GameTest {
             final List<Card> cards = hand.getCards();
 
             for (final Card card : cards) {
-                assertTrue(card.getPointValue() < 14, "All card point values are under 14.");
-                assertTrue(card.getPointValue() >= 2, "All card point values are over 2.");
+                assertTrue(game.getPointValue(card) < 14, "All card point values are under 14.");
+                assertTrue(game.getPointValue(card) >= 2, "All card point values are over 2.");
             }
         }
     }
 
     /**
-     * This test checks if the assignCardPoints() method correctly
-     * assigns points to cards when the trump suit is Hearts and the
+     * This test checks if the getPointValue() method correctly scores
+     * cards when the trump suit is Hearts and the
      * leading card is a 9 of Hearts.
      */
     @Test
-    void assignCardPoints2() {
-        final Card leadingCard = new Card("Hearts", "9", 0);
+    void getPointValue2() {
+        final Card leadingCard = Card.of(Suit.HEARTS, Rank.NINE);
         game.getTrick().setLeadCard(leadingCard);
-        game.setTrump("Hearts");
-
-        game.assignCardPoints();
+        game.setTrump(Suit.HEARTS);
 
         // verify that the leading card's point value is set correctly
-        assertEquals(14, game.getTrick().getLeadCard().getPointValue(), "Leading card's point value is set correctly.");
+        assertEquals(14, game.getPointValue(game.getTrick().getLeadCard()), "Leading card's point value is set correctly.");
     }
 
 
 
     /**
-     * This test checks if the assignCardPoints() method correctly assigns
-     * points to card when the trump suit is Clubs and the leading card
+     * This test checks if the getPointValue() method correctly scores
+     * the card when the trump suit is Clubs and the leading card
      * is the Jack of Spades (Left Bower).
      */
     @Test
-    void assignCardPoints3() {
-        final Card leadingCard = new Card("Spades", "Jack", 0);
+    void getPointValue3() {
+        final Card leadingCard = Card.of(Suit.SPADES, Rank.JACK);
         game.getTrick().setLeadCard(leadingCard);
-        game.setTrump("Clubs");
-
-        game.assignCardPoints();
+        game.setTrump(Suit.CLUBS);
 
         // verify that the leading card's point value is set correctly
-        assertEquals(19, game.getTrick().getLeadCard().getPointValue(), "Leading card's point value is set correctly.");
+        assertEquals(19, game.getPointValue(game.getTrick().getLeadCard()), "Leading card's point value is set correctly.");
     }
 
     /**
@@ -242,15 +232,16 @@ class GameTest {
         game.setGoneOnce(false);
         game.setDealer(1);
         game.setCurrentPlayerTurn(2);
-        final String trump = game.getKittyCard().getSuit();
+        final Suit trump = game.getKittyCard().getSuit();
+        final Suit offSuit = Suit.of((trump.ordinal() + 2) % 4);
 
         // create a hand with more than 3 trump cards
         final Hand hand = new Hand();
-        hand.addCard(new Card(trump, "9", 14));
-        hand.addCard(new Card(trump, "10", 15));
-        hand.addCard(new Card(trump, "Jack", 20));
-        hand.addCard(new Card("Spades", "9", 2));
-        hand.addCard(new Card("Spades", "10", 3));
+        hand.addCard(Card.of(trump, Rank.NINE));
+        hand.addCard(Card.of(trump, Rank.TEN));
+        hand.addCard(Card.of(trump, Rank.JACK));
+        hand.addCard(Card.of(offSuit, Rank.NINE));
+        hand.addCard(Card.of(offSuit, Rank.TEN));
 
         // set the hand for the current player
         game.getPlayers()[game.getCurrentPlayerTurn()].setHand(hand);
@@ -272,15 +263,16 @@ class GameTest {
         game.setGoneOnce(false);
         game.setDealer(2);
         game.setCurrentPlayerTurn(2);
-        final String trump = game.getKittyCard().getSuit();
+        final Suit trump = game.getKittyCard().getSuit();
+        final Suit offSuit = Suit.of((trump.ordinal() + 2) % 4);
 
         // create a hand with more than 2 trump cards
         final Hand hand = new Hand();
-        hand.addCard(new Card(trump, "9", 14));
-        hand.addCard(new Card(trump, "10", 15));
-        hand.addCard(new Card("blank", "Jack", 20));
-        hand.addCard(new Card("blank", "10", 3));
-        hand.addCard(new Card("blank", "Jack", 4));
+        hand.addCard(Card.of(trump, Rank.NINE));
+        hand.addCard(Card.of(trump, Rank.TEN));
+        hand.addCard(Card.of(offSuit, Rank.JACK));
+        hand.addCard(Card.of(offSuit, Rank.TEN));
+        hand.addCard(Card.of(offSuit.getSameColour(), Rank.JACK));
 
         // set the hand for the current player
         game.getPlayers()[game.getCurrentPlayerTurn()].setHand(hand);
@@ -300,18 +292,18 @@ class GameTest {
     void aiDecideCard() {
         // set up the test scenario where AI has a
         // higher trump card but has to follow suit
-        final String trump = game.getKittyCard().getSuit();
+        final Suit trump = Suit.SPADES;
+        game.setTrump(trump);
         game.setCurrentPlayerTurn(1);
 
-        // create a trick with a lead card and a higher card played by another player
+        // create a trick with a lead card played by another player
         final Trick trick = new Trick();
-        trick.setLeadCard(new Card("Hearts", "9", 8));
-        trick.addCardToTrick(new Card("blank", "10", 13), 1);
+        trick.addCardToTrick(Card.of(Suit.HEARTS, Rank.NINE), 0);
 
         // create a hand with a higher trump card
         final Hand hand = new Hand();
-        hand.addCard(new Card("Hearts", "10", 9));
-        hand.addCard(new Card(trump, "Queen", 16));
+        hand.addCard(Card.of(Suit.HEARTS, Rank.TEN));
+        hand.addCard(Card.of(trump, Rank.QUEEN));
 
         // set the trick and hand for the current player
         game.setTrick(trick);
@@ -321,7 +313,7 @@ class GameTest {
         final Card cardToPlay = game.aiDecideCard();
 
         // assert that the AI decided to follow suit
-        assertEquals("Hearts", cardToPlay.getSuit(), "AI followed suit.");
+        assertEquals(Suit.HEARTS, cardToPlay.getSuit(), "AI followed suit.");
     }
 
 
@@ -349,6 +341,10 @@ class GameTest {
 
         // assert that the kitty card is in the AI player's hand
         assertTrue(aiPlayerHandAfter.getCards().contains(game.getKittyCard()), "Kitty card is in the AI player's hand.");
+
+        // assert that the card thrown away is recorded and no longer held
+        assertNotNull(game.getDiscard(), "The discard is recorded.");
+        assertFalse(aiPlayerHandAfter.contains(game.getDiscard()), "The discard is not in the hand.");
     }
 
     /**
@@ -357,13 +353,12 @@ class GameTest {
      */
     @Test
     void awardTrickPoints() {
-        // set up the trick with cards
-        Card[] cardsPlayed = new Card[4];
-        cardsPlayed[0] = new Card("Hearts", "9", 14);
-        cardsPlayed[1] = new Card("Diamonds", "Ace", 18);
-        cardsPlayed[2] = new Card("Clubs", "10", 15);
-        cardsPlayed[3] = new Card("Spades", "King", 17);
-        game.getTrick().setCardsPlayed(cardsPlayed);
+        // set up the trick with cards, Diamonds is trump
+        game.setTrump(Suit.DIAMONDS);
+        game.getTrick().addCardToTrick(Card.of(Suit.HEARTS, Rank.NINE), 0);
+        game.getTrick().addCardToTrick(Card.of(Suit.DIAMONDS, Rank.ACE), 1);
+        game.getTrick().addCardToTrick(Card.of(Suit.CLUBS, Rank.TEN), 2);
+        game.getTrick().addCardToTrick(Card.of(Suit.SPADES, Rank.KING), 3);
 
         // call the awardTrickPoints() function
         final int playerWonTrick = game.awardTrickPoints();
@@ -382,10 +377,10 @@ class GameTest {
     void awardTrickPoints2() {
         // set up the trick with cards, where one card is null
         Card[] cardsPlayed = new Card[4];
-        cardsPlayed[0] = new Card("Hearts", "9", 14);
+        cardsPlayed[0] = Card.of(Suit.HEARTS, Rank.NINE);
         cardsPlayed[1] = null;
-        cardsPlayed[2] = new Card("Clubs", "10", 15);
-        cardsPlayed[3] = new Card("Spades", "King", 17);
+        cardsPlayed[2] = Card.of(Suit.CLUBS, Rank.TEN);
+        cardsPlayed[3] = Card.of(Suit.SPADES, Rank.KING);
         game.getTrick().setCardsPlayed(cardsPlayed);
 
         // call the awardTrickPoints() function, expecting a NullPointerException
@@ -442,4 +437,54 @@ class GameTest {
         assertEquals(1, winningTeam, "Team 1 won the hand.");
     }
 
+    /**
+     * This test checks that recordPlay tracks the played cards and marks
+     * a player who doesn't follow suit as void, and that newHand resets both.
+     */
+    @Test
+    void recordPlay() {
+        game.setTrump(Suit.SPADES);
+        final Card lead = Card.of(Suit.HEARTS, Rank.ACE);
+        final Card leftBower = Card.of(Suit.CLUBS, Rank.JACK);
+
+        game.recordPlay(lead, 0);
+        game.getTrick().addCardToTrick(lead, 0);
+        game.recordPlay(leftBower, 1);
+        game.getTrick().addCardToTrick(leftBower, 1);
+
+        assertEquals(HandMask.add(HandMask.of(lead), leftBower), game.getPlayedCards(), "Both cards are played.");
+        assertFalse(game.isVoid(0, Suit.HEARTS), "The leader is not void.");
+        assertTrue(game.isVoid(1, Suit.HEARTS), "Player 1 showed out of hearts.");
+        assertFalse(game.isVoid(1, Suit.CLUBS), "The left bower is trump, not clubs.");
+
+        game.newHand();
+
+        assertEquals(HandMask.EMPTY, game.getPlayedCards(), "No cards played in a new hand.");
+        assertFalse(game.isVoid(1, Suit.HEARTS), "Voids are reset in a new hand.");
+    }
+
+    /**
+     * Verify each version changes only when its part of the game changes.
+     */
+    @Test
+    void versions() {
+        final int kitty = game.getKittyVersion();
+        final int trump = game.getTrumpVersion();
+        final int scores = game.getScoresVersion();
+        final int tricksWon = game.getTricksWonVersion();
+
+        game.setTrump(game.getTrump());
+        game.setPlayerDecidedTrump(game.getPlayerDecidedTrump());
+        assertEquals(trump, game.getTrumpVersion(), "Setting the same trump changes nothing.");
+        assertEquals(kitty, game.getKittyVersion(), "Setting the same player changes nothing.");
+
+        game.setTrump(Suit.DIAMONDS);
+        game.setPlayerDecidedTrump(2);
+        game.scorePoints(1, 2);
+
+        assertNotEquals(trump, game.getTrumpVersion(), "Trump changed.");
+        assertNotEquals(kitty, game.getKittyVersion(), "Kitty is turned over once trump is decided.");
+        assertNotEquals(scores, game.getScoresVersion(), "Scores changed.");
+        assertEquals(tricksWon, game.getTricksWonVersion(), "Tricks won didn't change.");
+    }
 }
@@ -8,7 +8,9 @@ import javax.swing.*;
 import java.awt.*;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 class GameViewTest {
@@ -57,6 +59,22 @@ class GameViewTest {
     void displayTrumpMessage() {
     }
 
+    /**
+     * Verify the messages shown as notices name the right players.
+     */
+    @Test
+    void messages() {
+        assertEquals("Player 3 won the trick!", GameView.trickWinnerMessage(3));
+        assertEquals("Team 1 won the hand!", GameView.handWinnerMessage(1));
+        assertEquals("Game Over! Team 0 wins!!", GameView.winnerMessage(0));
+
+        final Game game = new Game(new SplittableRandom(5L));
+        game.setDealer(2);
+        assertEquals("Deal moves to player 2!", GameView.dealerMessage(GameSnapshot.of(game)));
+        game.setCurrentPlayerTurn(3);
+        assertEquals("Player 3 passed.", GameView.trumpMessage(GameSnapshot.of(game)));
+    }
+
     @Test
     void displayWinner() {
     }
@@ -0,0 +1,92 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the HandMask bitmask operations.
+ */
+class HandMaskTest {
+
+    /**
+     * Add and remove cards and verify the mask tracks them.
+     */
+    @Test
+    void addAndRemove() {
+        final Card ace = Card.of(Suit.HEARTS, Rank.ACE);
+        final Card nine = Card.of(Suit.CLUBS, Rank.NINE);
+
+        int mask = HandMask.add(HandMask.EMPTY, ace);
+        mask = HandMask.add(mask, nine);
+
+        assertEquals(2, HandMask.size(mask), "Mask holds two cards.");
+        assertTrue(HandMask.contains(mask, ace), "Mask holds the ace.");
+
+        mask = HandMask.remove(mask, ace);
+
+        assertFalse(HandMask.contains(mask, ace), "Ace was removed.");
+        assertSame(nine, HandMask.first(mask), "Nine is the only card left.");
+    }
+
+    /**
+     * Verify the left bower follows trump and not its printed suit.
+     */
+    @Test
+    void effectiveSuit() {
+        final Card leftBower = Card.of(Suit.DIAMONDS, Rank.JACK);
+
+        assertEquals(Suit.HEARTS, HandMask.effectiveSuit(leftBower, Suit.HEARTS), "Left bower is trump.");
+        assertEquals(Suit.DIAMONDS, HandMask.effectiveSuit(leftBower, Suit.CLUBS), "Jack keeps its suit.");
+        assertEquals(Suit.DIAMONDS, HandMask.effectiveSuit(leftBower, null), "Jack keeps its suit.");
+
+        // trump has 7 cards, the same colour suit has 5
+        assertEquals(7, HandMask.size(HandMask.suitMask(Suit.HEARTS, Suit.HEARTS)), "Trump has 7 cards.");
+        assertEquals(5, HandMask.size(HandMask.suitMask(Suit.DIAMONDS, Suit.HEARTS)), "Next suit has 5 cards.");
+        assertEquals(6, HandMask.size(HandMask.suitMask(Suit.CLUBS, Suit.HEARTS)), "Off suit has 6 cards.");
+    }
+
+    /**
+     * Verify a hand with only the left bower in the led suit's
+     * colour does not have to follow that suit.
+     */
+    @Test
+    void hasSuit() {
+        final int hand = HandMask.of(List.of(
+                Card.of(Suit.SPADES, Rank.JACK),
+                Card.of(Suit.HEARTS, Rank.NINE)));
+
+        assertFalse(HandMask.hasSuit(hand, Suit.SPADES, Suit.CLUBS), "Left bower is not a spade.");
+        assertTrue(HandMask.hasSuit(hand, Suit.CLUBS, Suit.CLUBS), "Left bower is a club.");
+        assertTrue(HandMask.hasSuit(hand, Suit.SPADES, Suit.HEARTS), "Jack is a spade without clubs trump.");
+    }
+
+    /**
+     * Verify legal moves follow the lead suit when possible.
+     */
+    @Test
+    void legalMoves() {
+        final Card heartNine = Card.of(Suit.HEARTS, Rank.NINE);
+        final Card heartKing = Card.of(Suit.HEARTS, Rank.KING);
+        final Card spadeAce = Card.of(Suit.SPADES, Rank.ACE);
+        final Card diamondJack = Card.of(Suit.DIAMONDS, Rank.JACK);
+        final int hand = HandMask.of(List.of(heartNine, heartKing, spadeAce, diamondJack));
+
+        // leading, every card is legal
+        assertEquals(hand, HandMask.legalMoves(hand, null, Suit.HEARTS), "Any card can be led.");
+
+        // hearts led with hearts trump, both hearts and the left bower must follow
+        assertEquals(HandMask.of(List.of(heartNine, heartKing, diamondJack)),
+                HandMask.legalMoves(hand, Card.of(Suit.HEARTS, Rank.ACE), Suit.HEARTS),
+                "Trump and the left bower follow trump.");
+
+        // clubs led, hand is void so anything may be played
+        assertEquals(hand, HandMask.legalMoves(hand, Card.of(Suit.CLUBS, Rank.ACE), Suit.HEARTS),
+                "Void hand can play any card.");
+
+        // left bower led counts as trump, so hearts must follow
+        assertEquals(HandMask.of(List.of(heartNine, heartKing)),
+                HandMask.legalMoves(HandMask.remove(hand, diamondJack), diamondJack, Suit.HEARTS),
+                "Left bower lead is followed by trump.");
+    }
+}
@@ -21,8 +21,8 @@ class HandTest {
     @Test
     void getCards() {
         // create some cards and add them to the hand
-        Card card1 = new Card("Hearts", "Ace", 11);
-        Card card2 = new Card("Spades", "King", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.SPADES, Rank.KING);
         hand.addCard(card1);
         hand.addCard(card2);
 
@@ -40,7 +40,7 @@ class HandTest {
     @Test
     void addCard() {
         // create a card to add
-        Card card = new Card("Spades", "Ace", 11);
+        Card card = Card.of(Suit.SPADES, Rank.ACE);
 
         // add the card to the hand
         hand.addCard(card);
@@ -58,8 +58,8 @@ class HandTest {
     @Test
     void removeCard() {
         // create two cards
-        Card card1 = new Card("Hearts", "Queen", 10);
-        Card card2 = new Card("Spades", "King", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.QUEEN);
+        Card card2 = Card.of(Suit.SPADES, Rank.KING);
 
         // add the cards to the hand
         hand.addCard(card1);
@@ -100,4 +100,55 @@ class HandTest {
         // verify that the cards in the hand are not in the deck
         assertFalse(deck.getCards().containsAll(cards));
     }
-}
\ No newline at end of file
+
+    /**
+     * Verify the hand mask tracks cards as they are added and removed.
+     */
+    @Test
+    void getMask() {
+        final Card card1 = Card.of(Suit.HEARTS, Rank.QUEEN);
+        final Card card2 = Card.of(Suit.SPADES, Rank.KING);
+
+        hand.addCard(card1);
+        hand.addCard(card2);
+        assertEquals(HandMask.of(List.of(card1, card2)), hand.getMask());
+
+        hand.removeCard(card1);
+        assertEquals(HandMask.of(card2), hand.getMask());
+        assertFalse(hand.contains(card1));
+        assertTrue(hand.contains(card2));
+    }
+
+    /**
+     * Verify only cards following the lead suit are legal when the hand has one.
+     */
+    @Test
+    void legalMoves() {
+        final Card card1 = Card.of(Suit.HEARTS, Rank.QUEEN);
+        final Card card2 = Card.of(Suit.SPADES, Rank.KING);
+        hand.addCard(card1);
+        hand.addCard(card2);
+
+        assertEquals(HandMask.of(card2), hand.legalMoves(Card.of(Suit.SPADES, Rank.NINE), Suit.HEARTS));
+        assertTrue(hand.hasSuit(Suit.HEARTS, Suit.CLUBS));
+        assertFalse(hand.hasSuit(Suit.DIAMONDS, Suit.CLUBS));
+    }
+
+    /**
+     * Verify the version changes when the cards change, and not otherwise.
+     */
+    @Test
+    void getVersion() {
+        final Card card = Card.of(Suit.CLUBS, Rank.QUEEN);
+        final int start = hand.getVersion();
+
+        hand.addCard(card);
+        final int added = hand.getVersion();
+        hand.removeCard(Card.of(Suit.CLUBS, Rank.KING));
+
+        assertNotEquals(start, added, "Adding a card changes the version.");
+        assertEquals(added, hand.getVersion(), "Removing a card that isn't held changes nothing.");
+        hand.removeCard(card);
+        assertNotEquals(added, hand.getVersion(), "Removing a card changes the version.");
+    }
+}
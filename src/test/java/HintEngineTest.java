@@ -0,0 +1,182 @@
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests working out hints for the user in the background.
+ */
+class HintEngineTest {
+
+    /**
+     * Hints shown, in the order they were shown.
+     */
+    private final BlockingQueue<String> shown = new LinkedBlockingQueue<>();
+    /**
+     * Number of times the hint was cleared.
+     */
+    private final AtomicInteger cleared = new AtomicInteger();
+    /**
+     * Whether a hint was shown off the Event Dispatch Thread.
+     */
+    private final AtomicBoolean offEdt = new AtomicBoolean();
+
+    /**
+     * Creates an engine with a small budget for tests that records what it shows.
+     *
+     * @return the engine
+     */
+    private HintEngine engine() {
+        return new HintEngine(hint -> {
+            // an assertion here would only reach the Event Dispatch Thread's handler
+            if (!SwingUtilities.isEventDispatchThread()) {
+                offEdt.set(true);
+            }
+            shown.add(hint);
+        }, cleared::incrementAndGet, 40, 40, Duration.ofSeconds(10), new SplittableRandom(3L));
+    }
+
+    /**
+     * Sets up the last two tricks of a hand with the user to lead and
+     * spades trump, where the user holds the right bower and the ace of hearts.
+     *
+     * @return the game
+     */
+    private static Game twoTricksLeft() {
+        final Game game = new Game(new SplittableRandom(1L));
+        final Card[][] cards = {
+                {Card.of(Suit.SPADES, Rank.JACK), Card.of(Suit.HEARTS, Rank.ACE)},
+                {Card.of(Suit.SPADES, Rank.NINE), Card.of(Suit.CLUBS, Rank.NINE)},
+                {Card.of(Suit.HEARTS, Rank.NINE), Card.of(Suit.DIAMONDS, Rank.TEN)},
+                {Card.of(Suit.SPADES, Rank.TEN), Card.of(Suit.DIAMONDS, Rank.NINE)},
+        };
+        final Hand[] hands = new Hand[4];
+        final Player[] players = new Player[4];
+        for (int i = 0; i < 4; i++) {
+            hands[i] = new Hand();
+            for (final Card card : cards[i]) {
+                hands[i].addCard(card);
+            }
+            players[i] = new Player(hands[i]);
+        }
+        game.setHands(hands);
+        game.setPlayers(players);
+        game.setTrump(Suit.SPADES);
+        game.setPlayerDecidedTrump(0);
+        game.setTricksWon(2, 1);
+        game.setCurrentPlayerTurn(0);
+        return game;
+    }
+
+    /**
+     * Sets up the first round of bidding with the turned up nine of spades,
+     * where the user sits left of the dealer and holds both bowers and the
+     * ace, king and queen of spades.
+     *
+     * @return the game
+     */
+    private static Game strongSpades() {
+        final Game game = new Game(new SplittableRandom(1L));
+        final Hand[] hands = new Hand[4];
+        for (int i = 0; i < 4; i++) {
+            hands[i] = new Hand();
+        }
+        hands[0].addCard(Card.of(Suit.SPADES, Rank.JACK));
+        hands[0].addCard(Card.of(Suit.CLUBS, Rank.JACK));
+        hands[0].addCard(Card.of(Suit.SPADES, Rank.ACE));
+        hands[0].addCard(Card.of(Suit.SPADES, Rank.KING));
+        hands[0].addCard(Card.of(Suit.SPADES, Rank.QUEEN));
+        game.setHands(hands);
+        game.setKittyCard(Card.of(Suit.SPADES, Rank.NINE));
+        game.setDealer(3);
+        game.setGoneOnce(false);
+        return game;
+    }
+
+    /**
+     * Verify the best card is shown once it is worked out.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void hintCard() throws InterruptedException {
+        engine().hintCard(twoTricksLeft());
+
+        assertEquals(HintEngine.cardMessage(Card.of(Suit.SPADES, Rank.JACK)), shown.poll(30, TimeUnit.SECONDS),
+                "Right bower is hinted.");
+        assertFalse(offEdt.get(), "Hints are shown on the Event Dispatch Thread.");
+    }
+
+    /**
+     * Verify the best bid is shown once it is worked out.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void hintBid() throws InterruptedException {
+        engine().hintBid(strongSpades());
+
+        assertEquals("Hint: order up the 9 of Spades.", shown.poll(30, TimeUnit.SECONDS),
+                "Ordering up is hinted.");
+        assertFalse(offEdt.get(), "Hints are shown on the Event Dispatch Thread.");
+    }
+
+    /**
+     * Verify a hint cancelled while it is being worked out is never
+     * shown, and the hint is cleared.
+     *
+     * @throws InterruptedException if the test is interrupted
+     * @throws InvocationTargetException if waiting for the window fails
+     */
+    @Test
+    void cancelHint() throws InterruptedException, InvocationTargetException {
+        final BlockingQueue<String> shownCancelled = new LinkedBlockingQueue<>();
+        final HintEngine cancelled = new HintEngine(shownCancelled::add, cleared::incrementAndGet,
+                Integer.MAX_VALUE, Integer.MAX_VALUE, Duration.ofMinutes(10), new SplittableRandom(3L));
+        cancelled.hintCard(twoTricksLeft());
+        // let the search get under way before it is cancelled
+        Thread.sleep(100);
+        cancelled.cancel();
+
+        // hints run one at a time, so this one is shown after the cancelled one has stopped
+        engine().hintCard(twoTricksLeft());
+        assertNotNull(shown.poll(30, TimeUnit.SECONDS), "The next hint is shown.");
+        // anything the cancelled hint sent to the window has been run by now
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertTrue(shownCancelled.isEmpty(), "A cancelled hint is not shown.");
+        assertEquals(1, cleared.get(), "The hint is cleared.");
+    }
+
+    /**
+     * Verify bids are hinted from the expected score of each suit.
+     */
+    @Test
+    void bidMessage() {
+        final Card kitty = Card.of(Suit.HEARTS, Rank.NINE);
+        final double[] expected = new double[BiddingTable.BIDS];
+        expected[Suit.HEARTS.ordinal()] = 0.5;
+        expected[Suit.SPADES.ordinal()] = 0.25;
+        expected[Suit.CLUBS.ordinal()] = 1.0;
+
+        assertEquals("Hint: order up the 9 of Hearts.", HintEngine.bidMessage(expected, kitty, false, false),
+                "Ordering up is hinted.");
+        assertEquals("Hint: pick up the 9 of Hearts.", HintEngine.bidMessage(expected, kitty, true, false),
+                "The dealer picks up.");
+        assertEquals("Hint: name Clubs trump.", HintEngine.bidMessage(expected, kitty, false, true),
+                "The best other suit is named.");
+
+        final double[] losing = {-1, -0.5, -2, -1};
+        assertEquals("Hint: pass.", HintEngine.bidMessage(losing, kitty, false, false), "Passing is hinted.");
+        assertEquals("Hint: pass.", HintEngine.bidMessage(losing, kitty, false, true), "Passing is hinted.");
+    }
+}
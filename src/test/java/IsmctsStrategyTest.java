@@ -0,0 +1,165 @@
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the Information Set Monte Carlo Tree Search strategy.
+ */
+class IsmctsStrategyTest {
+
+    /**
+     * Creates a strategy limited by iterations instead of time, so results don't depend on the machine.
+     *
+     * @param iterations iterations for each decision
+     * @return the strategy
+     */
+    private static IsmctsStrategy strategy(final int iterations) {
+        return new IsmctsStrategy(Duration.ofSeconds(30), iterations, 1 << 14, new SplittableRandom(8L));
+    }
+
+    /**
+     * Gives each player a hand of cards.
+     *
+     * @param game the game to set the hands on
+     * @param cards the cards for each player
+     */
+    private static void setHands(final Game game, final Card[]... cards) {
+        final Hand[] hands = new Hand[4];
+        final Player[] players = new Player[4];
+        for (int i = 0; i < 4; i++) {
+            hands[i] = new Hand();
+            for (final Card card : cards[i]) {
+                hands[i].addCard(card);
+            }
+            players[i] = new Player(hands[i]);
+        }
+        game.setHands(hands);
+        game.setPlayers(players);
+    }
+
+    /**
+     * Verify the strategy orders up with five trump in hand.
+     */
+    @Test
+    void ordersUp() {
+        final Game game = new Game(new SplittableRandom(2L));
+        setHands(game,
+                new Card[] {Card.of(Suit.HEARTS, Rank.JACK), Card.of(Suit.DIAMONDS, Rank.JACK),
+                        Card.of(Suit.HEARTS, Rank.ACE), Card.of(Suit.HEARTS, Rank.KING), Card.of(Suit.HEARTS, Rank.QUEEN)},
+                new Card[] {Card.of(Suit.SPADES, Rank.NINE), Card.of(Suit.SPADES, Rank.TEN),
+                        Card.of(Suit.SPADES, Rank.JACK), Card.of(Suit.SPADES, Rank.QUEEN), Card.of(Suit.SPADES, Rank.KING)},
+                new Card[] {Card.of(Suit.CLUBS, Rank.NINE), Card.of(Suit.CLUBS, Rank.TEN),
+                        Card.of(Suit.CLUBS, Rank.JACK), Card.of(Suit.CLUBS, Rank.QUEEN), Card.of(Suit.CLUBS, Rank.KING)},
+                new Card[] {Card.of(Suit.DIAMONDS, Rank.NINE), Card.of(Suit.DIAMONDS, Rank.TEN),
+                        Card.of(Suit.DIAMONDS, Rank.QUEEN), Card.of(Suit.DIAMONDS, Rank.KING), Card.of(Suit.DIAMONDS, Rank.ACE)});
+        game.setKittyCard(Card.of(Suit.HEARTS, Rank.NINE));
+        game.setDealer(3);
+        game.setCurrentPlayerTurn(0);
+
+        strategy(2000).decideTrump(game);
+
+        assertTrue(game.isOrderedUp(), "The turned up card is ordered up.");
+        assertEquals(Suit.HEARTS, game.getTrump(), "Hearts is trump.");
+        assertEquals(0, game.getPlayerDecidedTrump(), "Player 0 decided trump.");
+    }
+
+    /**
+     * Verify the dealer picks up and throws away a low singleton instead of trump.
+     */
+    @Test
+    void discardsWeakestCard() {
+        final Game game = new Game(new SplittableRandom(2L));
+        final Card[] dealerHand = {Card.of(Suit.HEARTS, Rank.JACK), Card.of(Suit.HEARTS, Rank.ACE),
+                Card.of(Suit.HEARTS, Rank.KING), Card.of(Suit.SPADES, Rank.ACE), Card.of(Suit.CLUBS, Rank.NINE)};
+        setHands(game,
+                new Card[] {Card.of(Suit.SPADES, Rank.NINE), Card.of(Suit.SPADES, Rank.TEN),
+                        Card.of(Suit.SPADES, Rank.JACK), Card.of(Suit.SPADES, Rank.QUEEN), Card.of(Suit.SPADES, Rank.KING)},
+                new Card[] {Card.of(Suit.CLUBS, Rank.TEN), Card.of(Suit.CLUBS, Rank.JACK),
+                        Card.of(Suit.CLUBS, Rank.QUEEN), Card.of(Suit.CLUBS, Rank.KING), Card.of(Suit.CLUBS, Rank.ACE)},
+                new Card[] {Card.of(Suit.DIAMONDS, Rank.NINE), Card.of(Suit.DIAMONDS, Rank.TEN),
+                        Card.of(Suit.DIAMONDS, Rank.QUEEN), Card.of(Suit.DIAMONDS, Rank.KING), Card.of(Suit.DIAMONDS, Rank.ACE)},
+                dealerHand);
+        game.setKittyCard(Card.of(Suit.HEARTS, Rank.TEN));
+        game.setDealer(3);
+        game.setTrump(Suit.HEARTS);
+        game.setPlayerDecidedTrump(3);
+        game.setPickedUp(true);
+
+        strategy(3000).decideDiscard(game);
+
+        final Hand hand = game.getHands()[3];
+        assertEquals(5, hand.getCards().size(), "Dealer still has five cards.");
+        assertTrue(hand.contains(Card.of(Suit.HEARTS, Rank.TEN)), "Turned up card is picked up.");
+        assertFalse(hand.contains(Card.of(Suit.CLUBS, Rank.NINE)), "Nine of clubs is discarded.");
+    }
+
+    /**
+     * Verify the strategy draws out trump with the right bower before
+     * leading an ace the other team might trump, when both of the last
+     * two tricks are needed to make the bid.
+     */
+    @Test
+    void leadsRightBower() {
+        final Game game = new Game(new SplittableRandom(1L));
+        setHands(game,
+                new Card[] {Card.of(Suit.SPADES, Rank.JACK), Card.of(Suit.HEARTS, Rank.ACE)},
+                new Card[] {Card.of(Suit.SPADES, Rank.NINE), Card.of(Suit.CLUBS, Rank.NINE)},
+                new Card[] {Card.of(Suit.HEARTS, Rank.NINE), Card.of(Suit.DIAMONDS, Rank.TEN)},
+                new Card[] {Card.of(Suit.SPADES, Rank.TEN), Card.of(Suit.DIAMONDS, Rank.NINE)});
+        game.setTrump(Suit.SPADES);
+        game.setPlayerDecidedTrump(0);
+        game.setTricksWon(1, 2);
+        game.setCurrentPlayerTurn(0);
+
+        final IsmctsStrategy strategy = strategy(3000);
+        assertSame(Card.of(Suit.SPADES, Rank.JACK), strategy.decideCard(game), "Right bower is led.");
+        assertEquals(3000, strategy.getIterations(), "Every iteration was run.");
+    }
+
+    /**
+     * Verify the search stops at the time budget.
+     */
+    @Test
+    void stopsAtTimeBudget() {
+        final Game game = new Game(new SplittableRandom(4L));
+        final IsmctsStrategy strategy = new IsmctsStrategy(Duration.ofMillis(20), Integer.MAX_VALUE, 1 << 12,
+                new SplittableRandom(1L));
+
+        final long start = System.nanoTime();
+        strategy.decideTrump(game);
+        final long elapsed = System.nanoTime() - start;
+
+        assertTrue(strategy.getIterations() > 0, "Some iterations were run.");
+        assertTrue(elapsed < Duration.ofSeconds(2).toNanos(), "Search stopped near the deadline.");
+    }
+
+    /**
+     * Play a full game with the strategy in two seats and verify
+     * every card it plays is legal.
+     */
+    @Test
+    void playGame() {
+        final Game game = new Game(new SplittableRandom(21L));
+        final IsmctsStrategy ismcts = new IsmctsStrategy(Duration.ofSeconds(30), 200, 1 << 12,
+                new SplittableRandom(6L)) {
+            @Override
+            public Card decideCard(final Game game) {
+                final Hand hand = game.getHands()[game.getCurrentPlayerTurn()];
+                final int legalMoves = hand.legalMoves(game.getTrick().getLeadCard(), game.getTrump());
+
+                final Card card = super.decideCard(game);
+                assertTrue(HandMask.contains(legalMoves, card), "Card played is legal.");
+                return card;
+            }
+        };
+        final GameEngine engine = new GameEngine(game, new GameListener() { },
+                ismcts, new GreedyStrategy(), ismcts, new GreedyStrategy());
+
+        final int winningTeam = engine.playGame();
+
+        assertTrue(game.getScores()[winningTeam] >= 10, "Winning team has at least 10 points.");
+    }
+}
@@ -0,0 +1,154 @@
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the Perfect-Information Monte Carlo strategy.
+ */
+class PimcStrategyTest {
+
+    /**
+     * Creates a strategy with a small budget for tests.
+     *
+     * @param seed seed for dealing samples
+     * @return the strategy
+     */
+    private static PimcStrategy strategy(final long seed) {
+        return new PimcStrategy(40, Duration.ofSeconds(10), 2, new SplittableRandom(seed));
+    }
+
+    /**
+     * Sets up the last two tricks of a hand with seat 0 to lead and
+     * spades trump, where seat 0 holds the right bower and the ace of hearts.
+     *
+     * @return the game
+     */
+    private static Game twoTricksLeft() {
+        final Game game = new Game(new SplittableRandom(1L));
+        final Card[][] cards = {
+                {Card.of(Suit.SPADES, Rank.JACK), Card.of(Suit.HEARTS, Rank.ACE)},
+                {Card.of(Suit.SPADES, Rank.NINE), Card.of(Suit.CLUBS, Rank.NINE)},
+                {Card.of(Suit.HEARTS, Rank.NINE), Card.of(Suit.DIAMONDS, Rank.TEN)},
+                {Card.of(Suit.SPADES, Rank.TEN), Card.of(Suit.DIAMONDS, Rank.NINE)},
+        };
+        final Hand[] hands = new Hand[4];
+        final Player[] players = new Player[4];
+        for (int i = 0; i < 4; i++) {
+            hands[i] = new Hand();
+            for (final Card card : cards[i]) {
+                hands[i].addCard(card);
+            }
+            players[i] = new Player(hands[i]);
+        }
+        game.setHands(hands);
+        game.setPlayers(players);
+        game.setTrump(Suit.SPADES);
+        game.setPlayerDecidedTrump(0);
+        game.setTricksWon(2, 1);
+        game.setCurrentPlayerTurn(0);
+        return game;
+    }
+
+    /**
+     * Verify the strategy draws out trump with the right bower before
+     * leading an ace the other team might trump.
+     */
+    @Test
+    void leadsRightBower() {
+        final Game game = twoTricksLeft();
+
+        assertSame(Card.of(Suit.SPADES, Rank.JACK), strategy(3L).chooseCard(game), "Right bower is led.");
+    }
+
+    /**
+     * Verify deciding a card removes it from the player's hand.
+     */
+    @Test
+    void decideCard() {
+        final Game game = twoTricksLeft();
+
+        final Card card = strategy(3L).decideCard(game);
+
+        assertFalse(game.getHands()[0].contains(card), "Card is removed from the hand.");
+        assertEquals(1, game.getHands()[0].getCards().size(), "One card is left.");
+    }
+
+    /**
+     * Verify the only legal card is played without sampling.
+     */
+    @Test
+    void followsSuit() {
+        final Game game = twoTricksLeft();
+        game.setCurrentPlayerTurn(1);
+        final Card lead = Card.of(Suit.CLUBS, Rank.ACE);
+        game.recordPlay(lead, 0);
+        game.getTrick().addCardToTrick(lead, 0);
+
+        assertSame(Card.of(Suit.CLUBS, Rank.NINE), strategy(3L).chooseCard(game), "Seat 1 follows suit.");
+    }
+
+    /**
+     * Verify cards already played are never chosen, even while they are
+     * still held, as the user's cards are.
+     */
+    @Test
+    void skipsPlayedCards() {
+        final Game game = twoTricksLeft();
+        final Card played = Card.of(Suit.SPADES, Rank.JACK);
+        game.getHands()[0].addCard(Card.of(Suit.HEARTS, Rank.TEN));
+        game.recordPlay(played, 0);
+
+        final Card card = strategy(3L).chooseCard(game);
+
+        assertNotSame(played, card, "The played card is not chosen again.");
+        assertEquals(Suit.HEARTS, card.getSuit(), "One of the cards left is chosen.");
+    }
+
+    /**
+     * Verify a cancelled search stops after its first deal and still
+     * chooses a legal card.
+     */
+    @Test
+    void cancelSearch() {
+        final Game game = twoTricksLeft();
+        final PimcStrategy pimc = new PimcStrategy(Integer.MAX_VALUE, Duration.ofMinutes(10), 1,
+                new SplittableRandom(3L));
+        final PimcStrategy.Search search = pimc.prepareSearch(game);
+
+        search.cancel();
+        final Card card = assertTimeoutPreemptively(Duration.ofSeconds(10), search::run,
+                "A cancelled search stops.");
+
+        assertTrue(search.isCancelled(), "The search is cancelled.");
+        assertTrue(game.getHands()[0].contains(card), "The card is from the player's hand.");
+    }
+
+    /**
+     * Play a full game with the strategy against the original AI and
+     * verify every card it plays is legal.
+     */
+    @Test
+    void playGame() {
+        final Game game = new Game(new SplittableRandom(13L));
+        final PimcStrategy pimc = new PimcStrategy(10, Duration.ofSeconds(10), 2, new SplittableRandom(4L)) {
+            @Override
+            public Card decideCard(final Game game) {
+                final Hand hand = game.getHands()[game.getCurrentPlayerTurn()];
+                final int legalMoves = hand.legalMoves(game.getTrick().getLeadCard(), game.getTrump());
+
+                final Card card = super.decideCard(game);
+                assertTrue(HandMask.contains(legalMoves, card), "Card played is legal.");
+                return card;
+            }
+        };
+        final GameEngine engine = new GameEngine(game, new GameListener() { },
+                pimc, new GreedyStrategy(), pimc, new GreedyStrategy());
+
+        final int winningTeam = engine.playGame();
+
+        assertTrue(game.getScores()[winningTeam] >= 10, "Winning team has at least 10 points.");
+    }
+}
@@ -13,9 +13,9 @@ class PlayerTest {
         // create a hand object
         Hand hand = new Hand();
         // add cards to the hand
-        Card card1 = new Card("Hearts", "Ace", 11);
-        Card card2 = new Card("Spades", "King", 10);
-        Card card3 = new Card("Diamonds", "Queen", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.SPADES, Rank.KING);
+        Card card3 = Card.of(Suit.DIAMONDS, Rank.QUEEN);
         hand.addCard(card1);
         hand.addCard(card2);
         hand.addCard(card3);
@@ -35,9 +35,9 @@ class PlayerTest {
         // create a hand object
         Hand hand1 = new Hand();
         // add cards to the hand
-        Card card1 = new Card("Hearts", "Ace", 11);
-        Card card2 = new Card("Spades", "King", 10);
-        Card card3 = new Card("Diamonds", "Queen", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.SPADES, Rank.KING);
+        Card card3 = Card.of(Suit.DIAMONDS, Rank.QUEEN);
         hand1.addCard(card1);
         hand1.addCard(card2);
         hand1.addCard(card3);
@@ -45,8 +45,8 @@ class PlayerTest {
         // create another hand object
         Hand hand2 = new Hand();
         // add cards to the new hand
-        Card card4 = new Card("Clubs", "Jack", 10);
-        Card card5 = new Card("Spades", "Ten", 10);
+        Card card4 = Card.of(Suit.CLUBS, Rank.JACK);
+        Card card5 = Card.of(Suit.SPADES, Rank.TEN);
         hand2.addCard(card4);
         hand2.addCard(card5);
 
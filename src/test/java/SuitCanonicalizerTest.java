@@ -0,0 +1,90 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the SuitCanonicalizer permutations and canonical forms.
+ */
+class SuitCanonicalizerTest {
+
+    /**
+     * Verify every permutation keeps colours together and they are all different.
+     */
+    @Test
+    void permutations() {
+        final Set<String> seen = new HashSet<>();
+        for (int permutation = 0; permutation < SuitCanonicalizer.PERMUTATIONS; permutation++) {
+            final StringBuilder suits = new StringBuilder();
+            for (final Suit suit : Suit.values()) {
+                final Suit renamed = Suit.of(SuitCanonicalizer.permuteSuit(suit.ordinal(), permutation));
+                final Suit renamedPartner = Suit.of(SuitCanonicalizer.permuteSuit(
+                        suit.getSameColour().ordinal(), permutation));
+                assertSame(renamed.getSameColour(), renamedPartner, "Colours stay together.");
+                suits.append(renamed.ordinal());
+            }
+            assertTrue(seen.add(suits.toString()), "Each permutation is different.");
+        }
+        assertEquals(HandMask.NO_TRUMP, SuitCanonicalizer.permuteSuit(HandMask.NO_TRUMP, 5), "No trump stays.");
+    }
+
+    /**
+     * Verify renaming a mask and renaming it back gives the same cards.
+     */
+    @Test
+    void inverse() {
+        final int hand = HandMask.of(List.of(Card.of(Suit.HEARTS, Rank.JACK),
+                Card.of(Suit.DIAMONDS, Rank.NINE), Card.of(Suit.CLUBS, Rank.ACE), Card.of(Suit.SPADES, Rank.TEN)));
+        for (int permutation = 0; permutation < SuitCanonicalizer.PERMUTATIONS; permutation++) {
+            final int renamed = SuitCanonicalizer.permute(hand, permutation);
+            assertEquals(4, Integer.bitCount(renamed), "No cards are lost.");
+            assertEquals(hand, SuitCanonicalizer.permute(renamed, SuitCanonicalizer.inverse(permutation)),
+                    "Inverse renames the cards back.");
+            assertEquals(SuitCanonicalizer.permuteCard(Card.of(Suit.HEARTS, Rank.JACK).getIndex(), permutation),
+                    Integer.numberOfTrailingZeros(SuitCanonicalizer.permute(
+                            HandMask.of(Card.of(Suit.HEARTS, Rank.JACK)), permutation)), "Card and mask agree.");
+        }
+    }
+
+    /**
+     * Verify hands that differ only by suit names have the same canonical form.
+     */
+    @Test
+    void canonicalForm() {
+        final int hearts = HandMask.of(List.of(Card.of(Suit.HEARTS, Rank.JACK),
+                Card.of(Suit.HEARTS, Rank.ACE), Card.of(Suit.DIAMONDS, Rank.JACK), Card.of(Suit.CLUBS, Rank.KING)));
+        final int spades = HandMask.of(List.of(Card.of(Suit.SPADES, Rank.JACK),
+                Card.of(Suit.SPADES, Rank.ACE), Card.of(Suit.CLUBS, Rank.JACK), Card.of(Suit.HEARTS, Rank.KING)));
+
+        final int p1 = SuitCanonicalizer.canonicalPermutation(HandMask.NO_TRUMP, hearts);
+        final int p2 = SuitCanonicalizer.canonicalPermutation(HandMask.NO_TRUMP, spades);
+        assertEquals(SuitCanonicalizer.permute(hearts, p1), SuitCanonicalizer.permute(spades, p2),
+                "Same hand with other suit names.");
+    }
+
+    /**
+     * Verify only the permutations that keep trump in place are used once trump is known.
+     */
+    @Test
+    void canonicalKeepsTrump() {
+        final int trump = Suit.SPADES.ordinal();
+        final int spadesAndDiamonds = HandMask.of(List.of(Card.of(Suit.SPADES, Rank.ACE),
+                Card.of(Suit.DIAMONDS, Rank.ACE)));
+        final int spadesAndHearts = HandMask.of(List.of(Card.of(Suit.SPADES, Rank.ACE),
+                Card.of(Suit.HEARTS, Rank.ACE)));
+        final int clubsAndHearts = HandMask.of(List.of(Card.of(Suit.CLUBS, Rank.ACE),
+                Card.of(Suit.HEARTS, Rank.ACE)));
+
+        final int p1 = SuitCanonicalizer.canonicalPermutation(trump, spadesAndDiamonds);
+        final int p2 = SuitCanonicalizer.canonicalPermutation(trump, spadesAndHearts);
+        final int p3 = SuitCanonicalizer.canonicalPermutation(trump, clubsAndHearts);
+        assertEquals(trump, SuitCanonicalizer.permuteSuit(trump, p1), "Trump stays in place.");
+        assertEquals(SuitCanonicalizer.permute(spadesAndDiamonds, p1), SuitCanonicalizer.permute(spadesAndHearts, p2),
+                "Red suits are interchangeable with black trump.");
+        assertNotEquals(SuitCanonicalizer.permute(spadesAndHearts, p2), SuitCanonicalizer.permute(clubsAndHearts, p3),
+                "Trump and the left bower suit are not interchangeable.");
+    }
+}
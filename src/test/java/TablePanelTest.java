@@ -0,0 +1,720 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the table panel without a screen.
+ */
+class TablePanelTest {
+
+    /**
+     * Time the table's clock stands still at, in nanoseconds.
+     */
+    private static final long START = 1_000_000_000L;
+
+    /**
+     * Table being tested.
+     */
+    private TablePanel table;
+
+    /**
+     * The user's hand for each test.
+     */
+    private final Card[] hand = {
+            Card.of(Suit.HEARTS, Rank.ACE),
+            Card.of(Suit.HEARTS, Rank.JACK),
+            Card.of(Suit.CLUBS, Rank.NINE),
+            Card.of(Suit.SPADES, Rank.KING),
+            Card.of(Suit.DIAMONDS, Rank.TEN)
+    };
+
+    /**
+     * Make a table at its preferred size with the user's hand dealt. Its
+     * clock stands still, so only the tests move the cards.
+     */
+    @BeforeEach
+    void setup() {
+        table = new TablePanel(CardAtlas.getDefault());
+        table.setClock(() -> START);
+        table.setSize(table.getPreferredSize());
+        table.setUserCards(hand);
+    }
+
+    /**
+     * Runs part of a test on the Event Dispatch Thread, where the table's
+     * timers run, so they can't move the cards at the same time.
+     *
+     * @param test the part of the test
+     * @throws InterruptedException if the test is interrupted
+     */
+    private static void onEdt(final Runnable test) throws InterruptedException {
+        try {
+            SwingUtilities.invokeAndWait(test);
+        } catch (final InvocationTargetException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Verify clicking finds the user's card only when it can be played.
+     */
+    @Test
+    void userSlotAt() {
+        final int x = table.getWidth() / 2;
+        final int y = table.getHeight() - 20;
+
+        assertEquals(-1, table.userSlotAt(x, y), "Cards can't be played before they are enabled.");
+        table.setUserCardsEnabled(true);
+        assertEquals(2, table.userSlotAt(x, y), "The middle card is under the middle of the bottom edge.");
+        table.setUserCardPlayed(2);
+        assertEquals(-1, table.userSlotAt(x, y), "A played card can't be played again.");
+        assertEquals(-1, table.userSlotAt(x, table.getHeight() / 2), "The trick isn't the user's hand.");
+    }
+
+    /**
+     * Verify the trick is drawn in the middle of the table.
+     */
+    @Test
+    void paintTrick() {
+        final BufferedImage empty = paint();
+        table.setTrick(Card.of(Suit.HEARTS, Rank.ACE), null, null, null);
+        final BufferedImage played = paint();
+
+        final int x = table.getWidth() / 2;
+        final int y = table.getHeight() / 2 + CardSize.NORMAL.getHeight() / 2;
+        assertNotEquals(empty.getRGB(x, y), played.getRGB(x, y), "The played card is drawn.");
+        assertEquals(empty.getRGB(2, 2), played.getRGB(2, 2), "The corner is still the table.");
+    }
+
+    /**
+     * Verify placeholders are drawn until the card images have loaded.
+     */
+    @Test
+    void paintPlaceholders() {
+        final BufferedImage loaded = paint();
+        table.setAtlas(null);
+        final BufferedImage loading = paint();
+        final int x = table.getWidth() / 2;
+        final int y = table.getHeight() / 2 + CardSize.NORMAL.getHeight() / 2;
+
+        assertNotEquals(loaded.getRGB(x, y), loading.getRGB(x, y), "A placeholder is drawn instead of the card.");
+        assertNotEquals(loading.getRGB(2, 2), loading.getRGB(x, y), "The placeholder stands out from the table.");
+    }
+
+    /**
+     * Verify the table is drawn at a display scale the same as it is unscaled, at twice the pixels.
+     */
+    @Test
+    void paintScaled() {
+        final BufferedImage unscaled = paint();
+        final BufferedImage image = new BufferedImage(2 * table.getWidth(), 2 * table.getHeight(),
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.scale(2, 2);
+        graphics.setClip(0, 0, table.getWidth(), table.getHeight());
+        table.paintTable(graphics);
+        graphics.dispose();
+
+        final int x = table.getWidth() / 2;
+        final int y = table.getHeight() - 20;
+        assertEquals(unscaled.getRGB(2, 2), image.getRGB(4, 4), "The table is the same colour.");
+        assertNotEquals(image.getRGB(4, 4), image.getRGB(2 * x, 2 * y), "The user's card is drawn.");
+    }
+
+    /**
+     * Verify a played card slides into the trick and lands in its slot.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void animateSlide() throws InterruptedException {
+        onEdt(() -> {
+            final BufferedImage empty = paint();
+            table.setAnimated(true);
+            table.setTrick(null, Card.of(Suit.SPADES, Rank.ACE), null, null);
+
+            final int x = table.getWidth() / 2 - CardSize.NORMAL.getWidth();
+            final int y = table.getHeight() / 2;
+            assertTrue(table.isAnimating(), "The card is moving.");
+            assertEquals(empty.getRGB(x, y), paint().getRGB(x, y), "The card hasn't reached its slot.");
+
+            table.advanceAnimations(START + 1_000_000_000L);
+            assertFalse(table.isAnimating(), "The card has stopped.");
+            assertNotEquals(empty.getRGB(x, y), paint().getRGB(x, y), "The card is in its slot.");
+        });
+    }
+
+    /**
+     * Verify the trick is swept off the table to its winner.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void animateSweep() throws InterruptedException {
+        onEdt(() -> {
+            final BufferedImage empty = paint();
+            table.setTrick(Card.of(Suit.HEARTS, Rank.ACE), null, null, null);
+            table.setAnimated(true);
+            table.sweepTrick(2);
+
+            final int x = table.getWidth() / 2;
+            final int y = table.getHeight() / 2 + CardSize.NORMAL.getHeight() / 2;
+            assertTrue(table.isAnimating(), "The trick is being swept off.");
+            table.advanceAnimations(START + 1_000_000_000L);
+            assertFalse(table.isAnimating(), "The sweep has finished.");
+            assertEquals(empty.getRGB(x, y), paint().getRGB(x, y), "The trick is empty.");
+            assertEquals(empty.getRGB(table.getWidth() / 2, 20), paint().getRGB(table.getWidth() / 2, 20),
+                    "Nothing is left where the card went.");
+        });
+    }
+
+    /**
+     * Verify moving the cards doesn't allocate anything once it is running.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void animationFramesDontAllocate() throws InterruptedException {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        onEdt(() -> {
+            table.setAnimated(true);
+            table.setTrick(Card.of(Suit.HEARTS, Rank.ACE), Card.of(Suit.SPADES, Rank.ACE),
+                    Card.of(Suit.CLUBS, Rank.ACE), Card.of(Suit.DIAMONDS, Rank.ACE));
+            for (int frame = 0; frame < 10_000; frame++) {
+                table.advanceAnimations(START + frame * 1_000L);
+            }
+
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            for (int frame = 0; frame < 10_000; frame++) {
+                table.advanceAnimations(START + 10_000_000L + frame * 1_000L);
+            }
+            final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            assertTrue(table.isAnimating(), "The cards were moving the whole time.");
+            assertTrue(allocated < 1024, "Frames allocate nothing, but " + allocated + " bytes were allocated.");
+            table.setAnimated(false);
+        });
+    }
+
+    /**
+     * Verify drawing the table while the cards move doesn't allocate anything.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void paintingFramesDontAllocate() throws InterruptedException {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final CardAtlas sprites = CardAtlas.getDefault();
+        onEdt(() -> {
+            // Java2D's own scratch objects come and go with the JIT, so only the table's code is measured
+            final CountingGraphics graphics = new CountingGraphics(table.getWidth(), table.getHeight());
+            table.setAnimated(true);
+            table.setTrick(Card.of(Suit.HEARTS, Rank.ACE), Card.of(Suit.SPADES, Rank.ACE),
+                    Card.of(Suit.CLUBS, Rank.ACE), Card.of(Suit.DIAMONDS, Rank.ACE));
+            for (int frame = 0; frame < 1_000; frame++) {
+                table.advanceAnimations(START + frame * 1_000L);
+                table.paintTable(graphics, sprites);
+            }
+
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            for (int frame = 0; frame < 1_000; frame++) {
+                table.advanceAnimations(START + 1_000_000L + frame * 1_000L);
+                table.paintTable(graphics, sprites);
+            }
+            final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            assertTrue(table.isAnimating(), "The cards were moving the whole time.");
+            assertTrue(graphics.getCardsDrawn() > 0, "Cards were drawn.");
+            assertTrue(allocated < 1024, "Frames allocate nothing, but " + allocated + " bytes were allocated.");
+            table.setAnimated(false);
+        });
+    }
+
+    /**
+     * Verify a notice is drawn over the middle of the table until it is dismissed.
+     */
+    @Test
+    void paintNotice() {
+        final BufferedImage before = paint();
+        final AtomicInteger done = new AtomicInteger();
+        table.showNotice("Player 1 won the trick!", 0, done::incrementAndGet);
+        final BufferedImage shown = paint();
+
+        final int x = table.getWidth() / 2;
+        final int y = table.getHeight() / 2;
+        assertTrue(table.isNoticeShown(), "The notice is shown.");
+        assertNotEquals(before.getRGB(x, y), shown.getRGB(x, y), "The notice is drawn over the trick.");
+        assertEquals(before.getRGB(2, 2), shown.getRGB(2, 2), "The corner is still the table.");
+        assertEquals(0, done.get(), "A notice with no time stays until it is dismissed.");
+
+        table.dismissNotice();
+        table.dismissNotice();
+        assertFalse(table.isNoticeShown(), "The notice is gone.");
+        assertEquals(1, done.get(), "What was waiting is called once.");
+        assertEquals(before.getRGB(x, y), paint().getRGB(x, y), "The trick is drawn again.");
+    }
+
+    /**
+     * Verify a new notice takes the place of the one shown, letting what waited on it go on.
+     */
+    @Test
+    void replaceNotice() {
+        final AtomicInteger first = new AtomicInteger();
+        final AtomicInteger second = new AtomicInteger();
+        table.showNotice("Player 1 passed.", 0, first::incrementAndGet);
+        table.showNotice("Player 2 passed.", 0, second::incrementAndGet);
+
+        assertEquals(1, first.get(), "The first notice went away.");
+        assertEquals(0, second.get(), "The second notice is shown.");
+    }
+
+    /**
+     * Verify a timed notice goes away by itself on the Event Dispatch Thread.
+     *
+     * @throws InterruptedException if the test is interrupted
+     * @throws InvocationTargetException if showing the notice fails
+     */
+    @Test
+    void noticeTimesOut() throws InterruptedException, InvocationTargetException {
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicInteger onEdt = new AtomicInteger();
+        SwingUtilities.invokeAndWait(() -> table.showNotice("Team 0 won the hand!", 10, () -> {
+            if (SwingUtilities.isEventDispatchThread()) {
+                onEdt.incrementAndGet();
+            }
+            done.countDown();
+        }));
+
+        assertTrue(done.await(10, TimeUnit.SECONDS), "The notice goes away by itself.");
+        assertEquals(1, onEdt.get(), "It goes away on the Event Dispatch Thread.");
+        assertFalse(table.isNoticeShown(), "The notice is gone.");
+    }
+
+    /**
+     * Draws the whole table.
+     *
+     * @return the picture
+     */
+    private BufferedImage paint() {
+        final BufferedImage image = new BufferedImage(table.getWidth(), table.getHeight(),
+                BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setClip(0, 0, table.getWidth(), table.getHeight());
+        table.paintTable(graphics);
+        graphics.dispose();
+        return image;
+    }
+
+    /**
+     * Graphics that only counts the cards drawn, so painting through it
+     * runs the table's own code and none of Java2D's. It keeps the clip
+     * and colour the table reads back, and everything else does nothing.
+     */
+    private static final class CountingGraphics extends Graphics2D {
+
+        /**
+         * The clip, which the table reads to decide what to draw.
+         */
+        private final Rectangle clip;
+        /**
+         * The colour being drawn in.
+         */
+        private Color color = Color.BLACK;
+        /**
+         * Number of images drawn.
+         */
+        private int cardsDrawn;
+
+        /**
+         * Constructor for graphics clipped to an area at the origin.
+         *
+         * @param width width of the area
+         * @param height height of the area
+         */
+        private CountingGraphics(final int width, final int height) {
+            this.clip = new Rectangle(width, height);
+        }
+
+        /**
+         * Gets the number of images drawn.
+         *
+         * @return the number of cards drawn
+         */
+        private int getCardsDrawn() {
+            return cardsDrawn;
+        }
+
+        @Override
+        public Rectangle getClipBounds(final Rectangle bounds) {
+            bounds.setBounds(clip);
+            return bounds;
+        }
+
+        @Override
+        public Rectangle getClipBounds() {
+            return new Rectangle(clip);
+        }
+
+        @Override
+        public Shape getClip() {
+            return getClipBounds();
+        }
+
+        @Override
+        public void clipRect(final int x, final int y, final int width, final int height) {
+            Rectangle.intersect(clip, new Rectangle(x, y, width, height), clip);
+        }
+
+        @Override
+        public void setClip(final int x, final int y, final int width, final int height) {
+            clip.setBounds(x, y, width, height);
+        }
+
+        @Override
+        public void setClip(final Shape shape) {
+            clip.setBounds(shape.getBounds());
+        }
+
+        @Override
+        public void clip(final Shape shape) {
+            Rectangle.intersect(clip, shape.getBounds(), clip);
+        }
+
+        @Override
+        public Color getColor() {
+            return color;
+        }
+
+        @Override
+        public void setColor(final Color c) {
+            color = c;
+        }
+
+        @Override
+        public boolean drawImage(final Image img, final int dx1, final int dy1, final int dx2, final int dy2,
+                                 final int sx1, final int sy1, final int sx2, final int sy2,
+                                 final ImageObserver observer) {
+            cardsDrawn++;
+            return true;
+        }
+
+        @Override
+        public boolean drawImage(final Image img, final int dx1, final int dy1, final int dx2, final int dy2,
+                                 final int sx1, final int sy1, final int sx2, final int sy2, final Color bgcolor,
+                                 final ImageObserver observer) {
+            cardsDrawn++;
+            return true;
+        }
+
+        @Override
+        public boolean drawImage(final Image img, final int x, final int y, final ImageObserver observer) {
+            cardsDrawn++;
+            return true;
+        }
+
+        @Override
+        public boolean drawImage(final Image img, final int x, final int y, final int width, final int height,
+                                 final ImageObserver observer) {
+            cardsDrawn++;
+            return true;
+        }
+
+        @Override
+        public boolean drawImage(final Image img, final int x, final int y, final Color bgcolor,
+                                 final ImageObserver observer) {
+            cardsDrawn++;
+            return true;
+        }
+
+        @Override
+        public boolean drawImage(final Image img, final int x, final int y, final int width, final int height,
+                                 final Color bgcolor, final ImageObserver observer) {
+            cardsDrawn++;
+            return true;
+        }
+
+        @Override
+        public boolean drawImage(final Image img, final AffineTransform xform, final ImageObserver obs) {
+            cardsDrawn++;
+            return true;
+        }
+
+        @Override
+        public void drawImage(final BufferedImage img, final BufferedImageOp op, final int x, final int y) {
+            cardsDrawn++;
+        }
+
+        @Override
+        public void drawRenderedImage(final RenderedImage img, final AffineTransform xform) {
+            cardsDrawn++;
+        }
+
+        @Override
+        public void drawRenderableImage(final RenderableImage img, final AffineTransform xform) {
+            cardsDrawn++;
+        }
+
+        @Override
+        public Graphics create() {
+            final CountingGraphics copy = new CountingGraphics(0, 0);
+            copy.clip.setBounds(clip);
+            copy.color = color;
+            return copy;
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public void draw(final Shape s) {
+        }
+
+        @Override
+        public void fill(final Shape s) {
+        }
+
+        @Override
+        public void drawString(final String str, final int x, final int y) {
+        }
+
+        @Override
+        public void drawString(final String str, final float x, final float y) {
+        }
+
+        @Override
+        public void drawString(final AttributedCharacterIterator iterator, final int x, final int y) {
+        }
+
+        @Override
+        public void drawString(final AttributedCharacterIterator iterator, final float x, final float y) {
+        }
+
+        @Override
+        public void drawGlyphVector(final GlyphVector g, final float x, final float y) {
+        }
+
+        @Override
+        public boolean hit(final Rectangle rect, final Shape s, final boolean onStroke) {
+            return false;
+        }
+
+        @Override
+        public GraphicsConfiguration getDeviceConfiguration() {
+            return null;
+        }
+
+        @Override
+        public void setComposite(final Composite comp) {
+        }
+
+        @Override
+        public void setPaint(final Paint paint) {
+        }
+
+        @Override
+        public void setStroke(final Stroke s) {
+        }
+
+        @Override
+        public void setRenderingHint(final RenderingHints.Key hintKey, final Object hintValue) {
+        }
+
+        @Override
+        public Object getRenderingHint(final RenderingHints.Key hintKey) {
+            return null;
+        }
+
+        @Override
+        public void setRenderingHints(final Map<?, ?> hints) {
+        }
+
+        @Override
+        public void addRenderingHints(final Map<?, ?> hints) {
+        }
+
+        @Override
+        public RenderingHints getRenderingHints() {
+            return new RenderingHints(null);
+        }
+
+        @Override
+        public void translate(final int x, final int y) {
+        }
+
+        @Override
+        public void translate(final double tx, final double ty) {
+        }
+
+        @Override
+        public void rotate(final double theta) {
+        }
+
+        @Override
+        public void rotate(final double theta, final double x, final double y) {
+        }
+
+        @Override
+        public void scale(final double sx, final double sy) {
+        }
+
+        @Override
+        public void shear(final double shx, final double shy) {
+        }
+
+        @Override
+        public void transform(final AffineTransform tx) {
+        }
+
+        @Override
+        public void setTransform(final AffineTransform tx) {
+        }
+
+        @Override
+        public AffineTransform getTransform() {
+            return new AffineTransform();
+        }
+
+        @Override
+        public Paint getPaint() {
+            return color;
+        }
+
+        @Override
+        public Composite getComposite() {
+            return AlphaComposite.SrcOver;
+        }
+
+        @Override
+        public void setBackground(final Color c) {
+        }
+
+        @Override
+        public Color getBackground() {
+            return null;
+        }
+
+        @Override
+        public Stroke getStroke() {
+            return null;
+        }
+
+        @Override
+        public FontRenderContext getFontRenderContext() {
+            return new FontRenderContext(null, false, false);
+        }
+
+        @Override
+        public void setPaintMode() {
+        }
+
+        @Override
+        public void setXORMode(final Color c) {
+        }
+
+        @Override
+        public Font getFont() {
+            return null;
+        }
+
+        @Override
+        public void setFont(final Font font) {
+        }
+
+        @Override
+        public FontMetrics getFontMetrics(final Font f) {
+            return null;
+        }
+
+        @Override
+        public void copyArea(final int x, final int y, final int width, final int height, final int dx, final int dy) {
+        }
+
+        @Override
+        public void drawLine(final int x1, final int y1, final int x2, final int y2) {
+        }
+
+        @Override
+        public void fillRect(final int x, final int y, final int width, final int height) {
+        }
+
+        @Override
+        public void clearRect(final int x, final int y, final int width, final int height) {
+        }
+
+        @Override
+        public void drawRoundRect(final int x, final int y, final int width, final int height, final int arcWidth,
+                                  final int arcHeight) {
+        }
+
+        @Override
+        public void fillRoundRect(final int x, final int y, final int width, final int height, final int arcWidth,
+                                  final int arcHeight) {
+        }
+
+        @Override
+        public void drawOval(final int x, final int y, final int width, final int height) {
+        }
+
+        @Override
+        public void fillOval(final int x, final int y, final int width, final int height) {
+        }
+
+        @Override
+        public void drawArc(final int x, final int y, final int width, final int height, final int startAngle,
+                            final int arcAngle) {
+        }
+
+        @Override
+        public void fillArc(final int x, final int y, final int width, final int height, final int startAngle,
+                            final int arcAngle) {
+        }
+
+        @Override
+        public void drawPolyline(final int[] xPoints, final int[] yPoints, final int nPoints) {
+        }
+
+        @Override
+        public void drawPolygon(final int[] xPoints, final int[] yPoints, final int nPoints) {
+        }
+
+        @Override
+        public void fillPolygon(final int[] xPoints, final int[] yPoints, final int nPoints) {
+        }
+    }
+}
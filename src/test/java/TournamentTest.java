@@ -0,0 +1,48 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the Tournament runner and its results.
+ */
+class TournamentTest {
+
+    /**
+     * Run a tournament big enough to be split across
+     * threads and verify every game was counted.
+     */
+    @Test
+    void run() {
+        final TournamentResult result = Tournament.run(300, 11L);
+
+        assertEquals(300, result.getGames(), "Every game was played.");
+        assertEquals(300, result.getWins()[0] + result.getWins()[1], "Every game has a winner.");
+        assertTrue(result.getHands() >= 300 * 5, "A game to 10 takes at least 5 hands.");
+    }
+
+    /**
+     * Verify the same seed gives the same results however the games are scheduled.
+     */
+    @Test
+    void runSeeded() {
+        assertEquals(Tournament.run(200, 5L), Tournament.run(200, 5L), "Same seed gives the same results.");
+    }
+
+    /**
+     * Verify merging two results adds up their totals.
+     */
+    @Test
+    void merge() {
+        final TournamentResult result1 = new TournamentResult();
+        result1.addGame(0, new int[] {10, 4}, 7);
+        final TournamentResult result2 = new TournamentResult();
+        result2.addGame(1, new int[] {8, 11}, 9);
+
+        result1.merge(result2);
+
+        assertEquals(2, result1.getGames(), "Games added.");
+        assertEquals(16, result1.getHands(), "Hands added.");
+        assertArrayEquals(new long[] {1, 1}, result1.getWins(), "Wins added.");
+        assertArrayEquals(new long[] {18, 15}, result1.getPoints(), "Points added.");
+    }
+}
@@ -19,10 +19,10 @@ class TrickTest {
     void checkTrickForWin() {
 
         // add four cards to the trick
-        Card card1 = new Card("Hearts", "Ace", 11);
-        Card card2 = new Card("Spades", "King", 10);
-        Card card3 = new Card("Diamonds", "Queen", 10);
-        Card card4 = new Card("Clubs", "Jack", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.SPADES, Rank.KING);
+        Card card3 = Card.of(Suit.DIAMONDS, Rank.QUEEN);
+        Card card4 = Card.of(Suit.CLUBS, Rank.JACK);
         trick.addCardToTrick(card1, 0);
         trick.addCardToTrick(card2, 1);
         trick.addCardToTrick(card3, 2);
@@ -38,9 +38,9 @@ class TrickTest {
     @Test
     void checkTrickForWin2() {
         // add three cards to the trick
-        Card card1 = new Card("Hearts", "Ace", 11);
-        Card card2 = new Card("Spades", "King", 10);
-        Card card3 = new Card("Diamonds", "Queen", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.SPADES, Rank.KING);
+        Card card3 = Card.of(Suit.DIAMONDS, Rank.QUEEN);
         trick.addCardToTrick(card1, 0);
         trick.addCardToTrick(card2, 1);
         trick.addCardToTrick(card3, 2);
@@ -54,8 +54,8 @@ class TrickTest {
      */
     @Test
     void addCardToTrick() {
-        Card card1 = new Card("Hearts", "Ace", 11);
-        Card card2 = new Card("Diamonds", "King", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.DIAMONDS, Rank.KING);
         int playerNum1 = 0;
         int playerNum2 = 1;
 
@@ -75,10 +75,10 @@ class TrickTest {
      */
     @Test
     void clearTrick() {
-        Card card1 = new Card("Hearts", "Ace", 11);
-        Card card2 = new Card("Diamonds", "King", 10);
-        Card card3 = new Card("Clubs", "Ace", 11);
-        Card card4 = new Card("Spades", "King", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.DIAMONDS, Rank.KING);
+        Card card3 = Card.of(Suit.CLUBS, Rank.ACE);
+        Card card4 = Card.of(Suit.SPADES, Rank.KING);
 
         trick.addCardToTrick(card1, 0);
         trick.addCardToTrick(card2, 1);
@@ -103,8 +103,8 @@ class TrickTest {
      */
     @Test
     void getCardsPlayed() {
-        Card card1 = new Card("Hearts", "Ace", 11);
-        Card card2 = new Card("Diamonds", "King", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.DIAMONDS, Rank.KING);
 
         trick.addCardToTrick(card1, 1);
         trick.addCardToTrick(card2, 2);
@@ -123,8 +123,8 @@ class TrickTest {
      */
     @Test
     void setCardsPlayed() {
-        Card card1 = new Card("Hearts", "Ace", 11);
-        Card card2 = new Card("Diamonds", "King", 10);
+        Card card1 = Card.of(Suit.HEARTS, Rank.ACE);
+        Card card2 = Card.of(Suit.DIAMONDS, Rank.KING);
 
 
         Card[] cardsPlayed = new Card[4];
@@ -143,7 +143,7 @@ class TrickTest {
     @Test
     void getLeadCard() {
         // add a card to the trick and verify it is set as the lead card
-        Card card = new Card("Hearts", "Ace", 11);
+        Card card = Card.of(Suit.HEARTS, Rank.ACE);
         trick.addCardToTrick(card, 0);
 
         // verify that the lead card returned by getLeadCard() is the same as the added card
@@ -155,7 +155,7 @@ class TrickTest {
      */
     @Test
     void setLeadCard() {
-        Card card = new Card("Spades", "King", 10);
+        Card card = Card.of(Suit.SPADES, Rank.KING);
 
         // set the lead card
         trick.setLeadCard(card);
@@ -163,4 +163,19 @@ class TrickTest {
         // verify that the lead card in the trick is set correctly
         assertEquals(card, trick.getLeadCard());
     }
-}
\ No newline at end of file
+
+    /**
+     * Verify the version changes when a card is played and when the trick is cleared.
+     */
+    @Test
+    void getVersion() {
+        final int start = trick.getVersion();
+
+        trick.addCardToTrick(Card.of(Suit.HEARTS, Rank.NINE), 2);
+        final int played = trick.getVersion();
+        trick.clearTrick();
+
+        assertNotEquals(start, played, "Playing a card changes the version.");
+        assertNotEquals(played, trick.getVersion(), "Clearing the trick changes the version.");
+    }
+}